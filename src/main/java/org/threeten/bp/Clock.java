@@ -35,7 +35,10 @@ import static org.threeten.bp.LocalTime.NANOS_PER_MINUTE;
 import static org.threeten.bp.LocalTime.NANOS_PER_SECOND;
 
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.threeten.bp.jdk8.Jdk8Methods;
 
@@ -157,6 +160,50 @@ public abstract class Clock {
         return new SystemClock(zone);
     }
 
+    //-------------------------------------------------------------------------
+    /**
+     * Obtains a clock that returns the current instant with sub-millisecond
+     * precision, converting to date and time using the UTC time-zone.
+     * <p>
+     * This clock is equivalent to {@link #systemPrecise(ZoneId)} using the
+     * {@link ZoneOffset#UTC UTC time-zone}.
+     * <p>
+     * The returned implementation is immutable, thread-safe and {@code Serializable}.
+     *
+     * @return a clock that uses the precise system clock in the UTC zone, not null
+     */
+    public static Clock systemPreciseUTC() {
+        return new PreciseSystemClock(ZoneOffset.UTC);
+    }
+
+    /**
+     * Obtains a clock that returns the current instant with sub-millisecond
+     * precision.
+     * <p>
+     * The {@link #system(ZoneId) system clock} is limited to the millisecond
+     * resolution of {@link System#currentTimeMillis()}.
+     * This clock instead measures the time elapsed since an anchor read from
+     * {@code currentTimeMillis()} using {@link System#nanoTime()}.
+     * The anchor is re-read from the wall clock once per second, and the
+     * extrapolated value is kept within the millisecond reported by the wall clock,
+     * so that any drift between the two sources is corrected.
+     * As with the system clock, the instants returned are not guaranteed to be monotonic.
+     * <p>
+     * The {@link #millis()} and {@link #epochNanos()} methods of this clock
+     * do not create any objects.
+     * <p>
+     * Conversion from instant to date or time uses the specified time-zone.
+     * <p>
+     * The returned implementation is immutable, thread-safe and {@code Serializable}.
+     *
+     * @param zone  the time-zone to use to convert the instant to date-time, not null
+     * @return a clock that uses the precise system clock in the specified zone, not null
+     */
+    public static Clock systemPrecise(ZoneId zone) {
+        Jdk8Methods.requireNonNull(zone, "zone");
+        return new PreciseSystemClock(zone);
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains a clock that returns the current instant ticking in whole seconds
@@ -255,6 +302,43 @@ public abstract class Clock {
         return new TickClock(baseClock, tickNanos);
     }
 
+    /**
+     * Obtains a clock that returns instants from the specified clock as sampled
+     * by a background thread at the specified granularity.
+     * <p>
+     * A single daemon thread reads the base clock once per granularity period
+     * and publishes the result. Reading the time from this clock never calls the
+     * base clock, and the instant returned may be out of date by up to the granularity.
+     * By contrast, {@link #tick(Clock, Duration) tick} calls the base clock on every read.
+     * <p>
+     * The same {@code Instant} instance is returned until the next sample is published.
+     * This allows callers to cache values derived from the instant, such as formatted
+     * text, and only recompute them when a different instance is returned.
+     * <p>
+     * One background thread is shared by all coarse clocks with the same base
+     * clock and granularity. The thread stops once none of those clocks are reachable.
+     * If the base clock throws an exception when sampled, reading the time from this
+     * clock throws a {@code DateTimeException} until a later sample succeeds.
+     * <p>
+     * The returned implementation is immutable, thread-safe and {@code Serializable}
+     * providing that the base clock is.
+     *
+     * @param baseClock  the base clock to sample, not null
+     * @param granularity  the duration between samples, at least one millisecond, not null
+     * @return a clock that returns the most recent sample of the base clock, not null
+     * @throws IllegalArgumentException if the granularity is less than one millisecond
+     * @throws ArithmeticException if the duration is too large to be represented as nanos
+     */
+    public static Clock coarse(Clock baseClock, Duration granularity) {
+        Jdk8Methods.requireNonNull(baseClock, "baseClock");
+        Jdk8Methods.requireNonNull(granularity, "granularity");
+        long granularityNanos = granularity.toNanos();
+        if (granularityNanos < 1000000) {
+            throw new IllegalArgumentException("Granularity must be at least one millisecond");
+        }
+        return new CoarseClock(CoarseClock.ticker(baseClock, granularityNanos), baseClock.getZone());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains a clock that always returns the same instant.
@@ -357,6 +441,28 @@ public abstract class Clock {
         return instant().toEpochMilli();
     }
 
+    /**
+     * Gets the current nanosecond instant of the clock.
+     * <p>
+     * This returns the nanosecond-based instant, measured from 1970-01-01T00:00 UTC.
+     * A {@code long} can represent instants up to the year 2262.
+     * <p>
+     * As with {@link #millis()}, this method is provided to allow the use of
+     * the clock in high performance use cases where the creation of an object
+     * would be unacceptable.
+     * The default implementation currently calls {@link #instant()}.
+     *
+     * @return the current nanosecond instant from this clock, measured from
+     *  the Java epoch of 1970-01-01T00:00 UTC
+     * @throws DateTimeException if the instant cannot be obtained, not thrown by most implementations
+     * @throws ArithmeticException if the instant is too large to be represented as nanos
+     */
+    public long epochNanos() {
+        Instant instant = instant();
+        long nanos = Jdk8Methods.safeMultiply(instant.getEpochSecond(), NANOS_PER_SECOND);
+        return Jdk8Methods.safeAdd(nanos, instant.getNano());
+    }
+
     /**
      * Gets the current instant of the clock.
      * <p>
@@ -419,6 +525,10 @@ public abstract class Clock {
             return System.currentTimeMillis();
         }
         @Override
+        public long epochNanos() {
+            return System.currentTimeMillis() * 1000000L;
+        }
+        @Override
         public Instant instant() {
             return Instant.ofEpochMilli(millis());
         }
@@ -439,6 +549,99 @@ public abstract class Clock {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Implementation of a clock that extrapolates from {@link System#currentTimeMillis()}
+     * using {@link System#nanoTime()}.
+     */
+    static final class PreciseSystemClock extends Clock implements Serializable {
+        private static final long serialVersionUID = -3386012447294735587L;
+        /**
+         * The nanoseconds between each re-read of the wall clock.
+         */
+        private static final long RESYNC_NANOS = NANOS_PER_SECOND;
+        /**
+         * The current anchor, shared by all instances.
+         */
+        private static volatile Anchor anchor = new Anchor(System.currentTimeMillis() * 1000000L, System.nanoTime());
+        private final ZoneId zone;
+
+        PreciseSystemClock(ZoneId zone) {
+            this.zone = zone;
+        }
+        static long currentEpochNanos() {
+            long nanoTime = System.nanoTime();
+            Anchor current = anchor;
+            long elapsed = nanoTime - current.nanoTime;
+            if (elapsed >= 0 && elapsed < RESYNC_NANOS) {
+                return current.epochNanos + elapsed;
+            }
+            // keep the extrapolated value within the millisecond reported by the wall clock
+            long wallNanos = System.currentTimeMillis() * 1000000L;
+            long epochNanos = current.epochNanos + elapsed;
+            if (epochNanos < wallNanos) {
+                epochNanos = wallNanos;
+            } else if (epochNanos >= wallNanos + 1000000L) {
+                epochNanos = wallNanos + 999999L;
+            }
+            anchor = new Anchor(epochNanos, nanoTime);
+            return epochNanos;
+        }
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+        @Override
+        public Clock withZone(ZoneId zone) {
+            if (zone.equals(this.zone)) {  // intentional NPE
+                return this;
+            }
+            return new PreciseSystemClock(zone);
+        }
+        @Override
+        public long millis() {
+            return Jdk8Methods.floorDiv(currentEpochNanos(), 1000000L);
+        }
+        @Override
+        public long epochNanos() {
+            return currentEpochNanos();
+        }
+        @Override
+        public Instant instant() {
+            long epochNanos = currentEpochNanos();
+            return Instant.ofEpochSecond(
+                    Jdk8Methods.floorDiv(epochNanos, NANOS_PER_SECOND), Jdk8Methods.floorMod(epochNanos, NANOS_PER_SECOND));
+        }
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof PreciseSystemClock) {
+                return zone.equals(((PreciseSystemClock) obj).zone);
+            }
+            return false;
+        }
+        @Override
+        public int hashCode() {
+            return zone.hashCode() + 2;
+        }
+        @Override
+        public String toString() {
+            return "PreciseSystemClock[" + zone + "]";
+        }
+
+        /**
+         * An epoch-nanos value paired with the {@code nanoTime} at which it was valid.
+         */
+        private static final class Anchor {
+            private final long epochNanos;
+            private final long nanoTime;
+
+            Anchor(long epochNanos, long nanoTime) {
+                this.epochNanos = epochNanos;
+                this.nanoTime = nanoTime;
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Implementation of a clock that always returns the same instant.
@@ -598,4 +801,191 @@ public abstract class Clock {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Implementation of a clock that returns instants sampled from an underlying
+     * clock by a background thread.
+     */
+    static final class CoarseClock extends Clock implements Serializable {
+        private static final long serialVersionUID = -4524497591374931373L;
+        /**
+         * The started tickers, weakly referenced so that unused tickers stop.
+         */
+        private static final ConcurrentMap<TickerKey, WeakReference<Ticker>> TICKERS =
+                new ConcurrentHashMap<TickerKey, WeakReference<Ticker>>(16, 0.75f, 2);
+        private final Clock baseClock;
+        private final long granularityNanos;
+        private final ZoneId zone;
+        private final transient Ticker ticker;
+
+        CoarseClock(Ticker ticker, ZoneId zone) {
+            this.baseClock = ticker.baseClock;
+            this.granularityNanos = ticker.granularityNanos;
+            this.zone = zone;
+            this.ticker = ticker;
+        }
+        static Ticker ticker(Clock baseClock, long granularityNanos) {
+            TickerKey key = new TickerKey(baseClock, granularityNanos);
+            while (true) {
+                WeakReference<Ticker> ref = TICKERS.get(key);
+                Ticker existing = (ref != null ? ref.get() : null);
+                if (existing != null) {
+                    return existing;
+                }
+                Ticker ticker = new Ticker(baseClock, granularityNanos);
+                WeakReference<Ticker> tickerRef = new WeakReference<Ticker>(ticker);
+                if (ref == null ? TICKERS.putIfAbsent(key, tickerRef) == null : TICKERS.replace(key, ref, tickerRef)) {
+                    ticker.start(key, tickerRef);
+                    return ticker;
+                }
+            }
+        }
+        private Object readResolve() {
+            return new CoarseClock(ticker(baseClock, granularityNanos), zone);
+        }
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+        @Override
+        public Clock withZone(ZoneId zone) {
+            if (zone.equals(this.zone)) {  // intentional NPE
+                return this;
+            }
+            return new CoarseClock(ticker, zone);
+        }
+        @Override
+        public long millis() {
+            return ticker.instant().toEpochMilli();
+        }
+        @Override
+        public Instant instant() {
+            return ticker.instant();
+        }
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof CoarseClock) {
+                CoarseClock other = (CoarseClock) obj;
+                return baseClock.equals(other.baseClock) &&
+                        granularityNanos == other.granularityNanos &&
+                        zone.equals(other.zone);
+            }
+            return false;
+        }
+        @Override
+        public int hashCode() {
+            return baseClock.hashCode() ^ ((int) (granularityNanos ^ (granularityNanos >>> 32))) ^ zone.hashCode();
+        }
+        @Override
+        public String toString() {
+            return "CoarseClock[" + baseClock + "," + Duration.ofNanos(granularityNanos) + "," + zone + "]";
+        }
+
+        /**
+         * The most recent sample of a base clock, shared by coarse clocks.
+         */
+        static final class Ticker {
+            private final Clock baseClock;
+            private final long granularityNanos;
+            private volatile Instant current;
+            private volatile RuntimeException failure;
+
+            Ticker(Clock baseClock, long granularityNanos) {
+                this.baseClock = baseClock;
+                this.granularityNanos = granularityNanos;
+            }
+            void start(TickerKey key, WeakReference<Ticker> ref) {
+                sample();
+                Thread thread = new Thread(
+                        new Sampler(key, ref, granularityNanos), "ThreeTen-CoarseClock-" + Duration.ofNanos(granularityNanos));
+                thread.setDaemon(true);
+                thread.start();
+            }
+            void sample() {
+                try {
+                    current = baseClock.instant();
+                    failure = null;
+                } catch (RuntimeException ex) {
+                    failure = ex;
+                }
+            }
+            Instant instant() {
+                RuntimeException ex = failure;
+                if (ex != null) {
+                    throw new DateTimeException("Unable to sample base clock: " + baseClock, ex);
+                }
+                Instant instant = current;
+                // not yet sampled when obtained from the map just before being started
+                return (instant != null ? instant : baseClock.instant());
+            }
+        }
+
+        /**
+         * The key of a shared ticker.
+         */
+        static final class TickerKey {
+            private final Clock baseClock;
+            private final long granularityNanos;
+
+            TickerKey(Clock baseClock, long granularityNanos) {
+                this.baseClock = baseClock;
+                this.granularityNanos = granularityNanos;
+            }
+            @Override
+            public boolean equals(Object obj) {
+                if (obj instanceof TickerKey) {
+                    TickerKey other = (TickerKey) obj;
+                    return baseClock.equals(other.baseClock) && granularityNanos == other.granularityNanos;
+                }
+                return false;
+            }
+            @Override
+            public int hashCode() {
+                return baseClock.hashCode() ^ ((int) (granularityNanos ^ (granularityNanos >>> 32)));
+            }
+        }
+
+        /**
+         * The background task that samples the base clock.
+         * <p>
+         * Only a weak reference to the ticker is held, so that the task
+         * stops once no coarse clock uses the ticker.
+         */
+        static final class Sampler implements Runnable {
+            private final TickerKey key;
+            private final WeakReference<Ticker> ref;
+            private final long sleepMillis;
+            private final int sleepNanos;
+
+            Sampler(TickerKey key, WeakReference<Ticker> ref, long granularityNanos) {
+                this.key = key;
+                this.ref = ref;
+                this.sleepMillis = granularityNanos / 1000000;
+                this.sleepNanos = (int) (granularityNanos % 1000000);
+            }
+            @Override
+            public void run() {
+                while (true) {
+                    try {
+                        Thread.sleep(sleepMillis, sleepNanos);
+                    } catch (InterruptedException ex) {
+                        // continue sampling, the thread is owned by the clock
+                    }
+                    if (sampleOrStop() == false) {
+                        TICKERS.remove(key, ref);
+                        return;
+                    }
+                }
+            }
+            boolean sampleOrStop() {
+                Ticker ticker = ref.get();
+                if (ticker == null) {
+                    return false;
+                }
+                ticker.sample();
+                return true;
+            }
+        }
+    }
+
 }
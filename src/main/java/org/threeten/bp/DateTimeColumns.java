@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.threeten.bp.LocalTime.SECONDS_PER_DAY;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ValueRange;
+import org.threeten.bp.zone.ZoneOffsetTransition;
+import org.threeten.bp.zone.ZoneRules;
+
+/**
+ * A set of bulk conversions between epoch values and date-time fields.
+ * <p>
+ * Each method converts a whole column of primitive values in one call,
+ * producing the same results as the equivalent per-object methods, such as
+ * {@link LocalDate#ofEpochDay(long)} and {@link LocalDate#toEpochDay()},
+ * without creating any objects for the values.
+ * <p>
+ * The calendar calculations use the Euclidean affine functions described by
+ * Neri and Schneider, which replace the general divisions of the per-object
+ * methods with multiplications, shifts and divisions by constants. The inner
+ * loops are free of method calls and data-dependent branches, so that they
+ * can be compiled to efficient, and potentially vectorized, machine code.
+ * The inputs are validated in a separate pass before any output is written.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is a thread-safe utility class.
+ * All returned arrays are supplied by the caller.
+ */
+public final class DateTimeColumns {
+
+    /**
+     * The number of 400 year cycles to shift by to ensure that all supported years are positive.
+     */
+    private static final long SHIFT_CYCLES = 2500001L;
+    /**
+     * The number of years in the shift.
+     */
+    private static final long SHIFT_YEARS = SHIFT_CYCLES * 400L;
+    /**
+     * The number of days from the shifted 0000-03-01 to 1970-01-01.
+     */
+    private static final long SHIFT_DAYS = SHIFT_CYCLES * 146097L + 719468L;
+    /**
+     * The maximum absolute offset in seconds.
+     */
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+    /**
+     * The range of epoch-days supported by {@code LocalDate}.
+     */
+    private static final ValueRange EPOCH_DAY_RANGE = ValueRange.of(LocalDate.MIN.toEpochDay(), LocalDate.MAX.toEpochDay());
+
+    /**
+     * Restricted constructor.
+     */
+    private DateTimeColumns() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a column of epoch-days to columns of year, month and day-of-month.
+     * <p>
+     * For each index, the output is equal to the fields of
+     * {@link LocalDate#ofEpochDay(long) LocalDate.ofEpochDay(epochDays[i])}.
+     * The month is from 1 (January) to 12 (December).
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param years  the array to store the years in, at least as long as the input, not null
+     * @param months  the array to store the months in, at least as long as the input, not null
+     * @param days  the array to store the days-of-month in, at least as long as the input, not null
+     * @throws DateTimeException if any epoch-day exceeds the supported date range
+     * @throws IllegalArgumentException if an output array is too short
+     */
+    public static void epochDaysToYearMonthDay(long[] epochDays, int[] years, int[] months, int[] days) {
+        int length = epochDays.length;
+        checkLength(years, length);
+        checkLength(months, length);
+        checkLength(days, length);
+        if (length == 0) {
+            return;
+        }
+        long min = epochDays[0];
+        long max = min;
+        for (int i = 1; i < length; i++) {
+            min = Math.min(min, epochDays[i]);
+            max = Math.max(max, epochDays[i]);
+        }
+        EPOCH_DAY_RANGE.checkValidValue(min, EPOCH_DAY);
+        EPOCH_DAY_RANGE.checkValidValue(max, EPOCH_DAY);
+        for (int i = 0; i < length; i++) {
+            // days from the shifted 0000-03-01, splitting into centuries and days-of-century
+            long n1 = 4 * (epochDays[i] + SHIFT_DAYS) + 3;
+            long century = n1 / 146097;
+            long n2 = ((n1 - century * 146097) | 3);
+            // year-of-century and the march-based day-of-year
+            long p2 = 2939745L * n2;
+            long yearOfCentury = p2 >>> 32;
+            int marchDoy0 = (int) ((p2 & 0xFFFFFFFFL) / 11758980L);
+            // march-based month and day-of-month
+            int n3 = 2141 * marchDoy0 + 197913;
+            int marchMonth = n3 >>> 16;
+            int dom0 = (n3 & 0xFFFF) / 2141;
+            // January and February belong to the following january-based year
+            int janFeb = (305 - marchDoy0) >>> 31;
+            years[i] = (int) (100 * century + yearOfCentury - SHIFT_YEARS) + janFeb;
+            months[i] = marchMonth - 12 * janFeb;
+            days[i] = dom0 + 1;
+        }
+    }
+
+    /**
+     * Converts columns of year, month and day-of-month to a column of epoch-days.
+     * <p>
+     * For each index, the output is equal to
+     * {@code LocalDate.of(years[i], months[i], days[i]).toEpochDay()}.
+     * The month is from 1 (January) to 12 (December).
+     *
+     * @param years  the years to convert, not null
+     * @param months  the months to convert, at least as long as the years, not null
+     * @param days  the days-of-month to convert, at least as long as the years, not null
+     * @param epochDays  the array to store the epoch-days in, at least as long as the years, not null
+     * @throws DateTimeException if any year, month and day-of-month is not a valid date
+     * @throws IllegalArgumentException if an array is too short
+     */
+    public static void yearMonthDayToEpochDays(int[] years, int[] months, int[] days, long[] epochDays) {
+        int length = years.length;
+        checkLength(months, length);
+        checkLength(days, length);
+        checkLength(epochDays, length);
+        for (int i = 0; i < length; i++) {
+            checkValidDate(years[i], months[i], days[i]);
+        }
+        for (int i = 0; i < length; i++) {
+            // March-based year and month, with January and February at the end of the previous year
+            int janFeb = (months[i] - 3) >>> 31;
+            long year = years[i] + SHIFT_YEARS - janFeb;
+            int marchMonth = months[i] + 12 * janFeb;
+            long century = year / 100;
+            long yearDays = 1461 * year / 4 - century + century / 4;
+            int monthDays = (979 * marchMonth - 2919) >>> 5;
+            epochDays[i] = yearDays + monthDays + days[i] - 1 - SHIFT_DAYS;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a column of epoch-seconds to columns of local epoch-day and second-of-day
+     * in the specified time-zone.
+     * <p>
+     * For each index, the output is equal to the date and time of
+     * {@code LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSeconds[i]), zone)},
+     * where {@code zone} has the specified rules.
+     * The local epoch-days can be further converted using
+     * {@link #epochDaysToYearMonthDay(long[], int[], int[], int[])}.
+     * <p>
+     * The offset is only looked up in the rules when a value falls outside the
+     * period between transitions of the previous lookup. As such, the conversion
+     * is fastest when the input is sorted or clustered in time.
+     *
+     * @param epochSeconds  the epoch-seconds to convert, not null
+     * @param rules  the rules of the time-zone to convert to, not null
+     * @param localEpochDays  the array to store the local epoch-days in, at least as long as the input, not null
+     * @param secondsOfDay  the array to store the local seconds-of-day in, at least as long as the input, not null
+     * @throws DateTimeException if any local date-time exceeds the supported range
+     * @throws IllegalArgumentException if an output array is too short
+     */
+    public static void epochSecondsToLocal(long[] epochSeconds, ZoneRules rules, long[] localEpochDays, int[] secondsOfDay) {
+        Jdk8Methods.requireNonNull(rules, "rules");
+        int length = epochSeconds.length;
+        checkLength(localEpochDays, length);
+        checkLength(secondsOfDay, length);
+        checkValidLocal(epochSeconds, rules);
+        if (rules.isFixedOffset()) {
+            int offsetSecs = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+            for (int i = 0; i < length; i++) {
+                long localSecond = epochSeconds[i] + offsetSecs;
+                localEpochDays[i] = Jdk8Methods.floorDiv(localSecond, SECONDS_PER_DAY);
+                secondsOfDay[i] = Jdk8Methods.floorMod(localSecond, SECONDS_PER_DAY);
+            }
+        } else {
+            long validFrom = 0;
+            long validTo = 0;
+            int offsetSecs = 0;
+            for (int i = 0; i < length; i++) {
+                long epochSecond = epochSeconds[i];
+                if (epochSecond < validFrom || epochSecond >= validTo) {
+                    Instant instant = Instant.ofEpochSecond(epochSecond);
+                    offsetSecs = rules.getOffset(instant).getTotalSeconds();
+                    // the nano adjustment includes a transition at exactly this instant
+                    ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(epochSecond, 1));
+                    ZoneOffsetTransition next = rules.nextTransition(instant);
+                    validFrom = (previous != null ? previous.toEpochSecond() : Long.MIN_VALUE);
+                    validTo = (next != null ? next.toEpochSecond() : Long.MAX_VALUE);
+                }
+                long localSecond = epochSecond + offsetSecs;
+                localEpochDays[i] = Jdk8Methods.floorDiv(localSecond, SECONDS_PER_DAY);
+                secondsOfDay[i] = Jdk8Methods.floorMod(localSecond, SECONDS_PER_DAY);
+            }
+        }
+    }
+
+    /**
+     * Validates that each epoch-second has a local date within the supported range.
+     * <p>
+     * Offsets are at most 18 hours, so only values within 18 hours of either end
+     * of the supported range need the offset to be looked up.
+     *
+     * @param epochSeconds  the epoch-seconds to check, not null
+     * @param rules  the rules of the time-zone, not null
+     * @throws DateTimeException if any local date-time exceeds the supported range
+     */
+    private static void checkValidLocal(long[] epochSeconds, ZoneRules rules) {
+        long low = LocalDate.MIN.toEpochDay() * SECONDS_PER_DAY + MAX_OFFSET_SECONDS;
+        long high = (LocalDate.MAX.toEpochDay() + 1) * SECONDS_PER_DAY - MAX_OFFSET_SECONDS;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < epochSeconds.length; i++) {
+            min = Math.min(min, epochSeconds[i]);
+            max = Math.max(max, epochSeconds[i]);
+        }
+        if (min >= low && max < high) {
+            return;
+        }
+        for (int i = 0; i < epochSeconds.length; i++) {
+            long epochSecond = epochSeconds[i];
+            if (epochSecond < low || epochSecond >= high) {
+                int offsetSecs = rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+                EPOCH_DAY_RANGE.checkValidValue(Jdk8Methods.floorDiv(epochSecond + offsetSecs, SECONDS_PER_DAY), EPOCH_DAY);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private static void checkLength(int[] array, int length) {
+        if (array.length < length) {
+            throw new IllegalArgumentException("Array too short: " + array.length + " < " + length);
+        }
+    }
+
+    private static void checkLength(long[] array, int length) {
+        if (array.length < length) {
+            throw new IllegalArgumentException("Array too short: " + array.length + " < " + length);
+        }
+    }
+
+    private static void checkValidDate(int year, int month, int dayOfMonth) {
+        YEAR.checkValidValue(year);
+        MONTH_OF_YEAR.checkValidValue(month);
+        DAY_OF_MONTH.checkValidValue(dayOfMonth);
+        if (dayOfMonth > 28 && dayOfMonth > Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year))) {
+            if (dayOfMonth == 29) {
+                throw new DateTimeException("Invalid date 'February 29' as '" + year + "' is not a leap year");
+            }
+            throw new DateTimeException("Invalid date '" + Month.of(month).name() + " " + dayOfMonth + "'");
+        }
+    }
+
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.threeten.bp.LocalTime.NANOS_PER_SECOND;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * An immutable sequence of date-time values separated by a fixed step.
+ * <p>
+ * A sequence is defined by its first value, its step and its size.
+ * The values are not stored, instead each value is calculated from its index when requested.
+ * As such, the size, indexed access, {@code contains} and {@code indexOf} are
+ * all calculated in constant time without creating the intermediate values.
+ * <p>
+ * A sequence can be split into contiguous sub-sequences, for example
+ * to process the values in parallel.
+ * <p>
+ * Sequences are obtained from methods such as {@link LocalDate#datesUntil(LocalDate)},
+ * {@link LocalDateTime#dateTimesUntil(LocalDateTime, Duration)},
+ * {@link Instant#instantsUntil(Instant, Duration)} and
+ * {@link YearMonth#yearMonthsUntil(YearMonth)}.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This abstract class is only implemented in this package.
+ * All implementations are immutable and thread-safe.
+ *
+ * @param <T> the type of the values in the sequence
+ */
+public abstract class DateTimeSequence<T> implements Iterable<T> {
+
+    /**
+     * The index of the first value, relative to the origin of the sequence.
+     */
+    final long first;
+    /**
+     * The number of values.
+     */
+    final long size;
+
+    /**
+     * Constructor.
+     *
+     * @param first  the index of the first value relative to the origin, not negative
+     * @param size  the number of values, not negative
+     */
+    DateTimeSequence(long first, long size) {
+        this.first = first;
+        this.size = size;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value at the specified index relative to the origin of the sequence.
+     *
+     * @param index  the index relative to the origin, not negative
+     * @return the value, not null
+     */
+    abstract T element(long index);
+
+    /**
+     * Gets the index of the specified value relative to the origin of the sequence.
+     *
+     * @param obj  the object to find, may be null
+     * @return the index relative to the origin, or -1 if the object is not
+     *  a value of the unbounded sequence
+     */
+    abstract long elementIndex(Object obj);
+
+    /**
+     * Creates a sequence with the same origin and step.
+     *
+     * @param first  the index of the first value relative to the origin, not negative
+     * @param size  the number of values, not negative
+     * @return the sequence, not null
+     */
+    abstract DateTimeSequence<T> create(long first, long size);
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of values in this sequence.
+     *
+     * @return the number of values, not negative
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Checks if this sequence contains no values.
+     *
+     * @return true if the sequence is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the value at the specified index.
+     * <p>
+     * The value is calculated directly from the index.
+     *
+     * @param index  the index of the value, from 0 to {@code size() - 1}
+     * @return the value, not null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return element(first + index);
+    }
+
+    /**
+     * Gets the index of the specified value in this sequence.
+     * <p>
+     * The index is calculated directly from the value.
+     *
+     * @param obj  the object to find, null returns -1
+     * @return the index of the value, or -1 if it is not in the sequence
+     */
+    public long indexOf(Object obj) {
+        long index = elementIndex(obj);
+        if (index < first || index - first >= size) {
+            return -1;
+        }
+        return index - first;
+    }
+
+    /**
+     * Checks if the specified value is in this sequence.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if the value is in the sequence
+     */
+    public boolean contains(Object obj) {
+        return indexOf(obj) >= 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a sequence containing the values from one index to another.
+     *
+     * @param fromIndex  the index of the first value, inclusive
+     * @param toIndex  the index of the last value, exclusive
+     * @return the sub-sequence, not null
+     * @throws IndexOutOfBoundsException if the indices are out of range
+     */
+    public DateTimeSequence<T> subSequence(long fromIndex, long toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        }
+        return create(first + fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Splits this sequence into contiguous sub-sequences of equal size.
+     * <p>
+     * The sizes of the returned sequences differ by at most one.
+     * If this sequence has fewer values than the requested number of parts,
+     * one sequence is returned for each value.
+     * An empty sequence returns an empty list.
+     *
+     * @param parts  the maximum number of parts, positive
+     * @return the sub-sequences in order, not null
+     * @throws IllegalArgumentException if the number of parts is not positive
+     */
+    public List<DateTimeSequence<T>> split(int parts) {
+        if (parts < 1) {
+            throw new IllegalArgumentException("Number of parts must be positive");
+        }
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        int count = (int) Math.min(parts, size);
+        List<DateTimeSequence<T>> list = new ArrayList<DateTimeSequence<T>>(count);
+        long base = size / count;
+        long remainder = size % count;
+        long start = 0;
+        for (int i = 0; i < count; i++) {
+            long partSize = base + (i < remainder ? 1 : 0);
+            list.add(create(first + start, partSize));
+            start += partSize;
+        }
+        return list;
+    }
+
+    /**
+     * Returns an iterator over the values in this sequence.
+     * <p>
+     * Each value is created when it is returned by the iterator.
+     *
+     * @return the iterator, not null
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private long index;
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+            @Override
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return element(first + index++);
+            }
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Sequence is immutable");
+            }
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this sequence is equal to another sequence.
+     * <p>
+     * The comparison is based on the type, origin, step, first index and size.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other sequence
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj != null && obj.getClass() == getClass()) {
+            DateTimeSequence<?> other = (DateTimeSequence<?>) obj;
+            return first == other.first && size == other.size;
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this sequence.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return ((int) (first ^ (first >>> 32))) * 31 + ((int) (size ^ (size >>> 32)));
+    }
+
+    /**
+     * Outputs this sequence as a {@code String}, such as {@code [2012-01-01..2012-01-31, P1D]}.
+     *
+     * @return a string representation of this sequence, not null
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[" + stepText() + "]";
+        }
+        return "[" + get(0) + ".." + get(size - 1) + ", " + stepText() + "]";
+    }
+
+    /**
+     * Outputs the step as text.
+     *
+     * @return the step, not null
+     */
+    abstract String stepText();
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the number of steps from an inclusive start to an exclusive end.
+     *
+     * @param span  the amount from the start to the end, not null
+     * @param step  the amount of each step, not null
+     * @return the number of steps, not negative
+     * @throws IllegalArgumentException if the step is zero or in the opposite direction to the span
+     * @throws ArithmeticException if the number of steps exceeds a {@code long}
+     */
+    static long stepsUntil(Duration span, Duration step) {
+        if (step.isZero()) {
+            throw new IllegalArgumentException("Step must not be zero");
+        }
+        if (span.isZero()) {
+            return 0;
+        }
+        if (span.isNegative() != step.isNegative()) {
+            throw new IllegalArgumentException("Step is in the opposite direction to the end");
+        }
+        BigInteger spanNanos = toNanos(span).abs();
+        BigInteger stepNanos = toNanos(step).abs();
+        BigInteger steps = spanNanos.add(stepNanos).subtract(BigInteger.ONE).divide(stepNanos);
+        if (steps.bitLength() > 63) {
+            throw new ArithmeticException("Sequence too large");
+        }
+        return steps.longValue();
+    }
+
+    /**
+     * Calculates the number of whole steps in the specified amount.
+     *
+     * @param span  the amount to divide, not null
+     * @param step  the amount of each step, not zero, not null
+     * @return the number of steps, or -1 if the amount is not a whole, non-negative number of steps
+     */
+    static long exactSteps(Duration span, Duration step) {
+        long spanSecs = span.getSeconds();
+        long stepSecs = step.getSeconds();
+        if (Math.abs(spanSecs) < Integer.MAX_VALUE && Math.abs(stepSecs) < Integer.MAX_VALUE) {
+            long spanNanos = spanSecs * NANOS_PER_SECOND + span.getNano();
+            long stepNanos = stepSecs * NANOS_PER_SECOND + step.getNano();
+            if (spanNanos % stepNanos != 0 || spanNanos / stepNanos < 0) {
+                return -1;
+            }
+            return spanNanos / stepNanos;
+        }
+        BigInteger[] result = toNanos(span).divideAndRemainder(toNanos(step));
+        if (result[1].signum() != 0 || result[0].signum() < 0 || result[0].bitLength() > 63) {
+            return -1;
+        }
+        return result[0].longValue();
+    }
+
+    /**
+     * Calculates the epoch-second after adding a multiple of a step.
+     * <p>
+     * The calculation is exact for any number of steps whose total fits in
+     * the range of epoch-seconds.
+     *
+     * @param epochSecond  the epoch-second to add to
+     * @param nano  the nano-of-second to add to
+     * @param step  the step to add, not null
+     * @param steps  the number of steps to add, not negative
+     * @return the resulting epoch-second
+     */
+    static long stepSecond(long epochSecond, int nano, Duration step, long steps) {
+        // split the steps to avoid overflow when multiplying the nano-of-second
+        long stepNano = step.getNano();
+        long nanos = nano + stepNano * (steps % NANOS_PER_SECOND);
+        long secs = step.getSeconds() * steps + stepNano * (steps / NANOS_PER_SECOND);
+        return epochSecond + secs + Jdk8Methods.floorDiv(nanos, NANOS_PER_SECOND);
+    }
+
+    /**
+     * Calculates the nano-of-second after adding a multiple of a step.
+     *
+     * @param nano  the nano-of-second to add to
+     * @param step  the step to add, not null
+     * @param steps  the number of steps to add, not negative
+     * @return the resulting nano-of-second
+     */
+    static int stepNano(int nano, Duration step, long steps) {
+        long nanos = nano + step.getNano() * (steps % NANOS_PER_SECOND);
+        return (int) Jdk8Methods.floorMod(nanos, NANOS_PER_SECOND);
+    }
+
+    private static BigInteger toNanos(Duration duration) {
+        return BigInteger.valueOf(duration.getSeconds())
+                .multiply(BigInteger.valueOf(NANOS_PER_SECOND))
+                .add(BigInteger.valueOf(duration.getNano()));
+    }
+
+}
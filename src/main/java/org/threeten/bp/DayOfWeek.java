@@ -36,8 +36,8 @@ import static org.threeten.bp.temporal.ChronoUnit.DAYS;
 
 import java.util.Locale;
 
-import org.threeten.bp.format.DateTimeFormatterBuilder;
 import org.threeten.bp.format.TextStyle;
+import org.threeten.bp.jdk8.DisplayNameCache;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalAccessor;
@@ -126,6 +126,10 @@ public enum DayOfWeek implements TemporalAccessor, TemporalAdjuster {
      * Private cache of all the constants.
      */
     private static final DayOfWeek[] ENUMS = DayOfWeek.values();
+    /**
+     * Cache of the display names.
+     */
+    private static final DisplayNameCache NAMES = new DisplayNameCache(DAY_OF_WEEK, 1, 7);
 
     //-----------------------------------------------------------------------
     /**
@@ -201,7 +205,7 @@ public enum DayOfWeek implements TemporalAccessor, TemporalAdjuster {
      * @return the text value of the day-of-week, not null
      */
     public String getDisplayName(TextStyle style, Locale locale) {
-        return new DateTimeFormatterBuilder().appendText(DAY_OF_WEEK, style).toFormatter(locale).format(this);
+        return NAMES.getDisplayName(getValue(), style, locale);
     }
 
     //-----------------------------------------------------------------------
@@ -1000,6 +1000,28 @@ public final class Instant
         }
         return secsDiff;
     }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a sequence of the instants from this instant to the specified
+     * end instant, incrementing by the specified duration.
+     * <p>
+     * The sequence starts at this instant, inclusive, and contains all values
+     * before the end instant, or after the end instant if the step is negative.
+     * The values are calculated when requested, rather than being stored.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param endExclusive  the end instant, exclusive, not null
+     * @param step  the duration between each instant, not zero, not null
+     * @return a sequence of the instants, not null
+     * @throws IllegalArgumentException if the step is zero or in the opposite direction to the end
+     * @throws ArithmeticException if the number of values exceeds a {@code long}
+     */
+    public InstantSequence instantsUntil(Instant endExclusive, Duration step) {
+        return InstantSequence.of(this, endExclusive, step);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Combines this instant with an offset to create an {@code OffsetDateTime}.
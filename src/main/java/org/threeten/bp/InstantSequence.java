@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * An immutable sequence of instants separated by a fixed duration.
+ * <p>
+ * Instances are obtained from {@link Instant#instantsUntil(Instant, Duration)}.
+ * The value at index {@code n} is the start instant plus {@code n} times the step.
+ * The {@link #getEpochSecond(long)} and {@link #getNano(long)} methods allow
+ * values to be queried without creating an {@code Instant}.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class InstantSequence extends DateTimeSequence<Instant> {
+
+    /**
+     * The instant at the origin of the sequence.
+     */
+    private final Instant start;
+    /**
+     * The step between values.
+     */
+    private final Duration step;
+
+    /**
+     * Obtains a sequence from a start instant to an end instant.
+     *
+     * @param start  the start instant, inclusive, not null
+     * @param endExclusive  the end instant, exclusive, not null
+     * @param step  the step between values, not zero, not null
+     * @return the sequence, not null
+     * @throws IllegalArgumentException if the step is zero or in the opposite direction to the end
+     * @throws ArithmeticException if the number of values exceeds a {@code long}
+     */
+    static InstantSequence of(Instant start, Instant endExclusive, Duration step) {
+        Jdk8Methods.requireNonNull(start, "start");
+        Jdk8Methods.requireNonNull(endExclusive, "endExclusive");
+        Jdk8Methods.requireNonNull(step, "step");
+        Duration span = Duration.ofSeconds(
+                endExclusive.getEpochSecond() - start.getEpochSecond(), endExclusive.getNano() - start.getNano());
+        return new InstantSequence(start, step, 0, stepsUntil(span, step));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param start  the instant at the origin, not null
+     * @param step  the step, not null
+     * @param first  the index of the first value relative to the origin
+     * @param size  the number of values
+     */
+    private InstantSequence(Instant start, Duration step, long first, long size) {
+        super(first, size);
+        this.start = start;
+        this.step = step;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    Instant element(long index) {
+        return Instant.ofEpochSecond(
+                stepSecond(start.getEpochSecond(), start.getNano(), step, index),
+                stepNano(start.getNano(), step, index));
+    }
+
+    @Override
+    long elementIndex(Object obj) {
+        if (obj instanceof Instant == false) {
+            return -1;
+        }
+        Instant instant = (Instant) obj;
+        Duration span = Duration.ofSeconds(
+                instant.getEpochSecond() - start.getEpochSecond(), instant.getNano() - start.getNano());
+        return exactSteps(span, step);
+    }
+
+    @Override
+    InstantSequence create(long first, long size) {
+        return new InstantSequence(start, step, first, size);
+    }
+
+    @Override
+    String stepText() {
+        return step.toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the duration between each value in this sequence.
+     *
+     * @return the step, not null
+     */
+    public Duration getStep() {
+        return step;
+    }
+
+    /**
+     * Gets the epoch-second of the value at the specified index.
+     * <p>
+     * This does not create an {@code Instant}.
+     *
+     * @param index  the index of the value, from 0 to {@code size() - 1}
+     * @return the epoch-second of the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getEpochSecond(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return stepSecond(start.getEpochSecond(), start.getNano(), step, first + index);
+    }
+
+    /**
+     * Gets the nano-of-second of the value at the specified index.
+     * <p>
+     * This does not create an {@code Instant}.
+     *
+     * @param index  the index of the value, from 0 to {@code size() - 1}
+     * @return the nano-of-second of the value, from 0 to 999,999,999
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int getNano(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return stepNano(start.getNano(), step, first + index);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public boolean equals(Object obj) {
+        if (super.equals(obj)) {
+            InstantSequence other = (InstantSequence) obj;
+            return start.equals(other.start) && step.equals(other.step);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ start.hashCode() ^ step.hashCode();
+    }
+
+}
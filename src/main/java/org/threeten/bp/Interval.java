@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * An immutable interval of time between two instants.
+ * <p>
+ * An interval is half-open, including the start instant and excluding the end instant.
+ * The end is never before the start, and an interval where they are equal is empty.
+ * The comparisons of all operations are calculated on the epoch-second and
+ * nano-of-second of the instants, and results reuse the existing instants.
+ * <p>
+ * Large numbers of intervals can be queried using an {@link IntervalIndex}.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class Interval {
+
+    /**
+     * The start instant, inclusive.
+     */
+    private final Instant start;
+    /**
+     * The end instant, exclusive.
+     */
+    private final Instant end;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an interval from a start instant to an end instant.
+     *
+     * @param startInclusive  the start instant, inclusive, not null
+     * @param endExclusive  the end instant, exclusive, not null
+     * @return the interval, not null
+     * @throws DateTimeException if the end is before the start
+     */
+    public static Interval of(Instant startInclusive, Instant endExclusive) {
+        Jdk8Methods.requireNonNull(startInclusive, "startInclusive");
+        Jdk8Methods.requireNonNull(endExclusive, "endExclusive");
+        if (compare(endExclusive, startInclusive) < 0) {
+            throw new DateTimeException("End instant must not be before start instant");
+        }
+        return new Interval(startInclusive, endExclusive);
+    }
+
+    /**
+     * Obtains an interval from a start instant and a duration.
+     *
+     * @param startInclusive  the start instant, inclusive, not null
+     * @param duration  the duration from the start to the end, not negative, not null
+     * @return the interval, not null
+     * @throws DateTimeException if the duration is negative or the end exceeds the supported range
+     */
+    public static Interval of(Instant startInclusive, Duration duration) {
+        Jdk8Methods.requireNonNull(startInclusive, "startInclusive");
+        Jdk8Methods.requireNonNull(duration, "duration");
+        if (duration.isNegative()) {
+            throw new DateTimeException("Duration must not be negative");
+        }
+        return new Interval(startInclusive, startInclusive.plus(duration));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param start  the start instant, inclusive, not null
+     * @param end  the end instant, exclusive, not null
+     */
+    private Interval(Instant start, Instant end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the start of this interval, inclusive.
+     *
+     * @return the start instant, not null
+     */
+    public Instant getStart() {
+        return start;
+    }
+
+    /**
+     * Gets the end of this interval, exclusive.
+     *
+     * @return the end instant, not null
+     */
+    public Instant getEnd() {
+        return end;
+    }
+
+    /**
+     * Checks if this interval is empty, with the start equal to the end.
+     *
+     * @return true if this interval is empty
+     */
+    public boolean isEmpty() {
+        return compare(start, end) == 0;
+    }
+
+    /**
+     * Obtains the duration of this interval.
+     *
+     * @return the duration from the start to the end, not null
+     */
+    public Duration toDuration() {
+        return Duration.between(start, end);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this interval contains the specified instant.
+     * <p>
+     * The start is contained and the end is not, so an empty interval contains nothing.
+     *
+     * @param instant  the instant to check, not null
+     * @return true if the instant is within this interval
+     */
+    public boolean contains(Instant instant) {
+        Jdk8Methods.requireNonNull(instant, "instant");
+        return compare(start, instant) <= 0 && compare(instant, end) < 0;
+    }
+
+    /**
+     * Checks if this interval encloses the specified interval.
+     * <p>
+     * The other interval is enclosed if it is entirely within this interval,
+     * such that every interval encloses itself.
+     *
+     * @param other  the interval to check, not null
+     * @return true if the other interval is enclosed by this interval
+     */
+    public boolean encloses(Interval other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        return compare(start, other.start) <= 0 && compare(other.end, end) <= 0;
+    }
+
+    /**
+     * Checks if this interval overlaps the specified interval.
+     * <p>
+     * The intervals overlap if each starts before the other ends.
+     * An empty interval thus overlaps an interval that strictly contains its instant,
+     * but not one that it only touches, nor another empty interval.
+     *
+     * @param other  the interval to check, not null
+     * @return true if the intervals overlap
+     */
+    public boolean overlaps(Interval other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        return compare(start, other.end) < 0 && compare(other.start, end) < 0;
+    }
+
+    /**
+     * Checks if this interval abuts the specified interval.
+     * <p>
+     * The intervals abut if the end of one is the start of the other,
+     * such that they are connected without overlapping.
+     *
+     * @param other  the interval to check, not null
+     * @return true if the intervals abut
+     */
+    public boolean abuts(Interval other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        return (compare(end, other.start) == 0) ^ (compare(start, other.end) == 0);
+    }
+
+    /**
+     * Checks if this interval is connected to the specified interval.
+     * <p>
+     * The intervals are connected if they overlap or abut, such that
+     * there is no gap between them.
+     *
+     * @param other  the interval to check, not null
+     * @return true if the intervals are connected
+     */
+    public boolean isConnected(Interval other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        return compare(start, other.end) <= 0 && compare(other.start, end) <= 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the interval that is the intersection of this interval and the specified interval.
+     *
+     * @param other  the interval to intersect with, not null
+     * @return the intersection, which is empty if the intervals abut, not null
+     * @throws DateTimeException if the intervals are not connected
+     */
+    public Interval intersection(Interval other) {
+        if (isConnected(other) == false) {
+            throw new DateTimeException("Intervals do not connect: " + this + " and " + other);
+        }
+        return new Interval(max(start, other.start), min(end, other.end));
+    }
+
+    /**
+     * Calculates the interval that is the union of this interval and the specified interval.
+     *
+     * @param other  the interval to merge with, not null
+     * @return the union, not null
+     * @throws DateTimeException if the intervals are not connected
+     */
+    public Interval union(Interval other) {
+        if (isConnected(other) == false) {
+            throw new DateTimeException("Intervals do not connect: " + this + " and " + other);
+        }
+        return span(other);
+    }
+
+    /**
+     * Calculates the smallest interval that encloses this interval and the specified interval.
+     *
+     * @param other  the interval to span with, not null
+     * @return the spanning interval, not null
+     */
+    public Interval span(Interval other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        return new Interval(min(start, other.start), max(end, other.end));
+    }
+
+    /**
+     * Calculates the interval between this interval and the specified interval.
+     *
+     * @param other  the interval to find the gap to, not null
+     * @return the gap, not empty, not null
+     * @throws DateTimeException if the intervals are connected
+     */
+    public Interval gap(Interval other) {
+        if (isConnected(other)) {
+            throw new DateTimeException("Intervals have no gap: " + this + " and " + other);
+        }
+        return new Interval(min(end, other.end), max(start, other.start));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compares two instants using their epoch-second and nano-of-second.
+     *
+     * @param instant1  the first instant, not null
+     * @param instant2  the second instant, not null
+     * @return negative if the first is earlier, positive if later, zero if equal
+     */
+    static int compare(Instant instant1, Instant instant2) {
+        long secs1 = instant1.getEpochSecond();
+        long secs2 = instant2.getEpochSecond();
+        if (secs1 != secs2) {
+            return (secs1 < secs2 ? -1 : 1);
+        }
+        return instant1.getNano() - instant2.getNano();
+    }
+
+    private static Instant min(Instant instant1, Instant instant2) {
+        return (compare(instant1, instant2) <= 0 ? instant1 : instant2);
+    }
+
+    private static Instant max(Instant instant1, Instant instant2) {
+        return (compare(instant1, instant2) >= 0 ? instant1 : instant2);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this interval is equal to another interval.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other interval
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof Interval) {
+            Interval other = (Interval) obj;
+            return start.equals(other.start) && end.equals(other.end);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this interval.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return start.hashCode() ^ (end.hashCode() * 31);
+    }
+
+    /**
+     * Outputs this interval as a {@code String}, such as {@code 2012-01-01T00:00:00Z/2012-01-02T00:00:00Z}.
+     * <p>
+     * The output is the ISO-8601 format of the start and end separated by a slash.
+     *
+     * @return a string representation of this interval, not null
+     */
+    @Override
+    public String toString() {
+        return start + "/" + end;
+    }
+
+}
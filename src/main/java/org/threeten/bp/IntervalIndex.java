@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * An immutable index of intervals supporting fast stabbing and overlap queries.
+ * <p>
+ * The intervals are sorted by start and then end, and held in packed arrays of
+ * epoch-seconds forming an implicit augmented interval tree. Queries find the
+ * candidates within whole seconds in O(log n + k) time and then filter them
+ * exactly using the nano-of-second, so millions of intervals can be searched
+ * without allocating per-interval nodes.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class IntervalIndex {
+
+    /**
+     * Orders intervals by start and then end.
+     */
+    private static final Comparator<Interval> ORDER = new Comparator<Interval>() {
+        @Override
+        public int compare(Interval interval1, Interval interval2) {
+            int cmp = Interval.compare(interval1.getStart(), interval2.getStart());
+            return (cmp != 0 ? cmp : Interval.compare(interval1.getEnd(), interval2.getEnd()));
+        }
+    };
+
+    /**
+     * The intervals, sorted by start and then end.
+     */
+    private final Interval[] intervals;
+    /**
+     * The tree of the intervals, keyed by epoch-second.
+     */
+    private final IntervalTree tree;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an index of the specified intervals.
+     * <p>
+     * Duplicate intervals are retained.
+     *
+     * @param intervals  the intervals to index, not null, no null elements
+     * @return the index, not null
+     */
+    public static IntervalIndex of(Collection<Interval> intervals) {
+        Jdk8Methods.requireNonNull(intervals, "intervals");
+        Interval[] sorted = intervals.toArray(new Interval[intervals.size()]);
+        for (Interval interval : sorted) {
+            Jdk8Methods.requireNonNull(interval, "intervals");
+        }
+        Arrays.sort(sorted, ORDER);
+        return new IntervalIndex(sorted);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param intervals  the sorted intervals, not null
+     */
+    private IntervalIndex(Interval[] intervals) {
+        this.intervals = intervals;
+        long[] starts = new long[intervals.length];
+        long[] ends = new long[intervals.length];
+        for (int i = 0; i < intervals.length; i++) {
+            starts[i] = intervals[i].getStart().getEpochSecond();
+            ends[i] = ceilingSecond(intervals[i].getEnd());
+        }
+        this.tree = new IntervalTree(starts, ends);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of intervals in the index.
+     *
+     * @return the size, zero or greater
+     */
+    public int size() {
+        return intervals.length;
+    }
+
+    /**
+     * Gets the interval at the specified position in start order.
+     *
+     * @param index  the index, from 0 to size - 1
+     * @return the interval, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Interval get(int index) {
+        if (index < 0 || index >= intervals.length) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        return intervals[index];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the intervals that contain the specified instant.
+     *
+     * @param instant  the instant to query, not null
+     * @return the containing intervals in start order, unmodifiable, not null
+     */
+    public List<Interval> containing(Instant instant) {
+        Jdk8Methods.requireNonNull(instant, "instant");
+        long second = instant.getEpochSecond();
+        int[] candidates = tree.query(second, second + 1);
+        List<Interval> result = new ArrayList<Interval>(candidates.length);
+        for (int candidate : candidates) {
+            if (intervals[candidate].contains(instant)) {
+                result.add(intervals[candidate]);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Finds the intervals that overlap the specified interval.
+     * <p>
+     * This uses the definition of {@link Interval#overlaps(Interval)}.
+     *
+     * @param interval  the interval to query, not null
+     * @return the overlapping intervals in start order, unmodifiable, not null
+     */
+    public List<Interval> overlapping(Interval interval) {
+        Jdk8Methods.requireNonNull(interval, "interval");
+        int[] candidates = tree.query(interval.getStart().getEpochSecond(), ceilingSecond(interval.getEnd()));
+        List<Interval> result = new ArrayList<Interval>(candidates.length);
+        for (int candidate : candidates) {
+            if (intervals[candidate].overlaps(interval)) {
+                result.add(intervals[candidate]);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Gets the first epoch-second at or after the instant.
+     *
+     * @param instant  the instant, not null
+     * @return the ceiling epoch-second
+     */
+    private static long ceilingSecond(Instant instant) {
+        return instant.getEpochSecond() + (instant.getNano() > 0 ? 1 : 0);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this index as a {@code String}.
+     *
+     * @return a string representation of this index, not null
+     */
+    @Override
+    public String toString() {
+        return "IntervalIndex[" + intervals.length + "]";
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+/**
+ * An immutable augmented interval tree over half-open ranges of primitive keys.
+ * <p>
+ * The ranges are held in packed arrays sorted by start, and the tree is implicit
+ * in those arrays. Every odd index is an internal node whose level is the number
+ * of trailing one bits, with its children half a subtree away on either side.
+ * Each node records the maximum end within its subtree, allowing queries to
+ * skip subtrees that end too early, giving O(log n + k) queries without any
+ * per-node objects.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+final class IntervalTree {
+
+    /**
+     * The subtree level at or below which the ranges are scanned linearly.
+     */
+    private static final int SCAN_LEVEL = 3;
+    /**
+     * An empty result.
+     */
+    private static final int[] EMPTY = new int[0];
+
+    /**
+     * The start keys, inclusive, sorted ascending.
+     */
+    private final long[] starts;
+    /**
+     * The end keys, exclusive, in the order of the starts.
+     */
+    private final long[] ends;
+    /**
+     * The maximum end key of the subtree rooted at each index.
+     */
+    private final long[] maxEnds;
+    /**
+     * The level of the root node, negative if empty.
+     */
+    private final int rootLevel;
+
+    /**
+     * Constructor, building the index.
+     *
+     * @param starts  the start keys, inclusive, sorted ascending, not null
+     * @param ends  the end keys, exclusive, not before the matching start, not null
+     */
+    IntervalTree(long[] starts, long[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+        int n = starts.length;
+        this.maxEnds = new long[n];
+        if (n == 0) {
+            this.rootLevel = -1;
+            return;
+        }
+        // leaves, tracking the last leaf as the stand-in for missing right children
+        int lastIndex = 0;
+        long last = 0;
+        for (int i = 0; i < n; i += 2) {
+            lastIndex = i;
+            last = maxEnds[i] = ends[i];
+        }
+        int level = 1;
+        for ( ; (1L << level) <= n; level++) {
+            long half = 1L << (level - 1);
+            long step = half << 2;
+            for (long i = (half << 1) - 1; i < n; i += step) {
+                long left = maxEnds[(int) (i - half)];
+                long right = (i + half < n ? maxEnds[(int) (i + half)] : last);
+                maxEnds[(int) i] = Math.max(ends[(int) i], Math.max(left, right));
+            }
+            lastIndex = ((lastIndex >> level) & 1) != 0 ? (int) (lastIndex - half) : (int) (lastIndex + half);
+            if (lastIndex < n && maxEnds[lastIndex] > last) {
+                last = maxEnds[lastIndex];
+            }
+        }
+        this.rootLevel = level - 1;
+    }
+
+    /**
+     * Gets the number of ranges.
+     *
+     * @return the size
+     */
+    int size() {
+        return starts.length;
+    }
+
+    /**
+     * Finds the ranges overlapping the specified range.
+     * <p>
+     * A range overlaps if {@code start < rangeEnd && rangeStart < end}.
+     *
+     * @param start  the start key of the query, inclusive
+     * @param end  the end key of the query, exclusive
+     * @return the indices of the overlapping ranges, ascending, not null
+     */
+    int[] query(long start, long end) {
+        int n = starts.length;
+        if (n == 0) {
+            return EMPTY;
+        }
+        int[] found = EMPTY;
+        int count = 0;
+        // each level pushes at most two nodes, so 64 entries covers every tree
+        int[] stackLevel = new int[64];
+        long[] stackNode = new long[64];
+        boolean[] stackVisited = new boolean[64];
+        int top = 0;
+        stackLevel[top] = rootLevel;
+        stackNode[top] = (1L << rootLevel) - 1;
+        stackVisited[top++] = false;
+        while (top > 0) {
+            top--;
+            int level = stackLevel[top];
+            long node = stackNode[top];
+            if (level <= SCAN_LEVEL) {
+                // small subtree, scan the packed arrays in order
+                long from = (node >> level) << level;
+                long to = Math.min(from + (1L << (level + 1)) - 1, n);
+                for (int i = (int) from; i < to && starts[i] < end; i++) {
+                    if (start < ends[i]) {
+                        if (count == found.length) {
+                            found = grow(found);
+                        }
+                        found[count++] = i;
+                    }
+                }
+            } else if (stackVisited[top] == false) {
+                // revisit this node after the left subtree, which is pushed above it
+                long left = node - (1L << (level - 1));
+                stackVisited[top++] = true;
+                if (left >= n || maxEnds[(int) left] > start) {
+                    stackLevel[top] = level - 1;
+                    stackNode[top] = left;
+                    stackVisited[top++] = false;
+                }
+            } else if (node < n && starts[(int) node] < end) {
+                if (start < ends[(int) node]) {
+                    if (count == found.length) {
+                        found = grow(found);
+                    }
+                    found[count++] = (int) node;
+                }
+                stackLevel[top] = level - 1;
+                stackNode[top] = node + (1L << (level - 1));
+                stackVisited[top++] = false;
+            }
+        }
+        return (count == found.length ? found : copyOf(found, count));
+    }
+
+    private static int[] grow(int[] array) {
+        return copyOf(array, Math.max(8, array.length * 2));
+    }
+
+    private static int[] copyOf(int[] array, int length) {
+        int[] copy = new int[length];
+        System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+        return copy;
+    }
+
+}
@@ -593,7 +593,7 @@ public final class LocalDate
         throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
     }
 
-    private long getProlepticMonth() {
+    long getProlepticMonth() {
         return (year * 12L) + (month - 1);
     }
 
@@ -1415,31 +1415,69 @@ public final class LocalDate
     public long until(Temporal endExclusive, TemporalUnit unit) {
         LocalDate end = LocalDate.from(endExclusive);
         if (unit instanceof ChronoUnit) {
-            switch ((ChronoUnit) unit) {
-                case DAYS: return daysUntil(end);
-                case WEEKS: return daysUntil(end) / 7;
-                case MONTHS: return monthsUntil(end);
-                case YEARS: return monthsUntil(end) / 12;
-                case DECADES: return monthsUntil(end) / 120;
-                case CENTURIES: return monthsUntil(end) / 1200;
-                case MILLENNIA: return monthsUntil(end) / 12000;
-                case ERAS: return end.getLong(ERA) - getLong(ERA);
-            }
-            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            return until(end, 0, (ChronoUnit) unit);
         }
         return unit.between(this, end);
     }
 
+    /**
+     * Calculates the amount of time until another date, treating the end date
+     * as if it had been moved by the specified number of days.
+     * <p>
+     * This is used by the date-time classes to measure date-based units without
+     * creating an adjusted end date.
+     *
+     * @param end  the end date, not null
+     * @param endDayAdjust  the adjustment to the end date, from -1 to 1
+     * @param unit  the unit to measure the amount in, not null
+     * @return the amount of time between this date and the adjusted end date
+     */
+    long until(LocalDate end, int endDayAdjust, ChronoUnit unit) {
+        switch (unit) {
+            case DAYS: return daysUntil(end) + endDayAdjust;
+            case WEEKS: return (daysUntil(end) + endDayAdjust) / 7;
+            case MONTHS: return monthsUntil(end, endDayAdjust);
+            case YEARS: return monthsUntil(end, endDayAdjust) / 12;
+            case DECADES: return monthsUntil(end, endDayAdjust) / 120;
+            case CENTURIES: return monthsUntil(end, endDayAdjust) / 1200;
+            case MILLENNIA: return monthsUntil(end, endDayAdjust) / 12000;
+            case ERAS: return end.eraAfterAdjust(endDayAdjust) - getLong(ERA);
+        }
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+
     long daysUntil(LocalDate end) {
         return end.toEpochDay() - toEpochDay();  // no overflow
     }
 
-    private long monthsUntil(LocalDate end) {
+    private long monthsUntil(LocalDate end, int endDayAdjust) {
         long packed1 = getProlepticMonth() * 32L + getDayOfMonth();  // no overflow
-        long packed2 = end.getProlepticMonth() * 32L + end.getDayOfMonth();  // no overflow
+        long packed2 = end.packedAfterAdjust(endDayAdjust);  // no overflow
         return (packed2 - packed1) / 32;
     }
 
+    private long packedAfterAdjust(int dayAdjust) {
+        long prolepticMonth = getProlepticMonth();
+        if (dayAdjust < 0 && day == 1) {
+            int prevMonthLength = (month == 1 ? 31 : Month.of(month - 1).length(isLeapYear()));
+            return (prolepticMonth - 1) * 32L + prevMonthLength;
+        }
+        if (dayAdjust > 0 && day == lengthOfMonth()) {
+            return (prolepticMonth + 1) * 32L + 1;
+        }
+        return prolepticMonth * 32L + day + dayAdjust;
+    }
+
+    private long eraAfterAdjust(int dayAdjust) {
+        int adjustedYear = year;
+        if (dayAdjust < 0 && month == 1 && day == 1) {
+            adjustedYear--;
+        } else if (dayAdjust > 0 && month == 12 && day == 31) {
+            adjustedYear++;
+        }
+        return (adjustedYear >= 1 ? 1 : 0);
+    }
+
     /**
      * Calculates the period between this date and another date as a {@code Period}.
      * <p>
@@ -1492,6 +1530,47 @@ public final class LocalDate
         return Period.of(Jdk8Methods.safeToInt(years), months, days);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a sequence of the dates from this date to the specified end date,
+     * incrementing by one day.
+     * <p>
+     * The sequence starts at this date, inclusive, and ends at the end date, exclusive.
+     * The values are calculated when requested, rather than being stored.
+     * An empty sequence is returned if the end date is equal to this date.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param endExclusive  the end date, exclusive, not null
+     * @return a sequence of the dates, not null
+     * @throws IllegalArgumentException if the end date is before this date
+     */
+    public LocalDateSequence datesUntil(LocalDate endExclusive) {
+        return LocalDateSequence.of(this, endExclusive, Period.ofDays(1));
+    }
+
+    /**
+     * Returns a sequence of the dates from this date to the specified end date,
+     * incrementing by the specified period.
+     * <p>
+     * The value at index {@code n} is equal to
+     * {@code this.plusMonths(step.toTotalMonths() * n).plusDays(step.getDays() * n)},
+     * and the sequence contains all such values that are before the end date,
+     * or after the end date if the step is negative.
+     * The values are calculated when requested, rather than being stored.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param endExclusive  the end date, exclusive, not null
+     * @param step  the period between each date, not zero, not null
+     * @return a sequence of the dates, not null
+     * @throws IllegalArgumentException if the step is zero, if the months and days of the step
+     *  have opposite signs, or if the step is in the opposite direction to the end date
+     */
+    public LocalDateSequence datesUntil(LocalDate endExclusive, Period step) {
+        return LocalDateSequence.of(this, endExclusive, step);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Combines this date with a time to create a {@code LocalDateTime}.
@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * An immutable range of dates between two local dates.
+ * <p>
+ * A range is half-open, including the start date and excluding the end date.
+ * The end is never before the start, and a range where they are equal is empty.
+ * The range is stored as a pair of epoch-days, and all operations are calculated on them.
+ * <p>
+ * Large numbers of ranges can be queried using a {@link LocalDateRangeIndex}.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class LocalDateRange {
+
+    /**
+     * The start epoch-day, inclusive.
+     */
+    private final long startEpochDay;
+    /**
+     * The end epoch-day, exclusive.
+     */
+    private final long endEpochDay;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a range from a start date to an end date.
+     *
+     * @param startInclusive  the start date, inclusive, not null
+     * @param endExclusive  the end date, exclusive, not null
+     * @return the range, not null
+     * @throws DateTimeException if the end is before the start
+     */
+    public static LocalDateRange of(LocalDate startInclusive, LocalDate endExclusive) {
+        Jdk8Methods.requireNonNull(startInclusive, "startInclusive");
+        Jdk8Methods.requireNonNull(endExclusive, "endExclusive");
+        return ofEpochDay(startInclusive.toEpochDay(), endExclusive.toEpochDay());
+    }
+
+    /**
+     * Obtains a range from a start date to an inclusive end date.
+     *
+     * @param startInclusive  the start date, inclusive, not null
+     * @param endInclusive  the end date, inclusive, not null
+     * @return the range, not null
+     * @throws DateTimeException if the end is before the start, or is the maximum date
+     */
+    public static LocalDateRange ofClosed(LocalDate startInclusive, LocalDate endInclusive) {
+        Jdk8Methods.requireNonNull(startInclusive, "startInclusive");
+        Jdk8Methods.requireNonNull(endInclusive, "endInclusive");
+        return ofEpochDay(startInclusive.toEpochDay(), endInclusive.plusDays(1).toEpochDay());
+    }
+
+    /**
+     * Obtains a range from a start epoch-day to an end epoch-day.
+     *
+     * @param startEpochDay  the start epoch-day, inclusive, valid
+     * @param endEpochDay  the end epoch-day, exclusive, valid
+     * @return the range, not null
+     * @throws DateTimeException if the end is before the start
+     */
+    private static LocalDateRange ofEpochDay(long startEpochDay, long endEpochDay) {
+        if (endEpochDay < startEpochDay) {
+            throw new DateTimeException("End date must not be before start date");
+        }
+        return new LocalDateRange(startEpochDay, endEpochDay);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param startEpochDay  the start epoch-day, inclusive
+     * @param endEpochDay  the end epoch-day, exclusive
+     */
+    private LocalDateRange(long startEpochDay, long endEpochDay) {
+        this.startEpochDay = startEpochDay;
+        this.endEpochDay = endEpochDay;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the start of this range, inclusive.
+     *
+     * @return the start date, not null
+     */
+    public LocalDate getStart() {
+        return LocalDate.ofEpochDay(startEpochDay);
+    }
+
+    /**
+     * Gets the end of this range, exclusive.
+     *
+     * @return the end date, not null
+     */
+    public LocalDate getEnd() {
+        return LocalDate.ofEpochDay(endEpochDay);
+    }
+
+    /**
+     * Gets the last date of this range, inclusive.
+     *
+     * @return the date before the end, not null
+     * @throws DateTimeException if the range is empty
+     */
+    public LocalDate getEndInclusive() {
+        if (isEmpty()) {
+            throw new DateTimeException("Empty range has no inclusive end: " + this);
+        }
+        return LocalDate.ofEpochDay(endEpochDay - 1);
+    }
+
+    /**
+     * Gets the start of this range as an epoch-day.
+     *
+     * @return the start epoch-day, inclusive
+     */
+    long getStartEpochDay() {
+        return startEpochDay;
+    }
+
+    /**
+     * Gets the end of this range as an epoch-day.
+     *
+     * @return the end epoch-day, exclusive
+     */
+    long getEndEpochDay() {
+        return endEpochDay;
+    }
+
+    /**
+     * Checks if this range is empty, with the start equal to the end.
+     *
+     * @return true if this range is empty
+     */
+    public boolean isEmpty() {
+        return startEpochDay == endEpochDay;
+    }
+
+    /**
+     * Gets the number of days in this range.
+     *
+     * @return the number of days, zero or greater
+     */
+    public long lengthInDays() {
+        return endEpochDay - startEpochDay;
+    }
+
+    /**
+     * Obtains the sequence of the dates in this range.
+     *
+     * @return the sequence of dates from the start to the end, not null
+     */
+    public LocalDateSequence toSequence() {
+        return getStart().datesUntil(getEnd());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this range contains the specified date.
+     * <p>
+     * The start is contained and the end is not, so an empty range contains nothing.
+     *
+     * @param date  the date to check, not null
+     * @return true if the date is within this range
+     */
+    public boolean contains(LocalDate date) {
+        Jdk8Methods.requireNonNull(date, "date");
+        long epochDay = date.toEpochDay();
+        return startEpochDay <= epochDay && epochDay < endEpochDay;
+    }
+
+    /**
+     * Checks if this range encloses the specified range.
+     * <p>
+     * The other range is enclosed if it is entirely within this range,
+     * such that every range encloses itself.
+     *
+     * @param other  the range to check, not null
+     * @return true if the other range is enclosed by this range
+     */
+    public boolean encloses(LocalDateRange other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        return startEpochDay <= other.startEpochDay && other.endEpochDay <= endEpochDay;
+    }
+
+    /**
+     * Checks if this range overlaps the specified range.
+     * <p>
+     * The ranges overlap if each starts before the other ends.
+     * An empty range thus overlaps a range that strictly contains its date,
+     * but not one that it only touches, nor another empty range.
+     *
+     * @param other  the range to check, not null
+     * @return true if the ranges overlap
+     */
+    public boolean overlaps(LocalDateRange other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        return startEpochDay < other.endEpochDay && other.startEpochDay < endEpochDay;
+    }
+
+    /**
+     * Checks if this range abuts the specified range.
+     * <p>
+     * The ranges abut if the end of one is the start of the other,
+     * such that they are connected without overlapping.
+     *
+     * @param other  the range to check, not null
+     * @return true if the ranges abut
+     */
+    public boolean abuts(LocalDateRange other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        return (endEpochDay == other.startEpochDay) ^ (startEpochDay == other.endEpochDay);
+    }
+
+    /**
+     * Checks if this range is connected to the specified range.
+     * <p>
+     * The ranges are connected if they overlap or abut, such that
+     * there is no gap between them.
+     *
+     * @param other  the range to check, not null
+     * @return true if the ranges are connected
+     */
+    public boolean isConnected(LocalDateRange other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        return startEpochDay <= other.endEpochDay && other.startEpochDay <= endEpochDay;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the range that is the intersection of this range and the specified range.
+     *
+     * @param other  the range to intersect with, not null
+     * @return the intersection, which is empty if the ranges abut, not null
+     * @throws DateTimeException if the ranges are not connected
+     */
+    public LocalDateRange intersection(LocalDateRange other) {
+        if (isConnected(other) == false) {
+            throw new DateTimeException("Ranges do not connect: " + this + " and " + other);
+        }
+        return new LocalDateRange(
+                Math.max(startEpochDay, other.startEpochDay), Math.min(endEpochDay, other.endEpochDay));
+    }
+
+    /**
+     * Calculates the range that is the union of this range and the specified range.
+     *
+     * @param other  the range to merge with, not null
+     * @return the union, not null
+     * @throws DateTimeException if the ranges are not connected
+     */
+    public LocalDateRange union(LocalDateRange other) {
+        if (isConnected(other) == false) {
+            throw new DateTimeException("Ranges do not connect: " + this + " and " + other);
+        }
+        return span(other);
+    }
+
+    /**
+     * Calculates the smallest range that encloses this range and the specified range.
+     *
+     * @param other  the range to span with, not null
+     * @return the spanning range, not null
+     */
+    public LocalDateRange span(LocalDateRange other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        return new LocalDateRange(
+                Math.min(startEpochDay, other.startEpochDay), Math.max(endEpochDay, other.endEpochDay));
+    }
+
+    /**
+     * Calculates the range between this range and the specified range.
+     *
+     * @param other  the range to find the gap to, not null
+     * @return the gap, not empty, not null
+     * @throws DateTimeException if the ranges are connected
+     */
+    public LocalDateRange gap(LocalDateRange other) {
+        if (isConnected(other)) {
+            throw new DateTimeException("Ranges have no gap: " + this + " and " + other);
+        }
+        return new LocalDateRange(
+                Math.min(endEpochDay, other.endEpochDay), Math.max(startEpochDay, other.startEpochDay));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this range is equal to another range.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other range
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof LocalDateRange) {
+            LocalDateRange other = (LocalDateRange) obj;
+            return startEpochDay == other.startEpochDay && endEpochDay == other.endEpochDay;
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this range.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        long hash = startEpochDay * 31 + endEpochDay;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * Outputs this range as a {@code String}, such as {@code 2012-01-01/2012-02-01}.
+     * <p>
+     * The output is the ISO-8601 format of the start and exclusive end separated by a slash.
+     *
+     * @return a string representation of this range, not null
+     */
+    @Override
+    public String toString() {
+        return getStart() + "/" + getEnd();
+    }
+
+}
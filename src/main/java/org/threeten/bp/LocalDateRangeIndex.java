@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * An immutable index of date ranges supporting fast stabbing and overlap queries.
+ * <p>
+ * The ranges are sorted by start and then end, and held in packed arrays of
+ * epoch-days forming an implicit augmented interval tree. Queries run in
+ * O(log n + k) time, so millions of ranges can be searched without allocating
+ * per-range nodes.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class LocalDateRangeIndex {
+
+    /**
+     * Orders ranges by start and then end.
+     */
+    private static final Comparator<LocalDateRange> ORDER = new Comparator<LocalDateRange>() {
+        @Override
+        public int compare(LocalDateRange range1, LocalDateRange range2) {
+            int cmp = Jdk8Methods.compareLongs(range1.getStartEpochDay(), range2.getStartEpochDay());
+            return (cmp != 0 ? cmp : Jdk8Methods.compareLongs(range1.getEndEpochDay(), range2.getEndEpochDay()));
+        }
+    };
+
+    /**
+     * The ranges, sorted by start and then end.
+     */
+    private final LocalDateRange[] ranges;
+    /**
+     * The tree of the ranges, keyed by epoch-day.
+     */
+    private final IntervalTree tree;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an index of the specified ranges.
+     * <p>
+     * Duplicate ranges are retained.
+     *
+     * @param ranges  the ranges to index, not null, no null elements
+     * @return the index, not null
+     */
+    public static LocalDateRangeIndex of(Collection<LocalDateRange> ranges) {
+        Jdk8Methods.requireNonNull(ranges, "ranges");
+        LocalDateRange[] sorted = ranges.toArray(new LocalDateRange[ranges.size()]);
+        for (LocalDateRange range : sorted) {
+            Jdk8Methods.requireNonNull(range, "ranges");
+        }
+        Arrays.sort(sorted, ORDER);
+        return new LocalDateRangeIndex(sorted);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ranges  the sorted ranges, not null
+     */
+    private LocalDateRangeIndex(LocalDateRange[] ranges) {
+        this.ranges = ranges;
+        long[] starts = new long[ranges.length];
+        long[] ends = new long[ranges.length];
+        for (int i = 0; i < ranges.length; i++) {
+            starts[i] = ranges[i].getStartEpochDay();
+            ends[i] = ranges[i].getEndEpochDay();
+        }
+        this.tree = new IntervalTree(starts, ends);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of ranges in the index.
+     *
+     * @return the size, zero or greater
+     */
+    public int size() {
+        return ranges.length;
+    }
+
+    /**
+     * Gets the range at the specified position in start order.
+     *
+     * @param index  the index, from 0 to size - 1
+     * @return the range, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public LocalDateRange get(int index) {
+        if (index < 0 || index >= ranges.length) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        return ranges[index];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the ranges that contain the specified date.
+     *
+     * @param date  the date to query, not null
+     * @return the containing ranges in start order, unmodifiable, not null
+     */
+    public List<LocalDateRange> containing(LocalDate date) {
+        Jdk8Methods.requireNonNull(date, "date");
+        long epochDay = date.toEpochDay();
+        return collect(tree.query(epochDay, epochDay + 1));
+    }
+
+    /**
+     * Finds the ranges that overlap the specified range.
+     * <p>
+     * This uses the definition of {@link LocalDateRange#overlaps(LocalDateRange)}.
+     *
+     * @param range  the range to query, not null
+     * @return the overlapping ranges in start order, unmodifiable, not null
+     */
+    public List<LocalDateRange> overlapping(LocalDateRange range) {
+        Jdk8Methods.requireNonNull(range, "range");
+        return collect(tree.query(range.getStartEpochDay(), range.getEndEpochDay()));
+    }
+
+    private List<LocalDateRange> collect(int[] found) {
+        List<LocalDateRange> result = new ArrayList<LocalDateRange>(found.length);
+        for (int index : found) {
+            result.add(ranges[index]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this index as a {@code String}.
+     *
+     * @return a string representation of this index, not null
+     */
+    @Override
+    public String toString() {
+        return "LocalDateRangeIndex[" + ranges.length + "]";
+    }
+
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * An immutable sequence of dates separated by a fixed period.
+ * <p>
+ * Instances are obtained from {@link LocalDate#datesUntil(LocalDate)} and
+ * {@link LocalDate#datesUntil(LocalDate, Period)}.
+ * The value at index {@code n} is the start date plus {@code n} times the period.
+ * <p>
+ * When the period only has days, the values are calculated directly from the epoch-day.
+ * The {@link #getEpochDay(long)} and {@link #getDayOfWeek(long)} methods allow
+ * values to be queried without creating a {@code LocalDate}.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class LocalDateSequence extends DateTimeSequence<LocalDate> {
+
+    /**
+     * The date at the origin of the sequence.
+     */
+    private final LocalDate start;
+    /**
+     * The step between values.
+     */
+    private final Period step;
+    /**
+     * The epoch-day of the origin.
+     */
+    private final long startEpochDay;
+    /**
+     * The total months of the step.
+     */
+    private final long months;
+    /**
+     * The days of the step.
+     */
+    private final long days;
+
+    /**
+     * Obtains a sequence from a start date to an end date.
+     *
+     * @param start  the start date, inclusive, not null
+     * @param endExclusive  the end date, exclusive, not null
+     * @param step  the step between values, not zero, not null
+     * @return the sequence, not null
+     * @throws IllegalArgumentException if the step is zero, has months and days
+     *  of opposite signs, or is in the opposite direction to the end date
+     */
+    static LocalDateSequence of(LocalDate start, LocalDate endExclusive, Period step) {
+        Jdk8Methods.requireNonNull(start, "start");
+        Jdk8Methods.requireNonNull(endExclusive, "endExclusive");
+        Jdk8Methods.requireNonNull(step, "step");
+        if (step.isZero()) {
+            throw new IllegalArgumentException("Step must not be zero");
+        }
+        long months = step.toTotalMonths();
+        long days = step.getDays();
+        if ((months < 0 && days > 0) || (months > 0 && days < 0)) {
+            throw new IllegalArgumentException("Step months and days must not have opposite signs");
+        }
+        long until = endExclusive.toEpochDay() - start.toEpochDay();
+        if (until == 0) {
+            return new LocalDateSequence(start, step, 0, 0);
+        }
+        int sign = (months > 0 || days > 0 ? 1 : -1);
+        if (sign < 0 ^ until < 0) {
+            throw new IllegalArgumentException("Step is in the opposite direction to the end");
+        }
+        if (months == 0) {
+            return new LocalDateSequence(start, step, 0, (until - sign) / days + 1);
+        }
+        // estimate using the average month length, 48699/1600 = 365.2425/12, then correct
+        long end = endExclusive.toEpochDay();
+        long steps = until * 1600 / (months * 48699 + days * 1600) + 1;
+        long maxAddMonths = (months > 0 ?
+                LocalDate.MAX.getProlepticMonth() - start.getProlepticMonth() :
+                start.getProlepticMonth() - LocalDate.MIN.getProlepticMonth());
+        while (steps > 0 && reachesEnd(start, months, days, steps, end, sign, maxAddMonths)) {
+            steps--;
+        }
+        while (reachesEnd(start, months, days, steps + 1, end, sign, maxAddMonths) == false) {
+            steps++;
+        }
+        return new LocalDateSequence(start, step, 0, steps + 1);
+    }
+
+    /**
+     * Checks if the value at the specified number of steps is at or beyond the exclusive end.
+     *
+     * @param start  the start date, not null
+     * @param months  the total months of the step, not zero
+     * @param days  the days of the step, same sign as the months
+     * @param steps  the number of steps, zero or greater
+     * @param end  the epoch-day of the exclusive end
+     * @param sign  the direction of the step, 1 or -1
+     * @param maxAddMonths  the maximum months that can be added to the start
+     * @return true if the value is not before the end in the direction of the step
+     */
+    private static boolean reachesEnd(
+            LocalDate start, long months, long days, long steps, long end, int sign, long maxAddMonths) {
+        if (Math.abs(months * steps) > maxAddMonths) {
+            return true;
+        }
+        long value = start.plusMonths(months * steps).toEpochDay() + days * steps;
+        return (sign > 0 ? value >= end : value <= end);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param start  the date at the origin, not null
+     * @param step  the step, not null
+     * @param first  the index of the first value relative to the origin
+     * @param size  the number of values
+     */
+    private LocalDateSequence(LocalDate start, Period step, long first, long size) {
+        super(first, size);
+        this.start = start;
+        this.step = step;
+        this.startEpochDay = start.toEpochDay();
+        this.months = step.toTotalMonths();
+        this.days = step.getDays();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    LocalDate element(long index) {
+        if (months == 0) {
+            return LocalDate.ofEpochDay(startEpochDay + days * index);
+        }
+        return start.plusMonths(months * index).plusDays(days * index);
+    }
+
+    @Override
+    long elementIndex(Object obj) {
+        if (obj instanceof LocalDate == false) {
+            return -1;
+        }
+        long diff = ((LocalDate) obj).toEpochDay() - startEpochDay;
+        if (months == 0) {
+            return (diff % days == 0 && diff / days >= 0 ? diff / days : -1);
+        }
+        // the estimate is within one step of the actual index, so check neighbours
+        long estimate = diff * 1600 / (months * 48699 + days * 1600);
+        long max = Math.min(estimate + 2, first + size - 1);
+        for (long index = Math.max(estimate - 2, 0); index <= max; index++) {
+            if (element(index).equals(obj)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    LocalDateSequence create(long first, long size) {
+        return new LocalDateSequence(start, step, first, size);
+    }
+
+    @Override
+    String stepText() {
+        return step.toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the period between each value in this sequence.
+     *
+     * @return the step, not null
+     */
+    public Period getStep() {
+        return step;
+    }
+
+    /**
+     * Gets the epoch-day of the value at the specified index.
+     * <p>
+     * When the step only has days, this does not create a {@code LocalDate}.
+     *
+     * @param index  the index of the value, from 0 to {@code size() - 1}
+     * @return the epoch-day of the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getEpochDay(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (months == 0) {
+            return startEpochDay + days * (first + index);
+        }
+        return element(first + index).toEpochDay();
+    }
+
+    /**
+     * Gets the day-of-week of the value at the specified index.
+     * <p>
+     * When the step only has days, this does not create a {@code LocalDate}.
+     *
+     * @param index  the index of the value, from 0 to {@code size() - 1}
+     * @return the day-of-week of the value, not null
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public DayOfWeek getDayOfWeek(long index) {
+        return DayOfWeek.of(Jdk8Methods.floorMod(getEpochDay(index) + 3, 7) + 1);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public boolean equals(Object obj) {
+        if (super.equals(obj)) {
+            LocalDateSequence other = (LocalDateSequence) obj;
+            return start.equals(other.start) && step.equals(other.step);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ start.hashCode() ^ step.hashCode();
+    }
+
+}
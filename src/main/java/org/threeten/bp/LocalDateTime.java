@@ -1555,17 +1555,52 @@ public final class LocalDateTime
                 }
                 throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
             }
-            LocalDate endDate = end.date;
-            if (endDate.isAfter(date) && end.time.isBefore(time)) {
-                endDate = endDate.minusDays(1);
-            } else if (endDate.isBefore(date) && end.time.isAfter(time)) {
-                endDate = endDate.plusDays(1);
-            }
-            return date.until(endDate, unit);
+            return dateUntil(end.date, end.time, f);
         }
         return unit.between(this, end);
     }
 
+    /**
+     * Calculates the amount of time until another date-time in terms of a date-based unit.
+     * <p>
+     * The end date is treated as one day closer to this date-time if its time
+     * has not yet reached the time of this date-time, without creating an adjusted date.
+     *
+     * @param endDate  the end date, not null
+     * @param endTime  the end time, not null
+     * @param unit  the unit to measure the amount in, not null
+     * @return the amount of time between this date-time and the end date-time
+     */
+    long dateUntil(LocalDate endDate, LocalTime endTime, ChronoUnit unit) {
+        int endDayAdjust = 0;
+        if (endDate.isAfter(date) && endTime.isBefore(time)) {
+            endDayAdjust = -1;
+        } else if (endDate.isBefore(date) && endTime.isAfter(time)) {
+            endDayAdjust = 1;
+        }
+        return date.until(endDate, endDayAdjust, unit);
+    }
+
+    /**
+     * Returns a sequence of the date-times from this date-time to the specified
+     * end date-time, incrementing by the specified duration.
+     * <p>
+     * The sequence starts at this date-time, inclusive, and contains all values
+     * before the end date-time, or after the end date-time if the step is negative.
+     * The values are calculated when requested, rather than being stored.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param endExclusive  the end date-time, exclusive, not null
+     * @param step  the duration between each date-time, not zero, not null
+     * @return a sequence of the date-times, not null
+     * @throws IllegalArgumentException if the step is zero or in the opposite direction to the end
+     * @throws ArithmeticException if the number of values exceeds a {@code long}
+     */
+    public LocalDateTimeSequence dateTimesUntil(LocalDateTime endExclusive, Duration step) {
+        return LocalDateTimeSequence.of(this, endExclusive, step);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Combines this date-time with an offset to create an {@code OffsetDateTime}.
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * An immutable sequence of local date-times separated by a fixed duration.
+ * <p>
+ * Instances are obtained from {@link LocalDateTime#dateTimesUntil(LocalDateTime, Duration)}.
+ * The value at index {@code n} is the start date-time plus {@code n} times the step.
+ * As there is no time-zone, every day is treated as being exactly 24 hours long.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class LocalDateTimeSequence extends DateTimeSequence<LocalDateTime> {
+
+    /**
+     * The date-time at the origin of the sequence.
+     */
+    private final LocalDateTime start;
+    /**
+     * The step between values.
+     */
+    private final Duration step;
+    /**
+     * The epoch-second of the origin, using an offset of zero.
+     */
+    private final long startEpochSecond;
+
+    /**
+     * Obtains a sequence from a start date-time to an end date-time.
+     *
+     * @param start  the start date-time, inclusive, not null
+     * @param endExclusive  the end date-time, exclusive, not null
+     * @param step  the step between values, not zero, not null
+     * @return the sequence, not null
+     * @throws IllegalArgumentException if the step is zero or in the opposite direction to the end
+     * @throws ArithmeticException if the number of values exceeds a {@code long}
+     */
+    static LocalDateTimeSequence of(LocalDateTime start, LocalDateTime endExclusive, Duration step) {
+        Jdk8Methods.requireNonNull(start, "start");
+        Jdk8Methods.requireNonNull(endExclusive, "endExclusive");
+        Jdk8Methods.requireNonNull(step, "step");
+        return new LocalDateTimeSequence(start, step, 0, stepsUntil(span(start, endExclusive), step));
+    }
+
+    private static Duration span(LocalDateTime start, LocalDateTime end) {
+        long secs = end.toEpochSecond(ZoneOffset.UTC) - start.toEpochSecond(ZoneOffset.UTC);
+        return Duration.ofSeconds(secs, end.getNano() - start.getNano());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param start  the date-time at the origin, not null
+     * @param step  the step, not null
+     * @param first  the index of the first value relative to the origin
+     * @param size  the number of values
+     */
+    private LocalDateTimeSequence(LocalDateTime start, Duration step, long first, long size) {
+        super(first, size);
+        this.start = start;
+        this.step = step;
+        this.startEpochSecond = start.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    LocalDateTime element(long index) {
+        return LocalDateTime.ofEpochSecond(
+                stepSecond(startEpochSecond, start.getNano(), step, index),
+                stepNano(start.getNano(), step, index), ZoneOffset.UTC);
+    }
+
+    @Override
+    long elementIndex(Object obj) {
+        if (obj instanceof LocalDateTime == false) {
+            return -1;
+        }
+        return exactSteps(span(start, (LocalDateTime) obj), step);
+    }
+
+    @Override
+    LocalDateTimeSequence create(long first, long size) {
+        return new LocalDateTimeSequence(start, step, first, size);
+    }
+
+    @Override
+    String stepText() {
+        return step.toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the duration between each value in this sequence.
+     *
+     * @return the step, not null
+     */
+    public Duration getStep() {
+        return step;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public boolean equals(Object obj) {
+        if (super.equals(obj)) {
+            LocalDateTimeSequence other = (LocalDateTimeSequence) obj;
+            return start.equals(other.start) && step.equals(other.step);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ start.hashCode() ^ step.hashCode();
+    }
+
+}
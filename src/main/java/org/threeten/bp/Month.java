@@ -38,8 +38,8 @@ import java.util.Locale;
 
 import org.threeten.bp.chrono.Chronology;
 import org.threeten.bp.chrono.IsoChronology;
-import org.threeten.bp.format.DateTimeFormatterBuilder;
 import org.threeten.bp.format.TextStyle;
+import org.threeten.bp.jdk8.DisplayNameCache;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalAccessor;
@@ -147,6 +147,10 @@ public enum Month implements TemporalAccessor, TemporalAdjuster {
      * Private cache of all the constants.
      */
     private static final Month[] ENUMS = Month.values();
+    /**
+     * Cache of the display names.
+     */
+    private static final DisplayNameCache NAMES = new DisplayNameCache(MONTH_OF_YEAR, 1, 12);
 
     //-----------------------------------------------------------------------
     /**
@@ -227,7 +231,7 @@ public enum Month implements TemporalAccessor, TemporalAdjuster {
      * @return the text value of the month-of-year, not null
      */
     public String getDisplayName(TextStyle style, Locale locale) {
-        return new DateTimeFormatterBuilder().appendText(MONTH_OF_YEAR, style).toFormatter(locale).format(this);
+        return NAMES.getDisplayName(getValue(), style, locale);
     }
 
     //-----------------------------------------------------------------------
@@ -437,7 +437,7 @@ public final class YearMonth
         return field.getFrom(this);
     }
 
-    private long getProlepticMonth() {
+    long getProlepticMonth() {
         return (year * 12L) + (month - 1);
     }
 
@@ -929,6 +929,42 @@ public final class YearMonth
         return unit.between(this, end);
     }
 
+    /**
+     * Returns a sequence of the year-months from this year-month to the specified
+     * end year-month, incrementing by one month.
+     * <p>
+     * The sequence starts at this year-month, inclusive, and ends at the end year-month, exclusive.
+     * The values are calculated when requested, rather than being stored.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param endExclusive  the end year-month, exclusive, not null
+     * @return a sequence of the year-months, not null
+     * @throws IllegalArgumentException if the end year-month is before this year-month
+     */
+    public YearMonthSequence yearMonthsUntil(YearMonth endExclusive) {
+        return YearMonthSequence.of(this, endExclusive, 1);
+    }
+
+    /**
+     * Returns a sequence of the year-months from this year-month to the specified
+     * end year-month, incrementing by the specified number of months.
+     * <p>
+     * The sequence starts at this year-month, inclusive, and contains all values
+     * before the end year-month, or after the end year-month if the step is negative.
+     * The values are calculated when requested, rather than being stored.
+     * <p>
+     * This instance is immutable and unaffected by this method call.
+     *
+     * @param endExclusive  the end year-month, exclusive, not null
+     * @param stepMonths  the number of months between each year-month, not zero
+     * @return a sequence of the year-months, not null
+     * @throws IllegalArgumentException if the step is zero or in the opposite direction to the end
+     */
+    public YearMonthSequence yearMonthsUntil(YearMonth endExclusive, long stepMonths) {
+        return YearMonthSequence.of(this, endExclusive, stepMonths);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Combines this year-month with a day-of-month to create a {@code LocalDate}.
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * An immutable sequence of year-months separated by a fixed number of months.
+ * <p>
+ * Instances are obtained from {@link YearMonth#yearMonthsUntil(YearMonth)} and
+ * {@link YearMonth#yearMonthsUntil(YearMonth, long)}.
+ * The value at index {@code n} is the start year-month plus {@code n} times the step.
+ * The {@link #getProlepticMonth(long)} method allows values to be queried
+ * without creating a {@code YearMonth}.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class YearMonthSequence extends DateTimeSequence<YearMonth> {
+
+    /**
+     * The proleptic-month of the origin.
+     */
+    private final long startMonth;
+    /**
+     * The months between values.
+     */
+    private final long step;
+
+    /**
+     * Obtains a sequence from a start year-month to an end year-month.
+     *
+     * @param start  the start year-month, inclusive, not null
+     * @param endExclusive  the end year-month, exclusive, not null
+     * @param step  the months between values, not zero
+     * @return the sequence, not null
+     * @throws IllegalArgumentException if the step is zero or in the opposite direction to the end
+     */
+    static YearMonthSequence of(YearMonth start, YearMonth endExclusive, long step) {
+        Jdk8Methods.requireNonNull(start, "start");
+        Jdk8Methods.requireNonNull(endExclusive, "endExclusive");
+        if (step == 0) {
+            throw new IllegalArgumentException("Step must not be zero");
+        }
+        long until = endExclusive.getProlepticMonth() - start.getProlepticMonth();
+        if (until == 0) {
+            return new YearMonthSequence(start.getProlepticMonth(), step, 0, 0);
+        }
+        if (step < 0 ^ until < 0) {
+            throw new IllegalArgumentException("Step is in the opposite direction to the end");
+        }
+        long sign = (step > 0 ? 1 : -1);
+        return new YearMonthSequence(start.getProlepticMonth(), step, 0, (until - sign) / step + 1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param startMonth  the proleptic-month at the origin
+     * @param step  the step in months
+     * @param first  the index of the first value relative to the origin
+     * @param size  the number of values
+     */
+    private YearMonthSequence(long startMonth, long step, long first, long size) {
+        super(first, size);
+        this.startMonth = startMonth;
+        this.step = step;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    YearMonth element(long index) {
+        long prolepticMonth = startMonth + step * index;
+        int year = YEAR.checkValidIntValue(Jdk8Methods.floorDiv(prolepticMonth, 12));
+        return YearMonth.of(year, Jdk8Methods.floorMod(prolepticMonth, 12) + 1);
+    }
+
+    @Override
+    long elementIndex(Object obj) {
+        if (obj instanceof YearMonth == false) {
+            return -1;
+        }
+        long diff = ((YearMonth) obj).getProlepticMonth() - startMonth;
+        return (diff % step == 0 && diff / step >= 0 ? diff / step : -1);
+    }
+
+    @Override
+    YearMonthSequence create(long first, long size) {
+        return new YearMonthSequence(startMonth, step, first, size);
+    }
+
+    @Override
+    String stepText() {
+        return "P" + step + "M";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of months between each value in this sequence.
+     *
+     * @return the step in months, not zero
+     */
+    public long getStepMonths() {
+        return step;
+    }
+
+    /**
+     * Gets the proleptic-month of the value at the specified index.
+     * <p>
+     * This is the same as the {@link org.threeten.bp.temporal.ChronoField#PROLEPTIC_MONTH PROLEPTIC_MONTH}
+     * field of the value, and does not create a {@code YearMonth}.
+     *
+     * @param index  the index of the value, from 0 to {@code size() - 1}
+     * @return the proleptic-month of the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getProlepticMonth(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return startMonth + step * (first + index);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public boolean equals(Object obj) {
+        if (super.equals(obj)) {
+            YearMonthSequence other = (YearMonthSequence) obj;
+            return startMonth == other.startMonth && step == other.step;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ ((int) (startMonth ^ (startMonth >>> 32))) ^ ((int) (step ^ (step >>> 32)));
+    }
+
+}
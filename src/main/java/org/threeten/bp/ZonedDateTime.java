@@ -31,6 +31,9 @@
  */
 package org.threeten.bp;
 
+import static org.threeten.bp.LocalTime.NANOS_PER_SECOND;
+import static org.threeten.bp.LocalTime.SECONDS_PER_HOUR;
+import static org.threeten.bp.LocalTime.SECONDS_PER_MINUTE;
 import static org.threeten.bp.temporal.ChronoField.INSTANT_SECONDS;
 import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
 import static org.threeten.bp.temporal.ChronoField.OFFSET_SECONDS;
@@ -1965,16 +1968,52 @@ public final class ZonedDateTime
     public long until(Temporal endExclusive, TemporalUnit unit) {
         ZonedDateTime end = ZonedDateTime.from(endExclusive);
         if (unit instanceof ChronoUnit) {
-            end = end.withZoneSameInstant(zone);
-            if (unit.isDateBased()) {
-                return dateTime.until(end.dateTime, unit);
-            } else {
-                return toOffsetDateTime().until(end.toOffsetDateTime(), unit);
+            ChronoUnit f = (ChronoUnit) unit;
+            if (f.isDateBased()) {
+                LocalDateTime endDateTime = end.dateTime;
+                if (end.zone.equals(zone) == false) {
+                    ZoneOffset endOffset = zone.getRules().getOffset(end.toInstant());
+                    endDateTime = LocalDateTime.ofEpochSecond(end.toEpochSecond(), end.getNano(), endOffset);
+                }
+                return dateTime.dateUntil(endDateTime.toLocalDate(), endDateTime.toLocalTime(), f);
+            }
+            if (f.isTimeBased()) {
+                return instantUntil(end, f);
             }
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
         }
         return unit.between(this, end);
     }
 
+    private long instantUntil(ZonedDateTime end, ChronoUnit unit) {
+        long secsUntil = Jdk8Methods.safeSubtract(end.toEpochSecond(), toEpochSecond());
+        long nanosUntil = end.getNano() - getNano();
+        if (secsUntil > 0 && nanosUntil < 0) {
+            secsUntil--;
+            nanosUntil += NANOS_PER_SECOND;
+        } else if (secsUntil < 0 && nanosUntil > 0) {
+            secsUntil++;
+            nanosUntil -= NANOS_PER_SECOND;
+        }
+        switch (unit) {
+            case NANOS:
+                return Jdk8Methods.safeAdd(Jdk8Methods.safeMultiply(secsUntil, NANOS_PER_SECOND), nanosUntil);
+            case MICROS:
+                return Jdk8Methods.safeAdd(Jdk8Methods.safeMultiply(secsUntil, 1000000), nanosUntil / 1000);
+            case MILLIS:
+                return Jdk8Methods.safeAdd(Jdk8Methods.safeMultiply(secsUntil, 1000), nanosUntil / 1000000);
+            case SECONDS:
+                return secsUntil;
+            case MINUTES:
+                return secsUntil / SECONDS_PER_MINUTE;
+            case HOURS:
+                return secsUntil / SECONDS_PER_HOUR;
+            case HALF_DAYS:
+                return secsUntil / (12 * SECONDS_PER_HOUR);
+        }
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the {@code LocalDateTime} part of this date-time.
@@ -41,6 +41,7 @@ import org.threeten.bp.temporal.ChronoUnit;
 import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalAdjuster;
 import org.threeten.bp.temporal.TemporalUnit;
+import org.threeten.bp.temporal.ValueRange;
 
 /**
  * A date expressed in terms of a standard year-month-day calendar system.
@@ -116,6 +117,26 @@ abstract class ChronoDateImpl<D extends ChronoLocalDate>
      * Serialization version.
      */
     private static final long serialVersionUID = 6282433883239719096L;
+    /**
+     * The shared ranges from one to each possible length of a month.
+     */
+    private static final ValueRange[] MONTH_RANGES = new ValueRange[32];
+    /**
+     * The smallest length of a year with a shared range.
+     */
+    private static final int MIN_SHARED_YEAR_LENGTH = 350;
+    /**
+     * The shared ranges from one to each common length of a year.
+     */
+    private static final ValueRange[] YEAR_RANGES = new ValueRange[40];
+    static {
+        for (int i = 1; i < MONTH_RANGES.length; i++) {
+            MONTH_RANGES[i] = ValueRange.of(1, i);
+        }
+        for (int i = 0; i < YEAR_RANGES.length; i++) {
+            YEAR_RANGES[i] = ValueRange.of(1, MIN_SHARED_YEAR_LENGTH + i);
+        }
+    }
 
     /**
      * Creates an instance.
@@ -123,6 +144,24 @@ abstract class ChronoDateImpl<D extends ChronoLocalDate>
     ChronoDateImpl() {
     }
 
+    /**
+     * Obtains a range from one to the specified maximum, sharing the instances
+     * for the lengths of months and years to avoid creating a range on each query.
+     *
+     * @param max  the maximum value, at least one
+     * @return the range, not null
+     */
+    static ValueRange rangeFromOne(int max) {
+        if (max < MONTH_RANGES.length) {
+            return MONTH_RANGES[max];
+        }
+        int yearIndex = max - MIN_SHARED_YEAR_LENGTH;
+        if (yearIndex >= 0 && yearIndex < YEAR_RANGES.length) {
+            return YEAR_RANGES[yearIndex];
+        }
+        return ValueRange.of(1, max);
+    }
+
     //-----------------------------------------------------------------------
     @SuppressWarnings("unchecked")
     @Override
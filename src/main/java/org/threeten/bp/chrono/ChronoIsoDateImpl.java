@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.chrono;
+
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.Month;
+import org.threeten.bp.Period;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
+import org.threeten.bp.temporal.ValueRange;
+
+/**
+ * A date in a calendar system that has the same months and days as the ISO calendar
+ * system, differing only in the numbering of years and eras.
+ * <p>
+ * The ISO year, month and day are held as primitive fields rather than as a
+ * {@code LocalDate}, so each date is a single object and date arithmetic
+ * is performed directly on the fields, creating only the resulting date.
+ *
+ * <h3>Specification for implementors</h3>
+ * This abstract class must be implemented with care to ensure other classes operate correctly.
+ * All implementations that can be instantiated must be final, immutable and thread-safe.
+ *
+ * @param <D> the date type
+ */
+abstract class ChronoIsoDateImpl<D extends ChronoIsoDateImpl<D>>
+        extends ChronoDateImpl<D> {
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = -2361962622011371917L;
+    /**
+     * The number of days in a 400 year cycle.
+     */
+    private static final int DAYS_PER_CYCLE = 146097;
+    /**
+     * The number of days from year zero to year 1970.
+     */
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
+    /**
+     * The ISO year.
+     */
+    final int isoYear;
+    /**
+     * The ISO month-of-year.
+     */
+    final short isoMonth;
+    /**
+     * The ISO day-of-month.
+     */
+    final short isoDay;
+
+    /**
+     * Creates an instance from a valid ISO date.
+     *
+     * @param isoYear  the ISO year, validated
+     * @param isoMonth  the ISO month-of-year, validated
+     * @param isoDay  the ISO day-of-month, valid for the year and month
+     */
+    ChronoIsoDateImpl(int isoYear, int isoMonth, int isoDay) {
+        this.isoYear = isoYear;
+        this.isoMonth = (short) isoMonth;
+        this.isoDay = (short) isoDay;
+    }
+
+    /**
+     * Creates a date in the same calendar system from a valid ISO date.
+     *
+     * @param isoYear  the ISO year, validated
+     * @param isoMonth  the ISO month-of-year, validated
+     * @param isoDay  the ISO day-of-month, valid for the year and month
+     * @return the date, not null
+     * @throws DateTimeException if the date is not supported by the calendar system
+     */
+    abstract D create(int isoYear, int isoMonth, int isoDay);
+
+    /**
+     * Returns a date with the specified ISO fields, which is this date if unchanged.
+     *
+     * @param year  the ISO year, validated
+     * @param month  the ISO month-of-year, validated
+     * @param day  the ISO day-of-month, valid for the year and month
+     * @return the date, not null
+     */
+    @SuppressWarnings("unchecked")
+    final D withIso(int year, int month, int day) {
+        if (year == isoYear && month == isoMonth && day == isoDay) {
+            return (D) this;
+        }
+        return create(year, month, day);
+    }
+
+    /**
+     * Returns a date with the specified ISO date, which is this date if unchanged.
+     *
+     * @param date  the ISO date, not null
+     * @return the date, not null
+     */
+    final D withIso(LocalDate date) {
+        return withIso(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * Returns the equivalent ISO date.
+     *
+     * @return the ISO date, not null
+     */
+    final LocalDate toIsoDate() {
+        return LocalDate.of(isoYear, isoMonth, isoDay);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the ISO year is a leap year.
+     *
+     * @return true if the ISO year is a leap year
+     */
+    final boolean isIsoLeapYear() {
+        return IsoChronology.INSTANCE.isLeapYear(isoYear);
+    }
+
+    /**
+     * Gets the ISO day-of-year.
+     *
+     * @return the ISO day-of-year, from 1 to 366
+     */
+    final int getIsoDayOfYear() {
+        return Month.of(isoMonth).firstDayOfYear(isIsoLeapYear()) + isoDay - 1;
+    }
+
+    @Override
+    public int lengthOfMonth() {
+        switch (isoMonth) {
+            case 2:
+                return (isIsoLeapYear() ? 29 : 28);
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Gets the range of a field that is the same as in the ISO calendar system.
+     *
+     * @param field  the field, which is day-of-month, day-of-year or aligned-week-of-month
+     * @return the range, not null
+     */
+    final ValueRange isoRange(ChronoField field) {
+        switch (field) {
+            case DAY_OF_MONTH: return rangeFromOne(lengthOfMonth());
+            case DAY_OF_YEAR: return rangeFromOne(isIsoLeapYear() ? 366 : 365);
+            case ALIGNED_WEEK_OF_MONTH: return rangeFromOne(isoMonth == 2 && isIsoLeapYear() == false ? 4 : 5);
+        }
+        return field.range();
+    }
+
+    /**
+     * Gets the value of a field as in the ISO calendar system.
+     *
+     * @param field  the field, not null
+     * @return the value of the field in the ISO calendar system
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     */
+    final long isoGetLong(ChronoField field) {
+        switch (field) {
+            case DAY_OF_WEEK: return Jdk8Methods.floorMod(toEpochDay() + 3, 7) + 1;
+            case ALIGNED_DAY_OF_WEEK_IN_MONTH: return ((isoDay - 1) % 7) + 1;
+            case ALIGNED_DAY_OF_WEEK_IN_YEAR: return ((getIsoDayOfYear() - 1) % 7) + 1;
+            case DAY_OF_MONTH: return isoDay;
+            case DAY_OF_YEAR: return getIsoDayOfYear();
+            case EPOCH_DAY: return toEpochDay();
+            case ALIGNED_WEEK_OF_MONTH: return ((isoDay - 1) / 7) + 1;
+            case ALIGNED_WEEK_OF_YEAR: return ((getIsoDayOfYear() - 1) / 7) + 1;
+            case MONTH_OF_YEAR: return isoMonth;
+            case PROLEPTIC_MONTH: return isoYear * 12L + isoMonth - 1;
+            case YEAR_OF_ERA: return (isoYear >= 1 ? isoYear : 1 - isoYear);
+            case YEAR: return isoYear;
+            case ERA: return (isoYear >= 1 ? 1 : 0);
+        }
+        throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+    }
+
+    /**
+     * Returns a date with a field altered as in the ISO calendar system.
+     *
+     * @param field  the field to set, not null
+     * @param newValue  the new value of the field
+     * @return the adjusted date, not null
+     * @throws DateTimeException if the value is invalid
+     */
+    final D isoWith(ChronoField field, long newValue) {
+        switch (field) {
+            case DAY_OF_WEEK:
+                field.checkValidValue(newValue);
+                return plusDays(newValue - isoGetLong(field));
+            case DAY_OF_MONTH:
+                if (newValue >= 1 && newValue <= lengthOfMonth()) {
+                    return withIso(isoYear, isoMonth, (int) newValue);
+                }
+                break;
+        }
+        return withIso(toIsoDate().with(field, newValue));
+    }
+
+    /**
+     * Returns a date with the ISO year altered.
+     * If the day-of-month is invalid for the year, it will be changed to the last valid day of the month.
+     *
+     * @param year  the ISO year
+     * @return the adjusted date, not null
+     * @throws DateTimeException if the year is invalid
+     */
+    final D withIsoYear(int year) {
+        if (year == isoYear) {
+            return withIso(year, isoMonth, isoDay);
+        }
+        YEAR.checkValidValue(year);
+        return resolvePreviousValid(year, isoMonth, isoDay);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    D plusYears(long years) {
+        if (years == 0) {
+            return withIso(isoYear, isoMonth, isoDay);
+        }
+        int newYear = YEAR.checkValidIntValue(isoYear + years);  // safe overflow
+        return resolvePreviousValid(newYear, isoMonth, isoDay);
+    }
+
+    @Override
+    D plusMonths(long months) {
+        if (months == 0) {
+            return withIso(isoYear, isoMonth, isoDay);
+        }
+        long monthCount = isoYear * 12L + (isoMonth - 1);
+        long calcMonths = monthCount + months;  // safe overflow
+        int newYear = YEAR.checkValidIntValue(Jdk8Methods.floorDiv(calcMonths, 12));
+        int newMonth = Jdk8Methods.floorMod(calcMonths, 12) + 1;
+        return resolvePreviousValid(newYear, newMonth, isoDay);
+    }
+
+    @Override
+    D plusDays(long days) {
+        long dom = isoDay + days;
+        if (dom >= 1 && dom <= 28) {
+            return withIso(isoYear, isoMonth, (int) dom);
+        }
+        return withEpochDay(Jdk8Methods.safeAdd(toEpochDay(), days));
+    }
+
+    private D resolvePreviousValid(int year, int month, int day) {
+        switch (month) {
+            case 2:
+                day = Math.min(day, IsoChronology.INSTANCE.isLeapYear(year) ? 29 : 28);
+                break;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                day = Math.min(day, 30);
+                break;
+        }
+        return withIso(year, month, day);
+    }
+
+    /**
+     * Returns the date at the specified epoch-day.
+     *
+     * @param epochDay  the epoch-day
+     * @return the date, not null
+     * @throws DateTimeException if the epoch-day is outside the supported range
+     */
+    private D withEpochDay(long epochDay) {
+        long zeroDay = epochDay + DAYS_0000_TO_1970;
+        // find the march-based year
+        zeroDay -= 60;  // adjust to 0000-03-01 so leap day is at end of four year cycle
+        long adjust = 0;
+        if (zeroDay < 0) {
+            // adjust negative years to positive for calculation
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            // fix estimate
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;  // reset any negative year
+        int marchDoy0 = (int) doyEst;
+
+        // convert march-based values back to january-based
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+
+        // check year now we are certain it is correct
+        int year = YEAR.checkValidIntValue(yearEst);
+        return withIso(year, month, dom);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public ChronoPeriod until(ChronoLocalDate endDate) {
+        Period period = toIsoDate().until(endDate);
+        return getChronology().period(period.getYears(), period.getMonths(), period.getDays());
+    }
+
+    @Override  // override for performance
+    public long toEpochDay() {
+        long y = isoYear;
+        long m = isoMonth;
+        long total = 0;
+        total += 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += ((367 * m - 362) / 12);
+        total += isoDay - 1;
+        if (m > 2) {
+            total--;
+            if (isIsoLeapYear() == false) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    //-------------------------------------------------------------------------
+    @Override  // override for performance
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj != null && obj.getClass() == getClass()) {
+            ChronoIsoDateImpl<?> otherDate = (ChronoIsoDateImpl<?>) obj;
+            return isoYear == otherDate.isoYear && isoMonth == otherDate.isoMonth && isoDay == otherDate.isoDay;
+        }
+        return false;
+    }
+
+    @Override  // override for performance
+    public int hashCode() {
+        // matches the hash code of the equivalent LocalDate
+        int isoHash = (isoYear & 0xFFFFF800) ^ ((isoYear << 11) + (isoMonth << 6) + (isoDay));
+        return getChronology().getId().hashCode() ^ isoHash;
+    }
+
+}
@@ -258,45 +258,56 @@ final class ChronoLocalDateTimeImpl<D extends ChronoLocalDate>
             ChronoUnit f = (ChronoUnit) unit;
             switch (f) {
                 case NANOS: return plusNanos(amountToAdd);
-                case MICROS: return plusDays(amountToAdd / MICROS_PER_DAY).plusNanos((amountToAdd % MICROS_PER_DAY) * 1000);
-                case MILLIS: return plusDays(amountToAdd / MILLIS_PER_DAY).plusNanos((amountToAdd % MILLIS_PER_DAY) * 1000000);
+                case MICROS: return plusWithOverflow(amountToAdd / MICROS_PER_DAY, 0, 0, 0, (amountToAdd % MICROS_PER_DAY) * 1000);
+                case MILLIS: return plusWithOverflow(amountToAdd / MILLIS_PER_DAY, 0, 0, 0, (amountToAdd % MILLIS_PER_DAY) * 1000000);
                 case SECONDS: return plusSeconds(amountToAdd);
                 case MINUTES: return plusMinutes(amountToAdd);
                 case HOURS: return plusHours(amountToAdd);
-                case HALF_DAYS: return plusDays(amountToAdd / 256).plusHours((amountToAdd % 256) * 12);  // no overflow (256 is multiple of 2)
+                case HALF_DAYS: return plusWithOverflow(amountToAdd / 256, (amountToAdd % 256) * 12, 0, 0, 0);  // no overflow (256 is multiple of 2)
             }
             return with(date.plus(amountToAdd, unit), time);
         }
         return date.getChronology().ensureChronoLocalDateTime(unit.addTo(this, amountToAdd));
     }
 
-    private ChronoLocalDateTimeImpl<D> plusDays(long days) {
-        return with(date.plus(days, ChronoUnit.DAYS), time);
-    }
-
     private ChronoLocalDateTimeImpl<D> plusHours(long hours) {
-        return plusWithOverflow(date, hours, 0, 0, 0);
+        return plusWithOverflow(0, hours, 0, 0, 0);
     }
 
     private ChronoLocalDateTimeImpl<D> plusMinutes(long minutes) {
-        return plusWithOverflow(date, 0, minutes, 0, 0);
+        return plusWithOverflow(0, 0, minutes, 0, 0);
     }
 
     ChronoLocalDateTimeImpl<D> plusSeconds(long seconds) {
-        return plusWithOverflow(date, 0, 0, seconds, 0);
+        return plusWithOverflow(0, 0, 0, seconds, 0);
     }
 
     private ChronoLocalDateTimeImpl<D> plusNanos(long nanos) {
-        return plusWithOverflow(date, 0, 0, 0, nanos);
+        return plusWithOverflow(0, 0, 0, 0, nanos);
     }
 
     //-----------------------------------------------------------------------
-    private ChronoLocalDateTimeImpl<D> plusWithOverflow(D newDate, long hours, long minutes, long seconds, long nanos) {
+    /**
+     * Returns a copy of this date-time with the specified period added.
+     * <p>
+     * The days and time are combined into a single count of days and nano-of-day
+     * before any object is created, so only the resulting date, time and date-time
+     * are created, and only if they differ from those of this date-time.
+     *
+     * @param days  the days to add, small enough not to overflow when combined with the time
+     * @param hours  the hours to add, may be negative
+     * @param minutes  the minutes to add, may be negative
+     * @param seconds  the seconds to add, may be negative
+     * @param nanos  the nanos to add, may be negative
+     * @return the combined result, not null
+     */
+    private ChronoLocalDateTimeImpl<D> plusWithOverflow(long days, long hours, long minutes, long seconds, long nanos) {
         // 9223372036854775808 long, 2147483648 int
-        if ((hours | minutes | seconds | nanos) == 0) {
-            return with(newDate, time);
+        if ((days | hours | minutes | seconds | nanos) == 0) {
+            return this;
         }
-        long totDays = nanos / NANOS_PER_DAY +             //   max/24*60*60*1B
+        long totDays = days +                              //   max/256
+                nanos / NANOS_PER_DAY +                    //   max/24*60*60*1B
                 seconds / SECONDS_PER_DAY +                //   max/24*60*60
                 minutes / MINUTES_PER_DAY +                //   max/24*60
                 hours / HOURS_PER_DAY;                     //   max/24
@@ -309,7 +320,8 @@ final class ChronoLocalDateTimeImpl<D extends ChronoLocalDate>
         totDays += Jdk8Methods.floorDiv(totNanos, NANOS_PER_DAY);
         long newNoD = Jdk8Methods.floorMod(totNanos, NANOS_PER_DAY);
         LocalTime newTime = (newNoD == curNoD ? time : LocalTime.ofNanoOfDay(newNoD));
-        return with(newDate.plus(totDays, ChronoUnit.DAYS), newTime);
+        ChronoLocalDate newDate = (totDays == 0 ? date : date.plus(totDays, ChronoUnit.DAYS));
+        return with(newDate, newTime);
     }
 
     //-----------------------------------------------------------------------
@@ -39,7 +39,6 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.util.List;
 
 import org.threeten.bp.Instant;
 import org.threeten.bp.LocalDateTime;
@@ -110,19 +109,19 @@ final class ChronoZonedDateTimeImpl<D extends ChronoLocalDate>
         }
         ZoneRules rules = zone.getRules();
         LocalDateTime isoLDT = LocalDateTime.from(localDateTime);
-        List<ZoneOffset> validOffsets = rules.getValidOffsets(isoLDT);
+        // query the transition rather than the list of valid offsets to avoid creating the list
+        ZoneOffsetTransition trans = rules.getTransition(isoLDT);
         ZoneOffset offset;
-        if (validOffsets.size() == 1) {
-            offset = validOffsets.get(0);
-        } else if (validOffsets.size() == 0) {
-            ZoneOffsetTransition trans = rules.getTransition(isoLDT);
+        if (trans == null) {
+            offset = rules.getOffset(isoLDT);
+        } else if (trans.isGap()) {
             localDateTime = localDateTime.plusSeconds(trans.getDuration().getSeconds());
             offset = trans.getOffsetAfter();
         } else {
-            if (preferredOffset != null && validOffsets.contains(preferredOffset)) {
+            if (preferredOffset != null && trans.isValidOffset(preferredOffset)) {
                 offset = preferredOffset;
             } else {
-                offset = validOffsets.get(0);
+                offset = trans.getOffsetBefore();
             }
         }
         Jdk8Methods.requireNonNull(offset, "offset");  // protect against bad ZoneRules
@@ -256,7 +255,12 @@ final class ChronoZonedDateTimeImpl<D extends ChronoLocalDate>
     @Override
     public ChronoZonedDateTime<D> plus(long amountToAdd, TemporalUnit unit) {
         if (unit instanceof ChronoUnit) {
-            return with(dateTime.plus(amountToAdd, unit));
+            ChronoLocalDateTimeImpl<D> added = dateTime.plus(amountToAdd, unit);
+            if (added.toLocalDate().toEpochDay() == dateTime.toLocalDate().toEpochDay()) {
+                return ofBest(added, zone, offset);
+            }
+            // resolve the date and then the time, as the offset chosen for the date is preferred in an overlap
+            return with(added);
         }
         return toLocalDate().getChronology().ensureChronoZonedDateTime(unit.addTo(this, amountToAdd));   /// TODO: Generics replacement Risk!
     }
@@ -45,6 +45,7 @@ import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.threeten.bp.Clock;
 import org.threeten.bp.DateTimeException;
@@ -158,6 +159,19 @@ public abstract class Chronology implements Comparable<Chronology> {
      * Map of available calendars by calendar type.
      */
     private static final ConcurrentHashMap<String, Chronology> CHRONOS_BY_TYPE = new ConcurrentHashMap<String, Chronology>();
+    /**
+     * Cache of calendars by locale, as resolved by {@link #ofLocale(Locale)}.
+     */
+    private static final ConcurrentMap<Locale, Chronology> CHRONOS_BY_LOCALE = new ConcurrentHashMap<Locale, Chronology>(16, 0.75f, 2);
+    /**
+     * The maximum number of locales to cache.
+     * Further locales are resolved on each call rather than growing the cache.
+     */
+    private static final int MAX_CACHED_LOCALES = 512;
+    /**
+     * Whether the available calendars have been registered.
+     */
+    private static volatile boolean initialized;
     /**
      * Access JDK 7 method if on JDK 7.
      */
@@ -237,8 +251,26 @@ public abstract class Chronology implements Comparable<Chronology> {
      * @throws DateTimeException if the locale-specified calendar cannot be found
      */
     public static Chronology ofLocale(Locale locale) {
-        init();
         Jdk8Methods.requireNonNull(locale, "locale");
+        Chronology chrono = CHRONOS_BY_LOCALE.get(locale);
+        if (chrono == null) {
+            chrono = resolveLocale(locale);
+            if (CHRONOS_BY_LOCALE.size() < MAX_CACHED_LOCALES) {
+                CHRONOS_BY_LOCALE.putIfAbsent(locale, chrono);
+            }
+        }
+        return chrono;
+    }
+
+    /**
+     * Resolves the calendar system of a locale without using the cache.
+     *
+     * @param locale  the locale to use to obtain the calendar system, not null
+     * @return the calendar system associated with the locale, not null
+     * @throws DateTimeException if the locale-specified calendar cannot be found
+     */
+    private static Chronology resolveLocale(Locale locale) {
+        init();
         String type = "iso";
         if (LOCALE_METHOD != null) {
             // JDK 7: locale.getUnicodeLocaleType("ca");
@@ -311,25 +343,34 @@ public abstract class Chronology implements Comparable<Chronology> {
     }
 
     private static void init() {
-        if (CHRONOS_BY_ID.isEmpty()) {
-            register(IsoChronology.INSTANCE);
-            register(ThaiBuddhistChronology.INSTANCE);
-            register(MinguoChronology.INSTANCE);
-            register(JapaneseChronology.INSTANCE);
-            register(HijrahChronology.INSTANCE);
-            CHRONOS_BY_ID.putIfAbsent("Hijrah", HijrahChronology.INSTANCE);
-            CHRONOS_BY_TYPE.putIfAbsent("islamic", HijrahChronology.INSTANCE);
-            ServiceLoader<Chronology> loader =  ServiceLoader.load(Chronology.class, Chronology.class.getClassLoader());
-            for (Chronology chrono : loader) {
-                CHRONOS_BY_ID.putIfAbsent(chrono.getId(), chrono);
-                String type = chrono.getCalendarType();
-                if (type != null) {
-                    CHRONOS_BY_TYPE.putIfAbsent(type, chrono);
+        if (initialized == false) {
+            synchronized (CHRONOS_BY_ID) {
+                if (initialized == false) {
+                    registerAll();
+                    initialized = true;
                 }
             }
         }
     }
 
+    private static void registerAll() {
+        register(IsoChronology.INSTANCE);
+        register(ThaiBuddhistChronology.INSTANCE);
+        register(MinguoChronology.INSTANCE);
+        register(JapaneseChronology.INSTANCE);
+        register(HijrahChronology.INSTANCE);
+        CHRONOS_BY_ID.putIfAbsent("Hijrah", HijrahChronology.INSTANCE);
+        CHRONOS_BY_TYPE.putIfAbsent("islamic", HijrahChronology.INSTANCE);
+        ServiceLoader<Chronology> loader =  ServiceLoader.load(Chronology.class, Chronology.class.getClassLoader());
+        for (Chronology chrono : loader) {
+            CHRONOS_BY_ID.putIfAbsent(chrono.getId(), chrono);
+            String type = chrono.getCalendarType();
+            if (type != null) {
+                CHRONOS_BY_TYPE.putIfAbsent(type, chrono);
+            }
+        }
+    }
+
     private static void register(Chronology chrono) {
         CHRONOS_BY_ID.putIfAbsent(chrono.getId(), chrono);
         String type = chrono.getCalendarType();
@@ -506,6 +547,82 @@ public abstract class Chronology implements Comparable<Chronology> {
      */
     public abstract ChronoLocalDate date(TemporalAccessor temporal);
 
+    //-----------------------------------------------------------------------
+    /**
+     * Converts a column of epoch-days to columns of proleptic-year, month-of-year
+     * and day-of-month in this chronology.
+     * <p>
+     * For each index, the output is equal to the {@link ChronoField#YEAR YEAR},
+     * {@link ChronoField#MONTH_OF_YEAR MONTH_OF_YEAR} and {@link ChronoField#DAY_OF_MONTH DAY_OF_MONTH}
+     * fields of {@link #dateEpochDay(long) dateEpochDay(epochDays[i])}.
+     * <p>
+     * This implementation creates a date for each value.
+     * Subclasses should override it where the fields can be calculated directly.
+     * <p>
+     * This method is not found in Java SE 8.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param prolepticYears  the array to store the proleptic-years in, at least as long as the input, not null
+     * @param months  the array to store the months in, at least as long as the input, not null
+     * @param days  the array to store the days-of-month in, at least as long as the input, not null
+     * @throws DateTimeException if any epoch-day cannot be converted to a date in this chronology
+     * @throws IllegalArgumentException if an output array is too short
+     */
+    public void epochDaysToYearMonthDay(long[] epochDays, int[] prolepticYears, int[] months, int[] days) {
+        int length = epochDays.length;
+        checkLength(prolepticYears.length, length);
+        checkLength(months.length, length);
+        checkLength(days.length, length);
+        for (int i = 0; i < length; i++) {
+            ChronoLocalDate date = dateEpochDay(epochDays[i]);
+            prolepticYears[i] = date.get(ChronoField.YEAR);
+            months[i] = date.get(ChronoField.MONTH_OF_YEAR);
+            days[i] = date.get(ChronoField.DAY_OF_MONTH);
+        }
+    }
+
+    /**
+     * Converts columns of proleptic-year, month-of-year and day-of-month in this
+     * chronology to a column of epoch-days.
+     * <p>
+     * For each index, the output is equal to
+     * {@code date(prolepticYears[i], months[i], days[i]).toEpochDay()}.
+     * <p>
+     * This implementation creates a date for each value.
+     * Subclasses should override it where the epoch-day can be calculated directly.
+     * <p>
+     * This method is not found in Java SE 8.
+     *
+     * @param prolepticYears  the proleptic-years to convert, not null
+     * @param months  the months to convert, at least as long as the years, not null
+     * @param days  the days-of-month to convert, at least as long as the years, not null
+     * @param epochDays  the array to store the epoch-days in, at least as long as the years, not null
+     * @throws DateTimeException if any year, month and day-of-month is not a valid date in this chronology
+     * @throws IllegalArgumentException if an array is too short
+     */
+    public void yearMonthDayToEpochDays(int[] prolepticYears, int[] months, int[] days, long[] epochDays) {
+        int length = prolepticYears.length;
+        checkLength(months.length, length);
+        checkLength(days.length, length);
+        checkLength(epochDays.length, length);
+        for (int i = 0; i < length; i++) {
+            epochDays[i] = date(prolepticYears[i], months[i], days[i]).toEpochDay();
+        }
+    }
+
+    /**
+     * Checks that an array is long enough for the bulk conversion methods.
+     *
+     * @param arrayLength  the length of the array
+     * @param length  the required length
+     * @throws IllegalArgumentException if the array is too short
+     */
+    static void checkLength(int arrayLength, int length) {
+        if (arrayLength < length) {
+            throw new IllegalArgumentException("Array too short: " + arrayLength + " < " + length);
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains the current local date in this chronology from the system clock in the default time-zone.
@@ -282,6 +282,16 @@ public final class HijrahChronology extends Chronology implements Serializable {
         return HijrahDate.of(LocalDate.ofEpochDay(epochDay));
     }
 
+    @Override
+    public void epochDaysToYearMonthDay(long[] epochDays, int[] prolepticYears, int[] months, int[] days) {
+        HijrahDate.epochDaysToYearMonthDay(epochDays, prolepticYears, months, days);
+    }
+
+    @Override
+    public void yearMonthDayToEpochDays(int[] prolepticYears, int[] months, int[] days, long[] epochDays) {
+        HijrahDate.yearMonthDayToEpochDays(prolepticYears, months, days, epochDays);
+    }
+
     //-----------------------------------------------------------------------
     @Override  // override with covariant return type
     public HijrahDate date(TemporalAccessor temporal) {
@@ -49,10 +49,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.text.ParseException;
-import java.util.HashMap;
 import java.util.StringTokenizer;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
 
 import org.threeten.bp.Clock;
 import org.threeten.bp.DateTimeException;
@@ -93,17 +90,18 @@ import org.threeten.bp.temporal.ValueRange;
  *     1429/0-1429/1:1
  *     1429/2-1429/7:1;1429/6-1429/11:1
  *     1429/11-9999/11:1</pre>
- * The default location of the configuration file is:
+ * The default location of the configuration file is the resource:
  * <pre>
- *   $CLASSPATH/org/threeten/bp/chrono</pre>
- * And the default file name is:
- * <pre>
- *   hijrah_deviation.cfg</pre>
+ *   org/threeten/bp/chrono/hijrah_deviation.cfg</pre>
+ * as seen by the class loader of this class.
  * The default location and file name can be overriden by setting
  * following two Java's system property.
  * <pre>
  *   Location: org.threeten.bp.i18n.HijrahDate.deviationConfigDir
  *   File name: org.threeten.bp.i18n.HijrahDate.deviationConfigFile</pre>
+ * The configuration is read when the first Hijrah date is calculated.
+ * A deviation that is malformed, or that would leave a month with no days,
+ * is treated as a format error, and the rest of the configuration is ignored.
  *
  * <h3>Specification for implementors</h3>
  * This class is immutable and thread-safe.
@@ -130,15 +128,14 @@ public final class HijrahDate
      */
     public static final int MAX_VALUE_OF_ERA = 9999;
     /**
-     * 0-based, for number of day-of-year in the beginning of month in normal
-     * year.
+     * The range of the year-of-era field reported by a date.
      */
-    private static final int NUM_DAYS[] =
-        {0, 30, 59, 89, 118, 148, 177, 207, 236, 266, 295, 325};
+    private static final ValueRange YEAR_OF_ERA_RANGE = ValueRange.of(1, 1000);
     /**
-     * 0-based, for number of day-of-year in the beginning of month in leap year.
+     * 0-based, for number of day-of-year in the beginning of month,
+     * which is the same in normal and leap years.
      */
-    private static final int LEAP_NUM_DAYS[] =
+    private static final int NUM_DAYS[] =
         {0, 30, 59, 89, 118, 148, 177, 207, 236, 266, 295, 325};
     /**
      * 0-based, for day-of-month in normal year.
@@ -255,136 +252,19 @@ public final class HijrahDate
      * File separator.
      */
     private static final char FILE_SEP = File.separatorChar;
-    /**
-     * Path separator.
-     */
-    private static final String PATH_SEP = File.pathSeparator;
     /**
      * Default config file name.
      */
     private static final String DEFAULT_CONFIG_FILENAME = "hijrah_deviation.cfg";
-    /**
-     * Default path to the config file.
-     */
-    private static final String DEFAULT_CONFIG_PATH = "org" + FILE_SEP + "threeten" + FILE_SEP + "bp" + FILE_SEP + "chrono";
-    /**
-     * Holding the adjusted month days in year. The key is a year (Integer) and
-     * the value is the all the month days in year (Integer[]).
-     */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_MONTH_DAYS = new HashMap<Integer, Integer[]>();
-    /**
-     * Holding the adjusted month length in year. The key is a year (Integer)
-     * and the value is the all the month length in year (Integer[]).
-     */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_MONTH_LENGTHS = new HashMap<Integer, Integer[]>();
-    /**
-     * Holding the adjusted days in the 30 year cycle. The key is a cycle number
-     * (Integer) and the value is the all the starting days of the year in the
-     * cycle (Integer[]).
-     */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_CYCLE_YEARS = new HashMap<Integer, Integer[]>();
-    /**
-     * Holding the adjusted cycle in the 1 - 30000 year. The key is the cycle
-     * number (Integer) and the value is the starting days in the cycle in the
-     * term.
-     */
-    private static final Long[] ADJUSTED_CYCLES;
-    /**
-     * Holding the adjusted min values.
-     */
-    private static final Integer[] ADJUSTED_MIN_VALUES;
-    /**
-     * Holding the adjusted max least max values.
-     */
-    private static final Integer[] ADJUSTED_LEAST_MAX_VALUES;
-    /**
-     * Holding adjusted max values.
-     */
-    private static final Integer[] ADJUSTED_MAX_VALUES;
-    /**
-     * Holding the non-adjusted month days in year for non leap year.
-     */
-    private static final Integer[] DEFAULT_MONTH_DAYS;
-    /**
-     * Holding the non-adjusted month days in year for leap year.
-     */
-    private static final Integer[] DEFAULT_LEAP_MONTH_DAYS;
-    /**
-     * Holding the non-adjusted month length for non leap year.
-     */
-    private static final Integer[] DEFAULT_MONTH_LENGTHS;
-    /**
-     * Holding the non-adjusted month length for leap year.
-     */
-    private static final Integer[] DEFAULT_LEAP_MONTH_LENGTHS;
-    /**
-     * Holding the non-adjusted 30 year cycle starting day.
-     */
-    private static final Integer[] DEFAULT_CYCLE_YEARS;
-    /**
-     * number of 30-year cycles to hold the deviation data.
-     */
-    private static final int MAX_ADJUSTED_CYCLE = 334; // to support year 9999
-
-    static { // Initialize the static integer array;
-
-        DEFAULT_MONTH_DAYS = new Integer[NUM_DAYS.length];
-        for (int i = 0; i < NUM_DAYS.length; i++) {
-            DEFAULT_MONTH_DAYS[i] = new Integer(NUM_DAYS[i]);
-        }
-
-        DEFAULT_LEAP_MONTH_DAYS = new Integer[LEAP_NUM_DAYS.length];
-        for (int i = 0; i < LEAP_NUM_DAYS.length; i++) {
-            DEFAULT_LEAP_MONTH_DAYS[i] = new Integer(LEAP_NUM_DAYS[i]);
-        }
-
-        DEFAULT_MONTH_LENGTHS = new Integer[MONTH_LENGTH.length];
-        for (int i = 0; i < MONTH_LENGTH.length; i++) {
-            DEFAULT_MONTH_LENGTHS[i] = new Integer(MONTH_LENGTH[i]);
-        }
-
-        DEFAULT_LEAP_MONTH_LENGTHS = new Integer[LEAP_MONTH_LENGTH.length];
-        for (int i = 0; i < LEAP_MONTH_LENGTH.length; i++) {
-            DEFAULT_LEAP_MONTH_LENGTHS[i] = new Integer(LEAP_MONTH_LENGTH[i]);
-        }
-
-        DEFAULT_CYCLE_YEARS = new Integer[CYCLEYEAR_START_DATE.length];
-        for (int i = 0; i < CYCLEYEAR_START_DATE.length; i++) {
-            DEFAULT_CYCLE_YEARS[i] = new Integer(CYCLEYEAR_START_DATE[i]);
-        }
-
-        ADJUSTED_CYCLES = new Long[MAX_ADJUSTED_CYCLE];
-        for (int i = 0; i < ADJUSTED_CYCLES.length; i++) {
-            ADJUSTED_CYCLES[i] = new Long(10631 * i);
-        }
-        // Initialize min values, least max values and max values.
-        ADJUSTED_MIN_VALUES = new Integer[MIN_VALUES.length];
-        for (int i = 0; i < MIN_VALUES.length; i++) {
-            ADJUSTED_MIN_VALUES[i] = new Integer(MIN_VALUES[i]);
-        }
-        ADJUSTED_LEAST_MAX_VALUES = new Integer[LEAST_MAX_VALUES.length];
-        for (int i = 0; i < LEAST_MAX_VALUES.length; i++) {
-            ADJUSTED_LEAST_MAX_VALUES[i] = new Integer(LEAST_MAX_VALUES[i]);
-        }
-        ADJUSTED_MAX_VALUES = new Integer[MAX_VALUES.length];
-        for (int i = 0; i < MAX_VALUES.length; i++) {
-            ADJUSTED_MAX_VALUES[i] = new Integer(MAX_VALUES[i]);
-        }
-        try {
-            readDeviationConfig();
-        } catch (IOException e) {
-            // do nothing. Ignore deviation config.
-            // e.printStackTrace();
-        } catch (ParseException e) {
-            // do nothing. Ignore deviation config.
-            // e.printStackTrace();
-        }
-    }
     /**
      * Number of Gregorian day of July 19, year 622 (Gregorian), which is epoch day
      * of Hijrah calendar.
      */
     private static final int HIJRAH_JAN_1_1_GREGORIAN_DAY = -492148;
+    /**
+     * The month table, loaded with the deviation configuration on first use.
+     */
+    private static volatile MonthTable monthTable;
 
     /**
      * The era.
@@ -586,19 +466,34 @@ public final class HijrahDate
      * @param gregorianDay  the number of days from 0001/01/01 (Gregorian), caller calculated
      */
     private HijrahDate(long gregorianDay) {
-        int[] dateInfo = getHijrahDateInfo(gregorianDay);
-
-        checkValidYearOfEra(dateInfo[1]);
-        checkValidMonth(dateInfo[2]);
-        checkValidDayOfMonth(dateInfo[3]);
-        checkValidDayOfYear(dateInfo[4]);
-
-        this.era = HijrahEra.of(dateInfo[0]);
-        this.yearOfEra = dateInfo[1];
-        this.monthOfYear = dateInfo[2];
-        this.dayOfMonth = dateInfo[3];
-        this.dayOfYear = dateInfo[4];
-        this.dayOfWeek = DayOfWeek.of(dateInfo[5]);
+        int[] monthStarts = monthTable().monthStarts;
+        if (gregorianDay >= monthStarts[0] && gregorianDay < monthStarts[monthStarts.length - 1]) {
+            int epochDay = (int) gregorianDay;
+            int index = monthIndex(monthStarts, epochDay);
+            int year = index / 12;
+            this.era = HijrahEra.AH;
+            this.yearOfEra = year + 1;
+            this.monthOfYear = index - year * 12 + 1;
+            this.dayOfMonth = epochDay - monthStarts[index] + 1;
+            this.dayOfYear = epochDay - monthStarts[year * 12] + 1;
+        } else if (gregorianDay < monthStarts[0] && gregorianDay >= yearToGregorianEpochDay(-MAX_VALUE_OF_ERA)) {
+            // days before the year preceding the minimum overflow the cycle calculation
+            int[] dateInfo = getHijrahDateInfo(gregorianDay);
+
+            checkValidYearOfEra(dateInfo[1]);
+            checkValidMonth(dateInfo[2]);
+            checkValidDayOfMonth(dateInfo[3]);
+            checkValidDayOfYear(dateInfo[4]);
+
+            this.era = HijrahEra.of(dateInfo[0]);
+            this.yearOfEra = dateInfo[1];
+            this.monthOfYear = dateInfo[2];
+            this.dayOfMonth = dateInfo[3];
+            this.dayOfYear = dateInfo[4];
+        } else {
+            throw new DateTimeException("Invalid year of Hijrah Era");
+        }
+        this.dayOfWeek = DayOfWeek.of(Jdk8Methods.floorMod(gregorianDay + 3, 7) + 1);
         this.gregorianEpochDay = gregorianDay;
         this.isLeapYear = isLeapYear(this.yearOfEra);
     }
@@ -629,10 +524,10 @@ public final class HijrahDate
             if (isSupported(field)) {
                 ChronoField f = (ChronoField) field;
                 switch (f) {
-                    case DAY_OF_MONTH: return ValueRange.of(1, lengthOfMonth());
-                    case DAY_OF_YEAR: return ValueRange.of(1, lengthOfYear());
-                    case ALIGNED_WEEK_OF_MONTH: return ValueRange.of(1, 5);  // TODO
-                    case YEAR_OF_ERA: return ValueRange.of(1, 1000);  // TODO
+                    case DAY_OF_MONTH: return rangeFromOne(lengthOfMonth());
+                    case DAY_OF_YEAR: return rangeFromOne(lengthOfYear());
+                    case ALIGNED_WEEK_OF_MONTH: return rangeFromOne(5);  // TODO
+                    case YEAR_OF_ERA: return YEAR_OF_ERA_RANGE;  // TODO
                 }
                 return getChronology().range(f);
             }
@@ -779,64 +674,140 @@ public final class HijrahDate
 
     //-----------------------------------------------------------------------
     /**
-     * Returns the int array containing the following field from the julian day.
+     * Converts a column of epoch-days to columns of year, month and day-of-month.
+     * <p>
+     * Days within the month table are converted directly from the table,
+     * reading it only once for the whole column.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param prolepticYears  the array to store the years in, at least as long as the input, not null
+     * @param months  the array to store the months in, at least as long as the input, not null
+     * @param days  the array to store the days-of-month in, at least as long as the input, not null
+     * @throws DateTimeException if any epoch-day cannot be converted
+     * @throws IllegalArgumentException if an output array is too short
+     */
+    static void epochDaysToYearMonthDay(long[] epochDays, int[] prolepticYears, int[] months, int[] days) {
+        int length = epochDays.length;
+        Chronology.checkLength(prolepticYears.length, length);
+        Chronology.checkLength(months.length, length);
+        Chronology.checkLength(days.length, length);
+        int[] monthStarts = monthTable().monthStarts;
+        int tableStart = monthStarts[0];
+        int tableEnd = monthStarts[monthStarts.length - 1];
+        for (int i = 0; i < length; i++) {
+            long gregorianDay = epochDays[i];
+            if (gregorianDay >= tableStart && gregorianDay < tableEnd) {
+                int epochDay = (int) gregorianDay;
+                int index = monthIndex(monthStarts, epochDay);
+                int year = index / 12;
+                prolepticYears[i] = year + 1;
+                months[i] = index - year * 12 + 1;
+                days[i] = epochDay - monthStarts[index] + 1;
+            } else {
+                HijrahDate date = new HijrahDate(gregorianDay);
+                prolepticYears[i] = date.yearOfEra;
+                months[i] = date.monthOfYear;
+                days[i] = date.dayOfMonth;
+            }
+        }
+    }
+
+    /**
+     * Converts columns of year, month and day-of-month to a column of epoch-days.
+     * <p>
+     * Dates within the month table are converted directly from the table,
+     * reading it only once for the whole column.
+     *
+     * @param prolepticYears  the years to convert, not null
+     * @param months  the months to convert, at least as long as the years, not null
+     * @param days  the days-of-month to convert, at least as long as the years, not null
+     * @param epochDays  the array to store the epoch-days in, at least as long as the years, not null
+     * @throws DateTimeException if any year, month and day-of-month is invalid
+     * @throws IllegalArgumentException if an array is too short
+     */
+    static void yearMonthDayToEpochDays(int[] prolepticYears, int[] months, int[] days, long[] epochDays) {
+        int length = prolepticYears.length;
+        Chronology.checkLength(months.length, length);
+        Chronology.checkLength(days.length, length);
+        Chronology.checkLength(epochDays.length, length);
+        int[] monthStarts = monthTable().monthStarts;
+        int tableEnd = monthStarts[monthStarts.length - 1];
+        int maxDayOfMonth = getMaximumDayOfMonth();
+        for (int i = 0; i < length; i++) {
+            int year = prolepticYears[i];
+            int month = months[i];
+            int day = days[i];
+            if (year >= 1 && year <= MAX_VALUE_OF_ERA && month >= 1 && month <= 12 && day >= 1 && day <= maxDayOfMonth) {
+                long epochDay = monthStarts[(year - 1) * 12 + month - 1] + day - 1L;
+                if (epochDay < tableEnd) {
+                    epochDays[i] = epochDay;
+                    continue;
+                }
+            }
+            epochDays[i] = of(year, month, day).toEpochDay();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns the index in the month table of the month containing the epoch-day.
+     * <p>
+     * The index is estimated from the 360 months in the 10631 days of each 30 year
+     * cycle, then corrected by at most a month or two to allow for the deviations.
+     *
+     * @param monthStarts  the month table, not null
+     * @param epochDay  the epoch-day, within the table
+     * @return the month index, from zero
+     */
+    private static int monthIndex(int[] monthStarts, int epochDay) {
+        int index = (int) ((epochDay - monthStarts[0]) * 360L / 10631);
+        index = Math.min(index, monthStarts.length - 2);
+        while (monthStarts[index] > epochDay) {
+            index--;
+        }
+        while (monthStarts[index + 1] <= epochDay) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the int array containing the following field from the julian day,
+     * for days before the start of the month table.
      *
      * int[0] = ERA
      * int[1] = YEAR
      * int[2] = MONTH
      * int[3] = DATE
      * int[4] = DAY_OF_YEAR
-     * int[5] = DAY_OF_WEEK
      *
      * @param julianDay  a julian day.
      */
     private static int[] getHijrahDateInfo(long gregorianDays) {
-        int era, year, month, date, dayOfWeek, dayOfYear;
-
-        int cycleNumber, yearInCycle, dayOfCycle;
-
         long epochDay = gregorianDays - HIJRAH_JAN_1_1_GREGORIAN_DAY;
 
-        if (epochDay >= 0) {
-            cycleNumber = getCycleNumber(epochDay); // 0 - 99.
-            dayOfCycle = getDayOfCycle(epochDay, cycleNumber); // 0 - 10631.
-            yearInCycle = getYearInCycle(cycleNumber, dayOfCycle); // 0 - 29.
-            dayOfYear = getDayOfYear(cycleNumber, dayOfCycle, yearInCycle);
-            // 0 - 354/355
-            year = cycleNumber * 30 + yearInCycle + 1; // 1-based year.
-            month = getMonthOfYear(dayOfYear, year); // 0-based month-of-year
-            date = getDayOfMonth(dayOfYear, month, year); // 0-based date
-            ++date; // Convert from 0-based to 1-based
-            era = HijrahEra.AH.getValue();
-        } else {
-            cycleNumber = (int) epochDay / 10631; // 0 or negative number.
-            dayOfCycle = (int) epochDay % 10631; // -10630 - 0.
-            if (dayOfCycle == 0) {
-                dayOfCycle = -10631;
-                cycleNumber++;
-            }
-            yearInCycle = getYearInCycle(cycleNumber, dayOfCycle); // 0 - 29.
-            dayOfYear = getDayOfYear(cycleNumber, dayOfCycle, yearInCycle);
-            year = cycleNumber * 30 - yearInCycle; // negative number.
-            year = 1 - year;
-            dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
-                    : (dayOfYear + 354));
-            month = getMonthOfYear(dayOfYear, year);
-            date = getDayOfMonth(dayOfYear, month, year);
-            ++date; // Convert from 0-based to 1-based
-            era = HijrahEra.BEFORE_AH.getValue();
-        }
-        // Hijrah day zero is a Friday
-        dayOfWeek = (int) ((epochDay + 5) % 7);
-        dayOfWeek += (dayOfWeek <= 0) ? 7 : 0;
-
-        int dateInfo[] = new int[6];
-        dateInfo[0] = era;
+        int cycleNumber = (int) epochDay / 10631; // 0 or negative number.
+        int dayOfCycle = (int) epochDay % 10631; // -10630 - 0.
+        if (dayOfCycle == 0) {
+            dayOfCycle = -10631;
+            cycleNumber++;
+        }
+        int yearInCycle = getYearInCycle(dayOfCycle); // 0 - 29.
+        int dayOfYear = CYCLEYEAR_START_DATE[yearInCycle] + dayOfCycle;
+        int year = cycleNumber * 30 - yearInCycle; // negative number.
+        year = 1 - year;
+        dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
+                : (dayOfYear + 354));
+        int month = getMonthOfYear(dayOfYear, year);
+        int date = getDayOfMonth(dayOfYear, month, year);
+        ++date; // Convert from 0-based to 1-based
+
+        int dateInfo[] = new int[5];
+        dateInfo[0] = HijrahEra.BEFORE_AH.getValue();
         dateInfo[1] = year;
         dateInfo[2] = month + 1; // change to 1-based.
         dateInfo[3] = date;
         dateInfo[4] = dayOfYear + 1; // change to 1-based.
-        dateInfo[5] = dayOfWeek;
         return dateInfo;
     }
 
@@ -849,6 +820,9 @@ public final class HijrahDate
      * @return a julian day
      */
     private static long getGregorianEpochDay(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        if (prolepticYear >= 1 && prolepticYear <= MAX_VALUE_OF_ERA) {
+            return monthTable().monthStarts[(prolepticYear - 1) * 12 + monthOfYear - 1] + dayOfMonth - 1;
+        }
         long day = yearToGregorianEpochDay(prolepticYear);
         day += getMonthDays(monthOfYear - 1, prolepticYear);
         day += dayOfMonth;
@@ -856,7 +830,7 @@ public final class HijrahDate
     }
 
     /**
-     * Returns the Gregorian epoch day from the proleptic year
+     * Returns the Gregorian epoch day from a proleptic year outside the month table.
      * @param prolepticYear the proleptic year
      * @return the Epoch day
      */
@@ -865,218 +839,53 @@ public final class HijrahDate
         int cycleNumber = (prolepticYear - 1) / 30; // 0-based.
         int yearInCycle = (prolepticYear - 1) % 30; // 0-based.
 
-        int dayInCycle = getAdjustedCycle(cycleNumber)[Math.abs(yearInCycle)]
-                .intValue();
+        int dayInCycle = CYCLEYEAR_START_DATE[Math.abs(yearInCycle)];
 
         if (yearInCycle < 0) {
             dayInCycle = -dayInCycle;
         }
 
-        Long cycleDays;
-
-        try {
-            cycleDays = ADJUSTED_CYCLES[cycleNumber];
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleDays = null;
-        }
-
-        if (cycleDays == null) {
-            cycleDays = new Long(cycleNumber * 10631);
-        }
-
-        return (cycleDays.longValue() + dayInCycle + HIJRAH_JAN_1_1_GREGORIAN_DAY - 1);
-    }
-
-    /**
-     * Returns the 30 year cycle number from the epoch day.
-     *
-     * @param epochDay  an epoch day
-     * @return a cycle number
-     */
-    private static int getCycleNumber(long epochDay) {
-        Long[] days = ADJUSTED_CYCLES;
-        int cycleNumber;
-        try {
-            for (int i = 0; i < days.length; i++) {
-                if (epochDay < days[i].longValue()) {
-                    return i - 1;
-                }
-            }
-            cycleNumber = (int) epochDay / 10631;
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleNumber = (int) epochDay / 10631;
-        }
-        return cycleNumber;
-    }
-
-    /**
-     * Returns day of cycle from the epoch day and cycle number.
-     *
-     * @param epochDay  an epoch day
-     * @param cycleNumber  a cycle number
-     * @return a day of cycle
-     */
-    private static int getDayOfCycle(long epochDay, int cycleNumber) {
-        Long day;
-
-        try {
-            day = ADJUSTED_CYCLES[cycleNumber];
-        } catch (ArrayIndexOutOfBoundsException e) {
-            day = null;
-        }
-        if (day == null) {
-            day = new Long(cycleNumber * 10631);
-        }
-        return (int) (epochDay - day.longValue());
+        return (cycleNumber * 10631L + dayInCycle + HIJRAH_JAN_1_1_GREGORIAN_DAY - 1);
     }
 
     /**
-     * Returns the year in cycle from the cycle number and day of cycle.
+     * Returns the year in cycle from a negative day of cycle.
      *
-     * @param cycleNumber  a cycle number
-     * @param dayOfCycle  day of cycle
+     * @param dayOfCycle  day of cycle, negative
      * @return a year in cycle
      */
-    private static int getYearInCycle(int cycleNumber, long dayOfCycle) {
-        Integer[] cycles = getAdjustedCycle(cycleNumber);
-        if (dayOfCycle == 0) {
-            return 0;
-        }
-
-        if (dayOfCycle > 0) {
-            for (int i = 0; i < cycles.length; i++) {
-                if (dayOfCycle < cycles[i].intValue()) {
-                    return i - 1;
-                }
-            }
-            return 29;
-        } else {
-            dayOfCycle = -dayOfCycle;
-            for (int i = 0; i < cycles.length; i++) {
-                if (dayOfCycle <= cycles[i].intValue()) {
-                    return i - 1;
-                }
-            }
-            return 29;
-        }
-    }
-
-    /**
-     * Returns adjusted 30 year cycle startind day as Integer array from the
-     * cycle number specified.
-     *
-     * @param cycleNumber  a cycle number
-     * @return an Integer array
-     */
-    private static Integer[] getAdjustedCycle(int cycleNumber) {
-        Integer[] cycles;
-        try {
-            cycles = ADJUSTED_CYCLE_YEARS.get(new Integer(cycleNumber));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycles = null;
-        }
-        if (cycles == null) {
-            cycles = DEFAULT_CYCLE_YEARS;
-        }
-        return cycles;
-    }
-
-    /**
-     * Returns adjusted month days as Integer array form the year specified.
-     *
-     * @param year  a year
-     * @return an Integer array
-     */
-    private static Integer[] getAdjustedMonthDays(int year) {
-        Integer[] newMonths;
-        try {
-            newMonths = ADJUSTED_MONTH_DAYS.get(new Integer(year));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            newMonths = null;
-        }
-        if (newMonths == null) {
-            if (isLeapYear(year)) {
-                newMonths = DEFAULT_LEAP_MONTH_DAYS;
-            } else {
-                newMonths = DEFAULT_MONTH_DAYS;
-            }
-        }
-        return newMonths;
-    }
-
-    /**
-     * Returns adjusted month length as Integer array form the year specified.
-     *
-     * @param year  a year
-     * @return an Integer array
-     */
-    private static Integer[] getAdjustedMonthLength(int year) {
-        Integer[] newMonths;
-        try {
-            newMonths = ADJUSTED_MONTH_LENGTHS.get(new Integer(year));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            newMonths = null;
-        }
-        if (newMonths == null) {
-            if (isLeapYear(year)) {
-                newMonths = DEFAULT_LEAP_MONTH_LENGTHS;
-            } else {
-                newMonths = DEFAULT_MONTH_LENGTHS;
+    private static int getYearInCycle(int dayOfCycle) {
+        dayOfCycle = -dayOfCycle;
+        for (int i = 0; i < CYCLEYEAR_START_DATE.length; i++) {
+            if (dayOfCycle <= CYCLEYEAR_START_DATE[i]) {
+                return i - 1;
             }
         }
-        return newMonths;
-    }
-
-    /**
-     * Returns day-of-year.
-     *
-     * @param cycleNumber  a cycle number
-     * @param dayOfCycle  day of cycle
-     * @param yearInCycle  year in cycle
-     * @return day-of-year
-     */
-    private static int getDayOfYear(int cycleNumber, int dayOfCycle, int yearInCycle) {
-        Integer[] cycles = getAdjustedCycle(cycleNumber);
-
-        if (dayOfCycle > 0) {
-            return dayOfCycle - cycles[yearInCycle].intValue();
-        } else {
-            return cycles[yearInCycle].intValue() + dayOfCycle;
-        }
+        return 29;
     }
 
     /**
-     * Returns month-of-year. 0-based.
+     * Returns month-of-year outside the month table. 0-based.
      *
      * @param dayOfYear  day-of-year
      * @param year  a year
      * @return month-of-year
      */
     private static int getMonthOfYear(int dayOfYear, int year) {
-
-        Integer[] newMonths = getAdjustedMonthDays(year);
-
-        if (dayOfYear >= 0) {
-            for (int i = 0; i < newMonths.length; i++) {
-                if (dayOfYear < newMonths[i].intValue()) {
-                    return i - 1;
-                }
-            }
-            return 11;
-        } else {
+        if (dayOfYear < 0) {
             dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
                     : (dayOfYear + 354));
-            for (int i = 0; i < newMonths.length; i++) {
-                if (dayOfYear < newMonths[i].intValue()) {
-                    return i - 1;
-                }
+        }
+        for (int i = 0; i < NUM_DAYS.length; i++) {
+            if (dayOfYear < NUM_DAYS[i]) {
+                return i - 1;
             }
-            return 11;
         }
+        return 11;
     }
 
     /**
-     * Returns day-of-month.
+     * Returns day-of-month outside the month table.
      *
      * @param dayOfYear  day of  year
      * @param month  month
@@ -1084,24 +893,11 @@ public final class HijrahDate
      * @return day-of-month
      */
     private static int getDayOfMonth(int dayOfYear, int month, int year) {
-
-        Integer[] newMonths = getAdjustedMonthDays(year);
-
-        if (dayOfYear >= 0) {
-            if (month > 0) {
-                return dayOfYear - newMonths[month].intValue();
-            } else {
-                return dayOfYear;
-            }
-        } else {
+        if (dayOfYear < 0) {
             dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
                     : (dayOfYear + 354));
-            if (month > 0) {
-                return dayOfYear - newMonths[month].intValue();
-            } else {
-                return dayOfYear;
-            }
         }
+        return dayOfYear - NUM_DAYS[month];
     }
 
     /**
@@ -1122,8 +918,12 @@ public final class HijrahDate
      * @return month days from the beginning of year
      */
     private static int getMonthDays(int month, int year) {
-        Integer[] newMonths = getAdjustedMonthDays(year);
-        return newMonths[month].intValue();
+        if (year >= 1 && year <= MAX_VALUE_OF_ERA) {
+            int[] monthStarts = monthTable().monthStarts;
+            int yearIndex = (year - 1) * 12;
+            return monthStarts[yearIndex + month] - monthStarts[yearIndex];
+        }
+        return NUM_DAYS[month];
     }
 
     /**
@@ -1134,8 +934,12 @@ public final class HijrahDate
      * @return month length
      */
     static int getMonthLength(int month, int year) {
-      Integer[] newMonths = getAdjustedMonthLength(year);
-      return newMonths[month].intValue();
+        if (year >= 1 && year <= MAX_VALUE_OF_ERA) {
+            int[] monthStarts = monthTable().monthStarts;
+            int index = (year - 1) * 12 + month;
+            return monthStarts[index + 1] - monthStarts[index];
+        }
+        return isLeapYear(year) ? LEAP_MONTH_LENGTH[month] : MONTH_LENGTH[month];
     }
 
     @Override
@@ -1150,40 +954,24 @@ public final class HijrahDate
      * @return year length
      */
     static int getYearLength(int year) {
-
-        int cycleNumber = (year - 1) / 30;
-        Integer[] cycleYears;
-        try {
-            cycleYears = ADJUSTED_CYCLE_YEARS.get(cycleNumber);
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleYears = null;
-        }
-        if (cycleYears != null) {
-            int yearInCycle = (year - 1) % 30;
-            if (yearInCycle == 29) {
-                return ADJUSTED_CYCLES[cycleNumber + 1].intValue()
-                        - ADJUSTED_CYCLES[cycleNumber].intValue()
-                        - cycleYears[yearInCycle].intValue();
-            }
-            return cycleYears[yearInCycle + 1].intValue()
-                    - cycleYears[yearInCycle].intValue();
-        } else {
-            return isLeapYear(year) ? 355 : 354;
+        if (year >= 1 && year <= MAX_VALUE_OF_ERA) {
+            int[] monthStarts = monthTable().monthStarts;
+            return monthStarts[year * 12] - monthStarts[(year - 1) * 12];
         }
+        return isLeapYear(year) ? 355 : 354;
     }
 
     @Override
     public int lengthOfYear() {
         return getYearLength(yearOfEra);  // TODO: proleptic year
     }
-
     /**
      * Returns maximum day-of-month.
      *
      * @return maximum day-of-month
      */
     static int getMaximumDayOfMonth() {
-        return ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH];
+        return monthTable().maxValues[POSITION_DAY_OF_MONTH];
     }
 
     /**
@@ -1192,7 +980,7 @@ public final class HijrahDate
      * @return smallest maximum day-of-month
      */
     static int getSmallestMaximumDayOfMonth() {
-        return ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH];
+        return monthTable().leastMaxValues[POSITION_DAY_OF_MONTH];
     }
 
     /**
@@ -1201,7 +989,7 @@ public final class HijrahDate
      * @return maximum day-of-year
      */
     static int getMaximumDayOfYear() {
-        return ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR];
+        return monthTable().maxValues[POSITION_DAY_OF_YEAR];
     }
 
     /**
@@ -1210,11 +998,46 @@ public final class HijrahDate
      * @return smallest maximum day-of-year
      */
     static int getSmallestMaximumDayOfYear() {
-        return ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR];
+        return monthTable().leastMaxValues[POSITION_DAY_OF_YEAR];
     }
 
     // ----- Deviation handling -----//
 
+    /**
+     * Returns the month table, loading it with the deviation configuration if necessary.
+     *
+     * @return the month table, not null
+     */
+    private static MonthTable monthTable() {
+        MonthTable table = monthTable;
+        if (table == null) {
+            synchronized (HijrahDate.class) {
+                table = monthTable;
+                if (table == null) {
+                    int[] monthStarts = new int[MAX_VALUE_OF_ERA * 12 + 1];
+                    for (int year = 0; year <= MAX_VALUE_OF_ERA; year++) {
+                        int yearStart = HIJRAH_JAN_1_1_GREGORIAN_DAY + (year / 30) * 10631 + CYCLEYEAR_START_DATE[year % 30];
+                        for (int month = 0; month < 12 && year * 12 + month < monthStarts.length; month++) {
+                            monthStarts[year * 12 + month] = yearStart + NUM_DAYS[month];
+                        }
+                    }
+                    try {
+                        readDeviationConfig(monthStarts);
+                    } catch (IOException e) {
+                        // do nothing. Ignore deviation config.
+                        // e.printStackTrace();
+                    } catch (ParseException e) {
+                        // do nothing. Ignore deviation config.
+                        // e.printStackTrace();
+                    }
+                    table = new MonthTable(monthStarts);
+                    monthTable = table;
+                }
+            }
+        }
+        return table;
+    }
+
     /**
      * Adds deviation definition. The year and month sepcifed should be the
      * caluculated Hijrah year and month. The month is 0 based. e.g. 8 for
@@ -1223,14 +1046,21 @@ public final class HijrahDate
      * the calendar. For example, adding -1 days will subtract one day from the
      * current date. Please note that this behavior is different from the
      * addDeviaiton method.
+     * <p>
+     * The deviation is applied directly to the month table, moving the start
+     * of every month after the start month up to and including the end month.
+     * This shortens the start month and lengthens the end month by the offset.
      *
+     * @param monthStarts  the month table to update, not null
      * @param startYear  start year
      * @param startMonth  start month
      * @param endYear  end year
      * @param endMonth  end month
      * @param offset  offset
+     * @throws IllegalArgumentException if the deviation is out of range or would
+     *  leave a month with no days
      */
-    private static void addDeviationAsHijrah(int startYear,
+    private static void addDeviationAsHijrah(int[] monthStarts, int startYear,
             int startMonth, int endYear, int endMonth, int offset) {
 
         if (startYear < 1) {
@@ -1257,255 +1087,64 @@ public final class HijrahDate
                     "startYear == endYear && endMonth < startMonth");
         }
 
-        // Adjusting start year.
-        boolean isStartYLeap = isLeapYear(startYear);
-
-        // Adjusting the number of month.
-        Integer[] orgStartMonthNums = ADJUSTED_MONTH_DAYS.get(new Integer(
-                startYear));
-        if (orgStartMonthNums == null) {
-            if (isStartYLeap) {
-                orgStartMonthNums = new Integer[LEAP_NUM_DAYS.length];
-                for (int l = 0; l < LEAP_NUM_DAYS.length; l++) {
-                    orgStartMonthNums[l] = new Integer(LEAP_NUM_DAYS[l]);
-                }
-            } else {
-                orgStartMonthNums = new Integer[NUM_DAYS.length];
-                for (int l = 0; l < NUM_DAYS.length; l++) {
-                    orgStartMonthNums[l] = new Integer(NUM_DAYS[l]);
-                }
-            }
-        }
-
-        Integer[] newStartMonthNums = new Integer[orgStartMonthNums.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month > startMonth) {
-                newStartMonthNums[month] = new Integer(orgStartMonthNums[month]
-                        .intValue()
-                        - offset);
-            } else {
-                newStartMonthNums[month] = new Integer(orgStartMonthNums[month]
-                        .intValue());
-            }
-        }
-
-        ADJUSTED_MONTH_DAYS.put(new Integer(startYear), newStartMonthNums);
-
-        // Adjusting the days of month.
-
-        Integer[] orgStartMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                startYear));
-        if (orgStartMonthLengths == null) {
-            if (isStartYLeap) {
-                orgStartMonthLengths = new Integer[LEAP_MONTH_LENGTH.length];
-                for (int l = 0; l < LEAP_MONTH_LENGTH.length; l++) {
-                    orgStartMonthLengths[l] = new Integer(LEAP_MONTH_LENGTH[l]);
-                }
-            } else {
-                orgStartMonthLengths = new Integer[MONTH_LENGTH.length];
-                for (int l = 0; l < MONTH_LENGTH.length; l++) {
-                    orgStartMonthLengths[l] = new Integer(MONTH_LENGTH[l]);
-                }
-            }
-        }
-
-        Integer[] newStartMonthLengths = new Integer[orgStartMonthLengths.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month == startMonth) {
-                newStartMonthLengths[month] = new Integer(
-                        orgStartMonthLengths[month].intValue() - offset);
-            } else {
-                newStartMonthLengths[month] = new Integer(
-                        orgStartMonthLengths[month].intValue());
-            }
-        }
-
-        ADJUSTED_MONTH_LENGTHS.put(new Integer(startYear), newStartMonthLengths);
-
-        if (startYear != endYear) {
-            // System.out.println("over year");
-            // Adjusting starting 30 year cycle.
-            int sCycleNumber = (startYear - 1) / 30;
-            int sYearInCycle = (startYear - 1) % 30; // 0-based.
-            Integer[] startCycles = ADJUSTED_CYCLE_YEARS.get(new Integer(
-                    sCycleNumber));
-            if (startCycles == null) {
-                startCycles = new Integer[CYCLEYEAR_START_DATE.length];
-                for (int j = 0; j < startCycles.length; j++) {
-                    startCycles[j] = new Integer(CYCLEYEAR_START_DATE[j]);
-                }
-            }
-
-            for (int j = sYearInCycle + 1; j < CYCLEYEAR_START_DATE.length; j++) {
-                startCycles[j] = new Integer(startCycles[j].intValue() - offset);
-            }
-
-            // System.out.println(sCycleNumber + ":" + sYearInCycle);
-            ADJUSTED_CYCLE_YEARS.put(new Integer(sCycleNumber), startCycles);
-
-            int sYearInMaxY = (startYear - 1) / 30;
-            int sEndInMaxY = (endYear - 1) / 30;
-
-            if (sYearInMaxY != sEndInMaxY) {
-                // System.out.println("over 30");
-                // Adjusting starting 30 * MAX_ADJUSTED_CYCLE year cycle.
-                // System.out.println(sYearInMaxY);
-
-                for (int j = sYearInMaxY + 1; j < ADJUSTED_CYCLES.length; j++) {
-                    ADJUSTED_CYCLES[j] = new Long(ADJUSTED_CYCLES[j].longValue()
-                            - offset);
-                }
-
-                // Adjusting ending 30 * MAX_ADJUSTED_CYCLE year cycles.
-                for (int j = sEndInMaxY + 1; j < ADJUSTED_CYCLES.length; j++) {
-                    ADJUSTED_CYCLES[j] = new Long(ADJUSTED_CYCLES[j].longValue()
-                            + offset);
-                }
-            }
-
-            // Adjusting ending 30 year cycle.
-            int eCycleNumber = (endYear - 1) / 30;
-            int sEndInCycle = (endYear - 1) % 30; // 0-based.
-            Integer[] endCycles = ADJUSTED_CYCLE_YEARS.get(new Integer(
-                    eCycleNumber));
-            if (endCycles == null) {
-                endCycles = new Integer[CYCLEYEAR_START_DATE.length];
-                for (int j = 0; j < endCycles.length; j++) {
-                    endCycles[j] = new Integer(CYCLEYEAR_START_DATE[j]);
-                }
-            }
-            for (int j = sEndInCycle + 1; j < CYCLEYEAR_START_DATE.length; j++) {
-                endCycles[j] = new Integer(endCycles[j].intValue() + offset);
-            }
-            ADJUSTED_CYCLE_YEARS.put(new Integer(eCycleNumber), endCycles);
+        int startIndex = (startYear - 1) * 12 + startMonth;
+        int endIndex = (endYear - 1) * 12 + endMonth;
+        if (endIndex > startIndex && (monthStarts[startIndex + 1] - offset - monthStarts[startIndex] < 1 ||
+                monthStarts[endIndex + 1] - monthStarts[endIndex] + offset < 1)) {
+            throw new IllegalArgumentException("Deviation results in a month with no days");
         }
-
-        // Adjusting ending year.
-        boolean isEndYLeap = isLeapYear(endYear);
-
-        Integer[] orgEndMonthDays = ADJUSTED_MONTH_DAYS.get(new Integer(endYear));
-
-        if (orgEndMonthDays == null) {
-            if (isEndYLeap) {
-                orgEndMonthDays = new Integer[LEAP_NUM_DAYS.length];
-                for (int l = 0; l < LEAP_NUM_DAYS.length; l++) {
-                    orgEndMonthDays[l] = new Integer(LEAP_NUM_DAYS[l]);
-                }
-            } else {
-                orgEndMonthDays = new Integer[NUM_DAYS.length];
-                for (int l = 0; l < NUM_DAYS.length; l++) {
-                    orgEndMonthDays[l] = new Integer(NUM_DAYS[l]);
-                }
-            }
+        for (int i = startIndex + 1; i <= endIndex; i++) {
+            monthStarts[i] -= offset;
         }
+    }
 
-        Integer[] newEndMonthDays = new Integer[orgEndMonthDays.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month > endMonth) {
-                newEndMonthDays[month] = new Integer(orgEndMonthDays[month]
-                        .intValue()
-                        + offset);
-            } else {
-                newEndMonthDays[month] = new Integer(orgEndMonthDays[month]
-                        .intValue());
-            }
-        }
-
-        ADJUSTED_MONTH_DAYS.put(new Integer(endYear), newEndMonthDays);
-
-        // Adjusting the days of month.
-        Integer[] orgEndMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                endYear));
-
-        if (orgEndMonthLengths == null) {
-            if (isEndYLeap) {
-                orgEndMonthLengths = new Integer[LEAP_MONTH_LENGTH.length];
-                for (int l = 0; l < LEAP_MONTH_LENGTH.length; l++) {
-                    orgEndMonthLengths[l] = new Integer(LEAP_MONTH_LENGTH[l]);
+    /**
+     * The epoch-day of the first day of each month from year 1 to {@link #MAX_VALUE_OF_ERA},
+     * with the deviations applied, together with the values derived from it.
+     */
+    private static final class MonthTable {
+        /**
+         * The epoch-day of the first day of each month.
+         * The 0-based month of a year is at index {@code (year - 1) * 12 + month}
+         * and the final element is the epoch-day after the last month.
+         */
+        final int[] monthStarts;
+        /**
+         * The adjusted least max values.
+         */
+        final int[] leastMaxValues;
+        /**
+         * The adjusted max values.
+         */
+        final int[] maxValues;
+
+        /**
+         * Creates the table, widening the maximum and least maximum values of
+         * day-of-month and day-of-year to cover every month and year.
+         *
+         * @param monthStarts  the month start epoch-days, not null
+         * @throws IllegalArgumentException if a month has no days
+         */
+        MonthTable(int[] monthStarts) {
+            int[] leastMaxValues = LEAST_MAX_VALUES.clone();
+            int[] maxValues = MAX_VALUES.clone();
+            for (int i = 0; i < monthStarts.length - 1; i++) {
+                int monthLength = monthStarts[i + 1] - monthStarts[i];
+                if (monthLength < 1) {
+                    throw new IllegalArgumentException("Deviation results in a month with no days: " + (i / 12 + 1) + "/" + (i % 12));
                 }
-            } else {
-                orgEndMonthLengths = new Integer[MONTH_LENGTH.length];
-                for (int l = 0; l < MONTH_LENGTH.length; l++) {
-                    orgEndMonthLengths[l] = new Integer(MONTH_LENGTH[l]);
+                maxValues[POSITION_DAY_OF_MONTH] = Math.max(maxValues[POSITION_DAY_OF_MONTH], monthLength);
+                leastMaxValues[POSITION_DAY_OF_MONTH] = Math.min(leastMaxValues[POSITION_DAY_OF_MONTH], monthLength);
+                if (i % 12 == 0) {
+                    int yearLength = monthStarts[i + 12] - monthStarts[i];
+                    maxValues[POSITION_DAY_OF_YEAR] = Math.max(maxValues[POSITION_DAY_OF_YEAR], yearLength);
+                    leastMaxValues[POSITION_DAY_OF_YEAR] = Math.min(leastMaxValues[POSITION_DAY_OF_YEAR], yearLength);
                 }
             }
+            this.monthStarts = monthStarts;
+            this.leastMaxValues = leastMaxValues;
+            this.maxValues = maxValues;
         }
-
-        Integer[] newEndMonthLengths = new Integer[orgEndMonthLengths.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month == endMonth) {
-                newEndMonthLengths[month] = new Integer(
-                        orgEndMonthLengths[month].intValue() + offset);
-            } else {
-                newEndMonthLengths[month] = new Integer(
-                        orgEndMonthLengths[month].intValue());
-            }
-        }
-
-        ADJUSTED_MONTH_LENGTHS.put(new Integer(endYear), newEndMonthLengths);
-
-        Integer[] startMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                startYear));
-        Integer[] endMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                endYear));
-        Integer[] startMonthDays = ADJUSTED_MONTH_DAYS
-                .get(new Integer(startYear));
-        Integer[] endMonthDays = ADJUSTED_MONTH_DAYS.get(new Integer(endYear));
-
-        int startMonthLength = startMonthLengths[startMonth].intValue();
-        int endMonthLength = endMonthLengths[endMonth].intValue();
-        int startMonthDay = startMonthDays[11].intValue()
-                + startMonthLengths[11].intValue();
-        int endMonthDay = endMonthDays[11].intValue()
-                + endMonthLengths[11].intValue();
-
-        int maxMonthLength = ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH]
-                .intValue();
-        int leastMaxMonthLength = ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH]
-                .intValue();
-
-        if (maxMonthLength < startMonthLength) {
-            maxMonthLength = startMonthLength;
-        }
-        if (maxMonthLength < endMonthLength) {
-            maxMonthLength = endMonthLength;
-        }
-        ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH] = new Integer(maxMonthLength);
-
-        if (leastMaxMonthLength > startMonthLength) {
-            leastMaxMonthLength = startMonthLength;
-        }
-        if (leastMaxMonthLength > endMonthLength) {
-            leastMaxMonthLength = endMonthLength;
-        }
-        ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH] = new Integer(
-                leastMaxMonthLength);
-
-        int maxMonthDay = ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR].intValue();
-        int leastMaxMonthDay = ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR]
-                .intValue();
-
-        if (maxMonthDay < startMonthDay) {
-            maxMonthDay = startMonthDay;
-        }
-        if (maxMonthDay < endMonthDay) {
-            maxMonthDay = endMonthDay;
-        }
-
-        ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR] = new Integer(maxMonthDay);
-
-        if (leastMaxMonthDay > startMonthDay) {
-            leastMaxMonthDay = startMonthDay;
-        }
-        if (leastMaxMonthDay > endMonthDay) {
-            leastMaxMonthDay = endMonthDay;
-        }
-        ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR] = new Integer(
-                leastMaxMonthDay);
     }
 
     /**
@@ -1523,10 +1162,11 @@ public final class HijrahDate
      * 1429/2-1429/7:1;1429/6-1429/11:1
      * 1429/11-9999/11:1
      *
-     * @throws IOException for zip/jar file handling exception.
+     * @param monthStarts  the month table to update, not null
+     * @throws IOException for file handling exception.
      * @throws ParseException if the format of the configuration file is wrong.
      */
-    private static void readDeviationConfig() throws IOException, ParseException {
+    private static void readDeviationConfig(int[] monthStarts) throws IOException, ParseException {
         InputStream is = getConfigFileInputStream();
         if (is != null) {
             BufferedReader br = null;
@@ -1537,7 +1177,7 @@ public final class HijrahDate
                 while ((line = br.readLine()) != null) {
                     num++;
                     line = line.trim();
-                    parseLine(line, num);
+                    parseLine(monthStarts, line, num);
                 }
             } finally {
                 if (br != null) {
@@ -1550,11 +1190,12 @@ public final class HijrahDate
     /**
      * Parse each deviation element.
      *
+     * @param monthStarts  the month table to update, not null
      * @param line  a line to parse
      * @param num  line number
      * @throws ParseException if line has incorrect format.
      */
-    private static void parseLine(String line, int num) throws ParseException {
+    private static void parseLine(int[] monthStarts, String line, int num) throws ParseException {
         StringTokenizer st = new StringTokenizer(line, ";");
         while (st.hasMoreTokens()) {
             String deviationElement = st.nextToken();
@@ -1633,8 +1274,13 @@ public final class HijrahDate
                     }
                     if (startYear != -1 && startMonth != -1 && endYear != -1
                             && endMonth != -1) {
-                        addDeviationAsHijrah(startYear, startMonth, endYear,
-                                endMonth, offset);
+                        try {
+                            addDeviationAsHijrah(monthStarts, startYear, startMonth, endYear,
+                                    endMonth, offset);
+                        } catch (IllegalArgumentException ex) {
+                            throw new ParseException(
+                                    ex.getMessage() + " at line " + num + ".", num);
+                        }
                     } else {
                         throw new ParseException("Unknown error at line " + num
                                 + ".", num);
@@ -1653,14 +1299,12 @@ public final class HijrahDate
 
     /**
      * Return InputStream for deviation configuration file.
-     * The default location of the deviation file is:
+     * The default location of the deviation file is the resource:
      * <pre>
-     *   $CLASSPATH/org/threeten/bp/chrono
-     * </pre>
-     * And the default file name is:
-     * <pre>
-     *   hijrah_deviation.cfg
+     *   org/threeten/bp/chrono/hijrah_deviation.cfg
      * </pre>
+     * which is found using the class loader of this class, rather than by
+     * searching every entry of the class path.
      * The default location and file name can be overriden by setting
      * following two Java's system property.
      * <pre>
@@ -1670,7 +1314,7 @@ public final class HijrahDate
      * Regarding the file format, see readDeviationConfig() method for details.
      *
      * @return InputStream for file reading exception.
-     * @throws IOException for zip/jar file handling exception.
+     * @throws IOException for file handling exception.
      */
     private static InputStream getConfigFileInputStream() throws IOException {
 
@@ -1700,60 +1344,11 @@ public final class HijrahDate
                 return null;
             }
         } else {
-            String classPath = System.getProperty("java.class.path");
-            StringTokenizer st = new StringTokenizer(classPath, PATH_SEP);
-            while (st.hasMoreTokens()) {
-                String path = st.nextToken();
-                File file = new File(path);
-                if (file.exists()) {
-                    if (file.isDirectory()) {
-                        File f = new File(
-                                path + FILE_SEP + DEFAULT_CONFIG_PATH, fileName);
-                        if (f.exists()) {
-                            try {
-                                return new FileInputStream(path + FILE_SEP
-                                        + DEFAULT_CONFIG_PATH + FILE_SEP
-                                        + fileName);
-                            } catch (IOException ioe) {
-                                throw ioe;
-                            }
-                        }
-                    } else {
-                        ZipFile zip;
-                        try {
-                            zip = new ZipFile(file);
-                        } catch (IOException ioe) {
-                            zip = null;
-                        }
-
-                        if (zip != null) {
-                            String targetFile = DEFAULT_CONFIG_PATH + FILE_SEP
-                                    + fileName;
-                            ZipEntry entry = zip.getEntry(targetFile);
-
-                            if (entry == null) {
-                                if (FILE_SEP == '/') {
-                                    targetFile = targetFile.replace('/', '\\');
-                                } else if (FILE_SEP == '\\') {
-                                    targetFile = targetFile.replace('\\', '/');
-                                }
-                                entry = zip.getEntry(targetFile);
-                            }
-
-                            if (entry != null) {
-                                try {
-                                    return zip.getInputStream(entry);
-                                } catch (IOException ioe) {
-                                    throw ioe;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-            return null;
+            // relative to the package of this class
+            return HijrahDate.class.getResourceAsStream(fileName);
         }
     }
+
     //-----------------------------------------------------------------------
     private Object writeReplace() {
         return new Ser(Ser.HIJRAH_DATE_TYPE, this);
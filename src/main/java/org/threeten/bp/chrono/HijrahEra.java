@@ -39,8 +39,8 @@ import java.io.IOException;
 import java.util.Locale;
 
 import org.threeten.bp.DateTimeException;
-import org.threeten.bp.format.DateTimeFormatterBuilder;
 import org.threeten.bp.format.TextStyle;
+import org.threeten.bp.jdk8.DisplayNameCache;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.ChronoUnit;
 import org.threeten.bp.temporal.Temporal;
@@ -74,6 +74,11 @@ public enum HijrahEra implements Era {
      */
     AH;
 
+    /**
+     * Cache of the display names.
+     */
+    private static final DisplayNameCache NAMES = new DisplayNameCache(ERA, 0, 1);
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code HijrahEra} from a value.
@@ -170,7 +175,7 @@ public enum HijrahEra implements Era {
     //-----------------------------------------------------------------------
     @Override
     public String getDisplayName(TextStyle style, Locale locale) {
-        return new DateTimeFormatterBuilder().appendText(ERA, style).toFormatter(locale).format(this);
+        return NAMES.getDisplayName(getValue(), style, locale);
     }
 
     /**
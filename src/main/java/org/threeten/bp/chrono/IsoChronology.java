@@ -53,6 +53,7 @@ import java.util.Locale;
 import java.util.Map;
 
 import org.threeten.bp.Clock;
+import org.threeten.bp.DateTimeColumns;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.DayOfWeek;
 import org.threeten.bp.Instant;
@@ -106,6 +107,24 @@ public final class IsoChronology extends Chronology implements Serializable {
      * Serialization version.
      */
     private static final long serialVersionUID = -1440403870442975015L;
+    /**
+     * The fields that select the path taken when resolving a year-month-day date.
+     */
+    private static final long YMD_DISPATCH_MASK = fieldBits(
+            EPOCH_DAY, PROLEPTIC_MONTH, YEAR_OF_ERA, ERA, YEAR, MONTH_OF_YEAR, DAY_OF_MONTH);
+    /**
+     * The fields that select the path taken when resolving a year-day date.
+     */
+    private static final long YD_DISPATCH_MASK = fieldBits(
+            EPOCH_DAY, PROLEPTIC_MONTH, YEAR_OF_ERA, ERA, YEAR, MONTH_OF_YEAR, DAY_OF_YEAR);
+    /**
+     * The fields of a year-month-day date.
+     */
+    private static final long YMD_FIELDS = fieldBits(YEAR, MONTH_OF_YEAR, DAY_OF_MONTH);
+    /**
+     * The fields of a year-day date.
+     */
+    private static final long YD_FIELDS = fieldBits(YEAR, DAY_OF_YEAR);
 
     /**
      * Restricted constructor.
@@ -222,6 +241,42 @@ public final class IsoChronology extends Chronology implements Serializable {
         return LocalDate.ofEpochDay(epochDay);
     }
 
+    /**
+     * Converts a column of epoch-days to columns of ISO year, month and day-of-month.
+     * <p>
+     * This is equivalent to
+     * {@link DateTimeColumns#epochDaysToYearMonthDay(long[], int[], int[], int[])}.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param prolepticYears  the array to store the ISO years in, at least as long as the input, not null
+     * @param months  the array to store the months in, at least as long as the input, not null
+     * @param days  the array to store the days-of-month in, at least as long as the input, not null
+     * @throws DateTimeException if any epoch-day exceeds the supported date range
+     * @throws IllegalArgumentException if an output array is too short
+     */
+    @Override
+    public void epochDaysToYearMonthDay(long[] epochDays, int[] prolepticYears, int[] months, int[] days) {
+        DateTimeColumns.epochDaysToYearMonthDay(epochDays, prolepticYears, months, days);
+    }
+
+    /**
+     * Converts columns of ISO year, month and day-of-month to a column of epoch-days.
+     * <p>
+     * This is equivalent to
+     * {@link DateTimeColumns#yearMonthDayToEpochDays(int[], int[], int[], long[])}.
+     *
+     * @param prolepticYears  the ISO years to convert, not null
+     * @param months  the months to convert, at least as long as the years, not null
+     * @param days  the days-of-month to convert, at least as long as the years, not null
+     * @param epochDays  the array to store the epoch-days in, at least as long as the years, not null
+     * @throws DateTimeException if any year, month and day-of-month is not a valid date
+     * @throws IllegalArgumentException if an array is too short
+     */
+    @Override
+    public void yearMonthDayToEpochDays(int[] prolepticYears, int[] months, int[] days, long[] epochDays) {
+        DateTimeColumns.yearMonthDayToEpochDays(prolepticYears, months, days, epochDays);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an ISO local date from another date-time object.
@@ -383,6 +438,80 @@ public final class IsoChronology extends Chronology implements Serializable {
 
     @Override
     public LocalDate resolveDate(Map<TemporalField, Long> fieldValues, ResolverStyle resolverStyle) {
+        // dispatch the common combinations directly, based on the fields present
+        long present = fieldBits(fieldValues);
+        if ((present & YMD_DISPATCH_MASK) == YMD_FIELDS) {
+            return resolveYMD(fieldValues.remove(YEAR), fieldValues.remove(MONTH_OF_YEAR),
+                    fieldValues.remove(DAY_OF_MONTH), resolverStyle);
+        }
+        if ((present & YD_DISPATCH_MASK) == YD_FIELDS) {
+            return resolveYD(fieldValues.remove(YEAR), fieldValues.remove(DAY_OF_YEAR), resolverStyle);
+        }
+        return resolveGeneral(fieldValues, resolverStyle);
+    }
+
+    /**
+     * Calculates the bits of the specified fields.
+     *
+     * @param fields  the fields, not null
+     * @return the bits, one per field ordinal
+     */
+    private static long fieldBits(ChronoField... fields) {
+        long bits = 0;
+        for (ChronoField field : fields) {
+            bits |= 1L << field.ordinal();
+        }
+        return bits;
+    }
+
+    /**
+     * Calculates the bits of the chrono fields present in the map.
+     *
+     * @param fieldValues  the map of fields to values, not null
+     * @return the bits, one per field ordinal
+     */
+    private static long fieldBits(Map<TemporalField, Long> fieldValues) {
+        long bits = 0;
+        for (TemporalField field : fieldValues.keySet()) {
+            if (field instanceof ChronoField) {
+                bits |= 1L << ((ChronoField) field).ordinal();
+            }
+        }
+        return bits;
+    }
+
+    private LocalDate resolveYMD(long yearValue, long monthValue, long dayValue, ResolverStyle resolverStyle) {
+        int y = YEAR.checkValidIntValue(yearValue);
+        int moy = Jdk8Methods.safeToInt(monthValue);
+        int dom = Jdk8Methods.safeToInt(dayValue);
+        if (resolverStyle == ResolverStyle.LENIENT) {
+            long months = Jdk8Methods.safeSubtract(moy, 1);
+            long days = Jdk8Methods.safeSubtract(dom, 1);
+            return LocalDate.of(y, 1, 1).plusMonths(months).plusDays(days);
+        } else if (resolverStyle == ResolverStyle.SMART){
+            DAY_OF_MONTH.checkValidValue(dom);
+            if (moy == 4 || moy == 6 || moy == 9 || moy == 11) {
+                dom = Math.min(dom, 30);
+            } else if (moy == 2) {
+                dom = Math.min(dom, Month.FEBRUARY.length(Year.isLeap(y)));
+            }
+            return LocalDate.of(y, moy, dom);
+        } else {
+            return LocalDate.of(y, moy, dom);
+        }
+    }
+
+    private LocalDate resolveYD(long yearValue, long dayValue, ResolverStyle resolverStyle) {
+        int y = YEAR.checkValidIntValue(yearValue);
+        if (resolverStyle == ResolverStyle.LENIENT) {
+            long days = Jdk8Methods.safeSubtract(dayValue, 1);
+            return LocalDate.ofYearDay(y, 1).plusDays(days);
+        }
+        int doy = DAY_OF_YEAR.checkValidIntValue(dayValue);
+        return LocalDate.ofYearDay(y, doy);
+    }
+
+    private LocalDate resolveGeneral(Map<TemporalField, Long> fieldValues, ResolverStyle resolverStyle) {
         if (fieldValues.containsKey(EPOCH_DAY)) {
             return LocalDate.ofEpochDay(fieldValues.remove(EPOCH_DAY));
         }
@@ -433,24 +562,8 @@ public final class IsoChronology extends Chronology implements Serializable {
         if (fieldValues.containsKey(YEAR)) {
             if (fieldValues.containsKey(MONTH_OF_YEAR)) {
                 if (fieldValues.containsKey(DAY_OF_MONTH)) {
-                    int y = YEAR.checkValidIntValue(fieldValues.remove(YEAR));
-                    int moy = Jdk8Methods.safeToInt(fieldValues.remove(MONTH_OF_YEAR));
-                    int dom = Jdk8Methods.safeToInt(fieldValues.remove(DAY_OF_MONTH));
-                    if (resolverStyle == ResolverStyle.LENIENT) {
-                        long months = Jdk8Methods.safeSubtract(moy, 1);
-                        long days = Jdk8Methods.safeSubtract(dom, 1);
-                        return LocalDate.of(y, 1, 1).plusMonths(months).plusDays(days);
-                    } else if (resolverStyle == ResolverStyle.SMART){
-                        DAY_OF_MONTH.checkValidValue(dom);
-                        if (moy == 4 || moy == 6 || moy == 9 || moy == 11) {
-                            dom = Math.min(dom, 30);
-                        } else if (moy == 2) {
-                            dom = Math.min(dom, Month.FEBRUARY.length(Year.isLeap(y)));
-                        }
-                        return LocalDate.of(y, moy, dom);
-                    } else {
-                        return LocalDate.of(y, moy, dom);
-                    }
+                    return resolveYMD(fieldValues.remove(YEAR), fieldValues.remove(MONTH_OF_YEAR),
+                            fieldValues.remove(DAY_OF_MONTH), resolverStyle);
                 }
                 if (fieldValues.containsKey(ALIGNED_WEEK_OF_MONTH)) {
                     if (fieldValues.containsKey(ALIGNED_DAY_OF_WEEK_IN_MONTH)) {
@@ -490,13 +603,7 @@ public final class IsoChronology extends Chronology implements Serializable {
                 }
             }
             if (fieldValues.containsKey(DAY_OF_YEAR)) {
-                int y = YEAR.checkValidIntValue(fieldValues.remove(YEAR));
-                if (resolverStyle == ResolverStyle.LENIENT) {
-                    long days = Jdk8Methods.safeSubtract(fieldValues.remove(DAY_OF_YEAR), 1);
-                    return LocalDate.ofYearDay(y, 1).plusDays(days);
-                }
-                int doy = DAY_OF_YEAR.checkValidIntValue(fieldValues.remove(DAY_OF_YEAR));
-                return LocalDate.ofYearDay(y, doy);
+                return resolveYD(fieldValues.remove(YEAR), fieldValues.remove(DAY_OF_YEAR), resolverStyle);
             }
             if (fieldValues.containsKey(ALIGNED_WEEK_OF_YEAR)) {
                 if (fieldValues.containsKey(ALIGNED_DAY_OF_WEEK_IN_YEAR)) {
@@ -36,8 +36,8 @@ import static org.threeten.bp.temporal.ChronoField.ERA;
 import java.util.Locale;
 
 import org.threeten.bp.DateTimeException;
-import org.threeten.bp.format.DateTimeFormatterBuilder;
 import org.threeten.bp.format.TextStyle;
+import org.threeten.bp.jdk8.DisplayNameCache;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.ChronoUnit;
 import org.threeten.bp.temporal.Temporal;
@@ -77,6 +77,11 @@ public enum IsoEra implements Era {
      */
     CE;
 
+    /**
+     * Cache of the display names.
+     */
+    private static final DisplayNameCache NAMES = new DisplayNameCache(ERA, 0, 1);
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code IsoEra} from an {@code int} value.
@@ -172,7 +177,7 @@ public enum IsoEra implements Era {
     //-----------------------------------------------------------------------
     @Override
     public String getDisplayName(TextStyle style, Locale locale) {
-        return new DateTimeFormatterBuilder().appendText(ERA, style).toFormatter(locale).format(this);
+        return NAMES.getDisplayName(getValue(), style, locale);
     }
 
 }
@@ -58,6 +58,7 @@ import java.util.Locale;
 import java.util.Map;
 
 import org.threeten.bp.Clock;
+import org.threeten.bp.DateTimeColumns;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.DayOfWeek;
 import org.threeten.bp.Instant;
@@ -112,6 +113,10 @@ public final class JapaneseChronology extends Chronology implements Serializable
      * Serialization version.
      */
     private static final long serialVersionUID = 459996390165777884L;
+    /**
+     * The cache of chronology-specific field ranges, indexed by field ordinal.
+     */
+    private static final ValueRange[] RANGES = new ValueRange[ChronoField.values().length];
 
     /**
      * Narrow names for eras.
@@ -264,6 +269,34 @@ public final class JapaneseChronology extends Chronology implements Serializable
         return new JapaneseDate(LocalDate.ofEpochDay(epochDay));
     }
 
+    @Override
+    public void epochDaysToYearMonthDay(long[] epochDays, int[] prolepticYears, int[] months, int[] days) {
+        checkMinimum(epochDays, epochDays.length);
+        DateTimeColumns.epochDaysToYearMonthDay(epochDays, prolepticYears, months, days);
+    }
+
+    @Override
+    public void yearMonthDayToEpochDays(int[] prolepticYears, int[] months, int[] days, long[] epochDays) {
+        DateTimeColumns.yearMonthDayToEpochDays(prolepticYears, months, days, epochDays);
+        checkMinimum(epochDays, prolepticYears.length);
+    }
+
+    /**
+     * Checks that none of the epoch-days are before the minimum supported date.
+     *
+     * @param epochDays  the epoch-days to check, not null
+     * @param length  the number of epoch-days to check
+     * @throws DateTimeException if any epoch-day is before the minimum supported date
+     */
+    private static void checkMinimum(long[] epochDays, int length) {
+        long min = JapaneseDate.MIN_DATE.toEpochDay();
+        for (int i = 0; i < length; i++) {
+            if (epochDays[i] < min) {
+                throw new DateTimeException("Minimum supported date is January 1st Meiji 6");
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Override  // override with covariant return type
     public JapaneseDate date(TemporalAccessor temporal) {
@@ -381,6 +414,15 @@ public final class JapaneseChronology extends Chronology implements Serializable
             case PROLEPTIC_MONTH:
                 return field.range();
         }
+        ValueRange range = RANGES[field.ordinal()];
+        if (range == null) {
+            range = computeRange(field);
+            RANGES[field.ordinal()] = range;  // racy but safe, as the range is immutable
+        }
+        return range;
+    }
+
+    private static ValueRange computeRange(ChronoField field) {
         Calendar jcal = Calendar.getInstance(LOCALE);
         switch (field) {
             case ERA: {
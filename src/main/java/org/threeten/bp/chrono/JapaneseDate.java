@@ -38,7 +38,6 @@ import static org.threeten.bp.temporal.ChronoField.YEAR;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Calendar;
 
@@ -46,7 +45,6 @@ import org.threeten.bp.Clock;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalTime;
-import org.threeten.bp.Period;
 import org.threeten.bp.ZoneId;
 import org.threeten.bp.jdk8.Jdk8Methods;
 import org.threeten.bp.temporal.ChronoField;
@@ -82,31 +80,30 @@ import org.threeten.bp.temporal.ValueRange;
  * This class is immutable and thread-safe.
  */
 public final class JapaneseDate
-        extends ChronoDateImpl<JapaneseDate>
+        extends ChronoIsoDateImpl<JapaneseDate>
         implements Serializable {
 
     /**
      * Serialization version.
      */
     private static final long serialVersionUID = -305327627230580483L;
+    /**
+     * The cache of year-of-era ranges, indexed by era, first year flag, month and day.
+     */
+    private static final ValueRange[] YEAR_OF_ERA_RANGES = new ValueRange[JapaneseEra.values().length * 2 * 12 * 31];
     /**
      * Minimum date.
      */
     static final LocalDate MIN_DATE = LocalDate.of(1873, 1, 1);
 
-    /**
-     * The underlying ISO local date.
-     * @serial
-     */
-    private final LocalDate isoDate;
     /**
      * The JapaneseEra of this date.
      */
-    private transient JapaneseEra era;
+    private final transient JapaneseEra era;
     /**
      * The Japanese imperial calendar year of this date.
      */
-    private transient int yearOfEra;
+    private final transient int yearOfEra;
 
     //-----------------------------------------------------------------------
     /**
@@ -280,13 +277,35 @@ public final class JapaneseDate
      * @param isoDate  the standard local date, validated not null
      */
     JapaneseDate(LocalDate isoDate) {
-        if (isoDate.isBefore(MIN_DATE)) {
+        this(isoDate.getYear(), isoDate.getMonthValue(), isoDate.getDayOfMonth());
+    }
+
+    /**
+     * Creates an instance from a valid ISO year, month and day.
+     *
+     * @param isoYear  the ISO year, validated
+     * @param isoMonth  the ISO month-of-year, validated
+     * @param isoDay  the ISO day-of-month, valid for the year and month
+     */
+    JapaneseDate(int isoYear, int isoMonth, int isoDay) {
+        this(isoYear, isoMonth, isoDay, null);
+    }
+
+    /**
+     * Creates an instance from a valid ISO year, month and day.
+     *
+     * @param isoYear  the ISO year, validated
+     * @param isoMonth  the ISO month-of-year, validated
+     * @param isoDay  the ISO day-of-month, valid for the year and month
+     * @param eraHint  the era to check first, such as that of an adjacent date, null if none
+     */
+    private JapaneseDate(int isoYear, int isoMonth, int isoDay, JapaneseEra eraHint) {
+        super(isoYear, isoMonth, isoDay);
+        if (isoYear < MIN_DATE.getYear()) {
             throw new DateTimeException("Minimum supported date is January 1st Meiji 6");
         }
-        this.era = JapaneseEra.from(isoDate);
-        int yearOffset = this.era.startDate().getYear() - 1;
-        this.yearOfEra = isoDate.getYear() - yearOffset;
-        this.isoDate = isoDate;
+        this.era = JapaneseEra.from(toEpochDay(), eraHint);
+        this.yearOfEra = isoYear - era.startDate().getYear() + 1;
     }
 
     /**
@@ -298,24 +317,17 @@ public final class JapaneseDate
      * @param isoDate  the standard local date, validated not null
      */
     JapaneseDate(JapaneseEra era, int year, LocalDate isoDate) {
+        super(isoDate.getYear(), isoDate.getMonthValue(), isoDate.getDayOfMonth());
         if (isoDate.isBefore(MIN_DATE)) {
             throw new DateTimeException("Minimum supported date is January 1st Meiji 6");
         }
         this.era = era;
         this.yearOfEra = year;
-        this.isoDate = isoDate;
     }
 
-    /**
-     * Reconstitutes this object from a stream.
-     *
-     * @param stream object input stream
-     */
-    private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
-        stream.defaultReadObject();
-        this.era = JapaneseEra.from(isoDate);
-        int yearOffset = this.era.startDate().getYear() - 1;
-        this.yearOfEra = isoDate.getYear() - yearOffset;
+    @Override
+    JapaneseDate create(int isoYear, int isoMonth, int isoDay) {
+        return new JapaneseDate(isoYear, isoMonth, isoDay, era);
     }
 
     //-----------------------------------------------------------------------
@@ -329,17 +341,16 @@ public final class JapaneseDate
         return era;
     }
 
-    @Override
-    public int lengthOfMonth() {
-        return isoDate.lengthOfMonth();
-    }
-
     @Override
     public int lengthOfYear() {
-        Calendar jcal = Calendar.getInstance(JapaneseChronology.LOCALE);
-        jcal.set(Calendar.ERA, era.getValue() + JapaneseEra.ERA_OFFSET);
-        jcal.set(yearOfEra, isoDate.getMonthValue() - 1, isoDate.getDayOfMonth());
-        return  jcal.getActualMaximum(Calendar.DAY_OF_YEAR);
+        // the year is clipped to the part of the ISO year that lies within the era
+        LocalDate nextStart = era.nextStartDate();
+        int last = (nextStart != null && nextStart.getYear() == isoYear ?
+                nextStart.getDayOfYear() - 1 : (isIsoLeapYear() ? 366 : 365));
+        if (yearOfEra == 1) {
+            return last - era.startDate().getDayOfYear() + 1;
+        }
+        return last;
     }
 
     //-----------------------------------------------------------------------
@@ -391,9 +402,9 @@ public final class JapaneseDate
                 ChronoField f = (ChronoField) field;
                 switch (f) {
                     case DAY_OF_YEAR:
-                        return actualRange(Calendar.DAY_OF_YEAR);
+                        return rangeFromOne(lengthOfYear());
                     case YEAR_OF_ERA:
-                        return actualRange(Calendar.YEAR);
+                        return yearOfEraRange();
                 }
                 return getChronology().range(f);
             }
@@ -402,12 +413,18 @@ public final class JapaneseDate
         return field.rangeRefinedBy(this);
     }
 
-    private ValueRange actualRange(int calendarField) {
-        Calendar jcal = Calendar.getInstance(JapaneseChronology.LOCALE);
-        jcal.set(Calendar.ERA, era.getValue() + JapaneseEra.ERA_OFFSET);
-        jcal.set(yearOfEra, isoDate.getMonthValue() - 1, isoDate.getDayOfMonth());
-        return ValueRange.of(jcal.getActualMinimum(calendarField),
-                                     jcal.getActualMaximum(calendarField));
+    private ValueRange yearOfEraRange() {
+        // the range only varies by era, month-day and whether this is the first year of the era
+        int index = ((JapaneseEra.ordinal(era.getValue()) * 2 + (yearOfEra == 1 ? 1 : 0)) * 12 + isoMonth - 1) * 31 + isoDay - 1;
+        ValueRange range = YEAR_OF_ERA_RANGES[index];
+        if (range == null) {
+            Calendar jcal = Calendar.getInstance(JapaneseChronology.LOCALE);
+            jcal.set(Calendar.ERA, era.getValue() + JapaneseEra.ERA_OFFSET);
+            jcal.set(yearOfEra, isoMonth - 1, isoDay);
+            range = ValueRange.of(jcal.getActualMinimum(Calendar.YEAR), jcal.getActualMaximum(Calendar.YEAR));
+            YEAR_OF_ERA_RANGES[index] = range;  // racy but safe, as the range is immutable
+        }
+        return range;
     }
 
     @Override
@@ -426,16 +443,16 @@ public final class JapaneseDate
                 case DAY_OF_YEAR:
                     return getDayOfYear();
             }
-            return isoDate.getLong(field);
+            return isoGetLong((ChronoField) field);
         }
         return field.getFrom(this);
     }
 
     private long getDayOfYear() {
         if (yearOfEra == 1) {
-            return isoDate.getDayOfYear() - era.startDate().getDayOfYear() + 1;
+            return getIsoDayOfYear() - era.startDate().getDayOfYear() + 1;
         }
-        return isoDate.getDayOfYear();
+        return getIsoDayOfYear();
     }
 
     //-----------------------------------------------------------------------
@@ -458,7 +475,7 @@ public final class JapaneseDate
                     int nvalue = getChronology().range(f).checkValidIntValue(newValue, f);
                     switch (f) {
                         case DAY_OF_YEAR:
-                            return with(isoDate.plusDays(nvalue - getDayOfYear()));
+                            return plusDays(nvalue - getDayOfYear());
                         case YEAR_OF_ERA:
                             return this.withYear(nvalue);
                         case ERA: {
@@ -467,7 +484,7 @@ public final class JapaneseDate
                     }
                 }
             }
-            return with(isoDate.with(field, newValue));
+            return isoWith(f, newValue);
         }
         return field.adjustInto(this, newValue);
     }
@@ -509,7 +526,7 @@ public final class JapaneseDate
      */
     private JapaneseDate withYear(JapaneseEra era, int yearOfEra) {
         int year = JapaneseChronology.INSTANCE.prolepticYear(era, yearOfEra);
-        return with(isoDate.withYear(year));
+        return withIsoYear(year);
     }
 
     /**
@@ -530,60 +547,12 @@ public final class JapaneseDate
     }
 
     //-----------------------------------------------------------------------
-    @Override
-    JapaneseDate plusYears(long years) {
-        return with(isoDate.plusYears(years));
-    }
-
-    @Override
-    JapaneseDate plusMonths(long months) {
-        return with(isoDate.plusMonths(months));
-    }
-
-    @Override
-    JapaneseDate plusDays(long days) {
-        return with(isoDate.plusDays(days));
-    }
-
-    private JapaneseDate with(LocalDate newDate) {
-        return (newDate.equals(isoDate) ? this : new JapaneseDate(newDate));
-    }
-
     @Override
     @SuppressWarnings("unchecked")
     public final ChronoLocalDateTime<JapaneseDate> atTime(LocalTime localTime) {
         return (ChronoLocalDateTime<JapaneseDate>)super.atTime(localTime);
     }
 
-    @Override
-    public ChronoPeriod until(ChronoLocalDate endDate) {
-        Period period = isoDate.until(endDate);
-        return getChronology().period(period.getYears(), period.getMonths(), period.getDays());
-    }
-
-    @Override  // override for performance
-    public long toEpochDay() {
-        return isoDate.toEpochDay();
-    }
-
-    //-------------------------------------------------------------------------
-    @Override  // override for performance
-    public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (obj instanceof JapaneseDate) {
-            JapaneseDate otherDate = (JapaneseDate) obj;
-            return this.isoDate.equals(otherDate.isoDate);
-        }
-        return false;
-    }
-
-    @Override  // override for performance
-    public int hashCode() {
-        return getChronology().getId().hashCode() ^ isoDate.hashCode();
-    }
-
     //-----------------------------------------------------------------------
     private Object writeReplace() {
         return new Ser(Ser.JAPANESE_DATE_TYPE, this);
@@ -96,7 +96,7 @@ public final class JapaneseEra
 
     // the number of defined JapaneseEra constants.
     // There could be an extra era defined in its configuration.
-    private static final int N_ERA_CONSTANTS = HEISEI.getValue() + ERA_OFFSET + 1;
+    private static final int N_ERA_CONSTANTS = HEISEI.getValue() + ERA_OFFSET;
 
     /**
      * Serialization version.
@@ -105,6 +105,8 @@ public final class JapaneseEra
 
     // array for the singleton JapaneseEra instances
     private static final JapaneseEra[] KNOWN_ERAS;
+    // the epoch-day of the first day of each era, sorted in the same order as KNOWN_ERAS
+    private static final long[] ERA_START_EPOCH_DAYS;
 
     static {
         LocalGregorianCalendar jcal = (LocalGregorianCalendar) CalendarSystem.forName("japanese");
@@ -118,7 +120,11 @@ public final class JapaneseEra
         for (int i = N_ERA_CONSTANTS; i < ERA_CONFIG.length; i++) {
             CalendarDate date = ERA_CONFIG[i].getSinceDate();
             LocalDate isoDate = LocalDate.of(date.getYear(), date.getMonth(), date.getDayOfMonth());
-            KNOWN_ERAS[i] = new JapaneseEra(i - ERA_OFFSET, isoDate);
+            KNOWN_ERAS[i] = new JapaneseEra(i - ERA_OFFSET + 1, isoDate);
+        }
+        ERA_START_EPOCH_DAYS = new long[KNOWN_ERAS.length];
+        for (int i = 0; i < KNOWN_ERAS.length; i++) {
+            ERA_START_EPOCH_DAYS[i] = KNOWN_ERAS[i].since.toEpochDay();
         }
     };
 
@@ -233,16 +239,47 @@ public final class JapaneseEra
      * @return the Era singleton, never null
      */
     static JapaneseEra from(LocalDate date) {
-        if (date.isBefore(MEIJI.since)) {
-            throw new DateTimeException("Date too early: " + date);
+        return KNOWN_ERAS[eraIndex(date.toEpochDay())];
+    }
+
+    /**
+     * Obtains an instance of {@code JapaneseEra} from an epoch-day.
+     * <p>
+     * The era of an adjacent date is passed as a hint and checked first,
+     * which avoids searching when iterating through a range of dates.
+     *
+     * @param epochDay  the epoch-day
+     * @param hint  the era to check first, null if none
+     * @return the Era singleton, never null
+     * @throws DateTimeException if the date is before the Meiji era
+     */
+    static JapaneseEra from(long epochDay, JapaneseEra hint) {
+        if (hint != null) {
+            int index = ordinal(hint.eraValue);
+            if (epochDay >= ERA_START_EPOCH_DAYS[index] &&
+                    (index == ERA_START_EPOCH_DAYS.length - 1 || epochDay < ERA_START_EPOCH_DAYS[index + 1])) {
+                return hint;
+            }
         }
-        for (int i = KNOWN_ERAS.length - 1; i >= 0; i--) {
-            JapaneseEra era = KNOWN_ERAS[i];
-            if (date.compareTo(era.since) >= 0) {
-                return era;
+        return KNOWN_ERAS[eraIndex(epochDay)];
+    }
+
+    /**
+     * Finds the index of the era containing the epoch-day.
+     *
+     * @param epochDay  the epoch-day
+     * @return the index into the arrays
+     * @throws DateTimeException if the date is before the Meiji era
+     */
+    private static int eraIndex(long epochDay) {
+        int index = Arrays.binarySearch(ERA_START_EPOCH_DAYS, epochDay);
+        if (index < 0) {
+            index = -index - 2;
+            if (index < 0) {
+                throw new DateTimeException("Date too early: " + LocalDate.ofEpochDay(epochDay));
             }
         }
-        return null;
+        return index;
     }
 
     static JapaneseEra toJapaneseEra(sun.util.calendar.Era privateEra) {
@@ -255,16 +292,7 @@ public final class JapaneseEra
     }
 
     static sun.util.calendar.Era privateEraFrom(LocalDate isoDate) {
-        if (isoDate.isBefore(MEIJI.since)) {
-            throw new DateTimeException("Date too early: " + isoDate);
-        }
-        for (int i = KNOWN_ERAS.length - 1; i >= 0; i--) {
-            JapaneseEra era = KNOWN_ERAS[i];
-            if (isoDate.compareTo(era.since) >= 0) {
-                return ERA_CONFIG[i];
-            }
-        }
-        return null;
+        return ERA_CONFIG[eraIndex(isoDate.toEpochDay())];
     }
 
     /**
@@ -273,7 +301,7 @@ public final class JapaneseEra
      * @param eraValue the era value to convert to the index
      * @return the index of the current Era
      */
-    private static int ordinal(int eraValue) {
+    static int ordinal(int eraValue) {
         return eraValue + ERA_OFFSET - 1;
     }
 
@@ -290,12 +318,23 @@ public final class JapaneseEra
      * @return the start date
      */
     LocalDate endDate() {
-        int ordinal = ordinal(eraValue);
-        JapaneseEra[] eras = values();
-        if (ordinal >= eras.length - 1) {
+        LocalDate nextStart = nextStartDate();
+        if (nextStart == null) {
             return LocalDate.MAX;
         }
-        return eras[ordinal + 1].startDate().minusDays(1);
+        return nextStart.minusDays(1);
+    }
+
+    /**
+     * Returns the start date of the following era.
+     * @return the start date of the next era, null if this is the latest era
+     */
+    LocalDate nextStartDate() {
+        int ordinal = ordinal(eraValue);
+        if (ordinal >= KNOWN_ERAS.length - 1) {
+            return null;
+        }
+        return KNOWN_ERAS[ordinal + 1].startDate();
     }
 
     //-----------------------------------------------------------------------
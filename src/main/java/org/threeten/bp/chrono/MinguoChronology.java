@@ -56,6 +56,7 @@ import java.util.Locale;
 import java.util.Map;
 
 import org.threeten.bp.Clock;
+import org.threeten.bp.DateTimeColumns;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.DayOfWeek;
 import org.threeten.bp.Instant;
@@ -109,6 +110,29 @@ public final class MinguoChronology extends Chronology implements Serializable {
      * The difference in years between ISO and Minguo.
      */
     static final int YEARS_DIFFERENCE = 1911;
+    /**
+     * The range of proleptic-month.
+     */
+    private static final ValueRange PROLEPTIC_MONTH_RANGE = ValueRange.of(
+            PROLEPTIC_MONTH.range().getMinimum() - YEARS_DIFFERENCE * 12L, PROLEPTIC_MONTH.range().getMaximum() - YEARS_DIFFERENCE * 12L);
+    /**
+     * The range of year-of-era.
+     */
+    private static final ValueRange YEAR_OF_ERA_RANGE = ValueRange.of(
+            1, YEAR.range().getMaximum() - YEARS_DIFFERENCE, -YEAR.range().getMinimum() + 1 + YEARS_DIFFERENCE);
+    /**
+     * The range of proleptic-year.
+     */
+    private static final ValueRange YEAR_RANGE = ValueRange.of(
+            YEAR.range().getMinimum() - YEARS_DIFFERENCE, YEAR.range().getMaximum() - YEARS_DIFFERENCE);
+    /**
+     * The range of year-of-era of a date in the ROC era.
+     */
+    static final ValueRange ROC_YEAR_OF_ERA_RANGE = ValueRange.of(1, YEAR.range().getMaximum() - YEARS_DIFFERENCE);
+    /**
+     * The range of year-of-era of a date before the ROC era.
+     */
+    static final ValueRange BEFORE_ROC_YEAR_OF_ERA_RANGE = ValueRange.of(1, -YEAR.range().getMinimum() + 1 + YEARS_DIFFERENCE);
 
     /**
      * Restricted constructor.
@@ -183,6 +207,23 @@ public final class MinguoChronology extends Chronology implements Serializable {
         return new MinguoDate(LocalDate.ofEpochDay(epochDay));
     }
 
+    @Override
+    public void epochDaysToYearMonthDay(long[] epochDays, int[] prolepticYears, int[] months, int[] days) {
+        DateTimeColumns.epochDaysToYearMonthDay(epochDays, prolepticYears, months, days);
+        for (int i = 0; i < epochDays.length; i++) {
+            prolepticYears[i] -= YEARS_DIFFERENCE;
+        }
+    }
+
+    @Override
+    public void yearMonthDayToEpochDays(int[] prolepticYears, int[] months, int[] days, long[] epochDays) {
+        int[] isoYears = new int[prolepticYears.length];
+        for (int i = 0; i < isoYears.length; i++) {
+            isoYears[i] = prolepticYears[i] + YEARS_DIFFERENCE;
+        }
+        DateTimeColumns.yearMonthDayToEpochDays(isoYears, months, days, epochDays);
+    }
+
     //-----------------------------------------------------------------------
     @Override  // override with covariant return type
     public MinguoDate date(TemporalAccessor temporal) {
@@ -265,18 +306,12 @@ public final class MinguoChronology extends Chronology implements Serializable {
     @Override
     public ValueRange range(ChronoField field) {
         switch (field) {
-            case PROLEPTIC_MONTH: {
-                ValueRange range = PROLEPTIC_MONTH.range();
-                return ValueRange.of(range.getMinimum() - YEARS_DIFFERENCE * 12L, range.getMaximum() - YEARS_DIFFERENCE * 12L);
-            }
-            case YEAR_OF_ERA: {
-                ValueRange range = YEAR.range();
-                return ValueRange.of(1, range.getMaximum() - YEARS_DIFFERENCE, -range.getMinimum() + 1 + YEARS_DIFFERENCE);
-            }
-            case YEAR: {
-                ValueRange range = YEAR.range();
-                return ValueRange.of(range.getMinimum() - YEARS_DIFFERENCE, range.getMaximum() - YEARS_DIFFERENCE);
-            }
+            case PROLEPTIC_MONTH:
+                return PROLEPTIC_MONTH_RANGE;
+            case YEAR_OF_ERA:
+                return YEAR_OF_ERA_RANGE;
+            case YEAR:
+                return YEAR_RANGE;
         }
         return field.range();
     }
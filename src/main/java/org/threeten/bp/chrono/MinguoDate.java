@@ -45,7 +45,6 @@ import org.threeten.bp.Clock;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalTime;
-import org.threeten.bp.Period;
 import org.threeten.bp.ZoneId;
 import org.threeten.bp.jdk8.Jdk8Methods;
 import org.threeten.bp.temporal.ChronoField;
@@ -69,7 +68,7 @@ import org.threeten.bp.temporal.ValueRange;
  * This class is immutable and thread-safe.
  */
 public final class MinguoDate
-        extends ChronoDateImpl<MinguoDate>
+        extends ChronoIsoDateImpl<MinguoDate>
         implements Serializable {
 
     /**
@@ -77,11 +76,6 @@ public final class MinguoDate
      */
     private static final long serialVersionUID = 1300372329181994526L;
 
-    /**
-     * The underlying date.
-     */
-    private final LocalDate isoDate;
-
     //-----------------------------------------------------------------------
     /**
      * Obtains the current {@code MinguoDate} from the system clock in the default time-zone.
@@ -175,8 +169,23 @@ public final class MinguoDate
      * @param isoDate  the standard local date, validated not null
      */
     MinguoDate(LocalDate date) {
-        Jdk8Methods.requireNonNull(date, "date");
-        this.isoDate = date;
+        this(Jdk8Methods.requireNonNull(date, "date").getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * Creates an instance from a valid ISO year, month and day.
+     *
+     * @param isoYear  the ISO year, validated
+     * @param isoMonth  the ISO month-of-year, validated
+     * @param isoDay  the ISO day-of-month, valid for the year and month
+     */
+    MinguoDate(int isoYear, int isoMonth, int isoDay) {
+        super(isoYear, isoMonth, isoDay);
+    }
+
+    @Override
+    MinguoDate create(int isoYear, int isoMonth, int isoDay) {
+        return new MinguoDate(isoYear, isoMonth, isoDay);
     }
 
     //-----------------------------------------------------------------------
@@ -190,11 +199,6 @@ public final class MinguoDate
         return (MinguoEra) super.getEra();
     }
 
-    @Override
-    public int lengthOfMonth() {
-        return isoDate.lengthOfMonth();
-    }
-
     @Override
     public ValueRange range(TemporalField field) {
         if (field instanceof ChronoField) {
@@ -204,12 +208,10 @@ public final class MinguoDate
                     case DAY_OF_MONTH:
                     case DAY_OF_YEAR:
                     case ALIGNED_WEEK_OF_MONTH:
-                        return isoDate.range(field);
-                    case YEAR_OF_ERA: {
-                        ValueRange range = YEAR.range();
-                        long max = (getProlepticYear() <= 0 ? -range.getMinimum() + 1 + YEARS_DIFFERENCE : range.getMaximum() - YEARS_DIFFERENCE);
-                        return ValueRange.of(1, max);
-                    }
+                        return isoRange(f);
+                    case YEAR_OF_ERA:
+                        return (getProlepticYear() <= 0 ?
+                                MinguoChronology.BEFORE_ROC_YEAR_OF_ERA_RANGE : MinguoChronology.ROC_YEAR_OF_ERA_RANGE);
                 }
                 return getChronology().range(f);
             }
@@ -233,17 +235,17 @@ public final class MinguoDate
                 case ERA:
                     return (getProlepticYear() >= 1 ? 1 : 0);
             }
-            return isoDate.getLong(field);
+            return isoGetLong((ChronoField) field);
         }
         return field.getFrom(this);
     }
 
     private long getProlepticMonth() {
-        return getProlepticYear() * 12L + isoDate.getMonthValue() - 1;
+        return getProlepticYear() * 12L + isoMonth - 1;
     }
 
     private int getProlepticYear() {
-        return isoDate.getYear() - YEARS_DIFFERENCE;
+        return isoYear - YEARS_DIFFERENCE;
     }
 
     //-----------------------------------------------------------------------
@@ -269,15 +271,15 @@ public final class MinguoDate
                     int nvalue = getChronology().range(f).checkValidIntValue(newValue, f);
                     switch (f) {
                         case YEAR_OF_ERA:
-                            return with(isoDate.withYear(getProlepticYear() >= 1 ? nvalue + YEARS_DIFFERENCE : (1 - nvalue)  + YEARS_DIFFERENCE));
+                            return withIsoYear(getProlepticYear() >= 1 ? nvalue + YEARS_DIFFERENCE : (1 - nvalue)  + YEARS_DIFFERENCE);
                         case YEAR:
-                            return with(isoDate.withYear(nvalue + YEARS_DIFFERENCE));
+                            return withIsoYear(nvalue + YEARS_DIFFERENCE);
                         case ERA:
-                            return with(isoDate.withYear((1 - getProlepticYear()) + YEARS_DIFFERENCE));
+                            return withIsoYear((1 - getProlepticYear()) + YEARS_DIFFERENCE);
                     }
                 }
             }
-            return with(isoDate.with(field, newValue));
+            return isoWith(f, newValue);
         }
         return field.adjustInto(this, newValue);
     }
@@ -303,60 +305,12 @@ public final class MinguoDate
     }
 
     //-----------------------------------------------------------------------
-    @Override
-    MinguoDate plusYears(long years) {
-        return with(isoDate.plusYears(years));
-    }
-
-    @Override
-    MinguoDate plusMonths(long months) {
-        return with(isoDate.plusMonths(months));
-    }
-
-    @Override
-    MinguoDate plusDays(long days) {
-        return with(isoDate.plusDays(days));
-    }
-
-    private MinguoDate with(LocalDate newDate) {
-        return (newDate.equals(isoDate) ? this : new MinguoDate(newDate));
-    }
-
     @Override
     @SuppressWarnings("unchecked")
     public final ChronoLocalDateTime<MinguoDate> atTime(LocalTime localTime) {
         return (ChronoLocalDateTime<MinguoDate>) super.atTime(localTime);
     }
 
-    @Override
-    public ChronoPeriod until(ChronoLocalDate endDate) {
-        Period period = isoDate.until(endDate);
-        return getChronology().period(period.getYears(), period.getMonths(), period.getDays());
-    }
-
-    @Override  // override for performance
-    public long toEpochDay() {
-        return isoDate.toEpochDay();
-    }
-
-    //-------------------------------------------------------------------------
-    @Override  // override for performance
-    public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (obj instanceof MinguoDate) {
-            MinguoDate otherDate = (MinguoDate) obj;
-            return this.isoDate.equals(otherDate.isoDate);
-        }
-        return false;
-    }
-
-    @Override  // override for performance
-    public int hashCode() {
-        return getChronology().getId().hashCode() ^ isoDate.hashCode();
-    }
-
     //-----------------------------------------------------------------------
     private Object writeReplace() {
         return new Ser(Ser.MINGUO_DATE_TYPE, this);
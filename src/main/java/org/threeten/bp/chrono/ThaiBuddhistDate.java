@@ -45,7 +45,6 @@ import org.threeten.bp.Clock;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalTime;
-import org.threeten.bp.Period;
 import org.threeten.bp.ZoneId;
 import org.threeten.bp.jdk8.Jdk8Methods;
 import org.threeten.bp.temporal.ChronoField;
@@ -69,7 +68,7 @@ import org.threeten.bp.temporal.ValueRange;
  * This class is immutable and thread-safe.
  */
 public final class ThaiBuddhistDate
-        extends ChronoDateImpl<ThaiBuddhistDate>
+        extends ChronoIsoDateImpl<ThaiBuddhistDate>
         implements Serializable {
 
     /**
@@ -77,11 +76,6 @@ public final class ThaiBuddhistDate
      */
     private static final long serialVersionUID = -8722293800195731463L;
 
-    /**
-     * The underlying date.
-     */
-    private final LocalDate isoDate;
-
     //-----------------------------------------------------------------------
     /**
      * Obtains the current {@code ThaiBuddhistDate} from the system clock in the default time-zone.
@@ -175,8 +169,23 @@ public final class ThaiBuddhistDate
      * @param isoDate  the standard local date, validated not null
      */
     ThaiBuddhistDate(LocalDate date) {
-        Jdk8Methods.requireNonNull(date, "date");
-        this.isoDate = date;
+        this(Jdk8Methods.requireNonNull(date, "date").getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * Creates an instance from a valid ISO year, month and day.
+     *
+     * @param isoYear  the ISO year, validated
+     * @param isoMonth  the ISO month-of-year, validated
+     * @param isoDay  the ISO day-of-month, valid for the year and month
+     */
+    ThaiBuddhistDate(int isoYear, int isoMonth, int isoDay) {
+        super(isoYear, isoMonth, isoDay);
+    }
+
+    @Override
+    ThaiBuddhistDate create(int isoYear, int isoMonth, int isoDay) {
+        return new ThaiBuddhistDate(isoYear, isoMonth, isoDay);
     }
 
     //-----------------------------------------------------------------------
@@ -190,11 +199,6 @@ public final class ThaiBuddhistDate
         return (ThaiBuddhistEra) super.getEra();
     }
 
-    @Override
-    public int lengthOfMonth() {
-        return isoDate.lengthOfMonth();
-    }
-
     @Override
     public ValueRange range(TemporalField field) {
         if (field instanceof ChronoField) {
@@ -204,12 +208,10 @@ public final class ThaiBuddhistDate
                     case DAY_OF_MONTH:
                     case DAY_OF_YEAR:
                     case ALIGNED_WEEK_OF_MONTH:
-                        return isoDate.range(field);
-                    case YEAR_OF_ERA: {
-                        ValueRange range = YEAR.range();
-                        long max = (getProlepticYear() <= 0 ? -(range.getMinimum() + YEARS_DIFFERENCE) + 1 : range.getMaximum() + YEARS_DIFFERENCE);
-                        return ValueRange.of(1, max);
-                    }
+                        return isoRange(f);
+                    case YEAR_OF_ERA:
+                        return (getProlepticYear() <= 0 ?
+                                ThaiBuddhistChronology.BEFORE_BE_YEAR_OF_ERA_RANGE : ThaiBuddhistChronology.BE_YEAR_OF_ERA_RANGE);
                 }
                 return getChronology().range(f);
             }
@@ -233,17 +235,17 @@ public final class ThaiBuddhistDate
                 case ERA:
                     return (getProlepticYear() >= 1 ? 1 : 0);
             }
-            return isoDate.getLong(field);
+            return isoGetLong((ChronoField) field);
         }
         return field.getFrom(this);
     }
 
     private long getProlepticMonth() {
-        return getProlepticYear() * 12L + isoDate.getMonthValue() - 1;
+        return getProlepticYear() * 12L + isoMonth - 1;
     }
 
     private int getProlepticYear() {
-        return isoDate.getYear() + YEARS_DIFFERENCE;
+        return isoYear + YEARS_DIFFERENCE;
     }
 
     //-----------------------------------------------------------------------
@@ -269,15 +271,15 @@ public final class ThaiBuddhistDate
                     int nvalue = getChronology().range(f).checkValidIntValue(newValue, f);
                     switch (f) {
                         case YEAR_OF_ERA:
-                            return with(isoDate.withYear((getProlepticYear() >= 1 ? nvalue : 1 - nvalue)  - YEARS_DIFFERENCE));
+                            return withIsoYear((getProlepticYear() >= 1 ? nvalue : 1 - nvalue)  - YEARS_DIFFERENCE);
                         case YEAR:
-                            return with(isoDate.withYear(nvalue - YEARS_DIFFERENCE));
+                            return withIsoYear(nvalue - YEARS_DIFFERENCE);
                         case ERA:
-                            return with(isoDate.withYear((1 - getProlepticYear()) - YEARS_DIFFERENCE));
+                            return withIsoYear((1 - getProlepticYear()) - YEARS_DIFFERENCE);
                     }
                 }
             }
-            return with(isoDate.with(field, newValue));
+            return isoWith(f, newValue);
         }
         return field.adjustInto(this, newValue);
     }
@@ -303,60 +305,12 @@ public final class ThaiBuddhistDate
     }
 
     //-----------------------------------------------------------------------
-    @Override
-    ThaiBuddhistDate plusYears(long years) {
-        return with(isoDate.plusYears(years));
-    }
-
-    @Override
-    ThaiBuddhistDate plusMonths(long months) {
-        return with(isoDate.plusMonths(months));
-    }
-
-    @Override
-    ThaiBuddhistDate plusDays(long days) {
-        return with(isoDate.plusDays(days));
-    }
-
-    private ThaiBuddhistDate with(LocalDate newDate) {
-        return (newDate.equals(isoDate) ? this : new ThaiBuddhistDate(newDate));
-    }
-
     @Override
     @SuppressWarnings("unchecked")
     public final ChronoLocalDateTime<ThaiBuddhistDate> atTime(LocalTime localTime) {
         return (ChronoLocalDateTime<ThaiBuddhistDate>) super.atTime(localTime);
     }
 
-    @Override
-    public ChronoPeriod until(ChronoLocalDate endDate) {
-        Period period = isoDate.until(endDate);
-        return getChronology().period(period.getYears(), period.getMonths(), period.getDays());
-    }
-
-    @Override  // override for performance
-    public long toEpochDay() {
-        return isoDate.toEpochDay();
-    }
-
-    //-------------------------------------------------------------------------
-    @Override  // override for performance
-    public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (obj instanceof ThaiBuddhistDate) {
-            ThaiBuddhistDate otherDate = (ThaiBuddhistDate) obj;
-            return this.isoDate.equals(otherDate.isoDate);
-        }
-        return false;
-    }
-
-    @Override  // override for performance
-    public int hashCode() {
-        return getChronology().getId().hashCode() ^ isoDate.hashCode();
-    }
-
     //-----------------------------------------------------------------------
     private Object writeReplace() {
         return new Ser(Ser.THAIBUDDHIST_DATE_TYPE, this);
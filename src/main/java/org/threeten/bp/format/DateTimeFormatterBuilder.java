@@ -62,6 +62,8 @@ import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.Instant;
@@ -733,6 +735,10 @@ public final class DateTimeFormatterBuilder {
             public Iterator<Entry<String, Long>> getTextIterator(TemporalField field, TextStyle style, Locale locale) {
                 return store.getTextIterator(style);
             }
+            @Override
+            PrefixTree<Long> getTextTree(TemporalField field, TextStyle style, Locale locale) {
+                return store.getTextTree(style);
+            }
         };
         appendInternal(new TextPrinterParser(field, TextStyle.FULL, provider));
         return this;
@@ -2869,6 +2875,17 @@ public final class DateTimeFormatterBuilder {
                 throw new IndexOutOfBoundsException();
             }
             TextStyle style = (context.isStrict() ? textStyle : null);
+            PrefixTree<Long> tree = provider.getTextTree(field, style, context.getLocale());
+            if (tree != null) {
+                PrefixTree<Long> match = tree.match(parseText, position, context.isCaseSensitive());
+                if (match != null) {
+                    return context.setParsedField(field, match.getValue(), position, position + match.getLength());
+                }
+                if (context.isStrict()) {
+                    return ~position;
+                }
+                return numberPrinterParser().parse(context, parseText, position);
+            }
             Iterator<Entry<String, Long>> it = provider.getTextIterator(field, style, context.getLocale());
             if (it != null) {
                 while (it.hasNext()) {
@@ -3673,6 +3690,17 @@ public final class DateTimeFormatterBuilder {
      * Prints or parses a chronology.
      */
     static final class ChronoPrinterParser implements DateTimePrinterParser {
+        /**
+         * The cache of chronology names by locale, keyed by chronology ID.
+         */
+        private static final ConcurrentMap<Locale, Map<String, String>> NAMES =
+                new ConcurrentHashMap<Locale, Map<String, String>>(16, 0.75f, 2);
+        /**
+         * The cached tree of chronology IDs to speed up parsing.
+         * The available chronologies are fixed once they have been loaded.
+         */
+        private static volatile PrefixTree<Chronology> cachedIdTree;
+
         /** The text style to output, null means the ID. */
         private final TextStyle textStyle;
 
@@ -3690,40 +3718,61 @@ public final class DateTimeFormatterBuilder {
             if (textStyle == null) {
                 buf.append(chrono.getId());
             } else {
-                ResourceBundle bundle = ResourceBundle.getBundle(
-                        "org.threeten.bp.format.ChronologyText", context.getLocale(), DateTimeFormatterBuilder.class.getClassLoader());
-                try {
-                    String text = bundle.getString(chrono.getId());
-                    buf.append(text);
-                } catch (MissingResourceException ex) {
-                    buf.append(chrono.getId());
-                }
+                String text = names(context.getLocale()).get(chrono.getId());
+                buf.append(text != null ? text : lookupName(chrono.getId(), context.getLocale()));
             }
             return true;
         }
 
+        /**
+         * Gets the names of the available chronologies in the locale.
+         *
+         * @param locale  the locale, not null
+         * @return the unmodifiable map of chronology ID to name, not null
+         */
+        private static Map<String, String> names(Locale locale) {
+            Map<String, String> names = NAMES.get(locale);
+            if (names == null) {
+                Map<String, String> map = new HashMap<String, String>();
+                for (Chronology chrono : Chronology.getAvailableChronologies()) {
+                    map.put(chrono.getId(), lookupName(chrono.getId(), locale));
+                }
+                NAMES.putIfAbsent(locale, Collections.unmodifiableMap(map));
+                names = NAMES.get(locale);
+            }
+            return names;
+        }
+
+        private static String lookupName(String id, Locale locale) {
+            ResourceBundle bundle = ResourceBundle.getBundle(
+                    "org.threeten.bp.format.ChronologyText", locale, DateTimeFormatterBuilder.class.getClassLoader());
+            try {
+                return bundle.getString(id);
+            } catch (MissingResourceException ex) {
+                return id;
+            }
+        }
+
         @Override
         public int parse(DateTimeParseContext context, CharSequence text, int position) {
-            // simple looping parser to find the chronology
+            // longest match of the chronology ID
             if (position < 0 || position > text.length()) {
                 throw new IndexOutOfBoundsException();
             }
-            Set<Chronology> chronos = Chronology.getAvailableChronologies();
-            Chronology bestMatch = null;
-            int matchLen = -1;
-            for (Chronology chrono : chronos) {
-                String id = chrono.getId();
-                int idLen = id.length();
-                if (idLen > matchLen && context.subSequenceEquals(text, position, id, 0, idLen)) {
-                    bestMatch = chrono;
-                    matchLen = idLen;
+            PrefixTree<Chronology> tree = cachedIdTree;
+            if (tree == null) {
+                Map<String, Chronology> ids = new HashMap<String, Chronology>();
+                for (Chronology chrono : Chronology.getAvailableChronologies()) {
+                    ids.put(chrono.getId(), chrono);
                 }
+                cachedIdTree = tree = PrefixTree.of(ids);
             }
-            if (bestMatch == null) {
+            PrefixTree<Chronology> match = tree.match(text, position, context.isCaseSensitive());
+            if (match == null) {
                 return ~position;
             }
-            context.setParsed(bestMatch);
-            return position + matchLen;
+            context.setParsed(match.getValue());
+            return position + match.getLength();
         }
     }
 
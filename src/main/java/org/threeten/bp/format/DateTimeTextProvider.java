@@ -100,4 +100,22 @@ abstract class DateTimeTextProvider {
      */
     public abstract Iterator<Entry<String, Long>> getTextIterator(TemporalField field, TextStyle style, Locale locale);
 
+    /**
+     * Gets a tree of text to field for the specified field, locale and style
+     * for the purpose of parsing.
+     * <p>
+     * The tree holds the same text as {@link #getTextIterator}, allowing the longest
+     * matching text to be found without comparing each text in turn.
+     * The null return value means that {@code getTextIterator} must be used instead.
+     * This implementation returns null.
+     *
+     * @param field  the field to get text for, not null
+     * @param style  the style to get text for, null for all parsable text
+     * @param locale  the locale to get text for, not null
+     * @return the tree of text to field values, null if not available
+     */
+    PrefixTree<Long> getTextTree(TemporalField field, TextStyle style, Locale locale) {
+        return null;
+    }
+
 }
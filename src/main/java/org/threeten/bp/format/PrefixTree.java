@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable tree of text keys, used to find the longest key matching parsed text.
+ * <p>
+ * Each node holds the characters leading to its children, sorted, and the value of the key
+ * that ends at the node, if any. Matching walks the text one character at a time, so the
+ * cost depends on the length of the matched text rather than the number of keys.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ *
+ * @param <V> the type of the values
+ */
+final class PrefixTree<V> {
+
+    /**
+     * The characters leading to the child nodes, sorted.
+     */
+    private final char[] chars;
+    /**
+     * The child nodes, in the same order as the characters.
+     */
+    private final PrefixTree<V>[] children;
+    /**
+     * The value of the key ending at this node, null if none.
+     */
+    private final V value;
+    /**
+     * The length of the keys ending at this node.
+     */
+    private final int length;
+
+    /**
+     * Obtains a tree of the specified keys.
+     *
+     * @param <V> the type of the values
+     * @param entries  the map of keys to values, not null, values not null
+     * @return the tree, not null
+     */
+    static <V> PrefixTree<V> of(Map<String, V> entries) {
+        TreeMap<String, V> sorted = new TreeMap<String, V>(entries);
+        List<String> keys = new ArrayList<String>(sorted.keySet());
+        List<V> values = new ArrayList<V>(sorted.values());
+        return build(keys, values, 0, keys.size(), 0);
+    }
+
+    private static <V> PrefixTree<V> build(List<String> keys, List<V> values, int from, int to, int length) {
+        // the keys in the range share a prefix of the length, and a key equal to the prefix sorts first
+        V value = null;
+        if (from < to && keys.get(from).length() == length) {
+            value = values.get(from);
+            from++;
+        }
+        List<Character> chars = new ArrayList<Character>();
+        List<PrefixTree<V>> children = new ArrayList<PrefixTree<V>>();
+        int start = from;
+        while (start < to) {
+            char ch = keys.get(start).charAt(length);
+            int end = start + 1;
+            while (end < to && keys.get(end).charAt(length) == ch) {
+                end++;
+            }
+            chars.add(ch);
+            children.add(build(keys, values, start, end, length + 1));
+            start = end;
+        }
+        return new PrefixTree<V>(chars, children, value, length);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private PrefixTree(List<Character> chars, List<PrefixTree<V>> children, V value, int length) {
+        this.chars = new char[chars.size()];
+        for (int i = 0; i < this.chars.length; i++) {
+            this.chars[i] = chars.get(i);
+        }
+        this.children = children.toArray(new PrefixTree[children.size()]);
+        this.value = value;
+        this.length = length;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value of the key ending at this node.
+     *
+     * @return the value, null if no key ends at this node
+     */
+    V getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the length of the key ending at this node.
+     *
+     * @return the length of the key
+     */
+    int getLength() {
+        return length;
+    }
+
+    /**
+     * Finds the longest key that matches the text at the specified position.
+     * <p>
+     * Characters are compared as by {@link DateTimeParseContext#subSequenceEquals}.
+     *
+     * @param text  the text to match, not null
+     * @param position  the position to match from, valid
+     * @param caseSensitive  whether to match the case of the characters
+     * @return the node of the longest matching key, null if no key matches
+     */
+    PrefixTree<V> match(CharSequence text, int position, boolean caseSensitive) {
+        PrefixTree<V> best = (value != null ? this : null);
+        int pos = position + length;
+        if (pos >= text.length()) {
+            return best;
+        }
+        char ch = text.charAt(pos);
+        if (caseSensitive) {
+            int index = Arrays.binarySearch(chars, ch);
+            if (index >= 0) {
+                PrefixTree<V> match = children[index].match(text, position, true);
+                if (match != null) {
+                    best = match;
+                }
+            }
+        } else {
+            for (int i = 0; i < chars.length; i++) {
+                if (DateTimeParseContext.charEqualsIgnoreCase(chars[i], ch)) {
+                    PrefixTree<V> match = children[i].match(text, position, false);
+                    if (match != null && (best == null || match.length > best.length)) {
+                        best = match;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+}
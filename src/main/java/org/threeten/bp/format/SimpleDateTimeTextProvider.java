@@ -66,9 +66,9 @@ import org.threeten.bp.temporal.TemporalField;
 final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
      // TODO: Better implementation based on CLDR
 
-    /** Cache. */
-    private static final ConcurrentMap<Entry<TemporalField, Locale>, Object> CACHE =
-        new ConcurrentHashMap<Entry<TemporalField, Locale>, Object>(16, 0.75f, 2);
+    /** Cache, by field and then by locale. */
+    private static final ConcurrentMap<TemporalField, ConcurrentMap<Locale, Object>> CACHE =
+        new ConcurrentHashMap<TemporalField, ConcurrentMap<Locale, Object>>(16, 0.75f, 2);
     /** Comparator. */
     private static final Comparator<Entry<String, Long>> COMPARATOR = new Comparator<Entry<String, Long>>() {
         @Override
@@ -103,14 +103,27 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
         return null;
     }
 
+    @Override
+    PrefixTree<Long> getTextTree(TemporalField field, TextStyle style, Locale locale) {
+        Object store = findStore(field, locale);
+        if (store instanceof LocaleStore) {
+            return ((LocaleStore) store).getTextTree(style);
+        }
+        return null;
+    }
+
     //-----------------------------------------------------------------------
     private Object findStore(TemporalField field, Locale locale) {
-        Entry<TemporalField, Locale> key = createEntry(field, locale);
-        Object store = CACHE.get(key);
+        ConcurrentMap<Locale, Object> byLocale = CACHE.get(field);
+        if (byLocale == null) {
+            CACHE.putIfAbsent(field, new ConcurrentHashMap<Locale, Object>(16, 0.75f, 2));
+            byLocale = CACHE.get(field);
+        }
+        Object store = byLocale.get(locale);
         if (store == null) {
             store = createStore(field, locale);
-            CACHE.putIfAbsent(key, store);
-            store = CACHE.get(key);
+            byLocale.putIfAbsent(locale, store);
+            store = byLocale.get(locale);
         }
         return store;
     }
@@ -308,14 +321,31 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
      * This class is immutable and thread-safe.
      */
     static final class LocaleStore {
+        /**
+         * The largest span of values held in arrays rather than maps.
+         */
+        private static final int MAX_ARRAY_SPAN = 256;
         /**
          * Map of value to text.
          */
         private final Map<TextStyle, Map<Long, String>> valueTextMap;
+        /**
+         * The smallest value with text, used to index the arrays.
+         */
+        private final long minValue;
+        /**
+         * Array of text indexed by style ordinal and then value minus the smallest value,
+         * null if the values span too wide a range to be held in arrays.
+         */
+        private final String[][] valueTextArrays;
         /**
          * Parsable data.
          */
         private final Map<TextStyle, List<Entry<String, Long>>> parsable;
+        /**
+         * Parsable data as trees, matching the longest text first.
+         */
+        private final Map<TextStyle, PrefixTree<Long>> parsableTrees;
 
         //-----------------------------------------------------------------------
         /**
@@ -325,6 +355,27 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
          */
         LocaleStore(Map<TextStyle, Map<Long, String>> valueTextMap) {
             this.valueTextMap = valueTextMap;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (Map<Long, String> styleMap : valueTextMap.values()) {
+                for (Long value : styleMap.keySet()) {
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+            }
+            String[][] arrays = null;
+            if (min <= max && max - min < MAX_ARRAY_SPAN) {
+                arrays = new String[TextStyle.values().length][];
+                for (Map.Entry<TextStyle, Map<Long, String>> styleEntry : valueTextMap.entrySet()) {
+                    String[] array = new String[(int) (max - min + 1)];
+                    for (Map.Entry<Long, String> entry : styleEntry.getValue().entrySet()) {
+                        array[(int) (entry.getKey() - min)] = entry.getValue();
+                    }
+                    arrays[styleEntry.getKey().ordinal()] = array;
+                }
+            }
+            this.minValue = min;
+            this.valueTextArrays = arrays;
             Map<TextStyle, List<Entry<String, Long>>> map = new HashMap<TextStyle, List<Entry<String,Long>>>();
             List<Entry<String, Long>> allList = new ArrayList<Map.Entry<String,Long>>();
             for (TextStyle style : valueTextMap.keySet()) {
@@ -342,6 +393,17 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             }
             Collections.sort(allList, COMPARATOR);
             this.parsable = map;
+            Map<TextStyle, PrefixTree<Long>> trees = new HashMap<TextStyle, PrefixTree<Long>>();
+            for (Map.Entry<TextStyle, List<Entry<String, Long>>> styleEntry : map.entrySet()) {
+                Map<String, Long> textMap = new HashMap<String, Long>();
+                for (Entry<String, Long> entry : styleEntry.getValue()) {
+                    if (textMap.containsKey(entry.getKey()) == false) {
+                        textMap.put(entry.getKey(), entry.getValue());  // first text in iteration order wins
+                    }
+                }
+                trees.put(styleEntry.getKey(), PrefixTree.of(textMap));
+            }
+            this.parsableTrees = trees;
         }
 
         //-----------------------------------------------------------------------
@@ -354,6 +416,11 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
          * @return the text for the field value, null if no text found
          */
         String getText(long value, TextStyle style) {
+            if (valueTextArrays != null) {
+                String[] array = valueTextArrays[style.ordinal()];
+                long index = value - minValue;
+                return (array != null && index >= 0 && index < array.length ? array[(int) index] : null);
+            }
             Map<Long, String> map = valueTextMap.get(style);
             return map != null ? map.get(value) : null;
         }
@@ -371,6 +438,16 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             List<Entry<String, Long>> list = parsable.get(style);
             return list != null ? list.iterator() : null;
         }
+
+        /**
+         * Gets a tree of text to field for the specified style for the purpose of parsing.
+         *
+         * @param style  the style to get text for, null for all parsable text
+         * @return the tree of text to field values, null if the style is not parsable
+         */
+        PrefixTree<Long> getTextTree(TextStyle style) {
+            return parsableTrees.get(style);
+        }
     }
 
 }
@@ -36,7 +36,6 @@ import static org.threeten.bp.temporal.ChronoField.ERA;
 import java.util.Locale;
 
 import org.threeten.bp.chrono.Era;
-import org.threeten.bp.format.DateTimeFormatterBuilder;
 import org.threeten.bp.format.TextStyle;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.ChronoUnit;
@@ -56,6 +55,11 @@ public abstract class DefaultInterfaceEra
         extends DefaultInterfaceTemporalAccessor
         implements Era {
 
+    /**
+     * Cache of the display names, covering the values of the built-in eras.
+     */
+    private static final DisplayNameCache NAMES = new DisplayNameCache(ERA, -1, 9);
+
     //-----------------------------------------------------------------------
     @Override
     public boolean isSupported(TemporalField field) {
@@ -106,7 +110,7 @@ public abstract class DefaultInterfaceEra
     //-----------------------------------------------------------------------
     @Override
     public String getDisplayName(TextStyle style, Locale locale) {
-        return new DateTimeFormatterBuilder().appendText(ERA, style).toFormatter(locale).format(this);
+        return NAMES.getDisplayName(getValue(), style, locale);
     }
 
 }
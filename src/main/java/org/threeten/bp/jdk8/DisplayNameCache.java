@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.jdk8;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.threeten.bp.format.DateTimeFormatterBuilder;
+import org.threeten.bp.format.TextStyle;
+import org.threeten.bp.temporal.TemporalField;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
+
+/**
+ * A cache of the display names of the values of a field.
+ * <p>
+ * The names are obtained by formatting each value once with a text formatter,
+ * so they match the text printed by formatters of the same locale and style.
+ * They are then held in an array per locale and style, so that a lookup
+ * does not need to create a formatter.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is thread-safe.
+ */
+public final class DisplayNameCache {
+
+    /**
+     * The field the names are for.
+     */
+    private final TemporalField field;
+    /**
+     * The smallest cached value.
+     */
+    private final int minValue;
+    /**
+     * The largest cached value.
+     */
+    private final int maxValue;
+    /**
+     * The names by locale, indexed by text style ordinal and value.
+     */
+    private final ConcurrentMap<Locale, String[][]> names = new ConcurrentHashMap<Locale, String[][]>(16, 0.75f, 2);
+
+    /**
+     * Creates a cache for the specified range of values of a field.
+     * Values outside the range are formatted on each lookup.
+     *
+     * @param field  the field, not null
+     * @param minValue  the smallest value to cache
+     * @param maxValue  the largest value to cache
+     */
+    public DisplayNameCache(TemporalField field, int minValue, int maxValue) {
+        this.field = Jdk8Methods.requireNonNull(field, "field");
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the display name of a value of the field.
+     * <p>
+     * If no textual mapping is found then the numeric value is returned.
+     *
+     * @param value  the value of the field
+     * @param style  the length of the text required, not null
+     * @param locale  the locale to use, not null
+     * @return the text value, not null
+     */
+    public String getDisplayName(long value, TextStyle style, Locale locale) {
+        Jdk8Methods.requireNonNull(style, "style");
+        Jdk8Methods.requireNonNull(locale, "locale");
+        if (value < minValue || value > maxValue) {
+            return format(value, style, locale);
+        }
+        String[][] byStyle = names.get(locale);
+        if (byStyle == null) {
+            names.putIfAbsent(locale, new String[TextStyle.values().length][maxValue - minValue + 1]);
+            byStyle = names.get(locale);
+        }
+        String[] array = byStyle[style.ordinal()];
+        int index = (int) (value - minValue);
+        String text = array[index];
+        if (text == null) {
+            text = format(value, style, locale);
+            array[index] = text;  // racy but safe, as the text is immutable
+        }
+        return text;
+    }
+
+    private String format(final long value, TextStyle style, Locale locale) {
+        return new DateTimeFormatterBuilder().appendText(field, style).toFormatter(locale).format(new DefaultInterfaceTemporalAccessor() {
+            @Override
+            public boolean isSupported(TemporalField queried) {
+                return queried == field;
+            }
+            @Override
+            public long getLong(TemporalField queried) {
+                if (queried == field) {
+                    return value;
+                }
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + queried);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,474 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.temporal;
+
+import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.Duration;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * A calendar of business days, being the days that are neither a weekend day nor a holiday.
+ * <p>
+ * The calendar is defined by the days-of-week of the weekend and a set of holidays.
+ * The business days of the years containing the holidays are held in a bitset over
+ * epoch-days, together with the running count of business days before each word.
+ * Outside those years, only the weekend applies, and counts are calculated directly.
+ * As such, {@link #isBusinessDay(LocalDate)} and {@link #businessDaysBetween(LocalDate, LocalDate)}
+ * run in constant time and {@link #plusBusinessDays(LocalDate, long)} in logarithmic time,
+ * however far apart the dates are.
+ * <p>
+ * The calendar can also be used through the {@link #businessDays()} unit,
+ * such as {@code date.plus(3, calendar.businessDays())}, and through the
+ * adjusters {@link #nextOrSameBusinessDay()} and {@link #previousOrSameBusinessDay()}.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class BusinessCalendar {
+
+    /**
+     * The maximum number of years from the first holiday to the last holiday,
+     * limiting the bitset to under five megabytes.
+     */
+    private static final int MAX_HOLIDAY_YEARS = 100000;
+    /**
+     * The weekend days, with bit 0 for Monday.
+     */
+    private final int weekend;
+    /**
+     * The number of business days in a week without holidays.
+     */
+    private final int daysPerWeek;
+    /**
+     * The number of business days before each day-of-week in a week, indexed from Monday.
+     */
+    private final int[] weekRanks = new int[8];
+    /**
+     * The day-of-week of each business day in a week, indexed from Monday, from zero.
+     */
+    private final int[] weekDays = new int[7];
+    /**
+     * The number of holidays that fall on weekdays.
+     */
+    private final int holidays;
+    /**
+     * The first epoch-day of the indexed years.
+     */
+    private final long first;
+    /**
+     * The epoch-day after the indexed years.
+     */
+    private final long end;
+    /**
+     * The business days of the indexed years, one bit per day from the first epoch-day.
+     */
+    private final long[] bits;
+    /**
+     * The number of business days in the indexed years before each word of the bitset.
+     */
+    private final int[] prefix;
+    /**
+     * The unit of business days.
+     */
+    private final TemporalUnit unit = new BusinessDaysUnit();
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a calendar with a weekend of Saturday and Sunday.
+     *
+     * @param holidays  the holidays, not null, no nulls
+     * @return the calendar, not null
+     * @throws IllegalArgumentException if the holidays span more than 100,000 years
+     */
+    public static BusinessCalendar of(Collection<LocalDate> holidays) {
+        return of(EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), holidays);
+    }
+
+    /**
+     * Obtains a calendar with the specified weekend.
+     * <p>
+     * Holidays that fall on a weekend day have no effect.
+     * Holidays may be in any year, including the years of {@code LocalDate.MIN}
+     * and {@code LocalDate.MAX}, but the years of the first and last holiday must be
+     * no more than 100,000 years apart, as every day between them is held in the bitset.
+     *
+     * @param weekend  the days-of-week of the weekend, not null, no nulls
+     * @param holidays  the holidays, not null, no nulls
+     * @return the calendar, not null
+     * @throws IllegalArgumentException if every day-of-week is in the weekend,
+     *  or the holidays span more than 100,000 years
+     */
+    public static BusinessCalendar of(Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        Jdk8Methods.requireNonNull(weekend, "weekend");
+        Jdk8Methods.requireNonNull(holidays, "holidays");
+        int mask = 0;
+        for (DayOfWeek dow : weekend) {
+            mask |= 1 << Jdk8Methods.requireNonNull(dow, "dayOfWeek").ordinal();
+        }
+        if (mask == 0x7F) {
+            throw new IllegalArgumentException("Weekend must not contain every day-of-week");
+        }
+        long[] epochDays = new long[holidays.size()];
+        int count = 0;
+        for (LocalDate holiday : holidays) {
+            epochDays[count++] = Jdk8Methods.requireNonNull(holiday, "holiday").toEpochDay();
+        }
+        Arrays.sort(epochDays);
+        if (count > 0 && LocalDate.ofEpochDay(epochDays[count - 1]).getYear() -
+                LocalDate.ofEpochDay(epochDays[0]).getYear() >= MAX_HOLIDAY_YEARS) {
+            throw new IllegalArgumentException("Holidays must not span more than " + MAX_HOLIDAY_YEARS + " years");
+        }
+        return new BusinessCalendar(mask, epochDays);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param weekend  the weekend days, with bit 0 for Monday
+     * @param holidays  the epoch-days of the holidays, sorted, not null
+     */
+    private BusinessCalendar(int weekend, long[] holidays) {
+        this.weekend = weekend;
+        int perWeek = 0;
+        for (int dow0 = 0; dow0 < 7; dow0++) {
+            weekRanks[dow0] = perWeek;
+            if ((weekend & (1 << dow0)) == 0) {
+                weekDays[perWeek++] = dow0;
+            }
+        }
+        weekRanks[7] = perWeek;
+        this.daysPerWeek = perWeek;
+        if (holidays.length == 0) {
+            this.first = 0;
+            this.end = 0;
+            this.bits = new long[0];
+            this.prefix = new int[] {0};
+            this.holidays = 0;
+            return;
+        }
+        this.first = LocalDate.ofEpochDay(holidays[0]).withDayOfYear(1).toEpochDay();
+        LocalDate last = LocalDate.ofEpochDay(holidays[holidays.length - 1]);
+        this.end = Math.min(
+                holidays[holidays.length - 1] - last.getDayOfYear() + 1 + last.lengthOfYear(), LocalDate.MAX.toEpochDay() + 1);
+        int length = (int) (end - first);
+        this.bits = new long[(length + 63) >>> 6];
+        for (int i = 0; i < length; i++) {
+            if ((weekend & (1 << dayOfWeek0(first + i))) == 0) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+        int removed = 0;
+        for (long holiday : holidays) {
+            int i = (int) (holiday - first);
+            if ((bits[i >>> 6] & (1L << i)) != 0) {
+                bits[i >>> 6] &= ~(1L << i);
+                removed++;
+            }
+        }
+        this.holidays = removed;
+        this.prefix = new int[bits.length + 1];
+        for (int i = 0; i < bits.length; i++) {
+            prefix[i + 1] = prefix[i] + Long.bitCount(bits[i]);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the specified date is a business day.
+     *
+     * @param date  the date to check, not null
+     * @return true if the date is neither a weekend day nor a holiday
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        Jdk8Methods.requireNonNull(date, "date");
+        return isBusinessDay(date.toEpochDay());
+    }
+
+    private boolean isBusinessDay(long epochDay) {
+        if (epochDay >= first && epochDay < end) {
+            int i = (int) (epochDay - first);
+            return (bits[i >>> 6] & (1L << i)) != 0;
+        }
+        return (weekend & (1 << dayOfWeek0(epochDay))) == 0;
+    }
+
+    /**
+     * Returns a copy of the date with the specified number of business days added.
+     * <p>
+     * A positive amount moves to the n-th business day after the date, and a negative
+     * amount to the n-th business day before the date. The date itself is never counted,
+     * so adding one to a Friday, or to a holiday on a Thursday, returns the following Monday
+     * when the weekend is Saturday and Sunday. Adding zero returns the date unchanged.
+     *
+     * @param date  the date to add to, not null
+     * @param businessDays  the business days to add, may be negative
+     * @return the resulting date, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public LocalDate plusBusinessDays(LocalDate date, long businessDays) {
+        Jdk8Methods.requireNonNull(date, "date");
+        if (businessDays == 0) {
+            return date;
+        }
+        return LocalDate.ofEpochDay(plusBusinessDays(date.toEpochDay(), businessDays));
+    }
+
+    private long plusBusinessDays(long epochDay, long businessDays) {
+        if (businessDays > 0) {
+            return select(Jdk8Methods.safeAdd(rank(epochDay + 1), businessDays - 1));
+        } else if (businessDays < 0) {
+            return select(Jdk8Methods.safeAdd(rank(epochDay), businessDays));
+        }
+        return epochDay;
+    }
+
+    /**
+     * Calculates the number of business days between two dates.
+     * <p>
+     * When the end is after the start, this counts the business days after the start,
+     * up to and including the end. When the end is before the start, the result is
+     * negative, counting the business days from the end up to but excluding the start.
+     * As such, adding the result to the start returns the end whenever the end is a business day.
+     *
+     * @param start  the start date, not null
+     * @param end  the end date, not null
+     * @return the number of business days from the start to the end
+     */
+    public long businessDaysBetween(LocalDate start, LocalDate end) {
+        Jdk8Methods.requireNonNull(start, "start");
+        Jdk8Methods.requireNonNull(end, "end");
+        return businessDaysBetween(start.toEpochDay(), end.toEpochDay());
+    }
+
+    private long businessDaysBetween(long start, long end) {
+        if (end >= start) {
+            return rank(end + 1) - rank(start + 1);
+        }
+        return rank(end) - rank(start);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the unit of business days of this calendar.
+     * <p>
+     * Adding the unit behaves as {@link #plusBusinessDays(LocalDate, long)} on the date,
+     * leaving any time unchanged. The amount between two temporals is calculated as
+     * {@link #businessDaysBetween(LocalDate, LocalDate)} on their dates.
+     * The unit is supported by temporals that support {@code EPOCH_DAY}.
+     *
+     * @return the business days unit, not null
+     */
+    public TemporalUnit businessDays() {
+        return unit;
+    }
+
+    /**
+     * Returns an adjuster to the next business day, or the same date if it is a business day.
+     *
+     * @return the adjuster, not null
+     */
+    public TemporalAdjuster nextOrSameBusinessDay() {
+        return new TemporalAdjuster() {
+            @Override
+            public Temporal adjustInto(Temporal temporal) {
+                long epochDay = temporal.getLong(EPOCH_DAY);
+                if (isBusinessDay(epochDay)) {
+                    return temporal;
+                }
+                return temporal.with(EPOCH_DAY, plusBusinessDays(epochDay, 1));
+            }
+        };
+    }
+
+    /**
+     * Returns an adjuster to the previous business day, or the same date if it is a business day.
+     *
+     * @return the adjuster, not null
+     */
+    public TemporalAdjuster previousOrSameBusinessDay() {
+        return new TemporalAdjuster() {
+            @Override
+            public Temporal adjustInto(Temporal temporal) {
+                long epochDay = temporal.getLong(EPOCH_DAY);
+                if (isBusinessDay(epochDay)) {
+                    return temporal;
+                }
+                return temporal.with(EPOCH_DAY, plusBusinessDays(epochDay, -1));
+            }
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of business days before the epoch-day, relative to an arbitrary origin.
+     *
+     * @param epochDay  the epoch-day
+     * @return the rank of the epoch-day
+     */
+    private long rank(long epochDay) {
+        if (epochDay <= first) {
+            return weekRank(epochDay);
+        } else if (epochDay < end) {
+            int i = (int) (epochDay - first);
+            // the shift uses the low six bits of the index, selecting the earlier days of the word
+            long before = bits[i >>> 6] & ((1L << i) - 1);
+            return weekRank(first) + prefix[i >>> 6] + Long.bitCount(before);
+        }
+        return weekRank(epochDay) - holidays;
+    }
+
+    /**
+     * Finds the business day with the specified rank.
+     *
+     * @param rank  the rank, as returned by {@link #rank(long)}
+     * @return the epoch-day of the business day
+     */
+    private long select(long rank) {
+        long firstRank = weekRank(first);
+        long indexed = rank - firstRank;
+        if (indexed < 0) {
+            return weekSelect(rank);
+        } else if (indexed >= prefix[bits.length]) {
+            return weekSelect(Jdk8Methods.safeAdd(rank, holidays));
+        }
+        int target = (int) indexed;
+        int low = 0;
+        int high = bits.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (prefix[mid] <= target) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        long word = bits[low];
+        for (int skip = target - prefix[low]; skip > 0; skip--) {
+            word &= word - 1;
+        }
+        return first + (low << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Gets the number of weekdays before the epoch-day, counted from the Monday of epoch-day -3.
+     */
+    private long weekRank(long epochDay) {
+        long days = epochDay + 3;
+        return Jdk8Methods.floorDiv(days, 7) * daysPerWeek + weekRanks[Jdk8Methods.floorMod(days, 7)];
+    }
+
+    /**
+     * Finds the weekday with the specified week rank.
+     */
+    private long weekSelect(long rank) {
+        long week = Jdk8Methods.floorDiv(rank, daysPerWeek);
+        return Jdk8Methods.safeMultiply(week, 7) + weekDays[Jdk8Methods.floorMod(rank, daysPerWeek)] - 3;
+    }
+
+    private static int dayOfWeek0(long epochDay) {
+        return Jdk8Methods.floorMod(epochDay + 3, 7);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this calendar as a {@code String}.
+     *
+     * @return a string representation of this calendar, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(64).append("BusinessCalendar[weekend=");
+        for (DayOfWeek dow : DayOfWeek.values()) {
+            if ((weekend & (1 << dow.ordinal())) != 0) {
+                buf.append(dow).append(',');
+            }
+        }
+        buf.setLength(buf.length() - 1);
+        return buf.append(",holidays=").append(holidays).append(']').toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The unit of business days.
+     */
+    private final class BusinessDaysUnit implements TemporalUnit {
+        @Override
+        public Duration getDuration() {
+            return Duration.ofSeconds(86400L * 7 / daysPerWeek);
+        }
+        @Override
+        public boolean isDurationEstimated() {
+            return true;
+        }
+        @Override
+        public boolean isDateBased() {
+            return true;
+        }
+        @Override
+        public boolean isTimeBased() {
+            return false;
+        }
+        @Override
+        public boolean isSupportedBy(Temporal temporal) {
+            return temporal.isSupported(EPOCH_DAY);
+        }
+        @SuppressWarnings("unchecked")
+        @Override
+        public <R extends Temporal> R addTo(R temporal, long periodToAdd) {
+            if (periodToAdd == 0) {
+                return temporal;
+            }
+            long epochDay = temporal.getLong(EPOCH_DAY);
+            return (R) temporal.with(EPOCH_DAY, plusBusinessDays(epochDay, periodToAdd));
+        }
+        @Override
+        public long between(Temporal temporal1, Temporal temporal2) {
+            return businessDaysBetween(temporal1.getLong(EPOCH_DAY), temporal2.getLong(EPOCH_DAY));
+        }
+        @Override
+        public String toString() {
+            return "BusinessDays";
+        }
+    }
+
+}
@@ -31,8 +31,6 @@
  */
 package org.threeten.bp.temporal;
 
-import static org.threeten.bp.DayOfWeek.THURSDAY;
-import static org.threeten.bp.DayOfWeek.WEDNESDAY;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_WEEK;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_YEAR;
 import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
@@ -49,6 +47,9 @@ import java.util.Map;
 
 import org.threeten.bp.Duration;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.chrono.Chronology;
 import org.threeten.bp.chrono.IsoChronology;
 import org.threeten.bp.format.ResolverStyle;
@@ -243,6 +244,12 @@ public final class IsoFields {
             }
             @Override
             public long getFrom(TemporalAccessor temporal) {
+                LocalDate date = directIsoDate(temporal);
+                if (date != null) {
+                    int moy = date.getMonthValue();
+                    int leapDay = (moy == 3 && date.isLeapYear() ? 1 : 0);
+                    return QUARTER_MONTH_DAYS[moy - 1] + leapDay + date.getDayOfMonth();
+                }
                 if (temporal.isSupported(this) == false) {
                     throw new UnsupportedTemporalTypeException("Unsupported field: DayOfQuarter");
                 }
@@ -322,6 +329,10 @@ public final class IsoFields {
             }
             @Override
             public long getFrom(TemporalAccessor temporal) {
+                LocalDate date = directIsoDate(temporal);
+                if (date != null) {
+                    return QUARTER_OF_MONTH[date.getMonthValue()];
+                }
                 if (temporal.isSupported(this) == false) {
                     throw new UnsupportedTemporalTypeException("Unsupported field: QuarterOfYear");
                 }
@@ -365,17 +376,12 @@ public final class IsoFields {
             }
             @Override
             public ValueRange rangeRefinedBy(TemporalAccessor temporal) {
-                if (temporal.isSupported(this) == false) {
-                    throw new UnsupportedTemporalTypeException("Unsupported field: WeekOfWeekBasedYear");
-                }
-                return getWeekRange(LocalDate.from(temporal));
+                LocalDate date = isoDate(temporal, this);
+                return ValueRange.of(1, getWeekRange(getWeekBasedYear(date)));
             }
             @Override
             public long getFrom(TemporalAccessor temporal) {
-                if (temporal.isSupported(this) == false) {
-                    throw new UnsupportedTemporalTypeException("Unsupported field: WeekOfWeekBasedYear");
-                }
-                return getWeek(LocalDate.from(temporal));
+                return getWeek(isoDate(temporal, this));
             }
             @SuppressWarnings("unchecked")
             @Override
@@ -408,9 +414,7 @@ public final class IsoFields {
                 } else {
                     int dow = DAY_OF_WEEK.checkValidIntValue(dowLong);
                     if (resolverStyle == ResolverStyle.STRICT) {
-                        LocalDate temp = LocalDate.of(wby, 1, 4);
-                        ValueRange range = getWeekRange(temp);
-                        range.checkValidValue(wowby, this);
+                        ValueRange.of(1, getWeekRange(wby)).checkValidValue(wowby, this);
                     } else {
                         range().checkValidValue(wowby, this);  // leniently check from 1 to 53
                     }
@@ -449,10 +453,7 @@ public final class IsoFields {
             }
             @Override
             public long getFrom(TemporalAccessor temporal) {
-                if (temporal.isSupported(this) == false) {
-                    throw new UnsupportedTemporalTypeException("Unsupported field: WeekBasedYear");
-                }
-                return getWeekBasedYear(LocalDate.from(temporal));
+                return getWeekBasedYear(isoDate(temporal, this));
             }
             @SuppressWarnings("unchecked")
             @Override
@@ -488,6 +489,10 @@ public final class IsoFields {
 
         //-------------------------------------------------------------------------
         private static final int[] QUARTER_DAYS = {0, 90, 181, 273, 0, 91, 182, 274};
+        /** The quarter of each month, indexed by month-of-year. */
+        private static final int[] QUARTER_OF_MONTH = {0, 1, 1, 1, 2, 2, 2, 3, 3, 3, 4, 4, 4};
+        /** The days in the quarter before each month, excluding any leap day, indexed from zero. */
+        private static final int[] QUARTER_MONTH_DAYS = {0, 31, 59, 0, 30, 61, 0, 31, 62, 0, 31, 61};
 
         @Override
         public boolean isDateBased() {
@@ -502,56 +507,95 @@ public final class IsoFields {
             return Chronology.from(temporal).equals(IsoChronology.INSTANCE);
         }
 
-        private static ValueRange getWeekRange(LocalDate date) {
-            int wby = getWeekBasedYear(date);
-            return ValueRange.of(1, getWeekRange(wby));
+        /**
+         * Obtains the ISO date of those temporals that hold one directly.
+         *
+         * @param temporal  the temporal to query, not null
+         * @return the ISO date, null if the temporal must be queried
+         */
+        private static LocalDate directIsoDate(TemporalAccessor temporal) {
+            if (temporal instanceof LocalDate) {
+                return (LocalDate) temporal;
+            } else if (temporal instanceof LocalDateTime) {
+                return ((LocalDateTime) temporal).toLocalDate();
+            } else if (temporal instanceof ZonedDateTime) {
+                return ((ZonedDateTime) temporal).toLocalDate();
+            } else if (temporal instanceof OffsetDateTime) {
+                return ((OffsetDateTime) temporal).toLocalDate();
+            }
+            return null;
         }
 
-        private static int getWeekRange(int wby) {
-            LocalDate date = LocalDate.of(wby, 1, 1);
-            // 53 weeks if standard year starts on Thursday, or Wed in a leap year
-            if (date.getDayOfWeek() == THURSDAY || (date.getDayOfWeek() == WEDNESDAY && date.isLeapYear())) {
-                return 53;
+        /**
+         * Obtains the ISO date of a temporal that supports the field.
+         *
+         * @param temporal  the temporal to query, not null
+         * @param field  the field being queried, not null
+         * @return the ISO date, not null
+         * @throws UnsupportedTemporalTypeException if the field is not supported
+         */
+        private static LocalDate isoDate(TemporalAccessor temporal, Field field) {
+            LocalDate date = directIsoDate(temporal);
+            if (date != null) {
+                return date;
+            }
+            if (temporal.isSupported(field) == false) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
             }
-            return 52;
+            return LocalDate.from(temporal);
+        }
+
+        /**
+         * Gets the number of weeks in the week-based-year.
+         * <p>
+         * A week-based-year has 53 weeks if the standard year ends on a Thursday,
+         * or if the previous standard year ends on a Wednesday.
+         *
+         * @param wby  the week-based-year
+         * @return the number of weeks, 52 or 53
+         */
+        private static int getWeekRange(int wby) {
+            return (yearEndDay(wby) == 4 || yearEndDay(wby - 1) == 3 ? 53 : 52);
+        }
+
+        /**
+         * Gets the day-of-week of the last day of the standard year.
+         *
+         * @param year  the year
+         * @return the day-of-week, from 0 (Sunday) to 6 (Saturday)
+         */
+        private static int yearEndDay(int year) {
+            long days = year + Jdk8Methods.floorDiv(year, 4) - Jdk8Methods.floorDiv(year, 100) + Jdk8Methods.floorDiv(year, 400);
+            return Jdk8Methods.floorMod(days, 7);
+        }
+
+        /**
+         * Gets the week aligned to the Thursday of the week, which may be out of range.
+         *
+         * @param date  the date, not null
+         * @return the week, from 0 to 53
+         */
+        private static int getAlignedWeek(LocalDate date) {
+            return (date.getDayOfYear() - date.getDayOfWeek().getValue() + 10) / 7;
         }
 
         private static int getWeek(LocalDate date) {
-            int dow0 = date.getDayOfWeek().ordinal();
-            int doy0 = date.getDayOfYear() - 1;
-            int doyThu0 = doy0 + (3 - dow0);  // adjust to mid-week Thursday (which is 3 indexed from zero)
-            int alignedWeek = doyThu0 / 7;
-            int firstThuDoy0 = doyThu0 - (alignedWeek * 7);
-            int firstMonDoy0 = firstThuDoy0 - 3;
-            if (firstMonDoy0 < -3) {
-                firstMonDoy0 += 7;
-            }
-            if (doy0 < firstMonDoy0) {
-                return (int) getWeekRange(date.withDayOfYear(180).minusYears(1)).getMaximum();
-            }
-            int week = ((doy0 - firstMonDoy0) / 7) + 1;
-            if (week == 53) {
-                if ((firstMonDoy0 == -3 || (firstMonDoy0 == -2 && date.isLeapYear())) == false) {
-                    week = 1;
-                }
+            int week = getAlignedWeek(date);
+            if (week < 1) {
+                return getWeekRange(date.getYear() - 1);
+            } else if (week == 53 && getWeekRange(date.getYear()) == 52) {
+                return 1;
             }
             return week;
         }
 
         private static int getWeekBasedYear(LocalDate date) {
             int year = date.getYear();
-            int doy = date.getDayOfYear();
-            if (doy <= 3) {
-                int dow = date.getDayOfWeek().ordinal();
-                if (doy - dow < -2) {
-                    year--;
-                }
-            } else if (doy >= 363) {
-                int dow = date.getDayOfWeek().ordinal();
-                doy = doy - 363 - (date.isLeapYear() ? 1 : 0);
-                if (doy - dow >= 0) {
-                    year++;
-                }
+            int week = getAlignedWeek(date);
+            if (week < 1) {
+                return year - 1;
+            } else if (week == 53 && getWeekRange(year) == 52) {
+                return year + 1;
             }
             return year;
         }
@@ -0,0 +1,587 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.temporal;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.zone.ZoneOffsetTransition;
+import org.threeten.bp.zone.ZoneRules;
+
+/**
+ * A recurrence rule compiled for expansion from a start date, at a time-of-day in a time-zone.
+ * <p>
+ * Instances are obtained from {@link RecurrenceRule#compile(LocalDate, LocalTime, ZoneId)}.
+ * The rule is compiled to arithmetic on epoch-days, so finding the next occurrence
+ * is a direct calculation rather than a loop over the intervening dates.
+ * Occurrences can be expanded lazily using {@link #iterator()}, or into an array of
+ * epoch-seconds using {@link #toEpochSeconds(Instant, long[])}.
+ * <p>
+ * Each occurrence is at the local time-of-day in the time-zone, resolved as by
+ * {@link ZonedDateTime#of(LocalDate, LocalTime, ZoneId)}. A time in a gap is moved later
+ * by the length of the gap, and a time in an overlap uses the earlier offset.
+ * When expanding, the offset is only looked up in the zone rules when an occurrence
+ * falls outside the period between transitions of the previous lookup.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class Recurrence implements Iterable<ZonedDateTime> {
+
+    /** Kind of a daily rule. */
+    static final int DAILY = 0;
+    /** Kind of a weekly rule. */
+    static final int WEEKLY = 1;
+    /** Kind of a monthly or yearly rule. */
+    static final int MONTHLY = 2;
+    /**
+     * The number of months in a 400 year cycle, after which the calendar repeats.
+     */
+    private static final int MONTHS_PER_CYCLE = 4800;
+    /**
+     * The maximum supported epoch-day.
+     */
+    private static final long MAX_EPOCH_DAY = LocalDate.MAX.toEpochDay();
+    /**
+     * Seconds per day.
+     */
+    private static final int SECONDS_PER_DAY = 86400;
+    /**
+     * The number of days in a 400 year cycle.
+     */
+    private static final long DAYS_PER_CYCLE = 146097L;
+    /**
+     * The number of days from year zero to year 1970.
+     */
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
+    /**
+     * The rule.
+     */
+    private final RecurrenceRule rule;
+    /**
+     * The start date.
+     */
+    private final LocalDate startDate;
+    /**
+     * The time-of-day.
+     */
+    private final LocalTime time;
+    /**
+     * The time-zone.
+     */
+    private final ZoneId zone;
+    /**
+     * The kind of rule.
+     */
+    private final int kind;
+    /**
+     * The first epoch-day of the start date.
+     */
+    private final long startEpochDay;
+    /**
+     * The anchor of the interval, being the start epoch-day, the Monday of the
+     * start week or the proleptic month of the first period.
+     */
+    private final long anchor;
+    /**
+     * The number of days, weeks or months between the periods with occurrences.
+     */
+    private final long step;
+    /**
+     * The days-of-week of a weekly rule, with bit 0 for Monday.
+     */
+    private final int daysOfWeek;
+    /**
+     * The day-of-month, zero if not used.
+     */
+    private final int dayOfMonth;
+    /**
+     * The week within the month, zero if not used.
+     */
+    private final int ordinal;
+    /**
+     * The day-of-week from 1 to 7, zero if not used.
+     */
+    private final int dayOfWeek;
+
+    /**
+     * Constructor, validated by the rule.
+     */
+    Recurrence(RecurrenceRule rule, LocalDate startDate, LocalTime time, ZoneId zone,
+                    int kind, long anchor, long step, int daysOfWeek, int dayOfMonth, int ordinal, int dayOfWeek) {
+        this.rule = rule;
+        this.startDate = startDate;
+        this.time = time;
+        this.zone = zone;
+        this.kind = kind;
+        this.startEpochDay = startDate.toEpochDay();
+        this.anchor = anchor;
+        this.step = step;
+        this.daysOfWeek = daysOfWeek;
+        this.dayOfMonth = dayOfMonth;
+        this.ordinal = ordinal;
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the rule that was compiled.
+     *
+     * @return the rule, not null
+     */
+    public RecurrenceRule getRule() {
+        return rule;
+    }
+
+    /**
+     * Gets the start date.
+     *
+     * @return the start date, not null
+     */
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    /**
+     * Gets the local time-of-day of each occurrence.
+     *
+     * @return the time-of-day, not null
+     */
+    public LocalTime getTime() {
+        return time;
+    }
+
+    /**
+     * Gets the time-zone of the occurrences.
+     *
+     * @return the time-zone, not null
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the epoch-day of the first occurrence on or after the specified epoch-day.
+     * <p>
+     * This works on local dates, and is the basis of all the other methods.
+     *
+     * @param epochDay  the epoch-day to search from
+     * @return the epoch-day of the next occurrence, {@code Long.MAX_VALUE} if there is
+     *  no further occurrence in the supported date range
+     */
+    public long nextEpochDay(long epochDay) {
+        long day = Math.max(epochDay, startEpochDay);
+        if (day > MAX_EPOCH_DAY) {
+            return Long.MAX_VALUE;
+        }
+        long result;
+        switch (kind) {
+            case DAILY:
+                result = anchor + ceilDiv(day - anchor, step) * step;
+                break;
+            case WEEKLY:
+                result = nextWeekly(day);
+                break;
+            default:
+                result = nextMonthly(day);
+                break;
+        }
+        return (result > MAX_EPOCH_DAY ? Long.MAX_VALUE : result);
+    }
+
+    private long nextWeekly(long day) {
+        long week = (day - anchor) / 7;
+        int dow0 = (int) (day - anchor - week * 7);
+        long aligned = ceilDiv(week, step) * step;
+        if (aligned != week) {
+            week = aligned;
+            dow0 = 0;
+        }
+        int remaining = daysOfWeek >>> dow0;
+        if (remaining == 0) {
+            week += step;
+            dow0 = 0;
+            remaining = daysOfWeek;
+        }
+        return anchor + week * 7 + dow0 + Integer.numberOfTrailingZeros(remaining);
+    }
+
+    private long nextMonthly(long day) {
+        long month = prolepticMonth(day);
+        month = (month <= anchor ? anchor : anchor + ceilDiv(month - anchor, step) * step);
+        // month lengths repeat every 400 years, so a rule that does not match by then never will
+        for (int i = 0; i < MONTHS_PER_CYCLE; i++) {
+            long year = Jdk8Methods.floorDiv(month, 12);
+            int moy = Jdk8Methods.floorMod(month, 12) + 1;
+            long first = epochDay(year, moy, 1);
+            int length = lengthOfMonth(year, moy);
+            long candidate;
+            if (dayOfMonth != 0) {
+                candidate = (dayOfMonth <= length ? first + dayOfMonth - 1 : Long.MIN_VALUE);
+            } else if (ordinal > 0) {
+                candidate = first + Jdk8Methods.floorMod(dayOfWeek - dayOfWeek(first), 7) + (ordinal - 1) * 7;
+                candidate = (candidate < first + length ? candidate : Long.MIN_VALUE);
+            } else {
+                long last = first + length - 1;
+                candidate = last - Jdk8Methods.floorMod(dayOfWeek(last) - dayOfWeek, 7) + (ordinal + 1) * 7;
+                candidate = (candidate >= first ? candidate : Long.MIN_VALUE);
+            }
+            if (candidate >= day) {
+                return candidate;
+            }
+            if (first > MAX_EPOCH_DAY) {
+                break;
+            }
+            month += step;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the first occurrence strictly after the specified instant.
+     *
+     * @param instant  the instant to search after, not null
+     * @return the next occurrence, null if there is no further occurrence in the supported range
+     */
+    public ZonedDateTime firstAfter(Instant instant) {
+        Jdk8Methods.requireNonNull(instant, "instant");
+        Expander expander = new Expander(instant);
+        return (expander.advance() ? expander.current() : null);
+    }
+
+    /**
+     * Returns an iterator over the occurrences from the start date.
+     * <p>
+     * The iterator is lazy and ends at the end of the supported date range.
+     * It does not support removal.
+     *
+     * @return the iterator, not null
+     */
+    @Override
+    public Iterator<ZonedDateTime> iterator() {
+        return new OccurrenceIterator(new Expander(startEpochDay));
+    }
+
+    /**
+     * Returns an iterator over the occurrences strictly after the specified instant.
+     * <p>
+     * The iterator is lazy and ends at the end of the supported date range.
+     * It does not support removal.
+     *
+     * @param instant  the instant to iterate after, not null
+     * @return the iterator, not null
+     */
+    public Iterator<ZonedDateTime> iteratorAfter(Instant instant) {
+        Jdk8Methods.requireNonNull(instant, "instant");
+        return new OccurrenceIterator(new Expander(instant));
+    }
+
+    /**
+     * Expands the occurrences strictly after the specified instant into an array of epoch-seconds.
+     * <p>
+     * The array is filled in order with the next occurrences, each as the number of seconds
+     * from the epoch of 1970-01-01T00:00:00Z. The nano-of-second of every occurrence is
+     * that of the time-of-day. No objects are created per occurrence.
+     *
+     * @param instant  the instant to expand after, not null
+     * @param epochSeconds  the array to fill, not null
+     * @return the number of occurrences stored, less than the array length only
+     *  if the end of the supported range is reached
+     */
+    public int toEpochSeconds(Instant instant, long[] epochSeconds) {
+        Jdk8Methods.requireNonNull(instant, "instant");
+        Jdk8Methods.requireNonNull(epochSeconds, "epochSeconds");
+        Expander expander = new Expander(instant);
+        int count = 0;
+        while (count < epochSeconds.length && expander.advance()) {
+            epochSeconds[count++] = expander.epochSecond;
+        }
+        return count;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this recurrence is equal to another recurrence.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other recurrence
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof Recurrence) {
+            Recurrence other = (Recurrence) obj;
+            return rule.equals(other.rule) && startDate.equals(other.startDate) &&
+                    time.equals(other.time) && zone.equals(other.zone);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this recurrence.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return rule.hashCode() ^ startDate.hashCode() ^ Integer.rotateLeft(time.hashCode(), 3) ^ zone.hashCode();
+    }
+
+    /**
+     * Outputs this recurrence as a {@code String}, such as
+     * {@code FREQ=DAILY;INTERVAL=1 from 2012-01-01 at 09:00 Europe/London}.
+     *
+     * @return a string representation of this recurrence, not null
+     */
+    @Override
+    public String toString() {
+        return rule + " from " + startDate + " at " + time + " " + zone;
+    }
+
+    //-----------------------------------------------------------------------
+    private static long ceilDiv(long a, long b) {
+        return -Jdk8Methods.floorDiv(-a, b);
+    }
+
+    private static int dayOfWeek(long epochDay) {
+        return Jdk8Methods.floorMod(epochDay + 3, 7) + 1;
+    }
+
+    private static int lengthOfMonth(long year, int month) {
+        if (month == 2) {
+            return ((year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28);
+        }
+        return 30 + ((month + (month >>> 3)) & 1);
+    }
+
+    private static long epochDay(long year, int month, int day) {
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += ((367 * month - 362) / 12);
+        total += day - 1;
+        if (month > 2) {
+            total -= (lengthOfMonth(year, 2) == 29 ? 1 : 2);
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static long prolepticMonth(long epochDay) {
+        // march-based calculation, as per LocalDate.ofEpochDay
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;
+        int marchMonth0 = ((int) doyEst * 5 + 2) / 153;
+        return (yearEst + marchMonth0 / 10) * 12 + (marchMonth0 + 2) % 12;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The mutable state of one expansion, not shared between threads.
+     */
+    private final class Expander {
+        /** The zone rules. */
+        private final ZoneRules rules;
+        /** The second-of-day of the time. */
+        private final int secondOfDay;
+        /** The epoch-second to expand after. */
+        private final long afterSecond;
+        /** The nano-of-second to expand after. */
+        private final int afterNano;
+        /** The epoch-day to search from next. */
+        private long searchDay;
+        /** The first local epoch-second of the period with a single offset. */
+        private long validFrom = 0;
+        /** The local epoch-second after the period with a single offset. */
+        private long validTo = 0;
+        /** The offset of the period in seconds. */
+        private int offsetSecs;
+        /** The local epoch-day of the current occurrence. */
+        long epochDay;
+        /** The epoch-second of the current occurrence. */
+        long epochSecond;
+        /** The offset of the current occurrence in seconds. */
+        int currentOffsetSecs;
+
+        Expander(long fromEpochDay) {
+            this.rules = zone.getRules();
+            this.secondOfDay = time.toSecondOfDay();
+            this.afterSecond = Long.MIN_VALUE;
+            this.afterNano = 0;
+            this.searchDay = fromEpochDay;
+            initFixed();
+        }
+
+        Expander(Instant instant) {
+            this.rules = zone.getRules();
+            this.secondOfDay = time.toSecondOfDay();
+            this.afterSecond = instant.getEpochSecond();
+            this.afterNano = instant.getNano();
+            // start a day early to allow for the offset
+            int offset = rules.getOffset(instant).getTotalSeconds();
+            this.searchDay = Jdk8Methods.floorDiv(afterSecond + offset, SECONDS_PER_DAY) - 1;
+            initFixed();
+        }
+
+        private void initFixed() {
+            if (rules.isFixedOffset()) {
+                offsetSecs = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+                validFrom = Long.MIN_VALUE;
+                validTo = Long.MAX_VALUE;
+            }
+        }
+
+        /**
+         * Moves to the next occurrence after the instant.
+         *
+         * @return true if there is a next occurrence
+         */
+        boolean advance() {
+            while (true) {
+                long day = nextEpochDay(searchDay);
+                if (day == Long.MAX_VALUE) {
+                    return false;
+                }
+                searchDay = day + 1;
+                epochDay = day;
+                epochSecond = resolve(day * SECONDS_PER_DAY + secondOfDay);
+                if (epochSecond > afterSecond || (epochSecond == afterSecond && time.getNano() > afterNano)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Gets the current occurrence.
+         *
+         * @return the occurrence, not null
+         */
+        ZonedDateTime current() {
+            LocalDateTime ldt = LocalDateTime.ofEpochSecond(epochSecond, time.getNano(), ZoneOffset.ofTotalSeconds(currentOffsetSecs));
+            return ZonedDateTime.ofInstant(ldt, ZoneOffset.ofTotalSeconds(currentOffsetSecs), zone);
+        }
+
+        private long resolve(long localSecond) {
+            if (localSecond >= validFrom && localSecond < validTo) {
+                currentOffsetSecs = offsetSecs;
+                return localSecond - offsetSecs;
+            }
+            LocalDateTime ldt = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+            ZoneOffsetTransition trans = rules.getTransition(ldt);
+            if (trans != null) {
+                // a gap moves later by the length of the gap, an overlap uses the earlier offset
+                currentOffsetSecs = (trans.isGap() ? trans.getOffsetAfter() : trans.getOffsetBefore()).getTotalSeconds();
+                return localSecond - trans.getOffsetBefore().getTotalSeconds();
+            }
+            offsetSecs = rules.getOffset(ldt).getTotalSeconds();
+            long instantSecond = localSecond - offsetSecs;
+            // the nano adjustment includes a transition at exactly this instant
+            ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(instantSecond, 1));
+            ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochSecond(instantSecond));
+            validFrom = (previous != null ? previous.toEpochSecond() +
+                    Math.max(previous.getOffsetBefore().getTotalSeconds(), previous.getOffsetAfter().getTotalSeconds()) : Long.MIN_VALUE);
+            validTo = (next != null ? next.toEpochSecond() +
+                    Math.min(next.getOffsetBefore().getTotalSeconds(), next.getOffsetAfter().getTotalSeconds()) : Long.MAX_VALUE);
+            currentOffsetSecs = offsetSecs;
+            return instantSecond;
+        }
+    }
+
+    /**
+     * Lazy iterator over the occurrences.
+     */
+    private static final class OccurrenceIterator implements Iterator<ZonedDateTime> {
+        /** The expansion state. */
+        private final Expander expander;
+        /** Whether the expander holds an occurrence not yet returned. */
+        private boolean ready;
+        /** Whether the expansion is complete. */
+        private boolean done;
+
+        OccurrenceIterator(Expander expander) {
+            this.expander = expander;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (ready == false && done == false) {
+                ready = expander.advance();
+                done = (ready == false);
+            }
+            return ready;
+        }
+
+        @Override
+        public ZonedDateTime next() {
+            if (hasNext() == false) {
+                throw new NoSuchElementException("No more occurrences");
+            }
+            ready = false;
+            return expander.current();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Remove is not supported");
+        }
+    }
+
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.temporal;
+
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.Month;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * A rule defining the dates on which an event recurs, such as 'every second Tuesday'.
+ * <p>
+ * The rules follow the recurrence rules of RFC 5545 (iCalendar) for the common cases.
+ * Each rule has a frequency, being days, weeks, months or years, and an interval,
+ * which is the number of frequency periods between the periods that contain occurrences.
+ * Weekly rules select days-of-week, with weeks starting on Monday.
+ * Monthly and yearly rules select either a day-of-month or the n-th day-of-week in the month.
+ * Periods that do not contain the selected day, such as a 31st in a 30 day month, are skipped.
+ * <p>
+ * A rule is a pattern of dates. To expand it, use one of the {@code compile} methods
+ * to bind it to a start date, time-of-day and time-zone, obtaining a {@link Recurrence}.
+ * For example, 'every 2nd Tuesday at 09:00 in London' is:
+ * <pre>
+ *  RecurrenceRule.monthlyOnDayOfWeek(1, 2, TUESDAY).compile(start, LocalTime.of(9, 0), ZoneId.of("Europe/London"));
+ * </pre>
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class RecurrenceRule {
+
+    /**
+     * The frequency, one of DAYS, WEEKS, MONTHS or YEARS.
+     */
+    private final ChronoUnit frequency;
+    /**
+     * The number of frequency periods between occurrences, one or greater.
+     */
+    private final int interval;
+    /**
+     * The days-of-week of a weekly rule, with bit 0 for Monday, zero for the day-of-week of the start.
+     */
+    private final int daysOfWeek;
+    /**
+     * The month-of-year of a yearly rule, zero for other rules.
+     */
+    private final int month;
+    /**
+     * The day-of-month, zero if not used.
+     */
+    private final int dayOfMonth;
+    /**
+     * The week within the month of a day-of-week rule, from -5 to 5, zero if not used.
+     */
+    private final int ordinal;
+    /**
+     * The day-of-week of a day-of-week rule, from 1 to 7, zero if not used.
+     */
+    private final int dayOfWeek;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a rule that occurs every {@code interval} days.
+     *
+     * @param interval  the number of days between occurrences, one or greater
+     * @return the rule, not null
+     * @throws IllegalArgumentException if the interval is invalid
+     */
+    public static RecurrenceRule daily(int interval) {
+        return new RecurrenceRule(ChronoUnit.DAYS, interval, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Obtains a rule that occurs on the specified days-of-week every {@code interval} weeks.
+     * <p>
+     * Weeks start on Monday. If no days-of-week are specified, the rule
+     * occurs on the day-of-week of the start date.
+     *
+     * @param interval  the number of weeks between the weeks with occurrences, one or greater
+     * @param daysOfWeek  the days-of-week, not null, no nulls
+     * @return the rule, not null
+     * @throws IllegalArgumentException if the interval is invalid
+     */
+    public static RecurrenceRule weekly(int interval, DayOfWeek... daysOfWeek) {
+        Jdk8Methods.requireNonNull(daysOfWeek, "daysOfWeek");
+        int mask = 0;
+        for (DayOfWeek dow : daysOfWeek) {
+            Jdk8Methods.requireNonNull(dow, "dayOfWeek");
+            mask |= 1 << dow.ordinal();
+        }
+        return new RecurrenceRule(ChronoUnit.WEEKS, interval, mask, 0, 0, 0, 0);
+    }
+
+    /**
+     * Obtains a rule that occurs on a day-of-month every {@code interval} months.
+     * <p>
+     * Months that are too short to contain the day-of-month are skipped.
+     *
+     * @param interval  the number of months between the months with occurrences, one or greater
+     * @param dayOfMonth  the day-of-month, from 1 to 31
+     * @return the rule, not null
+     * @throws IllegalArgumentException if the interval is invalid
+     * @throws DateTimeException if the day-of-month is invalid
+     */
+    public static RecurrenceRule monthlyOnDay(int interval, int dayOfMonth) {
+        DAY_OF_MONTH.checkValidValue(dayOfMonth);
+        return new RecurrenceRule(ChronoUnit.MONTHS, interval, 0, 0, dayOfMonth, 0, 0);
+    }
+
+    /**
+     * Obtains a rule that occurs on the n-th day-of-week every {@code interval} months.
+     * <p>
+     * A positive ordinal counts from the start of the month, such that 1 is the first
+     * matching day-of-week. A negative ordinal counts from the end of the month, such that
+     * -1 is the last matching day-of-week. Months without a fifth matching day-of-week
+     * are skipped by rules with an ordinal of 5 or -5.
+     *
+     * @param interval  the number of months between the months with occurrences, one or greater
+     * @param ordinal  the week within the month, from 1 to 5 or from -5 to -1
+     * @param dayOfWeek  the day-of-week, not null
+     * @return the rule, not null
+     * @throws IllegalArgumentException if the interval or ordinal is invalid
+     */
+    public static RecurrenceRule monthlyOnDayOfWeek(int interval, int ordinal, DayOfWeek dayOfWeek) {
+        Jdk8Methods.requireNonNull(dayOfWeek, "dayOfWeek");
+        checkOrdinal(ordinal);
+        return new RecurrenceRule(ChronoUnit.MONTHS, interval, 0, 0, 0, ordinal, dayOfWeek.getValue());
+    }
+
+    /**
+     * Obtains a rule that occurs on a month and day-of-month every {@code interval} years.
+     * <p>
+     * Years that do not contain the date, such as the 29th February in a
+     * standard year, are skipped.
+     *
+     * @param interval  the number of years between the years with occurrences, one or greater
+     * @param month  the month-of-year, not null
+     * @param dayOfMonth  the day-of-month, from 1 to the maximum length of the month
+     * @return the rule, not null
+     * @throws IllegalArgumentException if the interval is invalid
+     * @throws DateTimeException if the day-of-month is invalid for the month
+     */
+    public static RecurrenceRule yearlyOnDay(int interval, Month month, int dayOfMonth) {
+        Jdk8Methods.requireNonNull(month, "month");
+        ValueRange.of(1, month.maxLength()).checkValidValue(dayOfMonth, DAY_OF_MONTH);
+        return new RecurrenceRule(ChronoUnit.YEARS, interval, 0, month.getValue(), dayOfMonth, 0, 0);
+    }
+
+    /**
+     * Obtains a rule that occurs on the n-th day-of-week of a month every {@code interval} years.
+     * <p>
+     * The ordinal is interpreted as by {@link #monthlyOnDayOfWeek(int, int, DayOfWeek)}.
+     *
+     * @param interval  the number of years between the years with occurrences, one or greater
+     * @param month  the month-of-year, not null
+     * @param ordinal  the week within the month, from 1 to 5 or from -5 to -1
+     * @param dayOfWeek  the day-of-week, not null
+     * @return the rule, not null
+     * @throws IllegalArgumentException if the interval or ordinal is invalid
+     */
+    public static RecurrenceRule yearlyOnDayOfWeek(int interval, Month month, int ordinal, DayOfWeek dayOfWeek) {
+        Jdk8Methods.requireNonNull(month, "month");
+        Jdk8Methods.requireNonNull(dayOfWeek, "dayOfWeek");
+        checkOrdinal(ordinal);
+        return new RecurrenceRule(ChronoUnit.YEARS, interval, 0, month.getValue(), 0, ordinal, dayOfWeek.getValue());
+    }
+
+    private static void checkOrdinal(int ordinal) {
+        if (ordinal == 0 || ordinal < -5 || ordinal > 5) {
+            throw new IllegalArgumentException("Ordinal must be from 1 to 5 or from -5 to -1: " + ordinal);
+        }
+    }
+
+    /**
+     * Constructor.
+     */
+    private RecurrenceRule(ChronoUnit frequency, int interval, int daysOfWeek,
+                    int month, int dayOfMonth, int ordinal, int dayOfWeek) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Interval must be one or greater: " + interval);
+        }
+        this.frequency = frequency;
+        this.interval = interval;
+        this.daysOfWeek = daysOfWeek;
+        this.month = month;
+        this.dayOfMonth = dayOfMonth;
+        this.ordinal = ordinal;
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the frequency of the rule.
+     *
+     * @return the frequency, one of DAYS, WEEKS, MONTHS or YEARS, not null
+     */
+    public ChronoUnit getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * Gets the number of frequency periods between the periods with occurrences.
+     *
+     * @return the interval, one or greater
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Compiles this rule for expansion from a start date, at a time-of-day in a time-zone.
+     * <p>
+     * The start date anchors the interval, and is the earliest possible occurrence.
+     * It is only an occurrence if it matches the rule.
+     *
+     * @param startDate  the start date, not null
+     * @param time  the local time-of-day of each occurrence, not null
+     * @param zone  the time-zone of the occurrences, not null
+     * @return the compiled recurrence, not null
+     */
+    public Recurrence compile(LocalDate startDate, LocalTime time, ZoneId zone) {
+        Jdk8Methods.requireNonNull(startDate, "startDate");
+        Jdk8Methods.requireNonNull(time, "time");
+        Jdk8Methods.requireNonNull(zone, "zone");
+        long start = startDate.toEpochDay();
+        switch (frequency) {
+            case DAYS:
+                return new Recurrence(this, startDate, time, zone, Recurrence.DAILY, start, interval, 0, 0, 0, 0);
+            case WEEKS: {
+                int mask = (daysOfWeek != 0 ? daysOfWeek : 1 << startDate.getDayOfWeek().ordinal());
+                long anchor = start - startDate.getDayOfWeek().ordinal();
+                return new Recurrence(this, startDate, time, zone, Recurrence.WEEKLY, anchor, interval, mask, 0, 0, 0);
+            }
+            case MONTHS: {
+                long anchor = startDate.getYear() * 12L + startDate.getMonthValue() - 1;
+                return new Recurrence(this, startDate, time, zone, Recurrence.MONTHLY, anchor, interval, 0, dayOfMonth, ordinal, dayOfWeek);
+            }
+            default: {
+                long anchor = startDate.getYear() * 12L + month - 1;
+                return new Recurrence(this, startDate, time, zone, Recurrence.MONTHLY, anchor, interval * 12L, 0, dayOfMonth, ordinal, dayOfWeek);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this rule is equal to another rule.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other rule
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof RecurrenceRule) {
+            RecurrenceRule other = (RecurrenceRule) obj;
+            return frequency == other.frequency && interval == other.interval &&
+                    daysOfWeek == other.daysOfWeek && month == other.month &&
+                    dayOfMonth == other.dayOfMonth && ordinal == other.ordinal &&
+                    dayOfWeek == other.dayOfWeek;
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this rule.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return frequency.hashCode() ^ (interval << 16) ^ (daysOfWeek << 9) ^
+                (month << 12) ^ dayOfMonth ^ ((ordinal + 5) << 5) ^ (dayOfWeek << 24);
+    }
+
+    /**
+     * Outputs this rule as a {@code String} in the style of RFC 5545,
+     * such as {@code FREQ=MONTHLY;INTERVAL=1;BYDAY=2TU}.
+     *
+     * @return a string representation of this rule, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(48);
+        switch (frequency) {
+            case DAYS: buf.append("FREQ=DAILY"); break;
+            case WEEKS: buf.append("FREQ=WEEKLY"); break;
+            case MONTHS: buf.append("FREQ=MONTHLY"); break;
+            default: buf.append("FREQ=YEARLY"); break;
+        }
+        buf.append(";INTERVAL=").append(interval);
+        if (month != 0) {
+            buf.append(";BYMONTH=").append(month);
+        }
+        if (dayOfMonth != 0) {
+            buf.append(";BYMONTHDAY=").append(dayOfMonth);
+        }
+        if (daysOfWeek != 0) {
+            buf.append(";BYDAY=");
+            for (DayOfWeek dow : DayOfWeek.values()) {
+                if ((daysOfWeek & (1 << dow.ordinal())) != 0) {
+                    buf.append(dow.name(), 0, 2).append(',');
+                }
+            }
+            buf.setLength(buf.length() - 1);
+        }
+        if (ordinal != 0) {
+            buf.append(";BYDAY=").append(ordinal).append(DayOfWeek.of(dayOfWeek).name(), 0, 2);
+        }
+        return buf.toString();
+    }
+
+}
@@ -39,6 +39,10 @@ import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
 import static org.threeten.bp.temporal.ChronoUnit.YEARS;
 
 import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.jdk8.Jdk8Methods;
 
 /**
@@ -209,7 +213,7 @@ public final class TemporalAdjusters {
     /**
      * Enum implementing the adjusters.
      */
-    private static class Impl implements TemporalAdjuster {
+    private static class Impl extends IsoAdjuster {
         /** First day of month adjuster. */
         private static final Impl FIRST_DAY_OF_MONTH = new Impl(0);
         /** Last day of month adjuster. */
@@ -228,7 +232,20 @@ public final class TemporalAdjusters {
             this.ordinal = ordinal;
         }
         @Override
-        public Temporal adjustInto(Temporal temporal) {
+        LocalDate adjustIso(LocalDate date) {
+            switch (ordinal) {
+                case 0: return date.withDayOfMonth(1);
+                case 1: return date.withDayOfMonth(date.lengthOfMonth());
+                case 2: return (date.getMonthValue() == 12 ?
+                        LocalDate.of(date.getYear() + 1, 1, 1) : LocalDate.of(date.getYear(), date.getMonthValue() + 1, 1));
+                case 3: return LocalDate.of(date.getYear(), 1, 1);
+                case 4: return LocalDate.of(date.getYear(), 12, 31);
+                case 5: return LocalDate.of(date.getYear() + 1, 1, 1);
+            }
+            throw new IllegalStateException("Unreachable");
+        }
+        @Override
+        Temporal adjustGeneric(Temporal temporal) {
             switch (ordinal) {
                 case 0: return temporal.with(DAY_OF_MONTH, 1);
                 case 1: return temporal.with(DAY_OF_MONTH, temporal.range(DAY_OF_MONTH).getMaximum());
@@ -324,7 +341,7 @@ public final class TemporalAdjusters {
     /**
      * Class implementing day-of-week in month adjuster.
      */
-    private static final class DayOfWeekInMonth implements TemporalAdjuster {
+    private static final class DayOfWeekInMonth extends IsoAdjuster {
         /** The ordinal. */
         private final int ordinal;
         /** The day-of-week value, from 1 to 7. */
@@ -336,7 +353,20 @@ public final class TemporalAdjusters {
             this.dowValue = dow.getValue();
         }
         @Override
-        public Temporal adjustInto(Temporal temporal) {
+        LocalDate adjustIso(LocalDate date) {
+            long epochDay = date.toEpochDay();
+            if (ordinal >= 0) {
+                long first = epochDay - (date.getDayOfMonth() - 1);
+                int dowDiff = Jdk8Methods.floorMod(dowValue - dayOfWeek(first), 7);
+                return LocalDate.ofEpochDay(first + dowDiff + (ordinal - 1L) * 7L);
+            } else {
+                long last = epochDay + (date.lengthOfMonth() - date.getDayOfMonth());
+                int daysDiff = Jdk8Methods.floorMod(dayOfWeek(last) - dowValue, 7);
+                return LocalDate.ofEpochDay(last - daysDiff + (ordinal + 1L) * 7L);
+            }
+        }
+        @Override
+        Temporal adjustGeneric(Temporal temporal) {
             if (ordinal >= 0) {
                 Temporal temp = temporal.with(DAY_OF_MONTH, 1);
                 int curDow = temp.get(DAY_OF_WEEK);
@@ -440,7 +470,7 @@ public final class TemporalAdjusters {
     /**
      * Implementation of next, previous or current day-of-week.
      */
-    private static final class RelativeDayOfWeek implements TemporalAdjuster {
+    private static final class RelativeDayOfWeek extends IsoAdjuster {
         /** Whether the current date is a valid answer. */
         private final int relative;
         /** The day-of-week value, from 1 to 7. */
@@ -453,7 +483,22 @@ public final class TemporalAdjusters {
         }
 
         @Override
-        public Temporal adjustInto(Temporal temporal) {
+        LocalDate adjustIso(LocalDate date) {
+            long epochDay = date.toEpochDay();
+            int calDow = dayOfWeek(epochDay);
+            if (relative < 2 && calDow == dowValue) {
+                return date;
+            }
+            if ((relative & 1) == 0) {
+                int daysDiff = calDow - dowValue;
+                return LocalDate.ofEpochDay(epochDay + (daysDiff >= 0 ? 7 - daysDiff : -daysDiff));
+            } else {
+                int daysDiff = dowValue - calDow;
+                return LocalDate.ofEpochDay(epochDay - (daysDiff >= 0 ? 7 - daysDiff : -daysDiff));
+            }
+        }
+        @Override
+        Temporal adjustGeneric(Temporal temporal) {
             int calDow = temporal.get(DAY_OF_WEEK);
             if (relative < 2 && calDow == dowValue) {
                 return temporal;
@@ -468,4 +513,140 @@ public final class TemporalAdjusters {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Returns an adjuster that applies each of the specified adjusters in turn.
+     * This is used for expressions like 'the first Monday after the end of the month'.
+     * <p>
+     * The result is the same as calling {@code with(TemporalAdjuster)} once for each
+     * adjuster in order. When adjusting an ISO date or date-time, consecutive adjusters
+     * from this class are applied to the date alone, creating a single result.
+     *
+     * @param adjusters  the adjusters to apply in order, not null, no nulls
+     * @return the chained adjuster, not null
+     */
+    public static TemporalAdjuster chain(TemporalAdjuster... adjusters) {
+        Jdk8Methods.requireNonNull(adjusters, "adjusters");
+        TemporalAdjuster[] copy = adjusters.clone();
+        for (TemporalAdjuster adjuster : copy) {
+            Jdk8Methods.requireNonNull(adjuster, "adjuster");
+        }
+        return new Chain(copy);
+    }
+
+    /**
+     * Implementation of a chain of adjusters.
+     */
+    private static final class Chain implements TemporalAdjuster {
+        /** The adjusters, applied in order. */
+        private final TemporalAdjuster[] adjusters;
+
+        private Chain(TemporalAdjuster[] adjusters) {
+            this.adjusters = adjusters;
+        }
+
+        @Override
+        public Temporal adjustInto(Temporal temporal) {
+            Temporal result = temporal;
+            int i = 0;
+            while (i < adjusters.length) {
+                LocalDate date = (adjusters[i] instanceof IsoAdjuster ? isoDate(result) : null);
+                if (date == null) {
+                    result = result.with(adjusters[i++]);
+                } else {
+                    LocalDate adjusted = date;
+                    do {
+                        adjusted = ((IsoAdjuster) adjusters[i++]).adjustIso(adjusted);
+                    } while (i < adjusters.length && adjusters[i] instanceof IsoAdjuster);
+                    result = withIsoDate(result, date, adjusted);
+                }
+            }
+            return result;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Base class of the adjusters that can work directly on an ISO date.
+     * <p>
+     * The ISO date and date-time classes are adjusted by computing the new date
+     * from the epoch-day and then creating a single result.
+     * Other temporals are adjusted using fields and units.
+     * <p>
+     * A {@code ZonedDateTime} in a zone with transitions is also adjusted using fields
+     * and units. Those adjusters resolve an intermediate date-time first, and the offset
+     * chosen for it is the preferred offset when the result falls in an overlap.
+     */
+    private static abstract class IsoAdjuster implements TemporalAdjuster {
+        @Override
+        public final Temporal adjustInto(Temporal temporal) {
+            LocalDate date = isoDate(temporal);
+            if (date != null) {
+                return withIsoDate(temporal, date, adjustIso(date));
+            }
+            return adjustGeneric(temporal);
+        }
+        /**
+         * Adjusts an ISO date.
+         *
+         * @param date  the date to adjust, not null
+         * @return the adjusted date, not null
+         */
+        abstract LocalDate adjustIso(LocalDate date);
+        /**
+         * Adjusts any temporal using fields and units.
+         *
+         * @param temporal  the temporal to adjust, not null
+         * @return the adjusted temporal, not null
+         */
+        abstract Temporal adjustGeneric(Temporal temporal);
+    }
+
+    /**
+     * Obtains the date of the ISO types whose date can be replaced directly.
+     *
+     * @param temporal  the temporal to query, not null
+     * @return the ISO date, null if the temporal must be adjusted using fields
+     */
+    private static LocalDate isoDate(Temporal temporal) {
+        if (temporal instanceof LocalDate) {
+            return (LocalDate) temporal;
+        } else if (temporal instanceof LocalDateTime) {
+            return ((LocalDateTime) temporal).toLocalDate();
+        } else if (temporal instanceof ZonedDateTime) {
+            ZonedDateTime zdt = (ZonedDateTime) temporal;
+            return (zdt.getZone().getRules().isFixedOffset() ? zdt.toLocalDate() : null);
+        } else if (temporal instanceof OffsetDateTime) {
+            return ((OffsetDateTime) temporal).toLocalDate();
+        }
+        return null;
+    }
+
+    /**
+     * Replaces the date of an ISO temporal.
+     *
+     * @param temporal  the temporal to adjust, not null
+     * @param date  the current date of the temporal, not null
+     * @param adjusted  the adjusted date, not null
+     * @return the adjusted temporal, not null
+     */
+    private static Temporal withIsoDate(Temporal temporal, LocalDate date, LocalDate adjusted) {
+        if (adjusted.equals(date)) {
+            return temporal;
+        } else if (temporal instanceof LocalDate) {
+            return adjusted;
+        }
+        return temporal.with(adjusted);
+    }
+
+    /**
+     * Gets the ISO day-of-week of an epoch-day.
+     *
+     * @param epochDay  the epoch-day
+     * @return the day-of-week, from 1 (Monday) to 7 (Sunday)
+     */
+    private static int dayOfWeek(long epochDay) {
+        return Jdk8Methods.floorMod(epochDay + 3, 7) + 1;
+    }
+
 }
@@ -51,7 +51,11 @@ import java.util.concurrent.ConcurrentMap;
 
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
 import org.threeten.bp.Year;
+import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.chrono.ChronoLocalDate;
 import org.threeten.bp.chrono.Chronology;
 import org.threeten.bp.format.ResolverStyle;
@@ -124,10 +128,22 @@ public final class WeekFields implements Serializable {
     // this is because callers shouldn't be expected to know the details of validity
 
     /**
-     * The cache of rules by firstDayOfWeek plus minimalDays.
+     * The rules for every firstDayOfWeek and minimalDays, indexed by the day-of-week
+     * ordinal and then the minimal days minus one.
      * Initialized first to be available for definition of ISO, etc.
      */
-    private static final ConcurrentMap<String, WeekFields> CACHE = new ConcurrentHashMap<String, WeekFields>(4, 0.75f, 2);
+    private static final WeekFields[][] CACHE = new WeekFields[7][7];
+    static {
+        for (DayOfWeek dow : DayOfWeek.values()) {
+            for (int minDays = 1; minDays <= 7; minDays++) {
+                CACHE[dow.ordinal()][minDays - 1] = new WeekFields(dow, minDays);
+            }
+        }
+    }
+    /**
+     * The cache of rules by locale.
+     */
+    private static final ConcurrentMap<Locale, WeekFields> LOCALE_CACHE = new ConcurrentHashMap<Locale, WeekFields>(16, 0.75f, 2);
 
     /**
      * The ISO-8601 definition, where a week starts on Monday and the first week
@@ -141,7 +157,7 @@ public final class WeekFields implements Serializable {
      * Note also that the first few days of a calendar year may be in the
      * week-based-year corresponding to the previous calendar year.
      */
-    public static final WeekFields ISO = new WeekFields(DayOfWeek.MONDAY, 4);
+    public static final WeekFields ISO = WeekFields.of(DayOfWeek.MONDAY, 4);
 
     /**
      * The common definition of a week that starts on Sunday.
@@ -197,14 +213,19 @@ public final class WeekFields implements Serializable {
      */
     public static WeekFields of(Locale locale) {
         Jdk8Methods.requireNonNull(locale, "locale");
-        locale = new Locale(locale.getLanguage(), locale.getCountry());  // elminate variants
-
-        // obtain these from GregorianCalendar for now
-        GregorianCalendar gcal = new GregorianCalendar(locale);
-        int calDow = gcal.getFirstDayOfWeek();
-        DayOfWeek dow = DayOfWeek.SUNDAY.plus(calDow - 1);
-        int minDays = gcal.getMinimalDaysInFirstWeek();
-        return WeekFields.of(dow, minDays);
+        WeekFields rules = LOCALE_CACHE.get(locale);
+        if (rules == null) {
+            Locale baseLocale = new Locale(locale.getLanguage(), locale.getCountry());  // elminate variants
+
+            // obtain these from GregorianCalendar for now
+            GregorianCalendar gcal = new GregorianCalendar(baseLocale);
+            int calDow = gcal.getFirstDayOfWeek();
+            DayOfWeek dow = DayOfWeek.SUNDAY.plus(calDow - 1);
+            int minDays = gcal.getMinimalDaysInFirstWeek();
+            rules = WeekFields.of(dow, minDays);
+            LOCALE_CACHE.putIfAbsent(locale, rules);
+        }
+        return rules;
     }
 
     /**
@@ -228,14 +249,11 @@ public final class WeekFields implements Serializable {
      *      or greater than 7
      */
     public static WeekFields of(DayOfWeek firstDayOfWeek, int minimalDaysInFirstWeek) {
-        String key = firstDayOfWeek.toString() + minimalDaysInFirstWeek;
-        WeekFields rules = CACHE.get(key);
-        if (rules == null) {
-            rules = new WeekFields(firstDayOfWeek, minimalDaysInFirstWeek);
-            CACHE.putIfAbsent(key, rules);
-            rules = CACHE.get(key);
+        Jdk8Methods.requireNonNull(firstDayOfWeek, "firstDayOfWeek");
+        if (minimalDaysInFirstWeek < 1 || minimalDaysInFirstWeek > 7) {
+            throw new IllegalArgumentException("Minimal number of days is invalid");
         }
-        return rules;
+        return CACHE[firstDayOfWeek.ordinal()][minimalDaysInFirstWeek - 1];
     }
 
     //-----------------------------------------------------------------------
@@ -630,6 +648,10 @@ public final class WeekFields implements Serializable {
 
         @Override
         public long getFrom(TemporalAccessor temporal) {
+            LocalDate isoDate = isoDate(temporal);
+            if (isoDate != null) {
+                return getFrom(isoDate);
+            }
             // Offset the ISO DOW by the start of this week
             int sow = weekDef.getFirstDayOfWeek().getValue();
             int isoDow = temporal.get(ChronoField.DAY_OF_WEEK);
@@ -654,6 +676,68 @@ public final class WeekFields implements Serializable {
             }
         }
 
+        /**
+         * Obtains the ISO date of those temporals that hold one directly.
+         *
+         * @param temporal  the temporal to query, not null
+         * @return the ISO date, null if the temporal must be queried field by field
+         */
+        private static LocalDate isoDate(TemporalAccessor temporal) {
+            if (temporal instanceof LocalDate) {
+                return (LocalDate) temporal;
+            } else if (temporal instanceof LocalDateTime) {
+                return ((LocalDateTime) temporal).toLocalDate();
+            } else if (temporal instanceof ZonedDateTime) {
+                return ((ZonedDateTime) temporal).toLocalDate();
+            } else if (temporal instanceof OffsetDateTime) {
+                return ((OffsetDateTime) temporal).toLocalDate();
+            }
+            return null;
+        }
+
+        /**
+         * Gets the value of this field from an ISO date.
+         * <p>
+         * This matches the generic path, but works on the primitive values of the date.
+         * The partial week at the start of the year is numbered using the length of
+         * the previous year rather than by creating a date one week earlier.
+         *
+         * @param date  the date to query, not null
+         * @return the value of this field
+         */
+        private long getFrom(LocalDate date) {
+            int sow = weekDef.getFirstDayOfWeek().getValue();
+            int dow = Jdk8Methods.floorMod(date.getDayOfWeek().getValue() - sow, 7) + 1;
+            if (rangeUnit == ChronoUnit.WEEKS) {
+                return dow;
+            } else if (rangeUnit == ChronoUnit.MONTHS) {
+                int dom = date.getDayOfMonth();
+                return computeWeek(startOfWeekOffset(dom, dow), dom);
+            }
+            int doy = date.getDayOfYear();
+            int offset = startOfWeekOffset(doy, dow);
+            int woy = computeWeek(offset, doy);
+            if (rangeUnit == ChronoUnit.YEARS) {
+                return woy;
+            }
+            boolean forever = (rangeUnit == ChronoUnit.FOREVER);
+            int year = date.getYear();
+            if (woy == 0) {
+                // the partial week belongs to the last week of the previous year
+                if (forever) {
+                    return year - 1;
+                }
+                int previousDoy = doy + (Year.isLeap(year - 1) ? 366 : 365);
+                return computeWeek(startOfWeekOffset(previousDoy, dow), previousDoy);
+            } else if (woy >= 53) {
+                int weekIndexOfFirstWeekNextYear = computeWeek(offset, date.lengthOfYear() + weekDef.getMinimalDaysInFirstWeek());
+                if (woy >= weekIndexOfFirstWeekNextYear) {
+                    return (forever ? year + 1 : woy - (weekIndexOfFirstWeekNextYear - 1));
+                }
+            }
+            return (forever ? year : woy);
+        }
+
         private int localizedDayOfWeek(TemporalAccessor temporal, int sow) {
             int isoDow = temporal.get(DAY_OF_WEEK);
             return Jdk8Methods.floorMod(isoDow - sow, 7) + 1;
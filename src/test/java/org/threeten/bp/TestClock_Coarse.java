@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2007-present Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test coarse clock.
+ */
+@Test
+public class TestClock_Coarse extends AbstractTest {
+
+    private static final ZoneId MOSCOW = ZoneId.of("Europe/Moscow");
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+    private static final Duration AMOUNT = Duration.ofMillis(10);
+    private static final ZonedDateTime ZDT = LocalDateTime.of(2008, 6, 30, 11, 30, 10, 500).atZone(ZoneOffset.ofHours(2));
+    private static final Instant INSTANT = ZDT.toInstant();
+
+    //-----------------------------------------------------------------------
+    public void test_isSerializable() throws IOException, ClassNotFoundException {
+        assertSerializable(Clock.coarse(Clock.fixed(INSTANT, PARIS), AMOUNT));
+        assertSerializable(Clock.coarse(Clock.systemUTC(), AMOUNT).withZone(MOSCOW));
+    }
+
+    public void test_deserialized_instant() throws IOException, ClassNotFoundException {
+        Clock test = (Clock) writeThenRead(Clock.coarse(Clock.fixed(INSTANT, PARIS), AMOUNT));
+        assertEquals(test.instant(), INSTANT);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_coarse_fixed() {
+        Clock test = Clock.coarse(Clock.fixed(INSTANT, PARIS), AMOUNT);
+        assertEquals(test.instant(), INSTANT);
+        assertEquals(test.millis(), INSTANT.toEpochMilli());
+        assertEquals(test.getZone(), PARIS);
+    }
+
+    public void test_coarse_system() throws InterruptedException {
+        Clock test = Clock.coarse(Clock.systemUTC(), Duration.ofMillis(1));
+        Instant first = test.instant();
+        for (int i = 0; i < 1000; i++) {
+            Thread.sleep(5);
+            if (test.instant().isAfter(first)) {
+                assertTrue(System.currentTimeMillis() - test.millis() < 1000);
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_coarse_sameInstanceBetweenTicks() {
+        Clock test = Clock.coarse(Clock.systemUTC(), Duration.ofHours(1));
+        assertSame(test.instant(), test.instant());
+    }
+
+    public void test_coarse_sharedTickerSamplesOnce() {
+        CountingClock base = new CountingClock();
+        Clock a = Clock.coarse(base, Duration.ofHours(1));
+        Clock b = Clock.coarse(base, Duration.ofHours(1));
+        assertSame(a.instant(), b.instant());
+        assertEquals(base.count.get(), 1);
+    }
+
+    public void test_coarse_baseClockFails() throws InterruptedException {
+        CountingClock base = new CountingClock();
+        Clock test = Clock.coarse(base, Duration.ofMillis(1));
+        base.fail = true;
+        assertTrue(awaitFailure(test, true));
+        base.fail = false;
+        assertTrue(awaitFailure(test, false));
+        assertEquals(test.instant(), INSTANT);
+    }
+
+    public void test_coarse_samplerStopsWhenUnreachable() {
+        CountingClock base = new CountingClock();
+        long granularityNanos = AMOUNT.toNanos();
+        Clock.CoarseClock.Ticker ticker = new Clock.CoarseClock.Ticker(base, granularityNanos);
+        WeakReference<Clock.CoarseClock.Ticker> ref = new WeakReference<Clock.CoarseClock.Ticker>(ticker);
+        Clock.CoarseClock.Sampler sampler = new Clock.CoarseClock.Sampler(
+                new Clock.CoarseClock.TickerKey(base, granularityNanos), ref, granularityNanos);
+        assertEquals(sampler.sampleOrStop(), true);
+        assertEquals(base.count.get(), 1);
+        assertEquals(ticker.instant(), INSTANT);
+        ref.clear();
+        assertEquals(sampler.sampleOrStop(), false);
+        assertEquals(base.count.get(), 1);
+        sampler.run();  // returns, as the ticker is unreachable
+        assertEquals(base.count.get(), 1);
+    }
+
+    private static boolean awaitFailure(Clock clock, boolean failing) throws InterruptedException {
+        for (int i = 0; i < 1000; i++) {
+            try {
+                clock.instant();
+                if (failing == false) {
+                    return true;
+                }
+            } catch (DateTimeException ex) {
+                assertTrue(ex.getCause() instanceof IllegalStateException);
+                if (failing) {
+                    return true;
+                }
+            }
+            Thread.sleep(5);
+        }
+        return false;
+    }
+
+    static final class CountingClock extends Clock {
+        final AtomicInteger count = new AtomicInteger();
+        volatile boolean fail;
+        @Override
+        public ZoneId getZone() {
+            return PARIS;
+        }
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+        @Override
+        public Instant instant() {
+            count.incrementAndGet();
+            if (fail) {
+                throw new IllegalStateException("Clock failure");
+            }
+            return INSTANT;
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_coarse_zeroDuration() {
+        Clock.coarse(Clock.systemUTC(), Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_coarse_subMilli() {
+        Clock.coarse(Clock.systemUTC(), Duration.ofNanos(999999));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_coarse_negative() {
+        Clock.coarse(Clock.systemUTC(), Duration.ofMillis(-1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_coarse_nullClock() {
+        Clock.coarse(null, AMOUNT);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_coarse_nullDuration() {
+        Clock.coarse(Clock.systemUTC(), null);
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_withZone() {
+        Clock test = Clock.coarse(Clock.fixed(INSTANT, PARIS), AMOUNT);
+        Clock changed = test.withZone(MOSCOW);
+        assertEquals(test.getZone(), PARIS);
+        assertEquals(changed.getZone(), MOSCOW);
+        assertEquals(changed.instant(), INSTANT);
+    }
+
+    public void test_withZone_same() {
+        Clock test = Clock.coarse(Clock.fixed(INSTANT, PARIS), AMOUNT);
+        Clock changed = test.withZone(PARIS);
+        assertSame(test, changed);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_withZone_null() {
+        Clock.coarse(Clock.fixed(INSTANT, PARIS), AMOUNT).withZone(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        Clock a = Clock.coarse(Clock.fixed(INSTANT, PARIS), AMOUNT);
+        Clock b = Clock.coarse(Clock.fixed(INSTANT, PARIS), AMOUNT);
+        assertEquals(a.equals(a), true);
+        assertEquals(a.equals(b), true);
+        assertEquals(b.equals(a), true);
+
+        Clock c = Clock.coarse(Clock.fixed(INSTANT, MOSCOW), AMOUNT);
+        assertEquals(a.equals(c), false);
+
+        Clock d = Clock.coarse(Clock.fixed(INSTANT, PARIS), AMOUNT.plusMillis(1));
+        assertEquals(a.equals(d), false);
+
+        Clock e = a.withZone(MOSCOW);
+        assertEquals(a.equals(e), false);
+
+        assertEquals(a.equals(null), false);
+        assertEquals(a.equals("other type"), false);
+        assertEquals(a.equals(Clock.fixed(INSTANT, PARIS)), false);
+    }
+
+    public void test_hashCode() {
+        Clock a = Clock.coarse(Clock.fixed(INSTANT, PARIS), AMOUNT);
+        Clock b = Clock.coarse(Clock.fixed(INSTANT, PARIS), AMOUNT);
+        assertEquals(a.hashCode(), b.hashCode());
+
+        Clock c = Clock.coarse(Clock.fixed(INSTANT, PARIS), AMOUNT.plusMillis(1));
+        assertEquals(a.hashCode() == c.hashCode(), false);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_toString() {
+        Clock test = Clock.coarse(Clock.fixed(INSTANT, PARIS), AMOUNT);
+        assertEquals(test.toString(), "CoarseClock[FixedClock[2008-06-30T09:30:10.000000500Z,Europe/Paris],PT0.01S,Europe/Paris]");
+    }
+
+}
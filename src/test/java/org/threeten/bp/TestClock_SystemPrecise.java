@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2007-present Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test precise system clock.
+ */
+@Test
+public class TestClock_SystemPrecise extends AbstractTest {
+
+    private static final ZoneId MOSCOW = ZoneId.of("Europe/Moscow");
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+    //-----------------------------------------------------------------------
+    public void test_isSerializable() throws IOException, ClassNotFoundException {
+        assertSerializable(Clock.systemPreciseUTC());
+        assertSerializable(Clock.systemPrecise(PARIS));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_instant() {
+        Clock system = Clock.systemPreciseUTC();
+        assertEquals(system.getZone(), ZoneOffset.UTC);
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            Instant instant = system.instant();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis - instant.toEpochMilli()) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_millis() {
+        Clock system = Clock.systemPreciseUTC();
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            long instant = system.millis();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis - instant) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_epochNanos() {
+        Clock system = Clock.systemPreciseUTC();
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            long nanos = system.epochNanos();
+            long systemNanos = System.currentTimeMillis() * 1000000L;
+            if (Math.abs(systemNanos - nanos) < 10000000L) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_epochNanos_matchesInstant() {
+        Clock system = Clock.systemPreciseUTC();
+        long before = system.epochNanos();
+        Instant instant = system.instant();
+        long after = system.epochNanos();
+        long nanos = instant.getEpochSecond() * 1000000000L + instant.getNano();
+        // allow for re-reading of the wall clock between calls
+        assertTrue(nanos >= before - 1000000L);
+        assertTrue(nanos <= after + 1000000L);
+    }
+
+    public void test_epochNanos_system() {
+        Clock system = Clock.systemUTC();
+        for (int i = 0; i < 10000; i++) {
+            long nanos = system.epochNanos();
+            long systemNanos = System.currentTimeMillis() * 1000000L;
+            if (systemNanos - nanos < 10000000L) {
+                assertEquals(nanos % 1000000L, 0);
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_epochNanos_fixed() {
+        Clock fixed = Clock.fixed(Instant.ofEpochSecond(1234, 5678), ZoneOffset.UTC);
+        assertEquals(fixed.epochNanos(), 1234000005678L);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_epochNanos_fixedTooLarge() {
+        Clock.fixed(Instant.MAX, ZoneOffset.UTC).epochNanos();
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_systemPreciseUTC() {
+        Clock test = Clock.systemPreciseUTC();
+        assertEquals(test.getZone(), ZoneOffset.UTC);
+        assertEquals(test, Clock.systemPrecise(ZoneOffset.UTC));
+    }
+
+    public void test_systemPrecise_ZoneId() {
+        Clock test = Clock.systemPrecise(PARIS);
+        assertEquals(test.getZone(), PARIS);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_systemPrecise_nullZoneId() {
+        Clock.systemPrecise(null);
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_withZone() {
+        Clock test = Clock.systemPrecise(PARIS);
+        Clock changed = test.withZone(MOSCOW);
+        assertEquals(test.getZone(), PARIS);
+        assertEquals(changed.getZone(), MOSCOW);
+        assertEquals(changed, Clock.systemPrecise(MOSCOW));
+    }
+
+    public void test_withZone_same() {
+        Clock test = Clock.systemPrecise(PARIS);
+        Clock changed = test.withZone(PARIS);
+        assertSame(test, changed);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_withZone_null() {
+        Clock.systemPreciseUTC().withZone(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        Clock a = Clock.systemPreciseUTC();
+        Clock b = Clock.systemPreciseUTC();
+        assertEquals(a.equals(a), true);
+        assertEquals(a.equals(b), true);
+        assertEquals(b.equals(a), true);
+
+        Clock c = Clock.systemPrecise(PARIS);
+        assertEquals(a.equals(c), false);
+        assertEquals(c.equals(a), false);
+
+        assertEquals(a.equals(null), false);
+        assertEquals(a.equals("other type"), false);
+        assertEquals(a.equals(Clock.systemUTC()), false);
+        assertEquals(Clock.systemUTC().equals(a), false);
+    }
+
+    public void test_hashCode() {
+        Clock a = Clock.systemPreciseUTC();
+        Clock b = Clock.systemPreciseUTC();
+        assertEquals(a.hashCode(), b.hashCode());
+
+        Clock c = Clock.systemPrecise(PARIS);
+        assertEquals(a.hashCode() == c.hashCode(), false);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_toString() {
+        Clock test = Clock.systemPrecise(PARIS);
+        assertEquals(test.toString(), "PreciseSystemClock[Europe/Paris]");
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2007-present Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.zone.ZoneRules;
+
+/**
+ * Test DateTimeColumns.
+ */
+@Test
+public class TestDateTimeColumns {
+
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+    //-----------------------------------------------------------------------
+    // epochDaysToYearMonthDay()
+    //-----------------------------------------------------------------------
+    public void test_epochDaysToYearMonthDay_consecutive() {
+        long[] epochDays = new long[1000000];
+        long start = LocalDate.of(-1200, 1, 1).toEpochDay();
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = start + i;
+        }
+        assertEpochDays(epochDays);
+    }
+
+    public void test_epochDaysToYearMonthDay_random() {
+        Random random = new Random(7);
+        long min = LocalDate.MIN.toEpochDay();
+        long max = LocalDate.MAX.toEpochDay();
+        long[] epochDays = new long[100000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = min + (long) (random.nextDouble() * (max - min));
+        }
+        assertEpochDays(epochDays);
+    }
+
+    public void test_epochDaysToYearMonthDay_extremes() {
+        long min = LocalDate.MIN.toEpochDay();
+        long max = LocalDate.MAX.toEpochDay();
+        assertEpochDays(new long[] {min, min + 1, min + 59, min + 60, -1, 0, 1, max - 1, max});
+    }
+
+    public void test_epochDaysToYearMonthDay_empty() {
+        DateTimeColumns.epochDaysToYearMonthDay(new long[0], new int[0], new int[0], new int[0]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_epochDaysToYearMonthDay_tooLow() {
+        long[] epochDays = {0, LocalDate.MIN.toEpochDay() - 1};
+        DateTimeColumns.epochDaysToYearMonthDay(epochDays, new int[2], new int[2], new int[2]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_epochDaysToYearMonthDay_tooHigh() {
+        long[] epochDays = {LocalDate.MAX.toEpochDay() + 1, 0};
+        DateTimeColumns.epochDaysToYearMonthDay(epochDays, new int[2], new int[2], new int[2]);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_epochDaysToYearMonthDay_shortOutput() {
+        DateTimeColumns.epochDaysToYearMonthDay(new long[2], new int[2], new int[1], new int[2]);
+    }
+
+    private void assertEpochDays(long[] epochDays) {
+        int[] years = new int[epochDays.length];
+        int[] months = new int[epochDays.length];
+        int[] days = new int[epochDays.length];
+        DateTimeColumns.epochDaysToYearMonthDay(epochDays, years, months, days);
+        for (int i = 0; i < epochDays.length; i++) {
+            LocalDate expected = LocalDate.ofEpochDay(epochDays[i]);
+            assertEquals(LocalDate.of(years[i], months[i], days[i]), expected);
+        }
+        long[] roundTrip = new long[epochDays.length];
+        DateTimeColumns.yearMonthDayToEpochDays(years, months, days, roundTrip);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(roundTrip[i], epochDays[i]);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // yearMonthDayToEpochDays()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="invalidDates")
+    Object[][] data_invalidDates() {
+        return new Object[][] {
+            {2012, 2, 30},
+            {2011, 2, 29},
+            {2012, 4, 31},
+            {2012, 13, 1},
+            {2012, 0, 1},
+            {2012, 1, 0},
+            {Year.MAX_VALUE + 1, 1, 1},
+        };
+    }
+
+    @Test(dataProvider="invalidDates", expectedExceptions = DateTimeException.class)
+    public void test_yearMonthDayToEpochDays_invalid(int year, int month, int day) {
+        int[] years = {2012, year};
+        int[] months = {1, month};
+        int[] days = {1, day};
+        DateTimeColumns.yearMonthDayToEpochDays(years, months, days, new long[2]);
+    }
+
+    public void test_yearMonthDayToEpochDays_leapDay() {
+        long[] epochDays = new long[2];
+        DateTimeColumns.yearMonthDayToEpochDays(new int[] {2000, -4}, new int[] {2, 2}, new int[] {29, 29}, epochDays);
+        assertEquals(epochDays[0], LocalDate.of(2000, 2, 29).toEpochDay());
+        assertEquals(epochDays[1], LocalDate.of(-4, 2, 29).toEpochDay());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_yearMonthDayToEpochDays_shortOutput() {
+        DateTimeColumns.yearMonthDayToEpochDays(new int[2], new int[2], new int[2], new long[1]);
+    }
+
+    //-----------------------------------------------------------------------
+    // epochSecondsToLocal()
+    //-----------------------------------------------------------------------
+    public void test_epochSecondsToLocal_sorted() {
+        long start = LocalDateTime.of(2011, 10, 30, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long[] epochSeconds = new long[20000];
+        for (int i = 0; i < epochSeconds.length; i++) {
+            epochSeconds[i] = start + i * 1799L;
+        }
+        assertEpochSeconds(epochSeconds, PARIS.getRules());
+    }
+
+    public void test_epochSecondsToLocal_random() {
+        Random random = new Random(7);
+        long[] epochSeconds = new long[20000];
+        for (int i = 0; i < epochSeconds.length; i++) {
+            epochSeconds[i] = (long) ((random.nextDouble() - 0.5d) * 20000000000L);
+        }
+        assertEpochSeconds(epochSeconds, PARIS.getRules());
+    }
+
+    public void test_epochSecondsToLocal_transitions() {
+        long transition = PARIS.getRules().nextTransition(Instant.ofEpochSecond(1300000000L)).toEpochSecond();
+        long[] epochSeconds = {transition - 1, transition, transition + 1, transition - 1, transition};
+        assertEpochSeconds(epochSeconds, PARIS.getRules());
+    }
+
+    public void test_epochSecondsToLocal_fixed() {
+        long[] epochSeconds = {-86401, -1, 0, 1, 86399, 1300000000L};
+        assertEpochSeconds(epochSeconds, ZoneOffset.ofHoursMinutes(-5, -30).getRules());
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_epochSecondsToLocal_tooHigh() {
+        long[] epochSeconds = {Instant.MAX.getEpochSecond()};
+        DateTimeColumns.epochSecondsToLocal(epochSeconds, ZoneOffset.ofHours(18).getRules(), new long[1], new int[1]);
+    }
+
+    public void test_epochSecondsToLocal_invalidWritesNothing() {
+        long[] epochSeconds = {0, 1, Instant.MAX.getEpochSecond()};
+        long[] epochDays = {-7, -7, -7};
+        int[] secondsOfDay = {-7, -7, -7};
+        try {
+            DateTimeColumns.epochSecondsToLocal(epochSeconds, ZoneOffset.ofHours(18).getRules(), epochDays, secondsOfDay);
+            fail();
+        } catch (DateTimeException ex) {
+            // expected
+        }
+        assertEquals(epochDays, new long[] {-7, -7, -7});
+        assertEquals(secondsOfDay, new int[] {-7, -7, -7});
+    }
+
+    public void test_epochSecondsToLocal_extremes() {
+        long minSecond = LocalDate.MIN.toEpochDay() * 86400;
+        long maxSecond = LocalDate.MAX.toEpochDay() * 86400 + 86399;
+        long[] epochSeconds = {minSecond, 0, minSecond + 86400};
+        assertEpochSeconds(epochSeconds, ZoneOffset.ofHours(18).getRules());
+        assertEpochSeconds(epochSeconds, ZoneOffset.UTC.getRules());
+        epochSeconds = new long[] {maxSecond, 0, maxSecond - 86400};
+        assertEpochSeconds(epochSeconds, ZoneOffset.ofHours(-18).getRules());
+        assertEpochSeconds(epochSeconds, ZoneOffset.UTC.getRules());
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_epochSecondsToLocal_tooLow() {
+        long[] epochSeconds = {0, LocalDate.MIN.toEpochDay() * 86400};
+        DateTimeColumns.epochSecondsToLocal(epochSeconds, ZoneOffset.ofHours(-1).getRules(), new long[2], new int[2]);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_epochSecondsToLocal_nullRules() {
+        DateTimeColumns.epochSecondsToLocal(new long[1], null, new long[1], new int[1]);
+    }
+
+    private void assertEpochSeconds(long[] epochSeconds, ZoneRules rules) {
+        long[] epochDays = new long[epochSeconds.length];
+        int[] secondsOfDay = new int[epochSeconds.length];
+        DateTimeColumns.epochSecondsToLocal(epochSeconds, rules, epochDays, secondsOfDay);
+        for (int i = 0; i < epochSeconds.length; i++) {
+            Instant instant = Instant.ofEpochSecond(epochSeconds[i]);
+            LocalDateTime expected = LocalDateTime.ofEpochSecond(epochSeconds[i], 0, rules.getOffset(instant));
+            assertEquals(epochDays[i], expected.toLocalDate().toEpochDay());
+            assertEquals(secondsOfDay[i], expected.toLocalTime().toSecondOfDay());
+        }
+    }
+
+}
@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2007-present Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test DateTimeSequence and its implementations.
+ */
+@Test
+public class TestDateTimeSequence {
+
+    private static final LocalDate DATE_2012_01_31 = LocalDate.of(2012, 1, 31);
+
+    //-----------------------------------------------------------------------
+    // LocalDate.datesUntil()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="datesUntil")
+    Object[][] data_datesUntil() {
+        return new Object[][] {
+            {"2012-01-01", "2012-01-01", "P1D"},
+            {"2012-01-01", "2012-01-02", "P1D"},
+            {"2012-01-01", "2013-03-01", "P1D"},
+            {"2012-01-01", "2013-03-01", "P3D"},
+            {"2012-01-01", "2013-03-01", "P2W"},
+            {"2013-03-01", "2012-01-01", "P-3D"},
+            {"2012-01-31", "2015-03-01", "P1M"},
+            {"2012-01-31", "2015-03-01", "P1M1D"},
+            {"2012-01-31", "2015-02-28", "P1M"},
+            {"2012-01-31", "2015-03-31", "P2M"},
+            {"2012-02-29", "2032-02-29", "P1Y"},
+            {"2012-02-29", "2032-03-01", "P1Y"},
+            {"2032-02-29", "2012-02-28", "P-1Y"},
+            {"2032-03-31", "2012-01-01", "P-1M-3D"},
+            {"2012-05-01", "2012-01-01", "P-1M"},
+            {"2012-03-31", "2011-09-30", "P-1M"},
+            {"1991-04-01", "1990-09-28", "P-2M-1D"},
+            {"2012-01-01", "2012-05-01", "P1M"},
+        };
+    }
+
+    @Test(dataProvider="datesUntil")
+    public void test_datesUntil(String startStr, String endStr, String stepStr) {
+        LocalDate start = LocalDate.parse(startStr);
+        LocalDate end = LocalDate.parse(endStr);
+        Period step = Period.parse(stepStr);
+        List<LocalDate> expected = new ArrayList<LocalDate>();
+        boolean forward = end.isAfter(start);
+        for (int n = 0; ; n++) {
+            LocalDate date = start.plusMonths(step.toTotalMonths() * n).plusDays(step.getDays() * n);
+            if (forward ? date.isBefore(end) == false : date.isAfter(end) == false) {
+                break;
+            }
+            expected.add(date);
+        }
+        LocalDateSequence test = start.datesUntil(end, step);
+        assertEquals(test.size(), expected.size());
+        assertEquals(test.isEmpty(), expected.isEmpty());
+        assertEquals(test.getStep(), step);
+        List<LocalDate> iterated = new ArrayList<LocalDate>();
+        for (LocalDate date : test) {
+            iterated.add(date);
+        }
+        assertEquals(iterated, expected);
+        for (int i = 0; i < expected.size(); i++) {
+            LocalDate date = expected.get(i);
+            assertEquals(test.get(i), date);
+            assertEquals(test.getEpochDay(i), date.toEpochDay());
+            assertEquals(test.getDayOfWeek(i), date.getDayOfWeek());
+            assertEquals(test.indexOf(date), i);
+            assertEquals(test.contains(date), true);
+            if (test.contains(date.plusDays(1)) == false) {
+                assertEquals(test.indexOf(date.plusDays(1)), -1);
+            }
+        }
+        assertEquals(test.contains(end), false);
+        assertEquals(test.contains(start.minusDays(forward ? 1 : -1)), false);
+    }
+
+    public void test_datesUntil_negativeMonths_excludesEnd() {
+        LocalDate end = LocalDate.of(2012, 1, 1);
+        LocalDateSequence test = LocalDate.of(2012, 5, 1).datesUntil(end, Period.ofMonths(-1));
+        assertEquals(test.size(), 4);
+        assertFalse(test.contains(end));
+    }
+
+    public void test_datesUntil_monthsAndDays_matchesLoop() {
+        Random random = new Random(20);
+        for (int i = 0; i < 5000; i++) {
+            LocalDate start = LocalDate.of(1990, 1, 1).plusDays(random.nextInt(3000));
+            int sign = random.nextBoolean() ? 1 : -1;
+            Period step = Period.of(0, sign * (random.nextInt(3) + 1), sign * random.nextInt(3));
+            LocalDate end = start.plusDays(sign * (random.nextInt(400) + 1));
+            int expected = 0;
+            for (LocalDate date = start; sign > 0 ? date.isBefore(end) : date.isAfter(end); ) {
+                expected++;
+                date = start.plusMonths(step.toTotalMonths() * expected).plusDays(step.getDays() * expected);
+            }
+            assertEquals(start.datesUntil(end, step).size(), expected, start + " " + end + " " + step);
+        }
+    }
+
+    public void test_datesUntil_oneDay() {
+        LocalDateSequence test = DATE_2012_01_31.datesUntil(LocalDate.of(2012, 3, 1));
+        assertEquals(test.size(), 30);
+        assertEquals(test.get(29), LocalDate.of(2012, 2, 29));
+        assertEquals(test.getStep(), Period.ofDays(1));
+        assertEquals(test.toString(), "[2012-01-31..2012-02-29, P1D]");
+    }
+
+    public void test_datesUntil_extremes() {
+        LocalDateSequence test = LocalDate.MIN.datesUntil(LocalDate.MAX);
+        assertEquals(test.size(), LocalDate.MAX.toEpochDay() - LocalDate.MIN.toEpochDay());
+        assertEquals(test.get(0), LocalDate.MIN);
+        assertEquals(test.get(test.size() - 1), LocalDate.MAX.minusDays(1));
+        assertEquals(test.indexOf(LocalDate.of(1970, 1, 1)), -LocalDate.MIN.toEpochDay());
+    }
+
+    public void test_datesUntil_monthsExtremes() {
+        LocalDateSequence test = LocalDate.MIN.datesUntil(LocalDate.MAX, Period.ofYears(1000000));
+        assertEquals(test.get(test.size() - 1).getYear(), 999000001);
+        assertEquals(test.size(), 2000);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_datesUntil_endBefore() {
+        DATE_2012_01_31.datesUntil(DATE_2012_01_31.minusDays(1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_datesUntil_zeroStep() {
+        DATE_2012_01_31.datesUntil(DATE_2012_01_31.plusDays(1), Period.ZERO);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_datesUntil_mixedSignStep() {
+        DATE_2012_01_31.datesUntil(DATE_2012_01_31.plusDays(100), Period.of(0, 1, -1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_datesUntil_nullEnd() {
+        DATE_2012_01_31.datesUntil(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_datesUntil_nullStep() {
+        DATE_2012_01_31.datesUntil(DATE_2012_01_31, null);
+    }
+
+    //-----------------------------------------------------------------------
+    // DateTimeSequence
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_get_negative() {
+        DATE_2012_01_31.datesUntil(DATE_2012_01_31.plusDays(3)).get(-1);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_get_tooLarge() {
+        DATE_2012_01_31.datesUntil(DATE_2012_01_31.plusDays(3)).get(3);
+    }
+
+    public void test_indexOf_otherType() {
+        LocalDateSequence test = DATE_2012_01_31.datesUntil(DATE_2012_01_31.plusDays(3));
+        assertEquals(test.indexOf(null), -1);
+        assertEquals(test.indexOf("2012-01-31"), -1);
+        assertEquals(test.contains(DATE_2012_01_31.atStartOfDay()), false);
+    }
+
+    public void test_subSequence() {
+        LocalDateSequence test = DATE_2012_01_31.datesUntil(LocalDate.of(2013, 1, 1), Period.ofMonths(1));
+        DateTimeSequence<LocalDate> sub = test.subSequence(1, 4);
+        assertEquals(sub.size(), 3);
+        assertEquals(sub.get(0), LocalDate.of(2012, 2, 29));
+        assertEquals(sub.get(1), LocalDate.of(2012, 3, 31));
+        assertEquals(sub.indexOf(LocalDate.of(2012, 4, 30)), 2);
+        assertEquals(sub.indexOf(DATE_2012_01_31), -1);
+        assertEquals(sub.indexOf(LocalDate.of(2012, 5, 31)), -1);
+        assertEquals(sub.subSequence(1, 2).get(0), LocalDate.of(2012, 3, 31));
+        assertEquals(test.subSequence(0, test.size()), test);
+        assertEquals(test.subSequence(2, 2).isEmpty(), true);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void test_subSequence_invalid() {
+        DATE_2012_01_31.datesUntil(DATE_2012_01_31.plusDays(3)).subSequence(2, 1);
+    }
+
+    public void test_split() {
+        LocalDateSequence test = DATE_2012_01_31.datesUntil(DATE_2012_01_31.plusDays(10));
+        List<DateTimeSequence<LocalDate>> parts = test.split(3);
+        assertEquals(parts.size(), 3);
+        assertEquals(parts.get(0).size(), 4);
+        assertEquals(parts.get(1).size(), 3);
+        assertEquals(parts.get(2).size(), 3);
+        assertEquals(parts.get(1).get(0), DATE_2012_01_31.plusDays(4));
+        assertEquals(parts.get(2).get(2), DATE_2012_01_31.plusDays(9));
+        assertEquals(test.split(20).size(), 10);
+        assertEquals(test.subSequence(0, 0).split(3).size(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_split_zero() {
+        DATE_2012_01_31.datesUntil(DATE_2012_01_31.plusDays(3)).split(0);
+    }
+
+    public void test_iterator() {
+        Iterator<LocalDate> it = DATE_2012_01_31.datesUntil(DATE_2012_01_31.plusDays(1)).iterator();
+        assertTrue(it.hasNext());
+        assertEquals(it.next(), DATE_2012_01_31);
+        assertFalse(it.hasNext());
+        try {
+            it.next();
+            throw new AssertionError();
+        } catch (NoSuchElementException ex) {
+            // expected
+        }
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void test_iterator_remove() {
+        Iterator<LocalDate> it = DATE_2012_01_31.datesUntil(DATE_2012_01_31.plusDays(1)).iterator();
+        it.next();
+        it.remove();
+    }
+
+    public void test_equals() {
+        LocalDateSequence a = DATE_2012_01_31.datesUntil(DATE_2012_01_31.plusDays(10));
+        LocalDateSequence b = DATE_2012_01_31.datesUntil(DATE_2012_01_31.plusDays(10));
+        assertEquals(a.equals(b), true);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.equals(DATE_2012_01_31.datesUntil(DATE_2012_01_31.plusDays(11))), false);
+        assertEquals(a.equals(DATE_2012_01_31.datesUntil(DATE_2012_01_31.plusDays(10), Period.ofDays(2))), false);
+        assertEquals(a.equals(a.subSequence(1, 10)), false);
+        assertEquals(a.equals(YearMonth.of(2012, 1).yearMonthsUntil(YearMonth.of(2012, 11))), false);
+        assertEquals(a.equals(null), false);
+    }
+
+    //-----------------------------------------------------------------------
+    // Instant.instantsUntil()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="instantsUntil")
+    Object[][] data_instantsUntil() {
+        return new Object[][] {
+            {"2012-06-30T12:00:00Z", "2012-06-30T12:00:00Z", "PT1S"},
+            {"2012-06-30T12:00:00Z", "2012-06-30T12:00:10Z", "PT1S"},
+            {"2012-06-30T12:00:00Z", "2012-06-30T12:00:10.5Z", "PT1S"},
+            {"2012-06-30T12:00:00.3Z", "2012-06-30T12:00:10Z", "PT0.7S"},
+            {"2012-06-30T12:00:00Z", "2012-07-30T12:00:00Z", "PT37H0.000000001S"},
+            {"2012-06-30T12:00:10Z", "2012-06-30T12:00:00Z", "PT-0.999999999S"},
+            {"1970-01-01T00:00:00Z", "1969-12-31T23:00:00Z", "PT-7M"},
+        };
+    }
+
+    @Test(dataProvider="instantsUntil")
+    public void test_instantsUntil(String startStr, String endStr, String stepStr) {
+        Instant start = Instant.parse(startStr);
+        Instant end = Instant.parse(endStr);
+        Duration step = Duration.parse(stepStr);
+        List<Instant> expected = new ArrayList<Instant>();
+        boolean forward = end.isAfter(start);
+        for (Instant instant = start; forward ? instant.isBefore(end) : instant.isAfter(end); instant = instant.plus(step)) {
+            expected.add(instant);
+        }
+        InstantSequence test = start.instantsUntil(end, step);
+        assertEquals(test.size(), expected.size());
+        assertEquals(test.getStep(), step);
+        for (int i = 0; i < expected.size(); i++) {
+            Instant instant = expected.get(i);
+            assertEquals(test.get(i), instant);
+            assertEquals(test.getEpochSecond(i), instant.getEpochSecond());
+            assertEquals(test.getNano(i), instant.getNano());
+            assertEquals(test.indexOf(instant), i);
+            assertEquals(test.contains(instant.plusNanos(1)), false);
+        }
+        assertEquals(test.contains(end), false);
+    }
+
+    public void test_instantsUntil_largeSpan() {
+        InstantSequence test = Instant.MIN.instantsUntil(Instant.MAX, Duration.ofSeconds(1, 1));
+        long expectedSize = 63113904000000000L;  // approximately MAX-MIN seconds / 1.000000001
+        assertTrue(Math.abs(test.size() - expectedSize) < 100000000L);
+        long index = test.size() - 1;
+        Instant last = test.get(index);
+        assertTrue(last.isBefore(Instant.MAX));
+        assertTrue(Duration.between(last, Instant.MAX).compareTo(Duration.ofSeconds(1, 1)) <= 0);
+        assertEquals(test.indexOf(last), index);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_instantsUntil_tooManyValues() {
+        Instant.MIN.instantsUntil(Instant.MAX, Duration.ofNanos(1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_instantsUntil_zeroStep() {
+        Instant.EPOCH.instantsUntil(Instant.EPOCH.plusSeconds(1), Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_instantsUntil_wrongDirection() {
+        Instant.EPOCH.instantsUntil(Instant.EPOCH.plusSeconds(1), Duration.ofSeconds(-1));
+    }
+
+    //-----------------------------------------------------------------------
+    // LocalDateTime.dateTimesUntil()
+    //-----------------------------------------------------------------------
+    public void test_dateTimesUntil() {
+        LocalDateTime start = LocalDateTime.of(2012, 2, 28, 22, 30, 0, 500);
+        LocalDateTime end = LocalDateTime.of(2012, 3, 2, 1, 0);
+        Duration step = Duration.ofMinutes(90);
+        LocalDateTimeSequence test = start.dateTimesUntil(end, step);
+        int i = 0;
+        for (LocalDateTime ldt = start; ldt.isBefore(end); ldt = ldt.plus(step), i++) {
+            assertEquals(test.get(i), ldt);
+            assertEquals(test.indexOf(ldt), i);
+        }
+        assertEquals(test.size(), i);
+        assertEquals(test.getStep(), step);
+        assertEquals(test.contains(start.plusMinutes(1)), false);
+        assertEquals(test.toString(), "[2012-02-28T22:30:00.000000500..2012-03-02T00:00:00.000000500, PT1H30M]");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_dateTimesUntil_wrongDirection() {
+        LocalDateTime start = LocalDateTime.of(2012, 2, 28, 22, 30);
+        start.dateTimesUntil(start.minusHours(1), Duration.ofMinutes(1));
+    }
+
+    //-----------------------------------------------------------------------
+    // YearMonth.yearMonthsUntil()
+    //-----------------------------------------------------------------------
+    public void test_yearMonthsUntil() {
+        YearMonth start = YearMonth.of(2011, 11);
+        YearMonthSequence test = start.yearMonthsUntil(YearMonth.of(2013, 2));
+        assertEquals(test.size(), 15);
+        assertEquals(test.get(0), start);
+        assertEquals(test.get(2), YearMonth.of(2012, 1));
+        assertEquals(test.get(14), YearMonth.of(2013, 1));
+        assertEquals(test.getProlepticMonth(2), 2012 * 12);
+        assertEquals(test.indexOf(YearMonth.of(2012, 6)), 7);
+        assertEquals(test.indexOf(YearMonth.of(2013, 2)), -1);
+        assertEquals(test.getStepMonths(), 1);
+        assertEquals(test.toString(), "[2011-11..2013-01, P1M]");
+    }
+
+    public void test_yearMonthsUntil_step() {
+        YearMonth start = YearMonth.of(2011, 11);
+        YearMonthSequence test = start.yearMonthsUntil(YearMonth.of(2010, 11), -5);
+        assertEquals(test.size(), 3);
+        assertEquals(test.get(1), YearMonth.of(2011, 6));
+        assertEquals(test.get(2), YearMonth.of(2011, 1));
+        assertEquals(test.indexOf(YearMonth.of(2011, 1)), 2);
+        assertEquals(test.indexOf(YearMonth.of(2011, 2)), -1);
+        assertEquals(test.indexOf(YearMonth.of(2012, 4)), -1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_yearMonthsUntil_zeroStep() {
+        YearMonth.of(2011, 11).yearMonthsUntil(YearMonth.of(2012, 11), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_yearMonthsUntil_endBefore() {
+        YearMonth.of(2011, 11).yearMonthsUntil(YearMonth.of(2010, 11));
+    }
+
+}
@@ -46,6 +46,8 @@ import java.util.Locale;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
 import org.threeten.bp.format.TextStyle;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.ChronoUnit;
@@ -166,6 +168,19 @@ public class TestDayOfWeek extends AbstractDateTimeTest {
         assertEquals(DayOfWeek.MONDAY.getDisplayName(TextStyle.SHORT, Locale.US), "Mon");
     }
 
+    @Test
+    public void test_getDisplayName_matchesFormatter() {
+        for (Locale locale : new Locale[] {Locale.US, Locale.FRENCH, Locale.JAPAN}) {
+            for (TextStyle style : TextStyle.values()) {
+                DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendText(DAY_OF_WEEK, style).toFormatter(locale);
+                for (DayOfWeek value : DayOfWeek.values()) {
+                    assertEquals(value.getDisplayName(style, locale), formatter.format(value));
+                    assertEquals(value.getDisplayName(style, locale), formatter.format(value));
+                }
+            }
+        }
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void test_getDisplayName_nullStyle() {
         DayOfWeek.MONDAY.getDisplayName(null, Locale.US);
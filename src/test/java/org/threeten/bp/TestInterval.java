@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2007-present Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test Interval and LocalDateRange.
+ */
+@Test
+public class TestInterval {
+
+    private static final Instant T0 = Instant.ofEpochSecond(1000, 500);
+    private static final Instant T1 = Instant.ofEpochSecond(1000, 600);
+    private static final Instant T2 = Instant.ofEpochSecond(2000);
+    private static final Instant T3 = Instant.ofEpochSecond(3000, 1);
+
+    private static final LocalDate D0 = LocalDate.of(2012, 1, 1);
+    private static final LocalDate D1 = LocalDate.of(2012, 1, 15);
+    private static final LocalDate D2 = LocalDate.of(2012, 2, 1);
+    private static final LocalDate D3 = LocalDate.of(2012, 3, 1);
+
+    //-----------------------------------------------------------------------
+    // Interval factories and accessors
+    //-----------------------------------------------------------------------
+    public void test_interval_of() {
+        Interval test = Interval.of(T0, T2);
+        assertEquals(test.getStart(), T0);
+        assertEquals(test.getEnd(), T2);
+        assertEquals(test.toDuration(), Duration.between(T0, T2));
+        assertFalse(test.isEmpty());
+        assertEquals(test.toString(), T0 + "/" + T2);
+    }
+
+    public void test_interval_of_duration() {
+        Interval test = Interval.of(T0, Duration.ofSeconds(5));
+        assertEquals(test, Interval.of(T0, T0.plusSeconds(5)));
+        assertTrue(Interval.of(T0, Duration.ZERO).isEmpty());
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_interval_of_endBeforeStart() {
+        Interval.of(T1, T0);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_interval_of_negativeDuration() {
+        Interval.of(T0, Duration.ofNanos(-1));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_interval_of_null() {
+        Interval.of(T0, (Instant) null);
+    }
+
+    public void test_interval_contains() {
+        Interval test = Interval.of(T0, T1);
+        assertFalse(test.contains(T0.minusNanos(1)));
+        assertTrue(test.contains(T0));
+        assertTrue(test.contains(T1.minusNanos(1)));
+        assertFalse(test.contains(T1));
+        assertFalse(Interval.of(T0, T0).contains(T0));
+    }
+
+    public void test_interval_equalsHashCode() {
+        Interval a = Interval.of(T0, T2);
+        Interval b = Interval.of(Instant.ofEpochSecond(1000, 500), Instant.ofEpochSecond(2000));
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(Interval.of(T0, T3)));
+        assertFalse(a.equals(null));
+        assertFalse(a.equals(""));
+    }
+
+    //-----------------------------------------------------------------------
+    // relations, checked against both types and an explicit oracle
+    //-----------------------------------------------------------------------
+    @DataProvider(name="relations")
+    Object[][] data_relations() {
+        // start1, end1, start2, end2, encloses, overlaps, abuts, connected
+        return new Object[][] {
+            {0, 3, 1, 2, true, true, false, true},
+            {1, 2, 0, 3, false, true, false, true},
+            {0, 2, 1, 3, false, true, false, true},
+            {0, 1, 1, 3, false, false, true, true},
+            {1, 3, 0, 1, false, false, true, true},
+            {0, 1, 2, 3, false, false, false, false},
+            {2, 3, 0, 1, false, false, false, false},
+            {0, 3, 0, 3, true, true, false, true},
+            {1, 1, 0, 3, false, true, false, true},
+            {0, 3, 1, 1, true, true, false, true},
+            {1, 1, 1, 1, true, false, false, true},
+            {1, 1, 1, 3, false, false, true, true},
+            {0, 1, 1, 1, true, false, true, true},
+        };
+    }
+
+    @Test(dataProvider="relations")
+    public void test_interval_relations(int s1, int e1, int s2, int e2,
+            boolean encloses, boolean overlaps, boolean abuts, boolean connected) {
+        Interval a = Interval.of(instant(s1), instant(e1));
+        Interval b = Interval.of(instant(s2), instant(e2));
+        assertEquals(a.encloses(b), encloses);
+        assertEquals(a.overlaps(b), overlaps);
+        assertEquals(b.overlaps(a), overlaps);
+        assertEquals(a.abuts(b), abuts);
+        assertEquals(b.abuts(a), abuts);
+        assertEquals(a.isConnected(b), connected);
+        assertEquals(b.isConnected(a), connected);
+    }
+
+    @Test(dataProvider="relations")
+    public void test_range_relations(int s1, int e1, int s2, int e2,
+            boolean encloses, boolean overlaps, boolean abuts, boolean connected) {
+        LocalDateRange a = LocalDateRange.of(date(s1), date(e1));
+        LocalDateRange b = LocalDateRange.of(date(s2), date(e2));
+        assertEquals(a.encloses(b), encloses);
+        assertEquals(a.overlaps(b), overlaps);
+        assertEquals(b.overlaps(a), overlaps);
+        assertEquals(a.abuts(b), abuts);
+        assertEquals(b.abuts(a), abuts);
+        assertEquals(a.isConnected(b), connected);
+        assertEquals(b.isConnected(a), connected);
+    }
+
+    //-----------------------------------------------------------------------
+    // Interval operations
+    //-----------------------------------------------------------------------
+    public void test_interval_intersection() {
+        assertEquals(Interval.of(T0, T2).intersection(Interval.of(T1, T3)), Interval.of(T1, T2));
+        assertEquals(Interval.of(T0, T3).intersection(Interval.of(T1, T2)), Interval.of(T1, T2));
+        assertEquals(Interval.of(T0, T1).intersection(Interval.of(T1, T2)), Interval.of(T1, T1));
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_interval_intersection_notConnected() {
+        Interval.of(T0, T1).intersection(Interval.of(T2, T3));
+    }
+
+    public void test_interval_union() {
+        assertEquals(Interval.of(T0, T2).union(Interval.of(T1, T3)), Interval.of(T0, T3));
+        assertEquals(Interval.of(T1, T2).union(Interval.of(T0, T1)), Interval.of(T0, T2));
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_interval_union_notConnected() {
+        Interval.of(T0, T1).union(Interval.of(T2, T3));
+    }
+
+    public void test_interval_span() {
+        assertEquals(Interval.of(T0, T1).span(Interval.of(T2, T3)), Interval.of(T0, T3));
+        assertEquals(Interval.of(T2, T3).span(Interval.of(T0, T1)), Interval.of(T0, T3));
+    }
+
+    public void test_interval_gap() {
+        assertEquals(Interval.of(T0, T1).gap(Interval.of(T2, T3)), Interval.of(T1, T2));
+        assertEquals(Interval.of(T2, T3).gap(Interval.of(T0, T1)), Interval.of(T1, T2));
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_interval_gap_connected() {
+        Interval.of(T0, T1).gap(Interval.of(T1, T2));
+    }
+
+    //-----------------------------------------------------------------------
+    // LocalDateRange
+    //-----------------------------------------------------------------------
+    public void test_range_of() {
+        LocalDateRange test = LocalDateRange.of(D0, D2);
+        assertEquals(test.getStart(), D0);
+        assertEquals(test.getEnd(), D2);
+        assertEquals(test.getEndInclusive(), D2.minusDays(1));
+        assertEquals(test.lengthInDays(), 31);
+        assertFalse(test.isEmpty());
+        assertEquals(test.toString(), "2012-01-01/2012-02-01");
+    }
+
+    public void test_range_ofClosed() {
+        assertEquals(LocalDateRange.ofClosed(D0, D1), LocalDateRange.of(D0, D1.plusDays(1)));
+        assertEquals(LocalDateRange.ofClosed(D0, D0).lengthInDays(), 1);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_range_ofClosed_max() {
+        LocalDateRange.ofClosed(D0, LocalDate.MAX);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_range_of_endBeforeStart() {
+        LocalDateRange.of(D1, D0);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_range_getEndInclusive_empty() {
+        LocalDateRange.of(D0, D0).getEndInclusive();
+    }
+
+    public void test_range_contains() {
+        LocalDateRange test = LocalDateRange.of(D0, D2);
+        assertFalse(test.contains(D0.minusDays(1)));
+        assertTrue(test.contains(D0));
+        assertTrue(test.contains(D1));
+        assertFalse(test.contains(D2));
+    }
+
+    public void test_range_operations() {
+        LocalDateRange a = LocalDateRange.of(D0, D2);
+        LocalDateRange b = LocalDateRange.of(D1, D3);
+        assertEquals(a.intersection(b), LocalDateRange.of(D1, D2));
+        assertEquals(a.union(b), LocalDateRange.of(D0, D3));
+        assertEquals(LocalDateRange.of(D0, D1).gap(LocalDateRange.of(D2, D3)), LocalDateRange.of(D1, D2));
+        assertEquals(LocalDateRange.of(D2, D3).span(LocalDateRange.of(D0, D1)), LocalDateRange.of(D0, D3));
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_range_union_notConnected() {
+        LocalDateRange.of(D0, D1).union(LocalDateRange.of(D2, D3));
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_range_gap_connected() {
+        LocalDateRange.of(D0, D2).gap(LocalDateRange.of(D1, D3));
+    }
+
+    public void test_range_toSequence() {
+        List<LocalDate> dates = new ArrayList<LocalDate>();
+        for (LocalDate date : LocalDateRange.of(D0, D2).toSequence()) {
+            dates.add(date);
+        }
+        assertEquals(dates.size(), 31);
+        assertEquals(dates.get(0), D0);
+        assertEquals(dates.get(30), D2.minusDays(1));
+    }
+
+    public void test_range_equalsHashCode() {
+        LocalDateRange a = LocalDateRange.of(D0, D2);
+        LocalDateRange b = LocalDateRange.ofClosed(D0, D2.minusDays(1));
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(LocalDateRange.of(D0, D3)));
+        assertFalse(a.equals(null));
+    }
+
+    //-----------------------------------------------------------------------
+    private static Instant instant(int offset) {
+        return T0.plusNanos(offset);
+    }
+
+    private static LocalDate date(int offset) {
+        return D0.plusDays(offset);
+    }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2007-present Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test IntervalIndex and LocalDateRangeIndex.
+ */
+@Test
+public class TestIntervalIndex {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2012, 1, 1);
+
+    //-----------------------------------------------------------------------
+    // IntervalTree
+    //-----------------------------------------------------------------------
+    @DataProvider(name="sizes")
+    Object[][] data_sizes() {
+        return new Object[][] {
+            {0}, {1}, {2}, {3}, {7}, {8}, {15}, {16}, {17}, {31}, {33}, {100}, {255}, {1000}, {4097},
+        };
+    }
+
+    @Test(dataProvider="sizes")
+    public void test_tree_matchesLinearScan(int size) {
+        Random random = new Random(size);
+        for (int spread : new int[] {10, 1000}) {
+            long[] starts = new long[size];
+            long[] ends = new long[size];
+            for (int i = 0; i < size; i++) {
+                starts[i] = random.nextInt(spread);
+            }
+            Arrays.sort(starts);
+            for (int i = 0; i < size; i++) {
+                // mostly short ranges with occasional long ones to exercise the subtree maxima
+                int length = random.nextInt(10) == 0 ? random.nextInt(spread) : random.nextInt(5);
+                ends[i] = starts[i] + length;
+            }
+            IntervalTree tree = new IntervalTree(starts, ends);
+            for (int q = 0; q < 200; q++) {
+                long start = random.nextInt(spread + 20) - 10;
+                long end = start + random.nextInt(q % 2 == 0 ? 3 : spread);
+                List<Integer> expected = new ArrayList<Integer>();
+                for (int i = 0; i < size; i++) {
+                    if (starts[i] < end && start < ends[i]) {
+                        expected.add(i);
+                    }
+                }
+                List<Integer> actual = new ArrayList<Integer>();
+                for (int i : tree.query(start, end)) {
+                    actual.add(i);
+                }
+                assertEquals(actual, expected, "[" + start + "," + end + ")");
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // IntervalIndex
+    //-----------------------------------------------------------------------
+    public void test_intervalIndex_matchesLinearScan() {
+        Random random = new Random(42);
+        List<Interval> intervals = new ArrayList<Interval>();
+        for (int i = 0; i < 2000; i++) {
+            Instant start = instant(random, 100);
+            intervals.add(Interval.of(start, start.plusNanos(random.nextInt(10) == 0 ? 0 : random.nextInt(30) * 100000000L)));
+        }
+        IntervalIndex index = IntervalIndex.of(intervals);
+        assertEquals(index.size(), intervals.size());
+        for (int i = 1; i < index.size(); i++) {
+            assertTrue(index.get(i - 1).getStart().compareTo(index.get(i).getStart()) <= 0);
+        }
+        for (int q = 0; q < 500; q++) {
+            Instant instant = instant(random, 110);
+            List<Interval> expected = new ArrayList<Interval>();
+            for (int i = 0; i < index.size(); i++) {
+                if (index.get(i).contains(instant)) {
+                    expected.add(index.get(i));
+                }
+            }
+            assertEquals(index.containing(instant), expected);
+
+            Interval query = Interval.of(instant, instant.plusNanos(random.nextInt(2000000000)));
+            expected.clear();
+            for (int i = 0; i < index.size(); i++) {
+                if (index.get(i).overlaps(query)) {
+                    expected.add(index.get(i));
+                }
+            }
+            assertEquals(index.overlapping(query), expected);
+        }
+    }
+
+    public void test_intervalIndex_boundaries() {
+        Instant t0 = Instant.ofEpochSecond(10, 5);
+        Instant t1 = Instant.ofEpochSecond(10, 9);
+        Interval a = Interval.of(t0, t1);
+        Interval empty = Interval.of(t1, t1);
+        IntervalIndex index = IntervalIndex.of(Arrays.asList(empty, a));
+        assertEquals(index.get(0), a);
+        assertEquals(index.containing(t0), Collections.singletonList(a));
+        assertEquals(index.containing(t0.minusNanos(1)), Collections.emptyList());
+        assertEquals(index.containing(t1), Collections.emptyList());
+        assertEquals(index.overlapping(Interval.of(t1, t1.plusSeconds(1))), Collections.emptyList());
+        assertEquals(index.overlapping(Interval.of(t0, t0)), Collections.emptyList());
+        assertEquals(index.overlapping(Interval.of(t0.plusNanos(1), t0.plusNanos(1))), Collections.singletonList(a));
+        assertEquals(index.overlapping(Interval.of(t1.minusNanos(1), t1)), Collections.singletonList(a));
+    }
+
+    public void test_intervalIndex_empty() {
+        IntervalIndex index = IntervalIndex.of(new ArrayList<Interval>());
+        assertEquals(index.size(), 0);
+        assertEquals(index.containing(Instant.EPOCH), Collections.emptyList());
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_intervalIndex_get_invalid() {
+        IntervalIndex.of(new ArrayList<Interval>()).get(0);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_intervalIndex_of_nullElement() {
+        IntervalIndex.of(Collections.<Interval>singletonList(null));
+    }
+
+    @Test(expectedExceptions=UnsupportedOperationException.class)
+    public void test_intervalIndex_resultUnmodifiable() {
+        Interval a = Interval.of(Instant.EPOCH, Instant.ofEpochSecond(1));
+        IntervalIndex.of(Collections.singletonList(a)).containing(Instant.EPOCH).clear();
+    }
+
+    //-----------------------------------------------------------------------
+    // LocalDateRangeIndex
+    //-----------------------------------------------------------------------
+    public void test_rangeIndex_matchesLinearScan() {
+        Random random = new Random(7);
+        List<LocalDateRange> ranges = new ArrayList<LocalDateRange>();
+        for (int i = 0; i < 3000; i++) {
+            LocalDate start = BASE_DATE.plusDays(random.nextInt(3650));
+            ranges.add(LocalDateRange.of(start, start.plusDays(random.nextInt(10) == 0 ? random.nextInt(1000) : random.nextInt(30))));
+        }
+        LocalDateRangeIndex index = LocalDateRangeIndex.of(ranges);
+        assertEquals(index.size(), ranges.size());
+        for (int q = 0; q < 500; q++) {
+            LocalDate date = BASE_DATE.plusDays(random.nextInt(3700) - 20);
+            List<LocalDateRange> expected = new ArrayList<LocalDateRange>();
+            for (int i = 0; i < index.size(); i++) {
+                if (index.get(i).contains(date)) {
+                    expected.add(index.get(i));
+                }
+            }
+            assertEquals(index.containing(date), expected);
+
+            LocalDateRange query = LocalDateRange.of(date, date.plusDays(random.nextInt(60)));
+            expected.clear();
+            for (int i = 0; i < index.size(); i++) {
+                if (index.get(i).overlaps(query)) {
+                    expected.add(index.get(i));
+                }
+            }
+            assertEquals(index.overlapping(query), expected);
+        }
+    }
+
+    public void test_rangeIndex_extremes() {
+        LocalDateRange all = LocalDateRange.of(LocalDate.MIN, LocalDate.MAX);
+        LocalDateRange early = LocalDateRange.ofClosed(LocalDate.MIN, LocalDate.MIN);
+        LocalDateRangeIndex index = LocalDateRangeIndex.of(Arrays.asList(all, early));
+        assertEquals(index.containing(LocalDate.MIN), Arrays.asList(early, all));
+        assertEquals(index.containing(LocalDate.MAX), Collections.emptyList());
+        assertEquals(index.containing(BASE_DATE), Collections.singletonList(all));
+    }
+
+    //-----------------------------------------------------------------------
+    private static Instant instant(Random random, int seconds) {
+        return Instant.ofEpochSecond(random.nextInt(seconds), random.nextInt(4) == 0 ? 0 : random.nextInt(1000000000));
+    }
+
+}
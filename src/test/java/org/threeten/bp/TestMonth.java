@@ -45,6 +45,8 @@ import java.util.Locale;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
 import org.threeten.bp.format.TextStyle;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.ChronoUnit;
@@ -161,6 +163,19 @@ public class TestMonth extends AbstractDateTimeTest {
         assertEquals(Month.JANUARY.getDisplayName(TextStyle.SHORT, Locale.US), "Jan");
     }
 
+    @Test
+    public void test_getDisplayName_matchesFormatter() {
+        for (Locale locale : new Locale[] {Locale.US, Locale.FRENCH, Locale.JAPAN}) {
+            for (TextStyle style : TextStyle.values()) {
+                DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendText(MONTH_OF_YEAR, style).toFormatter(locale);
+                for (Month value : Month.values()) {
+                    assertEquals(value.getDisplayName(style, locale), formatter.format(value));
+                    assertEquals(value.getDisplayName(style, locale), formatter.format(value));
+                }
+            }
+        }
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void test_getDisplayName_nullStyle() {
         Month.JANUARY.getDisplayName(null, Locale.US);
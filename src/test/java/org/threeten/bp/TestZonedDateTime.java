@@ -64,10 +64,17 @@ import static org.threeten.bp.temporal.ChronoField.SECOND_OF_DAY;
 import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
 import static org.threeten.bp.temporal.ChronoField.YEAR;
 import static org.threeten.bp.temporal.ChronoField.YEAR_OF_ERA;
+import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.ERAS;
+import static org.threeten.bp.temporal.ChronoUnit.HALF_DAYS;
 import static org.threeten.bp.temporal.ChronoUnit.HOURS;
+import static org.threeten.bp.temporal.ChronoUnit.MICROS;
+import static org.threeten.bp.temporal.ChronoUnit.MILLIS;
 import static org.threeten.bp.temporal.ChronoUnit.MINUTES;
+import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
 import static org.threeten.bp.temporal.ChronoUnit.NANOS;
 import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
+import static org.threeten.bp.temporal.ChronoUnit.YEARS;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -90,6 +97,8 @@ import org.threeten.bp.temporal.TemporalAdjuster;
 import org.threeten.bp.temporal.TemporalField;
 import org.threeten.bp.temporal.TemporalQueries;
 import org.threeten.bp.temporal.TemporalQuery;
+import org.threeten.bp.temporal.TemporalUnit;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
 
 /**
  * Test ZonedDateTime.
@@ -1756,6 +1765,59 @@ public class TestZonedDateTime extends AbstractDateTimeTest {
         assertEquals(dt.toEpochSecond(), expectedEpSec + 3600);
     }
 
+    //-----------------------------------------------------------------------
+    // until()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="until")
+    Object[][] provider_until() {
+        return new Object[][]{
+                {"2012-06-15T00:00Z", "2012-06-15T00:00Z", NANOS, 0},
+                {"2012-06-15T00:00:00.0009Z", "2012-06-15T00:00:00.0011Z", MICROS, 200},
+                {"2012-06-15T00:00:00.0009Z", "2012-06-15T00:00:00.0011Z", MILLIS, 0},
+                {"2012-06-15T00:00:00.0009Z", "2012-06-15T00:00:00.0019Z", MILLIS, 1},
+                {"2012-06-15T00:00:00.999Z", "2012-06-15T00:00:01.001Z", SECONDS, 0},
+                {"2012-06-15T00:00:00.999Z", "2012-06-15T00:00:01.001Z", MILLIS, 2},
+                {"2012-06-15T00:00:01.001Z", "2012-06-15T00:00:00.999Z", MILLIS, -2},
+                {"2012-06-15T00:00:01.001Z", "2012-06-14T23:59:59.999Z", SECONDS, -1},
+                {"2012-06-15T00:00Z", "2012-06-16T00:00Z", HALF_DAYS, 2},
+
+                {"2012-03-25T00:00+01:00[Europe/Paris]", "2012-03-25T04:00+02:00[Europe/Paris]", HOURS, 3},
+                {"2012-03-25T00:00+01:00[Europe/Paris]", "2012-03-26T00:00+02:00[Europe/Paris]", HOURS, 23},
+                {"2012-03-25T00:00+01:00[Europe/Paris]", "2012-03-26T00:00+02:00[Europe/Paris]", DAYS, 1},
+                {"2012-10-28T00:00+02:00[Europe/Paris]", "2012-10-29T00:00+01:00[Europe/Paris]", MINUTES, 25 * 60},
+
+                {"2012-06-15T12:00+01:00", "2012-06-16T11:00Z", HOURS, 24},
+                {"2012-06-15T12:00+01:00", "2012-06-16T11:00Z", DAYS, 1},
+                {"2012-06-15T12:00+01:00", "2012-06-16T10:59Z", DAYS, 0},
+                {"2012-06-15T12:00+02:00[Europe/Paris]", "2012-06-16T08:59-01:00", DAYS, 0},
+                {"2012-06-15T12:00+02:00[Europe/Paris]", "2012-06-16T10:00-01:00", DAYS, 1},
+
+                {"2012-01-31T10:00Z", "2012-03-01T09:00Z", MONTHS, 0},
+                {"2012-01-31T10:00Z", "2012-03-01T10:00Z", MONTHS, 1},
+                {"2012-03-01T09:00Z", "2012-01-31T10:00Z", MONTHS, -1},
+                {"2012-01-31T10:00Z", "2012-03-01T09:00Z", DAYS, 29},
+                {"2012-01-31T10:00Z", "2013-01-31T09:00Z", YEARS, 0},
+                {"2012-01-31T10:00Z", "2013-01-31T10:00Z", YEARS, 1},
+                {"2012-12-31T10:00Z", "2011-12-31T11:00Z", YEARS, 0},
+                {"0001-01-01T10:00Z", "0001-01-01T11:00Z", ERAS, 0},
+                {"0000-12-31T10:00Z", "0001-01-01T09:00Z", ERAS, 0},
+                {"0000-12-31T10:00Z", "0001-01-01T10:00Z", ERAS, 1},
+                {"0001-01-01T10:00Z", "0000-12-31T11:00Z", ERAS, 0},
+        };
+    }
+
+    @Test(dataProvider="until")
+    public void test_until(String startStr, String endStr, TemporalUnit unit, long expected) {
+        ZonedDateTime start = ZonedDateTime.parse(startStr);
+        ZonedDateTime end = ZonedDateTime.parse(endStr);
+        assertEquals(start.until(end, unit), expected);
+    }
+
+    @Test(expectedExceptions=UnsupportedTemporalTypeException.class)
+    public void test_until_unsupportedUnit() {
+        TEST_DATE_TIME.until(TEST_DATE_TIME, ChronoUnit.FOREVER);
+    }
+
     //-----------------------------------------------------------------------
     // compareTo()
     //-----------------------------------------------------------------------
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.chrono;
+
+import java.text.NumberFormat;
+
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.temporal.ChronoField;
+
+/**
+ * Test Performance of conversion between calendar systems.
+ */
+public class PerformanceChrono {
+
+    /** Size. */
+    private static final NumberFormat NF = NumberFormat.getIntegerInstance();
+    static {
+        NF.setGroupingUsed(true);
+    }
+    /** Size. */
+    private static final int SIZE = 200000;
+    /** The chronologies to test. */
+    private static final Chronology[] CHRONOS = {
+        IsoChronology.INSTANCE,
+        HijrahChronology.INSTANCE,
+        JapaneseChronology.INSTANCE,
+        MinguoChronology.INSTANCE,
+        ThaiBuddhistChronology.INSTANCE,
+    };
+
+    /**
+     * Main.
+     * @param args  the arguments
+     */
+    public static void main(String[] args) {
+        long[] epochDays = new long[SIZE];
+        long start = LocalDate.of(1950, 1, 1).toEpochDay();
+        for (int i = 0; i < SIZE; i++) {
+            epochDays[i] = start + (i * 7919L) % 36500;  // spread over a century
+        }
+
+        for (int i = 0; i < 6; i++) {
+            for (Chronology chrono : CHRONOS) {
+                singleToFields(chrono, epochDays);
+                bulkToFields(chrono, epochDays);
+                singleToEpochDays(chrono, epochDays);
+                bulkToEpochDays(chrono, epochDays);
+            }
+            System.out.println();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private static void singleToFields(Chronology chrono, long[] epochDays) {
+        int[] years = new int[SIZE];
+        int[] months = new int[SIZE];
+        int[] days = new int[SIZE];
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            ChronoLocalDate date = chrono.dateEpochDay(epochDays[i]);
+            years[i] = date.get(ChronoField.YEAR);
+            months[i] = date.get(ChronoField.MONTH_OF_YEAR);
+            days[i] = date.get(ChronoField.DAY_OF_MONTH);
+        }
+        long end = System.nanoTime();
+        print(chrono, "Single-toFields", start, end, years[0] + months[0] + days[0]);
+    }
+
+    private static void bulkToFields(Chronology chrono, long[] epochDays) {
+        int[] years = new int[SIZE];
+        int[] months = new int[SIZE];
+        int[] days = new int[SIZE];
+        long start = System.nanoTime();
+        chrono.epochDaysToYearMonthDay(epochDays, years, months, days);
+        long end = System.nanoTime();
+        print(chrono, "Bulk-toFields  ", start, end, years[0] + months[0] + days[0]);
+    }
+
+    //-----------------------------------------------------------------------
+    private static void singleToEpochDays(Chronology chrono, long[] epochDays) {
+        int[] years = new int[SIZE];
+        int[] months = new int[SIZE];
+        int[] days = new int[SIZE];
+        chrono.epochDaysToYearMonthDay(epochDays, years, months, days);
+        long[] result = new long[SIZE];
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            result[i] = chrono.date(years[i], months[i], days[i]).toEpochDay();
+        }
+        long end = System.nanoTime();
+        print(chrono, "Single-toEpoch ", start, end, result[0]);
+    }
+
+    private static void bulkToEpochDays(Chronology chrono, long[] epochDays) {
+        int[] years = new int[SIZE];
+        int[] months = new int[SIZE];
+        int[] days = new int[SIZE];
+        chrono.epochDaysToYearMonthDay(epochDays, years, months, days);
+        long[] result = new long[SIZE];
+        long start = System.nanoTime();
+        chrono.yearMonthDayToEpochDays(years, months, days, result);
+        long end = System.nanoTime();
+        print(chrono, "Bulk-toEpoch   ", start, end, result[0]);
+    }
+
+    //-----------------------------------------------------------------------
+    private static void print(Chronology chrono, String name, long start, long end, long check) {
+        String id = (chrono.getId() + "            ").substring(0, 12);
+        System.out.println(id + " " + name + ": " + NF.format((end - start) / SIZE) + " ns/op " + check);
+    }
+
+}
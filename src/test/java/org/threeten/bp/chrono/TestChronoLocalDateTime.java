@@ -223,6 +223,30 @@ public class TestChronoLocalDateTime {
         }
     }
 
+    //-----------------------------------------------------------------------
+    // plus(long, TemporalUnit) for time units
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="calendars")
+    public void test_plus_timeUnits_matchesIso(Chronology chrono) {
+        LocalDateTime iso = LocalDateTime.of(1999, 12, 31, 23, 30, 15, 500);
+        ChronoLocalDateTime<?> cdt = chrono.date(iso.toLocalDate()).atTime(iso.toLocalTime());
+        ChronoUnit[] units = {ChronoUnit.NANOS, ChronoUnit.MICROS, ChronoUnit.MILLIS, ChronoUnit.SECONDS,
+                ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.HALF_DAYS};
+        long[] amounts = {0, 1, -1, 59, 1001, -86400001, 1000000000000L, -1000000000000L};
+        for (ChronoUnit unit : units) {
+            for (long amount : amounts) {
+                if (unit.compareTo(ChronoUnit.SECONDS) >= 0 && Math.abs(amount) > 1000000) {
+                    continue;  // would exceed the supported range of some calendars
+                }
+                ChronoLocalDateTime<?> test = cdt.plus(amount, unit);
+                LocalDateTime expected = iso.plus(amount, unit);
+                assertEquals(LocalDateTime.from(test), expected, unit + " " + amount);
+                assertEquals(test.toLocalDate().getChronology(), chrono);
+            }
+        }
+        assertTrue(cdt.plus(0, ChronoUnit.HOURS) == cdt);
+    }
+
     //-----------------------------------------------------------------------
     // isBefore, isAfter, isEqual
     //-----------------------------------------------------------------------
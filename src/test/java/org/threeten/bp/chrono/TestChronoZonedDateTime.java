@@ -48,11 +48,13 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.threeten.bp.Duration;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.LocalTime;
 import org.threeten.bp.ZoneId;
 import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.format.ResolverStyle;
+import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.ChronoUnit;
 import org.threeten.bp.temporal.Temporal;
 import org.threeten.bp.temporal.TemporalAccessor;
@@ -295,6 +297,43 @@ public class TestChronoZonedDateTime {
         }
     }
 
+    //-----------------------------------------------------------------------
+    // plus(long, TemporalUnit) for time units into an overlap
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="calendars")
+    public void test_plus_timeUnits_overlapOffset(Chronology chrono) {
+        if (chrono == IsoChronology.INSTANCE) {
+            return;  // ISO adds time units to the instant
+        }
+        ZoneId zone = ZoneId.of("America/New_York");
+        LocalDateTime overlap = LocalDateTime.of(1999, 10, 31, 1, 30);
+        LocalDateTime[] starts = {
+            overlap.minusHours(13).minusMinutes(30), overlap.minusHours(1), overlap.minusMinutes(1),
+            overlap.plusMinutes(1), overlap.plusHours(1), overlap.plusHours(34).plusMinutes(30),
+        };
+        for (LocalDateTime start : starts) {
+            ChronoZonedDateTime<?> czdt = chrono.date(start.toLocalDate()).atTime(start.toLocalTime()).atZone(zone);
+            long nanos = Duration.between(start, overlap).toNanos();
+            ChronoZonedDateTime<?> test = czdt.plus(nanos, ChronoUnit.NANOS);
+            // the date and then the time are resolved, each preferring the previous offset
+            ZonedDateTime expected = ZonedDateTime.of(start, zone)
+                    .with(ChronoField.EPOCH_DAY, overlap.toLocalDate().toEpochDay())
+                    .with(ChronoField.NANO_OF_DAY, overlap.toLocalTime().toNanoOfDay());
+            assertEquals(LocalDateTime.from(test.toLocalDateTime()), overlap, start.toString());
+            assertEquals(test.getOffset(), expected.getOffset(), start.toString());
+        }
+        // from the previous day, the date resolves to standard time first
+        ChronoZonedDateTime<?> czdt = chrono.date(LocalDate.of(1999, 10, 30)).atTime(LocalTime.NOON).atZone(zone);
+        ChronoZonedDateTime<?> test = czdt.plus(Duration.ofMinutes(13 * 60 + 30).toNanos(), ChronoUnit.NANOS);
+        assertEquals(test.getOffset(), ZoneOffset.ofHours(-5));
+        test = czdt.plus(13 * 60 + 30, ChronoUnit.MINUTES);
+        assertEquals(test.getOffset(), ZoneOffset.ofHours(-5));
+        // within the same day, the current offset is kept
+        czdt = chrono.date(LocalDate.of(1999, 10, 31)).atTime(LocalTime.of(0, 30)).atZone(zone);
+        test = czdt.plus(1, ChronoUnit.HOURS);
+        assertEquals(test.getOffset(), ZoneOffset.ofHours(-4));
+    }
+
     //-----------------------------------------------------------------------
     // Test Serialization of ISO via chrono API
     //-----------------------------------------------------------------------
@@ -40,6 +40,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.Set;
 
@@ -47,6 +48,8 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
 import org.threeten.bp.chrono.Chronology;
 import org.threeten.bp.chrono.ChronoLocalDate;
 import org.threeten.bp.chrono.HijrahChronology;
@@ -54,7 +57,12 @@ import org.threeten.bp.chrono.IsoChronology;
 import org.threeten.bp.chrono.JapaneseChronology;
 import org.threeten.bp.chrono.MinguoChronology;
 import org.threeten.bp.chrono.ThaiBuddhistChronology;
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
+import org.threeten.bp.format.TextStyle;
 import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.ChronoUnit;
+import org.threeten.bp.temporal.ValueRange;
 
 /**
  * Test Chrono class.
@@ -170,6 +178,106 @@ public class TestChronology {
         Assert.assertEquals(test, JapaneseChronology.INSTANCE);
     }
 
+    @Test
+    public void test_lookupLocale_cached() {
+        Locale locale = new Locale("ja", "JP", "JP");
+        assertSame(Chronology.ofLocale(locale), JapaneseChronology.INSTANCE);
+        assertSame(Chronology.ofLocale(new Locale("ja", "JP", "JP")), JapaneseChronology.INSTANCE);
+    }
+
+    @Test
+    public void test_lookupLocale_manyLocales() {
+        for (int i = 0; i < 1000; i++) {
+            assertSame(Chronology.ofLocale(new Locale("en", "GB", "V" + i)), IsoChronology.INSTANCE);
+        }
+        assertSame(Chronology.ofLocale(new Locale("ja", "JP", "JP")), JapaneseChronology.INSTANCE);
+    }
+
+    //-----------------------------------------------------------------------
+    // epochDaysToYearMonthDay(), yearMonthDayToEpochDays()
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "calendarsystemtype")
+    public void test_epochDaysToYearMonthDay(Chronology chrono, String calendarType) {
+        long start = LocalDate.of(1900, 1, 1).toEpochDay();
+        long[] epochDays = new long[20000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = start + i * 3;
+        }
+        epochDays[7] = start;  // out of order
+        int[] years = new int[epochDays.length];
+        int[] months = new int[epochDays.length];
+        int[] days = new int[epochDays.length];
+        chrono.epochDaysToYearMonthDay(epochDays, years, months, days);
+        for (int i = 0; i < epochDays.length; i++) {
+            ChronoLocalDate date = chrono.dateEpochDay(epochDays[i]);
+            assertEquals(years[i], date.get(ChronoField.YEAR));
+            assertEquals(months[i], date.get(ChronoField.MONTH_OF_YEAR));
+            assertEquals(days[i], date.get(ChronoField.DAY_OF_MONTH));
+        }
+
+        long[] test = new long[epochDays.length];
+        chrono.yearMonthDayToEpochDays(years, months, days, test);
+        assertTrue(Arrays.equals(test, epochDays));
+    }
+
+    @Test(dataProvider = "calendarsystemtype", expectedExceptions = IllegalArgumentException.class)
+    public void test_epochDaysToYearMonthDay_shortArray(Chronology chrono, String calendarType) {
+        chrono.epochDaysToYearMonthDay(new long[2], new int[2], new int[1], new int[2]);
+    }
+
+    @Test(dataProvider = "calendarsystemtype", expectedExceptions = IllegalArgumentException.class)
+    public void test_yearMonthDayToEpochDays_shortArray(Chronology chrono, String calendarType) {
+        chrono.yearMonthDayToEpochDays(new int[2], new int[2], new int[2], new long[1]);
+    }
+
+    @Test(dataProvider = "calendarsystemtype", expectedExceptions = DateTimeException.class)
+    public void test_yearMonthDayToEpochDays_invalidMonth(Chronology chrono, String calendarType) {
+        chrono.yearMonthDayToEpochDays(new int[] {100, 100}, new int[] {1, 13}, new int[] {1, 1}, new long[2]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_epochDaysToYearMonthDay_japaneseBeforeMinimum() {
+        long[] epochDays = {0, LocalDate.of(1872, 12, 31).toEpochDay()};
+        JapaneseChronology.INSTANCE.epochDaysToYearMonthDay(epochDays, new int[2], new int[2], new int[2]);
+    }
+
+    //-----------------------------------------------------------------------
+    // range()
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "calendarsystemtype")
+    public void test_range_shared(Chronology chrono, String calendarType) {
+        ChronoField[] fields = {ChronoField.ERA, ChronoField.YEAR, ChronoField.YEAR_OF_ERA,
+                ChronoField.MONTH_OF_YEAR, ChronoField.DAY_OF_YEAR, ChronoField.PROLEPTIC_MONTH};
+        for (ChronoField field : fields) {
+            assertSame(chrono.range(field), chrono.range(field));
+        }
+    }
+
+    @Test(dataProvider = "calendarsystemtype")
+    public void test_dateRange_dayOfYear(Chronology chrono, String calendarType) {
+        ChronoLocalDate date = chrono.date(LocalDate.of(2012, 2, 29));
+        for (int i = 0; i < 400; i++) {
+            assertEquals(date.range(ChronoField.DAY_OF_YEAR), ValueRange.of(1, date.lengthOfYear()));
+            date = date.plus(17, ChronoUnit.DAYS);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // Era.getDisplayName()
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "calendarsystemtype")
+    public void test_eraDisplayName_matchesFormatter(Chronology chrono, String calendarType) {
+        for (Locale locale : new Locale[] {Locale.US, Locale.JAPAN}) {
+            for (TextStyle style : TextStyle.values()) {
+                DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendText(ChronoField.ERA, style).toFormatter(locale);
+                for (Era era : chrono.eras()) {
+                    assertEquals(era.getDisplayName(style, locale), formatter.format(era));
+                    assertEquals(era.getDisplayName(style, locale), formatter.format(era));
+                }
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     // serialization; serialize and check each calendar system
     //-----------------------------------------------------------------------
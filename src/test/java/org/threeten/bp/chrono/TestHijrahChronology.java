@@ -35,14 +35,25 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
 import org.threeten.bp.Month;
 import org.threeten.bp.chrono.HijrahChronology;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.ChronoUnit;
 import org.threeten.bp.temporal.TemporalAdjusters;
 
 /**
@@ -122,6 +133,117 @@ public class TestHijrahChronology {
         HijrahChronology.INSTANCE.date(year, month, dom);
     }
 
+    //-----------------------------------------------------------------------
+    // epoch-day conversion
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_epochDay_monthBoundaries() {
+        for (int year = 1; year <= 9999; year += 37) {
+            long yearStart = HijrahChronology.INSTANCE.date(year, 1, 1).toEpochDay();
+            long monthStart = yearStart;
+            for (int month = 1; month <= 12; month++) {
+                HijrahDate first = HijrahChronology.INSTANCE.dateEpochDay(monthStart);
+                assertEquals(first.getLong(ChronoField.YEAR), year);
+                assertEquals(first.getLong(ChronoField.MONTH_OF_YEAR), month);
+                assertEquals(first.getLong(ChronoField.DAY_OF_MONTH), 1);
+                assertEquals(first.getLong(ChronoField.DAY_OF_YEAR), monthStart - yearStart + 1);
+                HijrahDate last = HijrahChronology.INSTANCE.dateEpochDay(monthStart + first.lengthOfMonth() - 1);
+                assertEquals(last.getLong(ChronoField.MONTH_OF_YEAR), month);
+                assertEquals(last.getLong(ChronoField.DAY_OF_MONTH), first.lengthOfMonth());
+                assertEquals(last.getLong(ChronoField.DAY_OF_WEEK), LocalDate.ofEpochDay(last.toEpochDay()).getDayOfWeek().getValue());
+                monthStart += first.lengthOfMonth();
+            }
+            assertEquals(monthStart - yearStart, HijrahChronology.INSTANCE.date(year, 1, 1).lengthOfYear());
+        }
+    }
+
+    @Test
+    public void test_epochDay_maxYear() {
+        HijrahDate last = HijrahChronology.INSTANCE.date(9999, 12, 1);
+        last = last.plusDays(last.lengthOfMonth() - 1);
+        assertEquals(last.getLong(ChronoField.YEAR), 9999);
+        try {
+            last.plusDays(1);
+            Assert.fail();
+        } catch (DateTimeException ex) {
+            // expected
+        }
+    }
+
+    @DataProvider(name="badEpochDays")
+    Object[][] data_badEpochDays() {
+        return new Object[][] {
+            {-3000000000L},
+            {-2147975797L},
+            {Integer.MIN_VALUE},
+            {Long.MIN_VALUE},
+            {3000000000L},
+            {Long.MAX_VALUE},
+        };
+    }
+
+    @Test(dataProvider="badEpochDays", expectedExceptions=DateTimeException.class)
+    public void test_epochDay_outOfRange(long epochDay) {
+        HijrahChronology.INSTANCE.dateEpochDay(epochDay);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_plusDays_outOfRange() {
+        HijrahChronology.INSTANCE.date(1434, 1, 1).minus(3000000000L, ChronoUnit.DAYS);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_dateTime_plusHours_outOfRange() {
+        HijrahChronology.INSTANCE.date(1434, 1, 1).atTime(LocalTime.NOON).minus(24L * 2147975797L, ChronoUnit.HOURS);
+    }
+
+    //-----------------------------------------------------------------------
+    // deviation configuration
+    //-----------------------------------------------------------------------
+    @DataProvider(name="deviationConfigs")
+    Object[][] data_deviationConfigs() {
+        // 0-based months, so 1429/8 is Ramadan and 1429/9 is Shawwal
+        return new Object[][] {
+            {"", 0},
+            {"1429/8-1429/9:-1", 1},
+            {"1429/8-1429/9:30", 0},
+            {"1429/8-1429/9:-30", 0},
+            {"1429/8-1429/9:-1\n1429/8-1429/9:31", 1},
+            {"1429/8-1429/9:-1;1429/8-1429/9:x", 1},
+            {"1429/8-1429/9:30\n1429/8-1429/9:-1", 0},
+        };
+    }
+
+    @Test(dataProvider="deviationConfigs")
+    public void test_deviationConfig(String config, int shift) throws Exception {
+        long expected = HijrahChronology.INSTANCE.date(1429, 10, 1).toEpochDay() + shift;
+        File file = File.createTempFile("hijrah_deviation", ".cfg");
+        try {
+            Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+            try {
+                writer.write(config);
+            } finally {
+                writer.close();
+            }
+            System.setProperty("org.threeten.bp.i18n.HijrahDate.deviationConfigDir", file.getParent());
+            System.setProperty("org.threeten.bp.i18n.HijrahDate.deviationConfigFile", file.getName());
+            // a separate class loader builds a new month table from the configuration
+            URL classes = HijrahDate.class.getProtectionDomain().getCodeSource().getLocation();
+            ClassLoader loader = new URLClassLoader(new URL[] {classes}, null);
+            Class<?> chronoClass = loader.loadClass(HijrahChronology.class.getName());
+            Object chrono = chronoClass.getField("INSTANCE").get(null);
+            Method dateMethod = chronoClass.getMethod("date", int.class, int.class, int.class);
+            for (int i = 0; i < 2; i++) {
+                Object date = dateMethod.invoke(chrono, 1429, 10, 1);
+                assertEquals(date.getClass().getMethod("toEpochDay").invoke(date), expected);
+            }
+        } finally {
+            System.clearProperty("org.threeten.bp.i18n.HijrahDate.deviationConfigDir");
+            System.clearProperty("org.threeten.bp.i18n.HijrahDate.deviationConfigFile");
+            file.delete();
+        }
+    }
+
     //-----------------------------------------------------------------------
     // with(WithAdjuster)
     //-----------------------------------------------------------------------
@@ -35,10 +35,19 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_WEEK;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
 import static org.threeten.bp.temporal.ChronoField.ERA;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.PROLEPTIC_MONTH;
 import static org.threeten.bp.temporal.ChronoField.YEAR;
 import static org.threeten.bp.temporal.ChronoField.YEAR_OF_ERA;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -51,8 +60,10 @@ import org.threeten.bp.chrono.ChronoLocalDate;
 import org.threeten.bp.chrono.Era;
 import org.threeten.bp.chrono.HijrahChronology;
 import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.format.ResolverStyle;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.TemporalAdjusters;
+import org.threeten.bp.temporal.TemporalField;
 
 /**
  * Test.
@@ -258,6 +269,45 @@ public class TestIsoChronology {
         assertEquals(IsoChronology.INSTANCE.isLeapYear(year), isLeapYear);
     }
 
+    //-----------------------------------------------------------------------
+    // resolveDate()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="resolve")
+    Object[][] data_resolve() {
+        return new Object[][] {
+            {ResolverStyle.SMART, new Object[] {YEAR, 2012L, MONTH_OF_YEAR, 6L, DAY_OF_MONTH, 30L}, LocalDate.of(2012, 6, 30), 0},
+            {ResolverStyle.SMART, new Object[] {YEAR, 2012L, MONTH_OF_YEAR, 2L, DAY_OF_MONTH, 31L}, LocalDate.of(2012, 2, 29), 0},
+            {ResolverStyle.LENIENT, new Object[] {YEAR, 2012L, MONTH_OF_YEAR, 14L, DAY_OF_MONTH, 32L}, LocalDate.of(2013, 3, 4), 0},
+            {ResolverStyle.STRICT, new Object[] {YEAR, 2012L, MONTH_OF_YEAR, 6L, DAY_OF_MONTH, 30L}, LocalDate.of(2012, 6, 30), 0},
+            {ResolverStyle.SMART, new Object[] {YEAR, 2012L, MONTH_OF_YEAR, 6L, DAY_OF_MONTH, 30L, DAY_OF_WEEK, 6L}, LocalDate.of(2012, 6, 30), 1},
+            {ResolverStyle.SMART, new Object[] {YEAR, 2012L, MONTH_OF_YEAR, 6L, DAY_OF_MONTH, 30L, DAY_OF_YEAR, 182L}, LocalDate.of(2012, 6, 30), 1},
+            {ResolverStyle.SMART, new Object[] {YEAR, 2012L, DAY_OF_YEAR, 366L}, LocalDate.of(2012, 12, 31), 0},
+            {ResolverStyle.LENIENT, new Object[] {YEAR, 2012L, DAY_OF_YEAR, 367L}, LocalDate.of(2013, 1, 1), 0},
+            {ResolverStyle.SMART, new Object[] {YEAR_OF_ERA, 2012L, ERA, 1L, MONTH_OF_YEAR, 6L, DAY_OF_MONTH, 30L}, LocalDate.of(2012, 6, 30), 0},
+            {ResolverStyle.SMART, new Object[] {PROLEPTIC_MONTH, 2012L * 12 + 5, DAY_OF_MONTH, 30L}, LocalDate.of(2012, 6, 30), 0},
+            {ResolverStyle.SMART, new Object[] {EPOCH_DAY, 15521L, YEAR, 2012L, MONTH_OF_YEAR, 6L, DAY_OF_MONTH, 30L}, LocalDate.of(2012, 6, 30), 3},
+        };
+    }
+
+    @Test(dataProvider="resolve")
+    public void test_resolveDate(ResolverStyle style, Object[] fields, LocalDate expected, int remaining) {
+        Map<TemporalField, Long> fieldValues = new HashMap<TemporalField, Long>();
+        for (int i = 0; i < fields.length; i += 2) {
+            fieldValues.put((TemporalField) fields[i], (Long) fields[i + 1]);
+        }
+        assertEquals(IsoChronology.INSTANCE.resolveDate(fieldValues, style), expected);
+        assertEquals(fieldValues.size(), remaining);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_resolveDate_strictInvalid() {
+        Map<TemporalField, Long> fieldValues = new HashMap<TemporalField, Long>();
+        fieldValues.put(YEAR, 2012L);
+        fieldValues.put(MONTH_OF_YEAR, 2L);
+        fieldValues.put(DAY_OF_MONTH, 30L);
+        IsoChronology.INSTANCE.resolveDate(fieldValues, ResolverStyle.STRICT);
+    }
+
     //-----------------------------------------------------------------------
     // toString()
     //-----------------------------------------------------------------------
@@ -45,6 +45,8 @@ import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.Month;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.ChronoUnit;
 import org.threeten.bp.temporal.TemporalAdjusters;
 
 /**
@@ -188,7 +190,7 @@ public class TestJapaneseChronology {
 
     @Test
     public void test_Japanese_badEras() {
-        int badEras[] = {-1000, -998, -997, -2, 3, 4, 1000};
+        int badEras[] = {-1000, -998, -997, -2, 4, 1000};
         for (int badEra : badEras) {
             try {
                 Era era = JapaneseChronology.INSTANCE.eraOf(badEra);
@@ -199,6 +201,62 @@ public class TestJapaneseChronology {
         }
     }
 
+    @Test
+    public void test_Japanese_eraAfterHeisei() {
+        Era era = JapaneseChronology.INSTANCE.eraOf(3);
+        assertEquals(era.getValue(), 3);
+        assertEquals(JapaneseEra.from(LocalDate.of(2019, 5, 1)), era);
+        assertEquals(JapaneseEra.from(LocalDate.of(2019, 4, 30)), JapaneseEra.HEISEI);
+        assertEquals(JapaneseDate.from(LocalDate.of(2019, 5, 1)).get(ChronoField.YEAR_OF_ERA), 1);
+    }
+
+    @DataProvider(name="eraBoundaries")
+    Object[][] data_eraBoundaries() {
+        return new Object[][] {
+            {LocalDate.of(1873, 1, 4), JapaneseEra.MEIJI, 6},
+            {LocalDate.of(1912, 7, 29), JapaneseEra.MEIJI, 45},
+            {LocalDate.of(1912, 7, 30), JapaneseEra.TAISHO, 1},
+            {LocalDate.of(1926, 12, 24), JapaneseEra.TAISHO, 15},
+            {LocalDate.of(1926, 12, 25), JapaneseEra.SHOWA, 1},
+            {LocalDate.of(1989, 1, 7), JapaneseEra.SHOWA, 64},
+            {LocalDate.of(1989, 1, 8), JapaneseEra.HEISEI, 1},
+        };
+    }
+
+    @Test(dataProvider="eraBoundaries")
+    public void test_eraBoundaries(LocalDate isoDate, JapaneseEra era, int yearOfEra) {
+        JapaneseDate date = JapaneseDate.from(isoDate);
+        assertEquals(date.getEra(), era);
+        assertEquals(date.get(ChronoField.YEAR_OF_ERA), yearOfEra);
+        assertEquals(JapaneseEra.from(isoDate), era);
+    }
+
+    @Test(dataProvider="eraBoundaries")
+    public void test_eraBoundaries_plusDays(LocalDate isoDate, JapaneseEra era, int yearOfEra) {
+        JapaneseDate date = JapaneseDate.from(isoDate.minusDays(3));
+        for (int i = -3; i <= 3; i++) {
+            assertEquals(date, JapaneseDate.from(isoDate.plusDays(i)));
+            assertEquals(date.getEra(), JapaneseDate.from(isoDate.plusDays(i)).getEra());
+            assertEquals(date.get(ChronoField.YEAR_OF_ERA), JapaneseDate.from(isoDate.plusDays(i)).get(ChronoField.YEAR_OF_ERA));
+            date = date.plus(1, ChronoUnit.DAYS);
+        }
+    }
+
+    @Test
+    public void test_eraValues_consecutive() {
+        JapaneseEra[] eras = JapaneseEra.values();
+        for (int i = 0; i < eras.length; i++) {
+            assertEquals(eras[i].getValue(), i - 1);
+            assertEquals(JapaneseEra.of(i - 1), eras[i]);
+            assertEquals(JapaneseEra.from(eras[i].startDate()), eras[i]);
+        }
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_eraFrom_beforeMeiji() {
+        JapaneseEra.from(LocalDate.of(1868, 9, 7));
+    }
+
     //-----------------------------------------------------------------------
     // toString()
     //-----------------------------------------------------------------------
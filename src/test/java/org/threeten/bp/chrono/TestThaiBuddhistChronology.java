@@ -48,6 +48,7 @@ import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.Month;
 import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.ChronoUnit;
 import org.threeten.bp.temporal.TemporalAdjusters;
 import org.threeten.bp.temporal.ValueRange;
 
@@ -222,6 +223,38 @@ public class TestThaiBuddhistChronology {
         assertEquals(test, LocalDateTime.of(2012, 10, 29, 0, 0));
     }
 
+    //-----------------------------------------------------------------------
+    // arithmetic matches ISO
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_plus_matchesIso() {
+        LocalDate iso = LocalDate.of(1999, 12, 31);
+        ThaiBuddhistDate date = ThaiBuddhistDate.from(iso);
+        int[] amounts = {-400, -59, -31, -1, 0, 1, 2, 28, 29, 366, 1461};
+        for (int i = 0; i < 800; i++) {
+            for (int amount : amounts) {
+                assertEquals(LocalDate.from(date.plus(amount, ChronoUnit.DAYS)), iso.plusDays(amount));
+                assertEquals(LocalDate.from(date.plus(amount, ChronoUnit.MONTHS)), iso.plusMonths(amount));
+                assertEquals(LocalDate.from(date.plus(amount, ChronoUnit.YEARS)), iso.plusYears(amount));
+            }
+            assertEquals(date.toEpochDay(), iso.toEpochDay());
+            assertEquals(date.lengthOfMonth(), iso.lengthOfMonth());
+            assertEquals(date.get(ChronoField.DAY_OF_YEAR), iso.getDayOfYear());
+            assertEquals(date.get(ChronoField.DAY_OF_WEEK), iso.getDayOfWeek().getValue());
+            assertEquals(date, ThaiBuddhistDate.from(iso));
+            assertEquals(date.hashCode(), ThaiBuddhistDate.from(iso).hashCode());
+            iso = iso.plusDays(1);
+            date = date.plus(1, ChronoUnit.DAYS);
+        }
+    }
+
+    @Test
+    public void test_plusDays_zeroReturnsSame() {
+        ThaiBuddhistDate date = ThaiBuddhistChronology.INSTANCE.date(100, 2, 28);
+        assertTrue(date.plus(0, ChronoUnit.DAYS) == date);
+        assertTrue(date.with(ChronoField.DAY_OF_MONTH, 28) == date);
+    }
+
     //-----------------------------------------------------------------------
     // toString()
     //-----------------------------------------------------------------------
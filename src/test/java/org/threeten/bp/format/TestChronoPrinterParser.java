@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.util.Locale;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.chrono.Chronology;
+import org.threeten.bp.chrono.HijrahChronology;
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.chrono.JapaneseChronology;
+import org.threeten.bp.chrono.MinguoChronology;
+import org.threeten.bp.chrono.ThaiBuddhistChronology;
+import org.threeten.bp.format.DateTimeFormatterBuilder.ChronoPrinterParser;
+
+/**
+ * Test ChronoPrinterParser.
+ */
+@Test
+public class TestChronoPrinterParser extends AbstractTestPrinterParser {
+
+    @DataProvider(name="chronos")
+    Object[][] data_chronos() {
+        return new Object[][] {
+            {IsoChronology.INSTANCE, "ISO", "ISO"},
+            {ThaiBuddhistChronology.INSTANCE, "ThaiBuddhist", "Buddhist Calendar"},
+            {MinguoChronology.INSTANCE, "Minguo", "Minguo Calendar"},
+            {JapaneseChronology.INSTANCE, "Japanese", "Japanese Calendar"},
+            {HijrahChronology.INSTANCE, "Hijrah-umalqura", "Islamic Umm al-Qura Calendar"},
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="chronos")
+    public void test_print_id(Chronology chrono, String id, String name) throws Exception {
+        DateTimePrintContext context = new DateTimePrintContext(chrono.date(LocalDate.of(2012, 6, 30)), Locale.ENGLISH, DecimalStyle.STANDARD);
+        new ChronoPrinterParser(null).print(context, buf);
+        assertEquals(buf.toString(), id);
+    }
+
+    @Test(dataProvider="chronos")
+    public void test_print_text(Chronology chrono, String id, String name) throws Exception {
+        DateTimePrintContext context = new DateTimePrintContext(chrono.date(LocalDate.of(2012, 6, 30)), Locale.ENGLISH, DecimalStyle.STANDARD);
+        ChronoPrinterParser pp = new ChronoPrinterParser(TextStyle.FULL);
+        pp.print(context, buf);
+        pp.print(context, buf);
+        assertEquals(buf.toString(), name + name);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="chronos")
+    public void test_parse_id(Chronology chrono, String id, String name) throws Exception {
+        ChronoPrinterParser pp = new ChronoPrinterParser(null);
+        int result = pp.parse(parseContext, "XX" + id + "XX", 2);
+        assertEquals(result, 2 + id.length());
+        assertEquals(parseContext.toParsed().chrono, chrono);
+    }
+
+    @Test(dataProvider="chronos")
+    public void test_parse_id_caseInsensitive(Chronology chrono, String id, String name) throws Exception {
+        ChronoPrinterParser pp = new ChronoPrinterParser(null);
+        parseContext.setCaseSensitive(false);
+        int result = pp.parse(parseContext, id.toLowerCase(Locale.ENGLISH), 0);
+        assertEquals(result, id.length());
+        assertEquals(parseContext.toParsed().chrono, chrono);
+    }
+
+    public void test_parse_longestMatch() throws Exception {
+        ChronoPrinterParser pp = new ChronoPrinterParser(null);
+        int result = pp.parse(parseContext, "Hijrah-umalqura", 0);
+        assertEquals(result, 15);
+        assertEquals(parseContext.toParsed().chrono, HijrahChronology.INSTANCE);
+    }
+
+    public void test_parse_noMatch() throws Exception {
+        ChronoPrinterParser pp = new ChronoPrinterParser(null);
+        assertEquals(pp.parse(parseContext, "Japan", 0), ~0);
+        assertEquals(pp.parse(parseContext, "iso", 0), ~0);
+        assertEquals(pp.parse(parseContext, "ISO", 3), ~3);
+        assertNull(parseContext.toParsed().chrono);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_parse_invalidPosition() throws Exception {
+        new ChronoPrinterParser(null).parse(parseContext, "ISO", 4);
+    }
+
+}
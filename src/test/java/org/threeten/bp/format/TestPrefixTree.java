@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test PrefixTree.
+ */
+@Test
+public class TestPrefixTree {
+
+    private PrefixTree<Long> tree;
+
+    @BeforeMethod
+    public void setUp() {
+        Map<String, Long> map = new HashMap<String, Long>();
+        map.put("Ma", 1L);
+        map.put("Mar", 2L);
+        map.put("March", 3L);
+        map.put("May", 4L);
+        map.put("MAY", 5L);
+        map.put("Jun", 6L);
+        tree = PrefixTree.of(map);
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="match")
+    Object[][] data_match() {
+        return new Object[][] {
+            {"Ma", 0, true, 1L, 2},
+            {"Marc", 0, true, 2L, 3},
+            {"March", 0, true, 3L, 5},
+            {"XMarches", 1, true, 3L, 5},
+            {"May", 0, true, 4L, 3},
+            {"MAY", 0, true, 5L, 3},
+            {"MAR", 0, true, null, 0},
+            {"MAR", 0, false, 2L, 3},
+            {"march", 0, false, 3L, 5},
+            {"jun", 0, true, null, 0},
+            {"jun", 0, false, 6L, 3},
+            {"M", 0, true, null, 0},
+            {"Jun", 3, true, null, 0},
+            {"", 0, false, null, 0},
+        };
+    }
+
+    @Test(dataProvider="match")
+    public void test_match(String text, int position, boolean caseSensitive, Long expectedValue, int expectedLength) {
+        PrefixTree<Long> match = tree.match(text, position, caseSensitive);
+        if (expectedValue == null) {
+            assertNull(match);
+        } else {
+            assertEquals(match.getValue(), expectedValue);
+            assertEquals(match.getLength(), expectedLength);
+        }
+    }
+
+    public void test_empty() {
+        PrefixTree<Long> empty = PrefixTree.of(new HashMap<String, Long>());
+        assertNull(empty.match("May", 0, true));
+        assertNull(empty.match("May", 0, false));
+    }
+
+}
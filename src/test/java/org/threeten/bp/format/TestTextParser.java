@@ -32,12 +32,24 @@
 package org.threeten.bp.format;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.temporal.ChronoField.AMPM_OF_DAY;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_WEEK;
+import static org.threeten.bp.temporal.ChronoField.ERA;
 import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -337,6 +349,55 @@ public class TestTextParser extends AbstractTestPrinterParser {
         assertParsed(parseContext, MONTH_OF_YEAR, 1L);
     }
 
+    //-----------------------------------------------------------------------
+    @DataProvider(name="textTrees")
+    Object[][] data_textTrees() {
+        return new Object[][] {
+            {MONTH_OF_YEAR, Locale.ENGLISH},
+            {MONTH_OF_YEAR, Locale.FRENCH},
+            {MONTH_OF_YEAR, Locale.JAPANESE},
+            {DAY_OF_WEEK, Locale.ENGLISH},
+            {DAY_OF_WEEK, Locale.GERMAN},
+            {AMPM_OF_DAY, Locale.ENGLISH},
+            {ERA, Locale.ENGLISH},
+        };
+    }
+
+    @Test(dataProvider="textTrees")
+    public void test_textTree_matchesIterator(TemporalField field, Locale locale) throws Exception {
+        List<TextStyle> styles = new ArrayList<TextStyle>(Arrays.asList(TextStyle.values()));
+        styles.add(null);
+        for (TextStyle style : styles) {
+            Iterator<Entry<String, Long>> it = PROVIDER.getTextIterator(field, style, locale);
+            PrefixTree<Long> tree = PROVIDER.getTextTree(field, style, locale);
+            if (it == null) {
+                assertNull(tree);
+                continue;
+            }
+            Set<String> seen = new HashSet<String>();
+            while (it.hasNext()) {
+                Entry<String, Long> entry = it.next();
+                if (seen.add(entry.getKey())) {
+                    PrefixTree<Long> match = tree.match(entry.getKey(), 0, true);
+                    assertEquals(match.getLength(), entry.getKey().length());
+                    assertEquals(match.getValue(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    public void test_parse_customText_longestMatch() throws Exception {
+        Map<Long, String> map = new HashMap<Long, String>();
+        map.put(1L, "I");
+        map.put(2L, "II");
+        map.put(3L, "III");
+        map.put(4L, "IV");
+        DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendText(DAY_OF_MONTH, map).toFormatter();
+        assertEquals(formatter.parse("III").getLong(DAY_OF_MONTH), 3L);
+        assertEquals(formatter.parse("IV").getLong(DAY_OF_MONTH), 4L);
+        assertEquals(formatter.parse("I").getLong(DAY_OF_MONTH), 1L);
+    }
+
     private void assertParsed(DateTimeParseContext context, TemporalField field, Long value) {
         if (value == null) {
             assertEquals(context.getParsed(field), null);
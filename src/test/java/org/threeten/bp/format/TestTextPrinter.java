@@ -36,7 +36,9 @@ import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_WEEK;
 import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
 
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -138,6 +140,37 @@ public class TestTextPrinter extends AbstractTestPrinterParser {
         assertEquals(buf.toString(), "janv.");
     }
 
+    //-----------------------------------------------------------------------
+    @DataProvider(name="customText")
+    Object[][] data_customText() {
+        return new Object[][] {
+            {new long[] {1, 2, 3}, 2, "two"},
+            {new long[] {1, 2, 3}, 4, "4"},
+            {new long[] {1, 2, 3}, 0, "0"},
+            {new long[] {-5, 3}, -5, "minus-five"},
+            {new long[] {-5, 3}, 3, "three"},
+            {new long[] {-5, 3}, -4, "-4"},
+            {new long[] {1, 2000}, 2000, "two-thousand"},
+            {new long[] {1, 2000}, 1999, "1999"},
+        };
+    }
+
+    @Test(dataProvider="customText")
+    public void test_print_customText(long[] keys, long value, String expected) throws Exception {
+        Map<Long, String> map = new HashMap<Long, String>();
+        Map<Long, String> names = new HashMap<Long, String>();
+        names.put(-5L, "minus-five");
+        names.put(1L, "one");
+        names.put(2L, "two");
+        names.put(3L, "three");
+        names.put(2000L, "two-thousand");
+        for (long key : keys) {
+            map.put(key, names.get(key));
+        }
+        DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendText(DAY_OF_MONTH, map).toFormatter();
+        assertEquals(formatter.format(new MockFieldValue(DAY_OF_MONTH, value)), expected);
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString1() throws Exception {
         TextPrinterParser pp = new TextPrinterParser(MONTH_OF_YEAR, TextStyle.FULL, PROVIDER);
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.temporal;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+
+/**
+ * Test Performance of localized week numbering.
+ */
+public class PerformanceWeekFields {
+
+    /** Size. */
+    private static final NumberFormat NF = NumberFormat.getIntegerInstance();
+    static {
+        NF.setGroupingUsed(true);
+    }
+    /** Size. */
+    private static final int SIZE = 200000;
+    /** The locales to test, covering different week definitions. */
+    private static final Locale[] LOCALES = {
+        Locale.US,
+        Locale.UK,
+        Locale.FRANCE,
+        new Locale("ar", "EG"),
+        new Locale("pt", "BR"),
+    };
+
+    /**
+     * Main.
+     * @param args  the arguments
+     */
+    public static void main(String[] args) {
+        LocalDate[] dates = new LocalDate[SIZE];
+        LocalDateTime[] dateTimes = new LocalDateTime[SIZE];
+        TemporalAccessor[] generics = new TemporalAccessor[SIZE];
+        long start = LocalDate.of(1950, 1, 1).toEpochDay();
+        for (int i = 0; i < SIZE; i++) {
+            dates[i] = LocalDate.ofEpochDay(start + (i * 7919L) % 36500);  // spread over a century
+            dateTimes[i] = dates[i].atTime(LocalTime.NOON);
+            generics[i] = new TestWeekFields.GenericAccessor(dates[i]);
+        }
+
+        for (int i = 0; i < 6; i++) {
+            for (Locale locale : LOCALES) {
+                WeekFields week = WeekFields.of(locale);
+                weekNumbers(locale, "LocalDate     ", week, dates);
+                weekNumbers(locale, "LocalDateTime ", week, dateTimes);
+                weekNumbers(locale, "Generic       ", week, generics);
+            }
+            System.out.println();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private static void weekNumbers(Locale locale, String name, WeekFields week, TemporalAccessor[] temporals) {
+        TemporalField weekOfYear = week.weekOfWeekBasedYear();
+        TemporalField weekBasedYear = week.weekBasedYear();
+        long total = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            total += temporals[i].getLong(weekOfYear) + temporals[i].getLong(weekBasedYear);
+        }
+        long end = System.nanoTime();
+        print(locale, name, start, end, total);
+    }
+
+    //-----------------------------------------------------------------------
+    private static void print(Locale locale, String name, long start, long end, long check) {
+        String id = (locale + "            ").substring(0, 12);
+        System.out.println(id + " " + name + ": " + NF.format((end - start) / SIZE) + " ns/op " + check);
+    }
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.temporal;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.DayOfWeek.FRIDAY;
+import static org.threeten.bp.DayOfWeek.SATURDAY;
+import static org.threeten.bp.DayOfWeek.SUNDAY;
+import static org.threeten.bp.DayOfWeek.THURSDAY;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+
+/**
+ * Test BusinessCalendar.
+ */
+@Test
+public class TestBusinessCalendar {
+
+    private static final List<LocalDate> UK_2012 = Arrays.asList(
+            LocalDate.of(2012, 1, 2), LocalDate.of(2012, 4, 6), LocalDate.of(2012, 4, 9),
+            LocalDate.of(2012, 5, 7), LocalDate.of(2012, 6, 4), LocalDate.of(2012, 6, 5),
+            LocalDate.of(2012, 8, 27), LocalDate.of(2012, 12, 25), LocalDate.of(2012, 12, 26));
+
+    @DataProvider(name = "calendars")
+    Object[][] data_calendars() {
+        List<LocalDate> random = new ArrayList<LocalDate>();
+        Random rnd = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            random.add(LocalDate.of(2005, 1, 1).plusDays(rnd.nextInt(3000)));
+        }
+        return new Object[][] {
+            {BusinessCalendar.of(UK_2012), EnumSet.of(SATURDAY, SUNDAY), UK_2012},
+            {BusinessCalendar.of(Collections.<LocalDate>emptyList()), EnumSet.of(SATURDAY, SUNDAY), Collections.<LocalDate>emptyList()},
+            {BusinessCalendar.of(EnumSet.of(FRIDAY, SATURDAY), random), EnumSet.of(FRIDAY, SATURDAY), random},
+            {BusinessCalendar.of(EnumSet.noneOf(DayOfWeek.class), random), EnumSet.noneOf(DayOfWeek.class), random},
+            {BusinessCalendar.of(EnumSet.of(THURSDAY), Arrays.asList(LocalDate.of(2011, 12, 31))), EnumSet.of(THURSDAY), Arrays.asList(LocalDate.of(2011, 12, 31))},
+        };
+    }
+
+    @Test(dataProvider = "calendars")
+    public void test_matchesBruteForce(BusinessCalendar calendar, Set<DayOfWeek> weekend, List<LocalDate> holidays) {
+        Set<LocalDate> holidaySet = new HashSet<LocalDate>(holidays);
+        LocalDate start = LocalDate.of(2004, 6, 1);
+        LocalDate end = LocalDate.of(2014, 6, 1);
+        List<LocalDate> business = new ArrayList<LocalDate>();
+        for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+            boolean expected = weekend.contains(date.getDayOfWeek()) == false && holidaySet.contains(date) == false;
+            assertEquals(calendar.isBusinessDay(date), expected, "Failed on " + date);
+            if (expected) {
+                business.add(date);
+            }
+        }
+        Random rnd = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            int from = 20 + rnd.nextInt(business.size() - 40);
+            int amount = rnd.nextInt(41) - 20;
+            LocalDate date = business.get(from);
+            LocalDate target = business.get(from + amount);
+            assertEquals(calendar.plusBusinessDays(date, amount), target, date + " plus " + amount);
+            assertEquals(calendar.businessDaysBetween(date, target), amount, date + " to " + target);
+            // from a day that is not a business day, which is never counted
+            LocalDate next = business.get(from).plusDays(1);
+            if (next.equals(business.get(from + 1)) == false) {
+                LocalDate expected = business.get(from + (amount > 0 ? amount : amount + 1));
+                assertEquals(calendar.plusBusinessDays(next, amount), (amount == 0 ? next : expected), next + " plus " + amount);
+            }
+        }
+    }
+
+    @Test(dataProvider = "calendars")
+    public void test_between_matchesCount(BusinessCalendar calendar, Set<DayOfWeek> weekend, List<LocalDate> holidays) {
+        LocalDate base = LocalDate.of(2011, 12, 20);
+        for (int i = -40; i <= 40; i++) {
+            LocalDate other = base.plusDays(i);
+            long count = 0;
+            if (i >= 0) {
+                for (LocalDate date = base.plusDays(1); date.isAfter(other) == false; date = date.plusDays(1)) {
+                    count += (calendar.isBusinessDay(date) ? 1 : 0);
+                }
+            } else {
+                for (LocalDate date = other; date.isBefore(base); date = date.plusDays(1)) {
+                    count -= (calendar.isBusinessDay(date) ? 1 : 0);
+                }
+            }
+            assertEquals(calendar.businessDaysBetween(base, other), count, "Failed on " + other);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_plusBusinessDays_overHoliday() {
+        BusinessCalendar calendar = BusinessCalendar.of(UK_2012);
+        assertEquals(calendar.plusBusinessDays(LocalDate.of(2012, 4, 5), 1), LocalDate.of(2012, 4, 10));
+        assertEquals(calendar.plusBusinessDays(LocalDate.of(2012, 4, 10), -1), LocalDate.of(2012, 4, 5));
+        assertEquals(calendar.plusBusinessDays(LocalDate.of(2012, 4, 7), 1), LocalDate.of(2012, 4, 10));
+        assertEquals(calendar.plusBusinessDays(LocalDate.of(2012, 12, 21), 2), LocalDate.of(2012, 12, 27));
+    }
+
+    public void test_plusBusinessDays_zero() {
+        LocalDate date = LocalDate.of(2012, 4, 7);
+        assertSame(BusinessCalendar.of(UK_2012).plusBusinessDays(date, 0), date);
+    }
+
+    public void test_centuries() {
+        BusinessCalendar calendar = BusinessCalendar.of(UK_2012);
+        LocalDate start = LocalDate.of(1712, 3, 1);
+        LocalDate end = LocalDate.of(2312, 3, 1);
+        long weekdays = 0;
+        for (LocalDate date = start.plusDays(1); date.isAfter(end) == false; date = date.plusDays(1)) {
+            DayOfWeek dow = date.getDayOfWeek();
+            weekdays += (dow != SATURDAY && dow != SUNDAY ? 1 : 0);
+        }
+        long expected = weekdays - UK_2012.size();
+        assertEquals(calendar.businessDaysBetween(start, end), expected);
+        assertEquals(calendar.businessDaysBetween(end, start), -expected);
+        assertEquals(calendar.plusBusinessDays(start, expected), end);
+        assertEquals(calendar.plusBusinessDays(end, -expected), start);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_plusBusinessDays_outOfRange() {
+        BusinessCalendar.of(UK_2012).plusBusinessDays(LocalDate.MAX.minusDays(3), 10);
+    }
+
+    public void test_holidayInMaxYear() {
+        LocalDate max = LocalDate.MAX;
+        BusinessCalendar calendar = BusinessCalendar.of(EnumSet.noneOf(DayOfWeek.class), Collections.singleton(max));
+        assertEquals(calendar.isBusinessDay(max), false);
+        assertEquals(calendar.isBusinessDay(max.minusDays(1)), true);
+        assertEquals(calendar.businessDaysBetween(max.minusDays(3), max), 2);
+        assertEquals(calendar.businessDaysBetween(max, max.minusDays(3)), -3);
+        assertEquals(calendar.plusBusinessDays(max.minusDays(3), 2), max.minusDays(1));
+        assertEquals(max.with(calendar.previousOrSameBusinessDay()), max.minusDays(1));
+        BusinessCalendar.of(Collections.singleton(max));
+    }
+
+    public void test_holidayInMinYear() {
+        LocalDate min = LocalDate.MIN;
+        BusinessCalendar calendar = BusinessCalendar.of(EnumSet.noneOf(DayOfWeek.class), Collections.singleton(min));
+        assertEquals(calendar.isBusinessDay(min), false);
+        assertEquals(calendar.isBusinessDay(min.plusDays(1)), true);
+        assertEquals(calendar.businessDaysBetween(min, min.plusDays(3)), 3);
+        assertEquals(calendar.plusBusinessDays(min.plusDays(3), -2), min.plusDays(1));
+        assertEquals(min.with(calendar.nextOrSameBusinessDay()), min.plusDays(1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_of_holidaysTooFarApart() {
+        BusinessCalendar.of(Arrays.asList(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_plusBusinessDays_pastMaxHoliday() {
+        BusinessCalendar.of(Collections.singleton(LocalDate.MAX)).plusBusinessDays(LocalDate.MAX.minusDays(1), 1);
+    }
+
+    //-----------------------------------------------------------------------
+    // unit and adjusters
+    //-----------------------------------------------------------------------
+    public void test_unit() {
+        BusinessCalendar calendar = BusinessCalendar.of(UK_2012);
+        TemporalUnit unit = calendar.businessDays();
+        LocalDateTime dateTime = LocalDateTime.of(2012, 4, 5, 10, 30);
+        assertEquals(dateTime.plus(1, unit), LocalDateTime.of(2012, 4, 10, 10, 30));
+        assertEquals(dateTime.minus(3, unit), LocalDateTime.of(2012, 4, 2, 10, 30));
+        assertEquals(LocalDate.of(2012, 4, 5).until(LocalDate.of(2012, 4, 12), unit), 3);
+        assertEquals(unit.between(LocalDate.of(2012, 4, 12), LocalDate.of(2012, 4, 5)), -3);
+        assertTrue(unit.isDateBased());
+        assertFalse(unit.isTimeBased());
+        assertTrue(unit.isDurationEstimated());
+        assertEquals(unit.toString(), "BusinessDays");
+    }
+
+    public void test_adjusters() {
+        BusinessCalendar calendar = BusinessCalendar.of(UK_2012);
+        assertEquals(LocalDate.of(2012, 4, 6).with(calendar.nextOrSameBusinessDay()), LocalDate.of(2012, 4, 10));
+        assertEquals(LocalDate.of(2012, 4, 6).with(calendar.previousOrSameBusinessDay()), LocalDate.of(2012, 4, 5));
+        LocalDate businessDay = LocalDate.of(2012, 4, 10);
+        assertSame(businessDay.with(calendar.nextOrSameBusinessDay()), businessDay);
+        assertSame(businessDay.with(calendar.previousOrSameBusinessDay()), businessDay);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_of_allWeekend() {
+        BusinessCalendar.of(EnumSet.allOf(DayOfWeek.class), UK_2012);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_nullHoliday() {
+        BusinessCalendar.of(Arrays.asList(LocalDate.of(2012, 1, 2), null));
+    }
+
+    public void test_toString() {
+        assertEquals(BusinessCalendar.of(UK_2012).toString(), "BusinessCalendar[weekend=SATURDAY,SUNDAY,holidays=9]");
+    }
+
+}
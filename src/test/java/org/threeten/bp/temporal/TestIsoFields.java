@@ -184,5 +184,49 @@ public class TestIsoFields {
          assertEquals(IsoFields.QUARTER_YEARS.between(start, end), expected);
      }
 
+    //-----------------------------------------------------------------------
+    public void test_weeks_matchWeekFields_negativeYears() {
+        LocalDate date = LocalDate.of(-2001, 1, 1);
+        while (date.getYear() < -1599) {
+            assertEquals(date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), date.get(WeekFields.ISO.weekOfWeekBasedYear()), "Failed on " + date);
+            assertEquals(date.get(IsoFields.WEEK_BASED_YEAR), date.get(WeekFields.ISO.weekBasedYear()), "Failed on " + date);
+            date = date.plusDays(1);
+        }
+    }
+
+    public void test_weeks_extremeYears() {
+        LocalDate min = LocalDate.MIN;
+        assertEquals(min.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), min.get(WeekFields.ISO.weekOfWeekBasedYear()));
+        assertEquals(min.get(IsoFields.WEEK_BASED_YEAR), min.get(WeekFields.ISO.weekBasedYear()));
+        LocalDate max = LocalDate.MAX;
+        assertEquals(max.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), max.get(WeekFields.ISO.weekOfWeekBasedYear()));
+        assertEquals(max.get(IsoFields.WEEK_BASED_YEAR), max.get(WeekFields.ISO.weekBasedYear()));
+    }
+
+    public void test_loop_genericAccessor() {
+        LocalDate date = LocalDate.of(1996, 12, 1);
+        while (date.getYear() < 2030) {
+            TemporalAccessor generic = new TestWeekFields.GenericAccessor(date);
+            for (TemporalField field : new TemporalField[] {IsoFields.DAY_OF_QUARTER, IsoFields.QUARTER_OF_YEAR,
+                    IsoFields.WEEK_OF_WEEK_BASED_YEAR, IsoFields.WEEK_BASED_YEAR}) {
+                assertEquals(date.getLong(field), field.getFrom(generic), "Failed on " + date + " " + field);
+            }
+            assertEquals(IsoFields.WEEK_OF_WEEK_BASED_YEAR.rangeRefinedBy(date),
+                    IsoFields.WEEK_OF_WEEK_BASED_YEAR.rangeRefinedBy(generic), "Failed on " + date);
+            date = date.plusDays(1);
+        }
+    }
+
+    public void test_loop_quarters() {
+        LocalDate date = LocalDate.of(2011, 1, 1);
+        while (date.getYear() < 2013) {
+            LocalDate quarterStart = date.withMonth(((date.getMonthValue() - 1) / 3) * 3 + 1).withDayOfMonth(1);
+            assertEquals(date.get(IsoFields.QUARTER_OF_YEAR), (date.getMonthValue() + 2) / 3, "Failed on " + date);
+            assertEquals(date.get(IsoFields.DAY_OF_QUARTER), date.toEpochDay() - quarterStart.toEpochDay() + 1, "Failed on " + date);
+            assertEquals(date.atStartOfDay().get(IsoFields.DAY_OF_QUARTER), date.get(IsoFields.DAY_OF_QUARTER), "Failed on " + date);
+            date = date.plusDays(1);
+        }
+    }
+
     // TODO: more tests
 }
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.temporal;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.threeten.bp.DayOfWeek.FRIDAY;
+import static org.threeten.bp.DayOfWeek.MONDAY;
+import static org.threeten.bp.DayOfWeek.SUNDAY;
+import static org.threeten.bp.DayOfWeek.THURSDAY;
+import static org.threeten.bp.DayOfWeek.TUESDAY;
+import static org.threeten.bp.DayOfWeek.WEDNESDAY;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.Month;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+
+/**
+ * Test RecurrenceRule and Recurrence.
+ */
+@Test
+public class TestRecurrenceRule {
+
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+    private static final LocalTime NINE = LocalTime.of(9, 0);
+
+    //-----------------------------------------------------------------------
+    // dates
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "rules")
+    Object[][] data_rules() {
+        return new Object[][] {
+            {RecurrenceRule.daily(1), LocalDate.of(2011, 12, 30)},
+            {RecurrenceRule.daily(3), LocalDate.of(2012, 2, 27)},
+            {RecurrenceRule.weekly(1), LocalDate.of(2012, 1, 4)},
+            {RecurrenceRule.weekly(2, TUESDAY, THURSDAY), LocalDate.of(2012, 1, 5)},
+            {RecurrenceRule.weekly(3, MONDAY, SUNDAY), LocalDate.of(2011, 12, 31)},
+            {RecurrenceRule.monthlyOnDay(1, 31), LocalDate.of(2012, 1, 31)},
+            {RecurrenceRule.monthlyOnDay(2, 29), LocalDate.of(2011, 12, 30)},
+            {RecurrenceRule.monthlyOnDayOfWeek(1, 2, TUESDAY), LocalDate.of(2012, 1, 11)},
+            {RecurrenceRule.monthlyOnDayOfWeek(1, 5, FRIDAY), LocalDate.of(2012, 1, 1)},
+            {RecurrenceRule.monthlyOnDayOfWeek(3, -1, SUNDAY), LocalDate.of(2012, 3, 25)},
+            {RecurrenceRule.monthlyOnDayOfWeek(1, -5, WEDNESDAY), LocalDate.of(2012, 1, 1)},
+            {RecurrenceRule.yearlyOnDay(1, Month.FEBRUARY, 29), LocalDate.of(1995, 6, 1)},
+            {RecurrenceRule.yearlyOnDay(2, Month.MARCH, 1), LocalDate.of(2012, 3, 2)},
+            {RecurrenceRule.yearlyOnDayOfWeek(1, Month.NOVEMBER, 4, THURSDAY), LocalDate.of(2012, 1, 1)},
+        };
+    }
+
+    @Test(dataProvider = "rules")
+    public void test_iterator_matchesBruteForce(RecurrenceRule rule, LocalDate start) {
+        Recurrence recurrence = rule.compile(start, NINE, ZoneOffset.UTC);
+        List<LocalDate> expected = bruteForce(rule, start, start.plusYears(40));
+        List<LocalDate> actual = new ArrayList<LocalDate>();
+        Iterator<ZonedDateTime> it = recurrence.iterator();
+        while (actual.size() < expected.size()) {
+            ZonedDateTime occurrence = it.next();
+            assertEquals(occurrence.toLocalTime(), NINE);
+            actual.add(occurrence.toLocalDate());
+        }
+        assertEquals(actual, expected);
+        ZonedDateTime next = it.next();
+        assertFalse(next.toLocalDate().isBefore(start.plusYears(40)));
+    }
+
+    @Test(dataProvider = "rules")
+    public void test_nextEpochDay_matchesBruteForce(RecurrenceRule rule, LocalDate start) {
+        Recurrence recurrence = rule.compile(start, NINE, ZoneOffset.UTC);
+        List<LocalDate> expected = bruteForce(rule, start, start.plusYears(3));
+        int index = 0;
+        for (LocalDate date = start.minusDays(10); date.isBefore(start.plusYears(3)); date = date.plusDays(1)) {
+            while (index < expected.size() && expected.get(index).isBefore(date)) {
+                index++;
+            }
+            if (index < expected.size()) {
+                assertEquals(LocalDate.ofEpochDay(recurrence.nextEpochDay(date.toEpochDay())), expected.get(index), "Failed on " + date);
+            }
+        }
+    }
+
+    private List<LocalDate> bruteForce(RecurrenceRule rule, LocalDate start, LocalDate end) {
+        List<LocalDate> list = new ArrayList<LocalDate>();
+        Recurrence recurrence = rule.compile(start, NINE, ZoneOffset.UTC);
+        LocalDate monday = start.with(TemporalAdjusters.previousOrSame(MONDAY));
+        String text = rule.toString();
+        for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+            boolean match;
+            long months = (date.getYear() - start.getYear()) * 12L + date.getMonthValue() - start.getMonthValue();
+            switch (rule.getFrequency()) {
+                case DAYS:
+                    match = (date.toEpochDay() - start.toEpochDay()) % rule.getInterval() == 0;
+                    break;
+                case WEEKS:
+                    match = ((date.toEpochDay() - monday.toEpochDay()) / 7) % rule.getInterval() == 0 &&
+                            (text.contains("BYDAY") ? text.substring(text.indexOf("BYDAY")).contains(date.getDayOfWeek().name().substring(0, 2)) :
+                                date.getDayOfWeek() == start.getDayOfWeek());
+                    break;
+                case MONTHS:
+                    match = months % rule.getInterval() == 0 && matchesDay(text, date);
+                    break;
+                default:
+                    match = (date.getYear() - start.getYear()) % rule.getInterval() == 0 &&
+                            text.contains(";BYMONTH=" + date.getMonthValue() + ";") && matchesDay(text, date);
+                    break;
+            }
+            if (match) {
+                list.add(date);
+            }
+        }
+        assertEquals(recurrence.getRule(), rule);
+        return list;
+    }
+
+    private boolean matchesDay(String text, LocalDate date) {
+        if (text.contains("BYMONTHDAY=")) {
+            return text.endsWith("BYMONTHDAY=" + date.getDayOfMonth());
+        }
+        String byDay = text.substring(text.indexOf("BYDAY=") + 6);
+        int ordinal = Integer.parseInt(byDay.substring(0, byDay.length() - 2));
+        DayOfWeek dow = date.getDayOfWeek();
+        if (dow.name().startsWith(byDay.substring(byDay.length() - 2)) == false) {
+            return false;
+        }
+        LocalDate target = date.with(TemporalAdjusters.dayOfWeekInMonth(ordinal, dow));
+        return target.equals(date);
+    }
+
+    public void test_neverMatches() {
+        Recurrence recurrence = RecurrenceRule.monthlyOnDay(12, 31).compile(LocalDate.of(2012, 4, 1), NINE, LONDON);
+        assertFalse(recurrence.iterator().hasNext());
+        assertNull(recurrence.firstAfter(Instant.EPOCH));
+        assertEquals(recurrence.nextEpochDay(0), Long.MAX_VALUE);
+    }
+
+    public void test_endOfRange() {
+        Recurrence recurrence = RecurrenceRule.daily(1).compile(LocalDate.MAX.minusDays(1), LocalTime.MIDNIGHT, ZoneOffset.UTC);
+        Iterator<ZonedDateTime> it = recurrence.iterator();
+        assertEquals(it.next().toLocalDate(), LocalDate.MAX.minusDays(1));
+        assertEquals(it.next().toLocalDate(), LocalDate.MAX);
+        assertFalse(it.hasNext());
+    }
+
+    //-----------------------------------------------------------------------
+    // time-zone
+    //-----------------------------------------------------------------------
+    public void test_zone_matchesZonedDateTime() {
+        LocalTime time = LocalTime.of(1, 30, 15, 500);
+        Recurrence recurrence = RecurrenceRule.daily(1).compile(LocalDate.of(2011, 1, 1), time, LONDON);
+        Iterator<ZonedDateTime> it = recurrence.iterator();
+        for (LocalDate date = LocalDate.of(2011, 1, 1); date.getYear() < 2014; date = date.plusDays(1)) {
+            assertEquals(it.next(), ZonedDateTime.of(date, time, LONDON));
+        }
+    }
+
+    public void test_zone_gapAndOverlap() {
+        Recurrence recurrence = RecurrenceRule.monthlyOnDayOfWeek(1, -1, SUNDAY)
+                .compile(LocalDate.of(2012, 3, 1), LocalTime.of(1, 30), LONDON);
+        Iterator<ZonedDateTime> it = recurrence.iterator();
+        ZonedDateTime gap = it.next();
+        assertEquals(gap.toLocalDateTime(), LocalDateTime.of(2012, 3, 25, 2, 30));
+        assertEquals(gap.getOffset(), ZoneOffset.ofHours(1));
+        for (int i = 0; i < 6; i++) {
+            it.next();
+        }
+        ZonedDateTime overlap = it.next();
+        assertEquals(overlap.toLocalDateTime(), LocalDateTime.of(2012, 10, 28, 1, 30));
+        assertEquals(overlap.getOffset(), ZoneOffset.ofHours(1));
+    }
+
+    //-----------------------------------------------------------------------
+    // firstAfter() / iteratorAfter() / toEpochSeconds()
+    //-----------------------------------------------------------------------
+    public void test_firstAfter() {
+        Recurrence recurrence = RecurrenceRule.monthlyOnDayOfWeek(1, 2, TUESDAY).compile(LocalDate.of(2012, 1, 1), NINE, LONDON);
+        Instant second = ZonedDateTime.of(LocalDateTime.of(2012, 2, 14, 9, 0), LONDON).toInstant();
+        assertEquals(recurrence.firstAfter(second.minusNanos(1)).toInstant(), second);
+        assertEquals(recurrence.firstAfter(second).toLocalDate(), LocalDate.of(2012, 3, 13));
+        assertEquals(recurrence.firstAfter(Instant.EPOCH).toLocalDate(), LocalDate.of(2012, 1, 10));
+        assertEquals(recurrence.firstAfter(Instant.parse("2050-06-01T00:00:00Z")).toLocalDate(), LocalDate.of(2050, 6, 14));
+    }
+
+    public void test_iteratorAfter() {
+        Recurrence recurrence = RecurrenceRule.weekly(1, WEDNESDAY).compile(LocalDate.of(2012, 1, 1), NINE, LONDON);
+        Iterator<ZonedDateTime> it = recurrence.iteratorAfter(Instant.parse("2012-07-04T08:00:00Z"));
+        assertEquals(it.next().toLocalDate(), LocalDate.of(2012, 7, 11));
+        assertEquals(it.next().toLocalDate(), LocalDate.of(2012, 7, 18));
+    }
+
+    public void test_toEpochSeconds_matchesIterator() {
+        Recurrence recurrence = RecurrenceRule.weekly(1, MONDAY, FRIDAY).compile(LocalDate.of(2010, 1, 1), LocalTime.of(0, 30), ZoneId.of("America/Sao_Paulo"));
+        Instant after = Instant.parse("2010-06-01T00:00:00Z");
+        long[] seconds = new long[500];
+        assertEquals(recurrence.toEpochSeconds(after, seconds), 500);
+        Iterator<ZonedDateTime> it = recurrence.iteratorAfter(after);
+        for (int i = 0; i < seconds.length; i++) {
+            ZonedDateTime occurrence = it.next();
+            assertEquals(seconds[i], occurrence.toEpochSecond(), occurrence.toString());
+        }
+    }
+
+    public void test_toEpochSeconds_endOfRange() {
+        Recurrence recurrence = RecurrenceRule.daily(1).compile(LocalDate.MAX.minusDays(2), LocalTime.NOON, ZoneOffset.UTC);
+        long[] seconds = new long[5];
+        assertEquals(recurrence.toEpochSeconds(Instant.EPOCH, seconds), 3);
+    }
+
+    //-----------------------------------------------------------------------
+    // validation
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_daily_zeroInterval() {
+        RecurrenceRule.daily(0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_monthlyOnDayOfWeek_zeroOrdinal() {
+        RecurrenceRule.monthlyOnDayOfWeek(1, 0, MONDAY);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_monthlyOnDayOfWeek_ordinalTooLarge() {
+        RecurrenceRule.monthlyOnDayOfWeek(1, 6, MONDAY);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_monthlyOnDay_invalidDay() {
+        RecurrenceRule.monthlyOnDay(1, 32);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_yearlyOnDay_invalidDay() {
+        RecurrenceRule.yearlyOnDay(1, Month.APRIL, 31);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_weekly_nullDay() {
+        RecurrenceRule.weekly(1, MONDAY, null);
+    }
+
+    //-----------------------------------------------------------------------
+    // equals() / toString()
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        assertEquals(RecurrenceRule.weekly(2, TUESDAY, THURSDAY), RecurrenceRule.weekly(2, THURSDAY, TUESDAY));
+        assertEquals(RecurrenceRule.weekly(2, TUESDAY).hashCode(), RecurrenceRule.weekly(2, TUESDAY).hashCode());
+        assertFalse(RecurrenceRule.weekly(2, TUESDAY).equals(RecurrenceRule.weekly(1, TUESDAY)));
+        assertFalse(RecurrenceRule.monthlyOnDay(1, 2).equals(RecurrenceRule.monthlyOnDayOfWeek(1, 2, TUESDAY)));
+        Recurrence recurrence = RecurrenceRule.daily(1).compile(LocalDate.of(2012, 1, 1), NINE, LONDON);
+        assertEquals(recurrence, RecurrenceRule.daily(1).compile(LocalDate.of(2012, 1, 1), NINE, LONDON));
+        assertFalse(recurrence.equals(RecurrenceRule.daily(1).compile(LocalDate.of(2012, 1, 2), NINE, LONDON)));
+    }
+
+    public void test_toString() {
+        assertEquals(RecurrenceRule.daily(3).toString(), "FREQ=DAILY;INTERVAL=3");
+        assertEquals(RecurrenceRule.weekly(2, THURSDAY, TUESDAY).toString(), "FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,TH");
+        assertEquals(RecurrenceRule.monthlyOnDayOfWeek(1, -1, FRIDAY).toString(), "FREQ=MONTHLY;INTERVAL=1;BYDAY=-1FR");
+        assertEquals(RecurrenceRule.yearlyOnDay(1, Month.MARCH, 4).toString(), "FREQ=YEARLY;INTERVAL=1;BYMONTH=3;BYMONTHDAY=4");
+        assertEquals(RecurrenceRule.daily(1).compile(LocalDate.of(2012, 1, 1), NINE, LONDON).toString(),
+                "FREQ=DAILY;INTERVAL=1 from 2012-01-01 at 09:00 Europe/London");
+    }
+
+}
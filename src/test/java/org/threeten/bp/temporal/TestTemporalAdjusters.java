@@ -43,9 +43,17 @@ import static org.threeten.bp.Month.JANUARY;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.DayOfWeek;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
 import org.threeten.bp.Month;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.chrono.MinguoDate;
 
 /**
  * Test DateTimeAdjusters.
@@ -559,6 +567,130 @@ public class TestTemporalAdjusters {
         }
     }
 
+    //-----------------------------------------------------------------------
+    // ISO fast path
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "adjusters")
+    Object[][] data_adjusters() {
+        return new Object[][] {
+            {TemporalAdjusters.firstDayOfMonth()},
+            {TemporalAdjusters.lastDayOfMonth()},
+            {TemporalAdjusters.firstDayOfNextMonth()},
+            {TemporalAdjusters.firstDayOfYear()},
+            {TemporalAdjusters.lastDayOfYear()},
+            {TemporalAdjusters.firstDayOfNextYear()},
+            {TemporalAdjusters.dayOfWeekInMonth(-6, TUESDAY)},
+            {TemporalAdjusters.dayOfWeekInMonth(-1, MONDAY)},
+            {TemporalAdjusters.dayOfWeekInMonth(0, DayOfWeek.SUNDAY)},
+            {TemporalAdjusters.dayOfWeekInMonth(3, DayOfWeek.FRIDAY)},
+            {TemporalAdjusters.dayOfWeekInMonth(6, DayOfWeek.SATURDAY)},
+            {TemporalAdjusters.next(DayOfWeek.WEDNESDAY)},
+            {TemporalAdjusters.nextOrSame(DayOfWeek.THURSDAY)},
+            {TemporalAdjusters.previous(DayOfWeek.SATURDAY)},
+            {TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY)},
+            {TemporalAdjusters.chain(TemporalAdjusters.lastDayOfMonth(), TemporalAdjusters.previousOrSame(DayOfWeek.FRIDAY))},
+        };
+    }
+
+    @Test(dataProvider = "adjusters")
+    public void test_isoFastPath_matchesGeneric(TemporalAdjuster adjuster) {
+        LocalDate date = LocalDate.of(2007, 11, 1);
+        while (date.getYear() < 2009) {
+            // MinguoDate is adjusted using fields and units
+            LocalDate expected = LocalDate.from(MinguoDate.from(date).with(adjuster));
+            assertEquals(date.with(adjuster), expected, "Failed on " + date);
+            date = date.plusDays(1);
+        }
+    }
+
+    @Test(dataProvider = "adjusters")
+    public void test_isoFastPath_dateTimes(TemporalAdjuster adjuster) {
+        LocalDateTime dateTime = LocalDateTime.of(2008, 2, 14, 11, 30);
+        LocalDate expected = dateTime.toLocalDate().with(adjuster);
+        assertEquals(dateTime.with(adjuster), LocalDateTime.of(expected, dateTime.toLocalTime()));
+        OffsetDateTime odt = OffsetDateTime.of(dateTime, ZoneOffset.ofHours(3));
+        assertEquals(odt.with(adjuster), OffsetDateTime.of(expected, dateTime.toLocalTime(), ZoneOffset.ofHours(3)));
+        ZonedDateTime zdt = ZonedDateTime.of(dateTime, ZoneId.of("Europe/Paris"));
+        assertEquals(zdt.with(adjuster), ZonedDateTime.of(expected, dateTime.toLocalTime(), ZoneId.of("Europe/Paris")));
+    }
+
+    public void test_zonedDateTime_overlap_keepsIntermediateOffset() {
+        ZoneId london = ZoneId.of("Europe/London");
+        ZonedDateTime zdt = ZonedDateTime.of(LocalDateTime.of(1959, 10, 13, 2, 30), london);
+        assertEquals(zdt.getOffset(), ZoneOffset.UTC);
+        // the field path resolves 1959-10-01 in summer time, and keeps that offset in the overlap
+        ZonedDateTime expected = ZonedDateTime.ofLocal(LocalDateTime.of(1959, 10, 4, 2, 30), london, ZoneOffset.ofHours(1));
+        assertEquals(expected.getOffset(), ZoneOffset.ofHours(1));
+        assertEquals(zdt.with(TemporalAdjusters.firstInMonth(DayOfWeek.SUNDAY)), expected);
+        assertEquals(zdt.with(TemporalAdjusters.dayOfWeekInMonth(1, DayOfWeek.SUNDAY)), expected);
+        assertEquals(zdt.with(TemporalAdjusters.chain(TemporalAdjusters.firstInMonth(DayOfWeek.SUNDAY))), expected);
+    }
+
+    public void test_zonedDateTime_overlap_lastInMonth() {
+        ZoneId london = ZoneId.of("Europe/London");
+        ZonedDateTime zdt = ZonedDateTime.of(LocalDateTime.of(1996, 10, 1, 1, 30), london);
+        assertEquals(zdt.getOffset(), ZoneOffset.ofHours(1));
+        // the field path resolves 1996-10-31 in winter time, and keeps that offset in the overlap
+        ZonedDateTime expected = ZonedDateTime.ofLocal(LocalDateTime.of(1996, 10, 27, 1, 30), london, ZoneOffset.UTC);
+        assertEquals(expected.getOffset(), ZoneOffset.UTC);
+        assertEquals(zdt.with(TemporalAdjusters.lastInMonth(DayOfWeek.SUNDAY)), expected);
+    }
+
+    public void test_isoFastPath_unchangedSame() {
+        LocalDate date = LocalDate.of(2008, 2, 1);
+        assertSame(date.with(TemporalAdjusters.firstDayOfMonth()), date);
+        assertSame(date.with(TemporalAdjusters.nextOrSame(DayOfWeek.FRIDAY)), date);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_isoFastPath_firstDayOfNextYear_max() {
+        LocalDate.MAX.with(TemporalAdjusters.firstDayOfNextYear());
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_isoFastPath_next_max() {
+        LocalDate.MAX.with(TemporalAdjusters.next(MONDAY));
+    }
+
+    //-----------------------------------------------------------------------
+    // chain()
+    //-----------------------------------------------------------------------
+    public void test_chain() {
+        TemporalAdjuster adjuster = TemporalAdjusters.chain(
+                TemporalAdjusters.firstDayOfNextMonth(), TemporalAdjusters.nextOrSame(MONDAY));
+        assertEquals(LocalDate.of(2011, 12, 15).with(adjuster), LocalDate.of(2012, 1, 2));
+        assertEquals(LocalDate.of(2012, 1, 15).with(adjuster), LocalDate.of(2012, 2, 6));
+    }
+
+    public void test_chain_otherAdjusters() {
+        TemporalAdjuster addDay = new TemporalAdjuster() {
+            @Override
+            public Temporal adjustInto(Temporal temporal) {
+                return temporal.plus(1, ChronoUnit.DAYS);
+            }
+        };
+        TemporalAdjuster adjuster = TemporalAdjusters.chain(
+                TemporalAdjusters.lastDayOfMonth(), addDay, TemporalAdjusters.next(TUESDAY), LocalTime.NOON);
+        LocalDateTime test = LocalDateTime.of(2011, 12, 15, 8, 0).with(adjuster);
+        assertEquals(test, LocalDateTime.of(2012, 1, 3, 12, 0));
+    }
+
+    public void test_chain_empty() {
+        LocalDate date = LocalDate.of(2011, 12, 15);
+        assertSame(date.with(TemporalAdjusters.chain()), date);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_chain_nullArray() {
+        TemporalAdjusters.chain((TemporalAdjuster[]) null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_chain_nullElement() {
+        TemporalAdjusters.chain(TemporalAdjusters.firstDayOfMonth(), null);
+    }
+
+    //-----------------------------------------------------------------------
     private LocalDate date(int year, Month month, int day) {
         return LocalDate.of(year, month, day);
     }
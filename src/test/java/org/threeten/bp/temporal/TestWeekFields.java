@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.temporal;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.jdk8.DefaultInterfaceTemporalAccessor;
+
+/**
+ * Test WeekFields.
+ */
+@Test
+public class TestWeekFields {
+
+    //-----------------------------------------------------------------------
+    // of(DayOfWeek, int)
+    //-----------------------------------------------------------------------
+    public void test_of_allCombinations() {
+        for (DayOfWeek dow : DayOfWeek.values()) {
+            for (int minDays = 1; minDays <= 7; minDays++) {
+                WeekFields week = WeekFields.of(dow, minDays);
+                assertEquals(week.getFirstDayOfWeek(), dow);
+                assertEquals(week.getMinimalDaysInFirstWeek(), minDays);
+                assertSame(WeekFields.of(dow, minDays), week);
+            }
+        }
+    }
+
+    public void test_of_constants() {
+        assertSame(WeekFields.of(DayOfWeek.MONDAY, 4), WeekFields.ISO);
+        assertSame(WeekFields.of(DayOfWeek.SUNDAY, 1), WeekFields.SUNDAY_START);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_of_nullDayOfWeek() {
+        WeekFields.of(null, 1);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_of_minDaysTooSmall() {
+        WeekFields.of(DayOfWeek.MONDAY, 0);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_of_minDaysTooLarge() {
+        WeekFields.of(DayOfWeek.MONDAY, 8);
+    }
+
+    //-----------------------------------------------------------------------
+    // of(Locale)
+    //-----------------------------------------------------------------------
+    @DataProvider(name="locales")
+    Object[][] data_locales() {
+        return new Object[][] {
+            {Locale.US},
+            {Locale.UK},
+            {Locale.FRANCE},
+            {Locale.GERMANY},
+            {new Locale("en", "US", "POSIX")},
+            {new Locale("ar", "EG")},
+            {Locale.ENGLISH},
+        };
+    }
+
+    @Test(dataProvider="locales")
+    public void test_of_locale(Locale locale) {
+        GregorianCalendar gcal = new GregorianCalendar(new Locale(locale.getLanguage(), locale.getCountry()));
+        WeekFields week = WeekFields.of(locale);
+        assertEquals(week.getFirstDayOfWeek(), DayOfWeek.SUNDAY.plus(gcal.getFirstDayOfWeek() - 1));
+        assertEquals(week.getMinimalDaysInFirstWeek(), gcal.getMinimalDaysInFirstWeek());
+        assertSame(WeekFields.of(locale), week);
+    }
+
+    public void test_of_locale_variantIgnored() {
+        assertSame(WeekFields.of(new Locale("en", "US", "POSIX")), WeekFields.of(Locale.US));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_of_nullLocale() {
+        WeekFields.of((Locale) null);
+    }
+
+    //-----------------------------------------------------------------------
+    // getFrom()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="isoTemporals")
+    Object[][] data_isoTemporals() {
+        return new Object[][] {
+            {LocalDate.of(2012, 1, 1)},
+            {LocalDate.of(2010, 1, 3)},
+            {LocalDate.of(2008, 12, 29)},
+            {LocalDate.of(2015, 12, 31)},
+            {LocalDateTime.of(2016, 1, 1, 12, 30)},
+            {ZonedDateTime.of(LocalDateTime.of(2020, 12, 31, 23, 59), ZoneOffset.ofHours(2))},
+            {OffsetDateTime.of(LocalDateTime.of(2021, 1, 3, 0, 0), ZoneOffset.ofHours(-5))},
+        };
+    }
+
+    @Test(dataProvider="isoTemporals")
+    public void test_getFrom_isoTemporal_matchesGeneric(TemporalAccessor temporal) {
+        assertAllFieldsMatchGeneric(temporal, LocalDate.from(temporal));
+    }
+
+    public void test_getFrom_localDate_matchesGeneric() {
+        LocalDate date = LocalDate.of(1999, 12, 1);
+        LocalDate end = LocalDate.of(2030, 2, 1);
+        while (date.isBefore(end)) {
+            assertAllFieldsMatchGeneric(date, date);
+            date = date.plusDays(1);
+        }
+    }
+
+    public void test_getFrom_localDate_yearBoundaries() {
+        for (int year = -400; year <= 400; year++) {
+            LocalDate date = LocalDate.of(year, 12, 25);
+            LocalDate end = LocalDate.of(year + 1, 1, 8);
+            while (date.isBefore(end)) {
+                assertAllFieldsMatchGeneric(date, date);
+                date = date.plusDays(1);
+            }
+        }
+    }
+
+    private void assertAllFieldsMatchGeneric(TemporalAccessor temporal, LocalDate date) {
+        TemporalAccessor generic = new GenericAccessor(date);
+        for (DayOfWeek dow : DayOfWeek.values()) {
+            for (int minDays = 1; minDays <= 7; minDays++) {
+                WeekFields week = WeekFields.of(dow, minDays);
+                TemporalField[] fields = {week.dayOfWeek(), week.weekOfMonth(), week.weekOfYear(),
+                        week.weekOfWeekBasedYear(), week.weekBasedYear()};
+                for (TemporalField field : fields) {
+                    assertEquals(temporal.getLong(field), generic.getLong(field), date + " " + week + " " + field);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hides the type of the date so that fields are queried one at a time.
+     */
+    static final class GenericAccessor extends DefaultInterfaceTemporalAccessor {
+        private final LocalDate date;
+        GenericAccessor(LocalDate date) {
+            this.date = date;
+        }
+        @Override
+        public boolean isSupported(TemporalField field) {
+            return date.isSupported(field);
+        }
+        @Override
+        public long getLong(TemporalField field) {
+            if (field instanceof ChronoField) {
+                return date.getLong(field);
+            }
+            return field.getFrom(this);
+        }
+        @Override
+        public <R> R query(TemporalQuery<R> query) {
+            return date.query(query);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // serialization
+    //-----------------------------------------------------------------------
+    public void test_serialization_singleton() throws Exception {
+        WeekFields week = WeekFields.of(DayOfWeek.WEDNESDAY, 3);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(week);
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        assertSame(in.readObject(), week);
+    }
+
+}